@@ -524,17 +524,27 @@ public abstract class AbstractBsonWriter implements BsonWriter, Closeable {
     @Override
     public void writeName(final String name) {
         notNull("name", name);
-        if (state != State.NAME) {
-            throwInvalidState("WriteName", State.NAME);
-        }
-        if (!fieldNameValidatorStack.peek().validate(name)) {
-            throw new IllegalArgumentException(format("Invalid BSON field name %s", name));
-        }
+        checkWriteName(name);
         doWriteName(name);
         context.name = name;
         state = State.VALUE;
     }
 
+    /**
+     * Writes the name of an element, which writers that produce BSON may do without encoding it again.
+     *
+     * @param name the name of the element
+     * @see EncodedName#writeTo(BsonWriter)
+     * @since 3.6
+     */
+    public void writeEncodedName(final EncodedName name) {
+        notNull("name", name);
+        checkWriteName(name.getName());
+        doWriteEncodedName(name);
+        context.name = name.getName();
+        state = State.VALUE;
+    }
+
     /**
      * Handles the logic of writing the element name.
      *
@@ -544,6 +554,26 @@ public abstract class AbstractBsonWriter implements BsonWriter, Closeable {
     protected void doWriteName(final String name) {
     }
 
+    /**
+     * Handles the logic of writing the element name when it has already been encoded.  The default implementation delegates to {@link
+     * #doWriteName(String)}.
+     *
+     * @param name the name of the element
+     * @since 3.6
+     */
+    protected void doWriteEncodedName(final EncodedName name) {
+        doWriteName(name.getName());
+    }
+
+    private void checkWriteName(final String name) {
+        if (state != State.NAME) {
+            throwInvalidState("WriteName", State.NAME);
+        }
+        if (!fieldNameValidatorStack.peek().validate(name)) {
+            throw new IllegalArgumentException(format("Invalid BSON field name %s", name));
+        }
+    }
+
     @Override
     public void writeNull(final String name) {
         writeName(name);
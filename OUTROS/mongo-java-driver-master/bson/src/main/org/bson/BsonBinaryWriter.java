@@ -37,6 +37,7 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
     private final BsonOutput bsonOutput;
     private final Stack<Integer> maxDocumentSizeStack = new Stack<Integer>();
     private Mark mark;
+    private EncodedName encodedName;
 
     /**
      * Construct an instance.
@@ -375,12 +376,20 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
         mark = null;
     }
 
+    @Override
+    protected void doWriteEncodedName(final EncodedName name) {
+        encodedName = name;
+    }
+
     private void writeCurrentName() {
         if (getContext().getContextType() == BsonContextType.ARRAY) {
             bsonOutput.writeCString(Integer.toString(getContext().index++));
+        } else if (encodedName != null && encodedName.getName() == getName()) {
+            bsonOutput.writeBytes(encodedName.getEncodedName());
         } else {
             bsonOutput.writeCString(getName());
         }
+        encodedName = null;
     }
 
     private void backpatchSize() {
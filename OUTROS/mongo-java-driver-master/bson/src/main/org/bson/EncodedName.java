@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2008-2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson;
+
+import org.bson.io.BasicOutputBuffer;
+
+import static org.bson.assertions.Assertions.notNull;
+
+/**
+ * A field name together with its BSON encoding, so that codecs which write the same names many times can encode each of them once.  A
+ * {@link BsonBinaryWriter} copies the encoded bytes of the name directly to its output instead of encoding the name again.  Other writers
+ * write the name as usual.
+ *
+ * <p>The name is still validated by the field name validator of the writer each time it is written.</p>
+ *
+ * @see AbstractBsonWriter#writeEncodedName(EncodedName)
+ * @since 3.6
+ */
+public final class EncodedName {
+    private final String name;
+    private final byte[] encodedName;
+
+    /**
+     * Construct an instance.
+     *
+     * @param name the name
+     * @throws BsonSerializationException if the name contains a null character
+     */
+    public EncodedName(final String name) {
+        this.name = notNull("name", name);
+        BasicOutputBuffer buffer = new BasicOutputBuffer(name.length() + 1);
+        try {
+            buffer.writeCString(name);
+            this.encodedName = buffer.toByteArray();
+        } finally {
+            buffer.close();
+        }
+    }
+
+    /**
+     * Gets the name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Writes this name with the given writer.
+     *
+     * @param writer the writer
+     */
+    public void writeTo(final BsonWriter writer) {
+        if (writer instanceof AbstractBsonWriter) {
+            ((AbstractBsonWriter) writer).writeEncodedName(this);
+        } else {
+            writer.writeName(name);
+        }
+    }
+
+    // the encoded name, including the null terminator, which must not be modified
+    byte[] getEncodedName() {
+        return encodedName;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return name.equals(((EncodedName) o).name);
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "EncodedName{"
+                + "name='" + name + '\''
+                + '}';
+    }
+}
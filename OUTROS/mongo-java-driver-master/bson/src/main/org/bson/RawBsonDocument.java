@@ -36,7 +36,11 @@ import java.io.Serializable;
 import java.io.StringWriter;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -53,12 +57,14 @@ import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
 public final class RawBsonDocument extends BsonDocument {
     private static final long serialVersionUID = 1L;
     private static final int MIN_BSON_DOCUMENT_SIZE = 5;
+    private static final Charset UTF8_CHARSET = Charset.forName("UTF-8");
 
     private static final CodecRegistry REGISTRY = fromProviders(new BsonValueCodecProvider());
 
     private final byte[] bytes;
     private final int offset;
     private final int length;
+    private transient volatile FieldIndex fieldIndex;
 
     /**
      * Parses a string in MongoDB Extended JSON format to a {@code RawBsonDocument}
@@ -211,21 +217,7 @@ public final class RawBsonDocument extends BsonDocument {
 
     @Override
     public int size() {
-        int size = 0;
-        BsonBinaryReader bsonReader = createReader();
-        try {
-            bsonReader.readStartDocument();
-            while (bsonReader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-                size++;
-                bsonReader.readName();
-                bsonReader.skipValue();
-            }
-            bsonReader.readEndDocument();
-        } finally {
-            bsonReader.close();
-        }
-
-        return size;
+        return getFieldIndex().size();
     }
 
     @Override
@@ -240,7 +232,12 @@ public final class RawBsonDocument extends BsonDocument {
 
     @Override
     public Set<String> keySet() {
-        return toBsonDocument().keySet();
+        FieldIndex index = getFieldIndex();
+        Set<String> keys = new LinkedHashSet<String>(index.size() * 2);
+        for (int i = 0; i < index.size(); i++) {
+            keys.add(index.getName(i));
+        }
+        return keys;
     }
 
     @Override
@@ -249,21 +246,7 @@ public final class RawBsonDocument extends BsonDocument {
             throw new IllegalArgumentException("key can not be null");
         }
 
-        BsonBinaryReader bsonReader = createReader();
-        try {
-            bsonReader.readStartDocument();
-            while (bsonReader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-                if (bsonReader.readName().equals(key)) {
-                    return true;
-                }
-                bsonReader.skipValue();
-            }
-            bsonReader.readEndDocument();
-        } finally {
-            bsonReader.close();
-        }
-
-        return false;
+        return getFieldIndex().indexOf(key) != -1;
     }
 
     @Override
@@ -289,21 +272,23 @@ public final class RawBsonDocument extends BsonDocument {
     public BsonValue get(final Object key) {
         notNull("key", key);
 
-        BsonBinaryReader bsonReader = createReader();
+        FieldIndex index = getFieldIndex();
+        int i = index.indexOf(key);
+        if (i == -1) {
+            return null;
+        }
+
+        ByteBuf buffer = getByteBuffer();
+        BsonBinaryReader bsonReader = new BsonBinaryReader(new ByteBufferBsonInput(buffer));
         try {
             bsonReader.readStartDocument();
-            while (bsonReader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-                if (bsonReader.readName().equals(key)) {
-                    return deserializeBsonValue(bsonReader);
-                }
-                bsonReader.skipValue();
-            }
-            bsonReader.readEndDocument();
+            buffer.position(index.getOffset(i));
+            bsonReader.readBsonType();
+            bsonReader.skipName();
+            return deserializeBsonValue(bsonReader);
         } finally {
             bsonReader.close();
         }
-
-        return null;
     }
 
     @Override
@@ -342,6 +327,16 @@ public final class RawBsonDocument extends BsonDocument {
         return new BsonBinaryReader(new ByteBufferBsonInput(getByteBuffer()));
     }
 
+    private FieldIndex getFieldIndex() {
+        FieldIndex index = fieldIndex;
+        if (index == null) {
+            // Racing threads may each build an index, but they are all equivalent so it doesn't matter which one wins
+            index = new FieldIndex(bytes, getByteBuffer());
+            fieldIndex = index;
+        }
+        return index;
+    }
+
     private BsonDocument toBsonDocument() {
         BsonBinaryReader bsonReader = createReader();
         try {
@@ -361,6 +356,114 @@ public final class RawBsonDocument extends BsonDocument {
         throw new InvalidObjectException("Proxy required");
     }
 
+    // An index of the top-level fields of the document, built on first access so that subsequent lookups by name don't have to re-scan the
+    // document from the start.  Rather than the names themselves, it keeps the hash code of each name and the offset of its element in the
+    // document, in document order, so that it only costs two ints per field.  The table is an open addressing hash table mapping the hash
+    // code of each name to its position in those arrays (plus one, so that zero denotes an empty slot), and a hit is confirmed by comparing
+    // the key with the name in the raw bytes.  If a name occurs more than once only its first occurrence is in the table, which is
+    // consistent with a linear scan.
+    private static final class FieldIndex {
+        private final byte[] bytes;
+        private final int[] hashes;
+        private final int[] offsets;
+        private final int[] table;
+
+        FieldIndex(final byte[] bytes, final ByteBuf buffer) {
+            this.bytes = bytes;
+            List<String> nameList = new ArrayList<String>();
+            List<Integer> offsetList = new ArrayList<Integer>();
+            BsonBinaryReader bsonReader = new BsonBinaryReader(new ByteBufferBsonInput(buffer));
+            try {
+                bsonReader.readStartDocument();
+                int offset = buffer.position();
+                while (bsonReader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                    nameList.add(bsonReader.readName());
+                    offsetList.add(offset);
+                    bsonReader.skipValue();
+                    offset = buffer.position();
+                }
+                bsonReader.readEndDocument();
+            } finally {
+                bsonReader.close();
+            }
+
+            hashes = new int[nameList.size()];
+            offsets = new int[nameList.size()];
+            table = new int[tableSizeFor(nameList.size())];
+            for (int i = 0; i < nameList.size(); i++) {
+                String name = nameList.get(i);
+                hashes[i] = name.hashCode();
+                offsets[i] = offsetList.get(i);
+                int slot = hashes[i] & (table.length - 1);
+                while (table[slot] != 0 && !nameList.get(table[slot] - 1).equals(name)) {
+                    slot = (slot + 1) & (table.length - 1);
+                }
+                if (table[slot] == 0) {
+                    table[slot] = i + 1;
+                }
+            }
+        }
+
+        int size() {
+            return hashes.length;
+        }
+
+        int indexOf(final Object key) {
+            if (!(key instanceof String)) {
+                return -1;
+            }
+            String name = (String) key;
+            int hash = name.hashCode();
+            int slot = hash & (table.length - 1);
+            while (table[slot] != 0) {
+                int i = table[slot] - 1;
+                if (hashes[i] == hash && nameEquals(i, name)) {
+                    return i;
+                }
+                slot = (slot + 1) & (table.length - 1);
+            }
+            return -1;
+        }
+
+        // The offset of the element of the field at the given index, which is the offset of its type
+        int getOffset(final int i) {
+            return offsets[i];
+        }
+
+        String getName(final int i) {
+            int nameStart = offsets[i] + 1;
+            int nameEnd = nameStart;
+            while (bytes[nameEnd] != 0) {
+                nameEnd++;
+            }
+            return new String(bytes, nameStart, nameEnd - nameStart, UTF8_CHARSET);
+        }
+
+        // Compares ASCII names byte by byte without decoding them, which is the common case
+        private boolean nameEquals(final int i, final String key) {
+            int nameStart = offsets[i] + 1;
+            for (int j = 0; j < key.length(); j++) {
+                byte b = bytes[nameStart + j];
+                if (b < 0) {
+                    return getName(i).equals(key);
+                }
+                if (b == 0 || b != key.charAt(j)) {
+                    return false;
+                }
+            }
+            return bytes[nameStart + key.length()] == 0;
+        }
+
+        // the smallest power of two that keeps the load factor of the table at or below one half
+        private static int tableSizeFor(final int size) {
+            int tableSize = 2;
+            while (tableSize < size * 2) {
+                tableSize <<= 1;
+            }
+            return tableSize;
+        }
+    }
+
     private static class SerializationProxy implements Serializable {
         private static final long serialVersionUID = 1L;
 
@@ -17,6 +17,7 @@
 package org.bson.codecs;
 
 import org.bson.BsonReader;
+import org.bson.io.FieldNameCache;
 
 /**
  * The context for decoding values to BSON.
@@ -27,6 +28,7 @@ import org.bson.BsonReader;
 public final class DecoderContext {
     private static final DecoderContext DEFAULT_CONTEXT = DecoderContext.builder().build();
     private final boolean checkedDiscriminator;
+    private final FieldNameCache fieldNameCache;
 
     /**
      * @return true if the discriminator has been checked
@@ -35,6 +37,18 @@ public final class DecoderContext {
         return checkedDiscriminator;
     }
 
+    /**
+     * Gets the cache of decoded field names that readers of binary BSON created for this decoding should share, so that names which are
+     * repeated in the documents that are decoded aren't decoded into a new string each time.
+     *
+     * @return the field name cache, which may be null
+     * @see org.bson.io.ByteBufferBsonInput#ByteBufferBsonInput(org.bson.ByteBuf, FieldNameCache)
+     * @since 3.6
+     */
+    public FieldNameCache getFieldNameCache() {
+        return fieldNameCache;
+    }
+
     /**
      * Create a builder.
      *
@@ -52,6 +66,7 @@ public final class DecoderContext {
         }
 
         private boolean checkedDiscriminator;
+        private FieldNameCache fieldNameCache;
 
         /**
          * @return true if the discriminator has been checked
@@ -71,6 +86,18 @@ public final class DecoderContext {
             return this;
         }
 
+        /**
+         * Sets the cache of decoded field names that readers of binary BSON created for this decoding should share.
+         *
+         * @param fieldNameCache the field name cache, which may be null
+         * @return this
+         * @since 3.6
+         */
+        public Builder fieldNameCache(final FieldNameCache fieldNameCache) {
+            this.fieldNameCache = fieldNameCache;
+            return this;
+        }
+
         /**
          * Build an instance of {@code DecoderContext}.
          * @return the decoder context
@@ -95,5 +122,6 @@ public final class DecoderContext {
 
     private DecoderContext(final Builder builder) {
         this.checkedDiscriminator = builder.hasCheckedDiscriminator();
+        this.fieldNameCache = builder.fieldNameCache;
     }
 }
@@ -17,6 +17,7 @@
 package org.bson.codecs;
 
 import org.bson.BsonBinarySubType;
+import org.bson.BsonBinaryWriter;
 import org.bson.BsonDocument;
 import org.bson.BsonDocumentWriter;
 import org.bson.BsonReader;
@@ -24,6 +25,7 @@ import org.bson.BsonType;
 import org.bson.BsonValue;
 import org.bson.BsonWriter;
 import org.bson.Document;
+import org.bson.EncodedName;
 import org.bson.Transformer;
 import org.bson.codecs.configuration.CodecRegistry;
 
@@ -31,6 +33,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static java.util.Arrays.asList;
 import static org.bson.assertions.Assertions.notNull;
@@ -49,11 +53,13 @@ public class DocumentCodec implements CollectibleCodec<Document> {
             new BsonValueCodecProvider(),
             new DocumentCodecProvider()));
     private static final BsonTypeClassMap DEFAULT_BSON_TYPE_CLASS_MAP = new BsonTypeClassMap();
+    private static final int MAX_ENCODED_NAMES = 1024;
 
     private final BsonTypeCodecMap bsonTypeCodecMap;
     private final CodecRegistry registry;
     private final IdGenerator idGenerator;
     private final Transformer valueTransformer;
+    private final ConcurrentMap<String, EncodedName> encodedNames = new ConcurrentHashMap<String, EncodedName>();
 
     /**
      * Construct a new instance with a default {@code CodecRegistry}.
@@ -163,7 +169,7 @@ public class DocumentCodec implements CollectibleCodec<Document> {
 
     private void beforeFields(final BsonWriter bsonWriter, final EncoderContext encoderContext, final Map<String, Object> document) {
         if (encoderContext.isEncodingCollectibleDocument() && document.containsKey(ID_FIELD_NAME)) {
-            bsonWriter.writeName(ID_FIELD_NAME);
+            writeName(bsonWriter, ID_FIELD_NAME);
             writeValue(bsonWriter, encoderContext, document.get(ID_FIELD_NAME));
         }
     }
@@ -195,12 +201,31 @@ public class DocumentCodec implements CollectibleCodec<Document> {
             if (skipField(encoderContext, entry.getKey())) {
                 continue;
             }
-            writer.writeName(entry.getKey());
+            writeName(writer, entry.getKey());
             writeValue(writer, encoderContext, entry.getValue());
         }
         writer.writeEndDocument();
     }
 
+    // Names written to a binary writer are encoded once and cached, up to a limit so that documents with unbounded sets of keys don't
+    // grow the cache indefinitely
+    private void writeName(final BsonWriter writer, final String name) {
+        if (!(writer instanceof BsonBinaryWriter)) {
+            writer.writeName(name);
+            return;
+        }
+        EncodedName encodedName = encodedNames.get(name);
+        if (encodedName == null) {
+            if (encodedNames.size() >= MAX_ENCODED_NAMES || name.indexOf('\0') != -1) {
+                writer.writeName(name);
+                return;
+            }
+            encodedName = new EncodedName(name);
+            encodedNames.putIfAbsent(name, encodedName);
+        }
+        encodedName.writeTo(writer);
+    }
+
     private void writeIterable(final BsonWriter writer, final Iterable<Object> list, final EncoderContext encoderContext) {
         writer.writeStartArray();
         for (final Object value : list) {
@@ -16,15 +16,26 @@
 
 package org.bson.codecs.pojo;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableMap;
+
 final class InstanceCreatorFactoryImpl<T> implements InstanceCreatorFactory<T> {
     private final CreatorExecutable<T> creatorExecutable;
+    private final Map<String, Integer> propertyIndexes;
 
     InstanceCreatorFactoryImpl(final CreatorExecutable<T> creatorExecutable) {
         this.creatorExecutable = creatorExecutable;
+        Map<String, Integer> propertyIndexes = new HashMap<String, Integer>();
+        for (int i = 0; i < creatorExecutable.getProperties().size(); i++) {
+            propertyIndexes.put(creatorExecutable.getProperties().get(i).value(), i);
+        }
+        this.propertyIndexes = unmodifiableMap(propertyIndexes);
     }
 
     @Override
     public InstanceCreator<T> create() {
-        return new InstanceCreatorImpl<T>(creatorExecutable);
+        return new InstanceCreatorImpl<T>(creatorExecutable, propertyIndexes);
     }
 }
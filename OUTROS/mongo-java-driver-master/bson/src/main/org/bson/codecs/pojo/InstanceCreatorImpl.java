@@ -18,53 +18,58 @@ package org.bson.codecs.pojo;
 
 import org.bson.codecs.configuration.CodecConfigurationException;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import static java.lang.String.format;
 
 final class InstanceCreatorImpl<T> implements InstanceCreator<T> {
     private final CreatorExecutable<T> creatorExecutable;
-    private final Map<PropertyModel<?>, Object> cachedValues;
-    private final Map<String, Integer> properties;
+    private final Map<String, Integer> propertyIndexes;
     private final Object[] params;
+    private final boolean[] paramsSet;
+    private int paramsRemaining;
+    private List<PropertyModel<?>> cachedPropertyModels;
+    private List<Object> cachedValues;
 
     private T newInstance;
 
-    InstanceCreatorImpl(final CreatorExecutable<T> creatorExecutable) {
+    // The property indexes map each creator property name to its position in the creator parameters, and are shared between all the
+    // instance creators of a class, so that creating an instance only allocates the arrays of parameters.
+    InstanceCreatorImpl(final CreatorExecutable<T> creatorExecutable, final Map<String, Integer> propertyIndexes) {
         this.creatorExecutable = creatorExecutable;
-        if (creatorExecutable.getProperties().isEmpty()) {
-            this.cachedValues = null;
-            this.properties = null;
+        this.propertyIndexes = propertyIndexes;
+        if (propertyIndexes.isEmpty()) {
             this.params = null;
+            this.paramsSet = null;
             this.newInstance = creatorExecutable.getInstance();
         } else {
-            this.cachedValues = new HashMap<PropertyModel<?>, Object>();
-            this.properties = new HashMap<String, Integer>();
-            for (int i = 0; i < creatorExecutable.getProperties().size(); i++) {
-                this.properties.put(creatorExecutable.getProperties().get(i).value(), i);
-            }
-            this.params = new Object[properties.size()];
+            this.params = new Object[creatorExecutable.getProperties().size()];
+            this.paramsSet = new boolean[params.length];
+            this.paramsRemaining = propertyIndexes.size();
         }
     }
 
+    // As before the instance can be constructed, every value is cached to be set again once it has been, including the values of the
+    // creator properties, so that properties which are also settable end up with the last value read.  A creator property that is read
+    // more than once keeps its first value as the creator parameter.
     @Override
     public <S> void set(final S value, final PropertyModel<S> propertyModel) {
         if (newInstance != null) {
             propertyModel.getPropertyAccessor().set(newInstance, value);
         } else {
-            if (!properties.isEmpty()) {
-                Integer index = properties.get(propertyModel.getName());
-                if (index != null) {
-                    params[index] = value;
-                }
-                properties.remove(propertyModel.getName());
+            Integer index = propertyIndexes.get(propertyModel.getName());
+            if (index != null && !paramsSet[index]) {
+                params[index] = value;
+                paramsSet[index] = true;
+                paramsRemaining--;
             }
 
-            if (properties.isEmpty()) {
+            if (paramsRemaining == 0) {
                 constructInstanceAndProcessCachedValues();
             } else {
-                cachedValues.put(propertyModel, value);
+                cacheValue(propertyModel, value);
             }
         }
     }
@@ -73,14 +78,11 @@ final class InstanceCreatorImpl<T> implements InstanceCreator<T> {
     public T getInstance() {
         if (newInstance == null) {
             try {
-                for (Map.Entry<String, Integer> entry : properties.entrySet()) {
-                    params[entry.getValue()] = null;
-                }
                 constructInstanceAndProcessCachedValues();
             } catch (CodecConfigurationException e) {
                 throw new CodecConfigurationException(format("Could not construct new instance of: %s. "
                                 + "Missing the following properties: %s",
-                        creatorExecutable.getType().getSimpleName(), properties.keySet()), e);
+                        creatorExecutable.getType().getSimpleName(), getMissingProperties()), e);
             }
         }
         return newInstance;
@@ -93,9 +95,37 @@ final class InstanceCreatorImpl<T> implements InstanceCreator<T> {
             throw new CodecConfigurationException(e.getMessage(), e);
         }
 
-        for (Map.Entry<PropertyModel<?>, Object> entry : cachedValues.entrySet()) {
-            setPropertyValue(entry.getKey(), entry.getValue());
+        if (cachedPropertyModels != null) {
+            for (int i = 0; i < cachedPropertyModels.size(); i++) {
+                setPropertyValue(cachedPropertyModels.get(i), cachedValues.get(i));
+            }
+        }
+    }
+
+    // The cache is kept in lists, which are only allocated if needed, and as in a map each property is cached once, with its last value
+    private void cacheValue(final PropertyModel<?> propertyModel, final Object value) {
+        if (cachedPropertyModels == null) {
+            cachedPropertyModels = new ArrayList<PropertyModel<?>>();
+            cachedValues = new ArrayList<Object>();
+        }
+        for (int i = 0; i < cachedPropertyModels.size(); i++) {
+            if (cachedPropertyModels.get(i) == propertyModel) {
+                cachedValues.set(i, value);
+                return;
+            }
+        }
+        cachedPropertyModels.add(propertyModel);
+        cachedValues.add(value);
+    }
+
+    private List<String> getMissingProperties() {
+        List<String> missingProperties = new ArrayList<String>();
+        for (Map.Entry<String, Integer> entry : propertyIndexes.entrySet()) {
+            if (!paramsSet[entry.getValue()]) {
+                missingProperties.add(entry.getKey());
+            }
         }
+        return missingProperties;
     }
 
     @SuppressWarnings("unchecked")
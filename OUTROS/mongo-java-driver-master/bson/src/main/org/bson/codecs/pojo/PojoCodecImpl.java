@@ -130,7 +130,11 @@ final class PojoCodecImpl<T> extends PojoCodec<T> {
         if (propertyModel.isReadable()) {
             S propertyValue = propertyModel.getPropertyAccessor().get(instance);
             if (propertyModel.shouldSerialize(propertyValue)) {
-                writer.writeName(propertyModel.getReadName());
+                if (propertyModel.getEncodedReadName() != null) {
+                    propertyModel.getEncodedReadName().writeTo(writer);
+                } else {
+                    writer.writeName(propertyModel.getReadName());
+                }
                 if (propertyValue == null) {
                     writer.writeNull();
                 } else {
@@ -18,28 +18,43 @@ package org.bson.codecs.pojo;
 
 import org.bson.codecs.configuration.CodecConfigurationException;
 
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
 import static java.lang.String.format;
 
 final class PropertyAccessorImpl<T> implements PropertyAccessor<T> {
 
     private final PropertyMetadata<T> propertyMetadata;
+    private final boolean serializable;
+    private final boolean deserializable;
+    private final Method getter;
+    private final Method setter;
+    private final Field field;
 
+    // The members to use are resolved once rather than on each access, and language access checks are suppressed where permitted so
+    // that each reflective call doesn't have to repeat them.  If that isn't permitted the members are still used with the checks.
     PropertyAccessorImpl(final PropertyMetadata<T> propertyMetadata) {
         this.propertyMetadata = propertyMetadata;
+        this.serializable = propertyMetadata.isSerializable();
+        this.deserializable = propertyMetadata.isDeserializable();
+        this.getter = makeAccessible(propertyMetadata.getGetter());
+        this.setter = makeAccessible(propertyMetadata.getSetter());
+        this.field = makeAccessible(propertyMetadata.getField());
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <S> T get(final S instance) {
+        if (!serializable) {
+            throw getError(null);
+        }
         try {
-            if (propertyMetadata.isSerializable()) {
-                if (propertyMetadata.getGetter() != null) {
-                    return (T) propertyMetadata.getGetter().invoke(instance);
-                } else {
-                    return (T) propertyMetadata.getField().get(instance);
-                }
+            if (getter != null) {
+                return (T) getter.invoke(instance);
             } else {
-                throw getError(null);
+                return (T) field.get(instance);
             }
         } catch (final Exception e) {
             throw getError(e);
@@ -48,13 +63,14 @@ final class PropertyAccessorImpl<T> implements PropertyAccessor<T> {
 
     @Override
     public <S> void set(final S instance, final T value) {
+        if (!deserializable) {
+            return;
+        }
         try {
-            if (propertyMetadata.isDeserializable()) {
-                if (propertyMetadata.getSetter() != null) {
-                    propertyMetadata.getSetter().invoke(instance, value);
-                } else {
-                    propertyMetadata.getField().set(instance, value);
-                }
+            if (setter != null) {
+                setter.invoke(instance, value);
+            } else {
+                field.set(instance, value);
             }
         } catch (final Exception e) {
             throw setError(e);
@@ -70,4 +86,15 @@ final class PropertyAccessorImpl<T> implements PropertyAccessor<T> {
         return new CodecConfigurationException(format("Unable to set value for property '%s' in %s", propertyMetadata.getName(),
                 propertyMetadata.getDeclaringClassName()), cause);
     }
+
+    private static <A extends AccessibleObject> A makeAccessible(final A member) {
+        if (member != null) {
+            try {
+                member.setAccessible(true);
+            } catch (RuntimeException e) {
+                // fall back to the checked access
+            }
+        }
+        return member;
+    }
 }
@@ -16,6 +16,7 @@
 
 package org.bson.codecs.pojo;
 
+import org.bson.EncodedName;
 import org.bson.codecs.Codec;
 
 /**
@@ -28,6 +29,7 @@ public final class PropertyModel<T> {
     private final String name;
     private final String readName;
     private final String writeName;
+    private final EncodedName encodedReadName;
     private final TypeData<T> typeData;
     private final Codec<T> codec;
     private final PropertySerialization<T> propertySerialization;
@@ -41,6 +43,7 @@ public final class PropertyModel<T> {
         this.name = name;
         this.readName = readName;
         this.writeName = writeName;
+        this.encodedReadName = readName == null || readName.indexOf('\0') != -1 ? null : new EncodedName(readName);
         this.typeData = typeData;
         this.codec = codec;
         this.cachedCodec = codec;
@@ -79,6 +82,11 @@ public final class PropertyModel<T> {
         return readName;
     }
 
+    // the read name encoded once for writing, or null if it can't be encoded
+    EncodedName getEncodedReadName() {
+        return encodedReadName;
+    }
+
     /**
      * Property is writable.
      *
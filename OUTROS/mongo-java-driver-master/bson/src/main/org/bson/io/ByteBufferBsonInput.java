@@ -41,6 +41,7 @@ public class ByteBufferBsonInput implements BsonInput {
         }
     }
 
+    private final FieldNameCache fieldNameCache;
     private ByteBuf buffer;
     private int mark = -1;
 
@@ -51,10 +52,23 @@ public class ByteBufferBsonInput implements BsonInput {
      * @param buffer the byte buffer
      */
     public ByteBufferBsonInput(final ByteBuf buffer) {
+        this(buffer, null);
+    }
+
+    /**
+     * Construct an instance with the given byte buffer, which looks up the C strings it reads, such as field names, in the given cache
+     * before decoding them.  The stream takes over ownership of the buffer and closes it when this instance is closed.
+     *
+     * @param buffer the byte buffer
+     * @param fieldNameCache the cache of decoded names, which may be shared between instances, or null to always decode the names
+     * @since 3.6
+     */
+    public ByteBufferBsonInput(final ByteBuf buffer, final FieldNameCache fieldNameCache) {
         if (buffer == null) {
             throw new IllegalArgumentException("buffer can not be null");
         }
         this.buffer = buffer;
+        this.fieldNameCache = fieldNameCache;
         buffer.order(ByteOrder.LITTLE_ENDIAN);
     }
 
@@ -130,6 +144,10 @@ public class ByteBufferBsonInput implements BsonInput {
     public String readCString() {
         ensureOpen();
 
+        if (fieldNameCache != null) {
+            return readCachedCString();
+        }
+
         // TODO: potentially optimize this
         int mark = buffer.position();
         readUntilNullByte();
@@ -139,6 +157,31 @@ public class ByteBufferBsonInput implements BsonInput {
         return readString(size);
     }
 
+    private String readCachedCString() {
+        int mark = buffer.position();
+        int hashCode = 0;
+        byte b = readByte();
+        while (b != 0) {
+            hashCode = 31 * hashCode + b;
+            b = readByte();
+        }
+        int length = buffer.position() - mark - 1;
+        if (length <= 1 || length > FieldNameCache.MAX_NAME_LENGTH) {
+            buffer.position(mark);
+            return readString(length + 1);
+        }
+
+        int hash = FieldNameCache.hash(hashCode);
+        String name = fieldNameCache.get(buffer, mark, length, hash);
+        if (name == null) {
+            byte[] bytes = new byte[length];
+            buffer.get(mark, bytes);
+            name = new String(bytes, UTF8_CHARSET);
+            fieldNameCache.put(bytes, hash, name);
+        }
+        return name;
+    }
+
     private String readString(final int size) {
         if (size == 2) {
             byte asciiByte = readByte();               // if only one byte in the string, it must be ascii.
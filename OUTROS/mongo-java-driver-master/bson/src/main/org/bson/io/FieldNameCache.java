@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2008-2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.io;
+
+import org.bson.ByteBuf;
+
+import static org.bson.assertions.Assertions.isTrueArgument;
+
+/**
+ * A cache of the strings decoded from BSON field names, which allows a {@link ByteBufferBsonInput} to return the same {@code String}
+ * instance each time a name is repeated instead of decoding a new one.  Since most collections only use a small number of distinct field
+ * names, sharing a cache between the inputs used to decode many documents avoids allocating a string for nearly every name in them.
+ *
+ * <p>The cache is a fixed-size hash table keyed by the encoded bytes of each name.  It never grows: when a name collides with others
+ * already in the table, one of them is replaced, and names longer than {@link #MAX_NAME_LENGTH} bytes are not cached at all.  Instances
+ * are safe for concurrent use by multiple threads without locking.</p>
+ *
+ * @see ByteBufferBsonInput#ByteBufferBsonInput(ByteBuf, FieldNameCache)
+ * @since 3.6
+ */
+public final class FieldNameCache {
+    /**
+     * The maximum length, in encoded bytes, of the names that are cached.
+     */
+    public static final int MAX_NAME_LENGTH = 64;
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int MAX_PROBES = 4;
+
+    private final Entry[] table;
+
+    /**
+     * Construct an instance with the default capacity.
+     */
+    public FieldNameCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Construct an instance with the given capacity, which is rounded up to a power of two.
+     *
+     * @param capacity the maximum number of names to cache
+     */
+    public FieldNameCache(final int capacity) {
+        isTrueArgument("capacity > 0", capacity > 0);
+        int tableSize = 1;
+        while (tableSize < capacity) {
+            tableSize <<= 1;
+        }
+        table = new Entry[tableSize];
+    }
+
+    // Returns the cached name whose encoding is the length bytes of the buffer starting at the given index, or null if there isn't one
+    String get(final ByteBuf buffer, final int index, final int length, final int hash) {
+        int mask = table.length - 1;
+        for (int i = 0; i < MAX_PROBES; i++) {
+            Entry entry = table[(hash + i) & mask];
+            if (entry == null) {
+                return null;
+            }
+            if (entry.hash == hash && entry.matches(buffer, index, length)) {
+                return entry.name;
+            }
+        }
+        return null;
+    }
+
+    void put(final byte[] bytes, final int hash, final String name) {
+        int mask = table.length - 1;
+        Entry entry = new Entry(bytes, hash, name);
+        for (int i = 0; i < MAX_PROBES; i++) {
+            int slot = (hash + i) & mask;
+            if (table[slot] == null) {
+                table[slot] = entry;
+                return;
+            }
+        }
+        table[hash & mask] = entry;
+    }
+
+    static int hash(final int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    // Entries are immutable, so the unsynchronized reads and writes of the table can at worst miss a name that another thread has just
+    // cached or replace one that another thread has just cached
+    private static final class Entry {
+        private final byte[] bytes;
+        private final int hash;
+        private final String name;
+
+        Entry(final byte[] bytes, final int hash, final String name) {
+            this.bytes = bytes;
+            this.hash = hash;
+            this.name = name;
+        }
+
+        boolean matches(final ByteBuf buffer, final int index, final int length) {
+            if (bytes.length != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (bytes[i] != buffer.get(index + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
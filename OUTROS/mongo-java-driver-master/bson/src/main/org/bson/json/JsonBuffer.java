@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2008-2014 MongoDB, Inc.
+ * Copyright (c) 2008-2017 MongoDB, Inc.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,47 +16,23 @@
 
 package org.bson.json;
 
-class JsonBuffer {
-
-    private final String buffer;
-    private int position;
-    private boolean eof;
-
-    JsonBuffer(final String buffer) {
-        this.buffer = buffer;
-    }
-
-    public int getPosition() {
-        return position;
-    }
-
-    public void setPosition(final int position) {
-        this.position = position;
-    }
-
-    public int read() {
-        if (eof) {
-            throw new JsonParseException("Trying to read past EOF.");
-    } else if (position >= buffer.length()) {
-            eof = true;
-            return -1;
-        }  else {
-            return buffer.charAt(position++);
-        }
-    }
-
-    public void unread(final int c) {
-        eof = false;
-        if (c != -1 && buffer.charAt(position - 1) == c) {
-            position--;
-        }
-    }
-
-    public String substring(final int beginIndex) {
-        return buffer.substring(beginIndex);
-    }
-
-    public String substring(final int beginIndex, final int endIndex) {
-        return buffer.substring(beginIndex, endIndex);
-    }
+interface JsonBuffer {
+
+    long getPosition();
+
+    int read();
+
+    void unread(int c);
+
+    /**
+     * Marks the current position, so that it can be returned to later by {@link #reset(long)}.  The characters from the mark onwards are
+     * retained until the mark is reset or discarded.
+     *
+     * @return the marked position
+     */
+    long mark();
+
+    void reset(long markPos);
+
+    void discard(long markPos);
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2008-2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.json;
+
+import org.bson.BsonDocument;
+import org.bson.BsonType;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.bson.assertions.Assertions.isTrue;
+import static org.bson.assertions.Assertions.notNull;
+
+/**
+ * An iterable over the JSON documents read from a character stream, which may contain either a sequence of documents, for example one
+ * per line as written by mongoexport, or a single array of documents.  The documents are read one at a time as the iteration proceeds,
+ * so the stream can be much larger than the available memory.
+ *
+ * <p>As the stream can only be read once, only one iterator can be obtained from an instance.</p>
+ *
+ * @since 3.6
+ */
+public final class JsonDocumentIterable implements Iterable<BsonDocument>, Closeable {
+    private final Reader reader;
+    private final JsonReader jsonReader;
+    private boolean iteratorCreated;
+
+    /**
+     * Construct an instance that reads from the given reader.
+     *
+     * @param reader the reader, which is closed when this instance is closed
+     */
+    public JsonDocumentIterable(final Reader reader) {
+        this.reader = notNull("reader", reader);
+        this.jsonReader = new JsonReader(reader);
+    }
+
+    @Override
+    public Iterator<BsonDocument> iterator() {
+        isTrue("only one iterator can be created", !iteratorCreated);
+        iteratorCreated = true;
+        return new JsonDocumentIterator();
+    }
+
+    /**
+     * Closes the underlying reader.
+     */
+    @Override
+    public void close() {
+        jsonReader.close();
+        try {
+            reader.close();
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+
+    private final class JsonDocumentIterator implements Iterator<BsonDocument> {
+        private final BsonDocumentCodec codec = new BsonDocumentCodec();
+        private boolean started;
+        private boolean inArray;
+        private boolean done;
+        private BsonDocument next;
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            if (done) {
+                return false;
+            }
+
+            BsonType bsonType = jsonReader.readBsonType();
+            if (!started) {
+                started = true;
+                if (bsonType == BsonType.ARRAY) {
+                    jsonReader.readStartArray();
+                    inArray = true;
+                    bsonType = jsonReader.readBsonType();
+                }
+            }
+
+            if (bsonType == BsonType.END_OF_DOCUMENT) {
+                if (inArray) {
+                    jsonReader.readEndArray();
+                }
+                done = true;
+                return false;
+            }
+            if (bsonType != BsonType.DOCUMENT) {
+                throw new JsonParseException("JSON reader was expecting a document but found a value of type %s.", bsonType);
+            }
+            next = codec.decode(jsonReader, DecoderContext.builder().build());
+            return true;
+        }
+
+        @Override
+        public BsonDocument next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            BsonDocument document = next;
+            next = null;
+            return document;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Not implemented");
+        }
+    }
+}
@@ -35,6 +35,7 @@ import org.bson.types.MaxKey;
 import org.bson.types.MinKey;
 import org.bson.types.ObjectId;
 
+import java.io.Reader;
 import java.text.DateFormat;
 import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
@@ -44,6 +45,7 @@ import java.util.Locale;
 import java.util.TimeZone;
 
 import static java.lang.String.format;
+import static org.bson.assertions.Assertions.notNull;
 
 
 /**
@@ -74,8 +76,24 @@ public class JsonReader extends AbstractBsonReader {
      * @param json     A string representation of a JSON.
      */
     public JsonReader(final String json) {
+        this(new JsonScanner(json));
+    }
+
+    /**
+     * Constructs a new instance that reads JSON from the given reader.  The characters are read from the reader as they are needed, so
+     * the whole of the JSON is never held in memory, except that the characters after a mark obtained from {@link #getMark()} are
+     * retained until the mark is reset.  The reader is not closed when this instance is closed.
+     *
+     * @param reader the reader
+     * @since 3.6
+     */
+    public JsonReader(final Reader reader) {
+        this(new JsonScanner(notNull("reader", reader)));
+    }
+
+    private JsonReader(final JsonScanner scanner) {
         super();
-        scanner = new JsonScanner(json);
+        this.scanner = scanner;
         setContext(new Context(null, BsonContextType.TOP_LEVEL));
     }
 
@@ -947,42 +965,48 @@ public class JsonReader extends AbstractBsonReader {
 
         Mark mark = new Mark();
 
-        verifyToken(JsonTokenType.COLON);
+        try {
+            verifyToken(JsonTokenType.COLON);
 
-        if (firstKey.equals("$binary")) {
-            JsonToken nextToken = popToken();
-            if (nextToken.getType() == JsonTokenType.BEGIN_OBJECT) {
-                JsonToken nameToken = popToken();
-                String firstNestedKey = nameToken.getValue(String.class);
-                byte[] data;
-                byte type;
-                if (firstNestedKey.equals("base64")) {
-                    verifyToken(JsonTokenType.COLON);
-                    data = Base64.decode(readStringFromExtendedJson());
-                    verifyToken(JsonTokenType.COMMA);
-                    verifyString("subType");
-                    verifyToken(JsonTokenType.COLON);
-                    type = readBinarySubtypeFromExtendedJson();
-                } else if (firstNestedKey.equals("subType")) {
-                    verifyToken(JsonTokenType.COLON);
-                    type = readBinarySubtypeFromExtendedJson();
-                    verifyToken(JsonTokenType.COMMA);
-                    verifyString("base64");
-                    verifyToken(JsonTokenType.COLON);
-                    data = Base64.decode(readStringFromExtendedJson());
+            if (firstKey.equals("$binary")) {
+                JsonToken nextToken = popToken();
+                if (nextToken.getType() == JsonTokenType.BEGIN_OBJECT) {
+                    JsonToken nameToken = popToken();
+                    String firstNestedKey = nameToken.getValue(String.class);
+                    byte[] data;
+                    byte type;
+                    if (firstNestedKey.equals("base64")) {
+                        verifyToken(JsonTokenType.COLON);
+                        data = Base64.decode(readStringFromExtendedJson());
+                        verifyToken(JsonTokenType.COMMA);
+                        verifyString("subType");
+                        verifyToken(JsonTokenType.COLON);
+                        type = readBinarySubtypeFromExtendedJson();
+                    } else if (firstNestedKey.equals("subType")) {
+                        verifyToken(JsonTokenType.COLON);
+                        type = readBinarySubtypeFromExtendedJson();
+                        verifyToken(JsonTokenType.COMMA);
+                        verifyString("base64");
+                        verifyToken(JsonTokenType.COLON);
+                        data = Base64.decode(readStringFromExtendedJson());
+                    } else {
+                        throw new JsonParseException("Unexpected key for $binary: " + firstNestedKey);
+                    }
+                    verifyToken(JsonTokenType.END_OBJECT);
+                    verifyToken(JsonTokenType.END_OBJECT);
+                    mark.discard();
+                    return new BsonBinary(type, data);
                 } else {
-                    throw new JsonParseException("Unexpected key for $binary: " + firstNestedKey);
+                    mark.reset();
+                    return visitLegacyBinaryExtendedJson(firstKey);
                 }
-                verifyToken(JsonTokenType.END_OBJECT);
-                verifyToken(JsonTokenType.END_OBJECT);
-                return new BsonBinary(type, data);
             } else {
                 mark.reset();
                 return visitLegacyBinaryExtendedJson(firstKey);
             }
-        } else {
-            mark.reset();
-            return visitLegacyBinaryExtendedJson(firstKey);
+        } finally {
+            // Releases the mark if parsing failed before it was reset or discarded, as a stream buffer retains everything after it
+            mark.discard();
         }
     }
 
@@ -1011,6 +1035,7 @@ public class JsonReader extends AbstractBsonReader {
             }
             verifyToken(JsonTokenType.END_OBJECT);
 
+            mark.discard();
             return new BsonBinary(type, data);
         } catch (JsonParseException e) {
             mark.reset();
@@ -1018,6 +1043,8 @@ public class JsonReader extends AbstractBsonReader {
         } catch (NumberFormatException e) {
             mark.reset();
             return null;
+        } finally {
+            mark.discard();
         }
     }
 
@@ -1138,10 +1165,13 @@ public class JsonReader extends AbstractBsonReader {
                 pattern = readStringFromExtendedJson();
             }
             verifyToken(JsonTokenType.END_OBJECT);
+            extendedJsonMark.discard();
             return new BsonRegularExpression(pattern, options);
         } catch (JsonParseException e) {
             extendedJsonMark.reset();
             return null;
+        } finally {
+            extendedJsonMark.discard();
         }
     }
 
@@ -1360,22 +1390,36 @@ public class JsonReader extends AbstractBsonReader {
     protected class Mark extends AbstractBsonReader.Mark {
         private final JsonToken pushedToken;
         private final Object currentValue;
-        private final int position;
+        private final long markPos;
+        private boolean released;
 
         protected Mark() {
             super();
             pushedToken = JsonReader.this.pushedToken;
             currentValue = JsonReader.this.currentValue;
-            position = JsonReader.this.scanner.getBufferPosition();
+            markPos = JsonReader.this.scanner.mark();
         }
 
         public void reset() {
             super.reset();
             JsonReader.this.pushedToken = pushedToken;
             JsonReader.this.currentValue = currentValue;
-            JsonReader.this.scanner.setBufferPosition(position);
+            JsonReader.this.scanner.reset(markPos);
+            released = true;
             JsonReader.this.setContext(new Context(getParentContext(), getContextType()));
         }
+
+        /**
+         * Releases this mark without resetting to it.  Does nothing if the mark has already been reset or discarded.
+         *
+         * @since 3.6
+         */
+        public void discard() {
+            if (!released) {
+                released = true;
+                JsonReader.this.scanner.discard(markPos);
+            }
+        }
     }
 
 
@@ -18,6 +18,8 @@ package org.bson.json;
 
 import org.bson.BsonRegularExpression;
 
+import java.io.Reader;
+
 /**
  * Parses the string representation of a JSON object into a set of {@link JsonToken}-derived objects.
  *
@@ -32,23 +34,47 @@ class JsonScanner {
     }
 
     JsonScanner(final String json) {
-        this(new JsonBuffer(json));
+        this(new JsonStringBuffer(json));
     }
 
-    /**
-     * @param newPosition the new position of the cursor position in the buffer
-     */
-    public void setBufferPosition(final int newPosition) {
-        buffer.setPosition(newPosition);
+    JsonScanner(final Reader reader) {
+        this(new JsonStreamBuffer(reader));
     }
 
     /**
      * @return the current location of the cursor in the buffer
      */
-    public int getBufferPosition() {
+    public long getBufferPosition() {
         return buffer.getPosition();
     }
 
+    /**
+     * Marks the current location of the cursor in the buffer, so that it can be returned to by {@link #reset(long)}.
+     *
+     * @return the mark
+     */
+    public long mark() {
+        return buffer.mark();
+    }
+
+    /**
+     * Returns the cursor to the given mark, and releases it.
+     *
+     * @param markPos the mark
+     */
+    public void reset(final long markPos) {
+        buffer.reset(markPos);
+    }
+
+    /**
+     * Releases the given mark without returning to it.
+     *
+     * @param markPos the mark
+     */
+    public void discard(final long markPos) {
+        buffer.discard(markPos);
+    }
+
     /**
      * Finds and returns the next complete token from this scanner. If scanner reached the end of the source, it will return a token with
      * {@code JSONTokenType.END_OF_FILE} type.
@@ -92,9 +118,9 @@ class JsonScanner {
                 if (c == '-' || Character.isDigit(c)) {
                     return scanNumber((char) c);
                 } else if (c == '$' || c == '_' || Character.isLetter(c)) {
-                    return scanUnquotedString();
+                    return scanUnquotedString((char) c);
                 } else {
-                    int position = buffer.getPosition();
+                    long position = buffer.getPosition();
                     buffer.unread(c);
                     throw new JsonParseException("Invalid JSON input. Position: %d. Character: '%c'.", position, c);
                 }
@@ -115,8 +141,8 @@ class JsonScanner {
      */
     private JsonToken scanRegularExpression() {
 
-        int start = buffer.getPosition() - 1;
-        int options = -1;
+        StringBuilder patternBuilder = new StringBuilder();
+        StringBuilder optionsBuilder = new StringBuilder();
 
         RegularExpressionState state = RegularExpressionState.IN_PATTERN;
         while (true) {
@@ -129,18 +155,20 @@ class JsonScanner {
                             break;
                         case '/':
                             state = RegularExpressionState.IN_OPTIONS;
-                            options = buffer.getPosition();
                             break;
                         case '\\':
                             state = RegularExpressionState.IN_ESCAPE_SEQUENCE;
+                            patternBuilder.append((char) c);
                             break;
                         default:
                             state = RegularExpressionState.IN_PATTERN;
+                            patternBuilder.append((char) c);
                             break;
                     }
                     break;
                 case IN_ESCAPE_SEQUENCE:
                     state = RegularExpressionState.IN_PATTERN;
+                    patternBuilder.append((char) c);
                     break;
                 case IN_OPTIONS:
                     switch (c) {
@@ -149,6 +177,7 @@ class JsonScanner {
                         case 'x':
                         case 's':
                             state = RegularExpressionState.IN_OPTIONS;
+                            optionsBuilder.append((char) c);
                             break;
                         case ',':
                         case '}':
@@ -173,9 +202,7 @@ class JsonScanner {
             switch (state) {
                 case DONE:
                     buffer.unread(c);
-                    int end = buffer.getPosition();
-                    BsonRegularExpression regex
-                        = new BsonRegularExpression(buffer.substring(start + 1, options - 1), buffer.substring(options, end));
+                    BsonRegularExpression regex = new BsonRegularExpression(patternBuilder.toString(), optionsBuilder.toString());
                     return new JsonToken(JsonTokenType.REGULAR_EXPRESSION, regex);
                 case INVALID:
                     throw new JsonParseException("Invalid JSON regular expression. Position: %d.", buffer.getPosition());
@@ -189,14 +216,16 @@ class JsonScanner {
      *
      * @return The string token.
      */
-    private JsonToken scanUnquotedString() {
-        int start = buffer.getPosition() - 1;
+    private JsonToken scanUnquotedString(final char firstChar) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(firstChar);
         int c = buffer.read();
         while (c == '$' || c == '_' || Character.isLetterOrDigit(c)) {
+            sb.append((char) c);
             c = buffer.read();
         }
         buffer.unread(c);
-        String lexeme = buffer.substring(start, buffer.getPosition());
+        String lexeme = sb.toString();
         return new JsonToken(JsonTokenType.UNQUOTED_STRING, lexeme);
     }
 
@@ -223,7 +252,8 @@ class JsonScanner {
 
         int c = firstChar;
 
-        int start = buffer.getPosition() - 1;
+        StringBuilder sb = new StringBuilder();
+        sb.append(firstChar);
 
         NumberState state;
 
@@ -398,6 +428,7 @@ class JsonScanner {
                             sawMinusInfinity = false;
                             break;
                         }
+                        sb.append((char) c);
                         c = buffer.read();
                     }
                     if (sawMinusInfinity) {
@@ -430,7 +461,7 @@ class JsonScanner {
                     throw new JsonParseException("Invalid JSON number");
                 case DONE:
                     buffer.unread(c);
-                    String lexeme = buffer.substring(start, buffer.getPosition());
+                    String lexeme = sb.toString();
                     if (type == JsonTokenType.DOUBLE) {
                         return new JsonToken(JsonTokenType.DOUBLE, Double.parseDouble(lexeme));
                     } else {
@@ -442,6 +473,7 @@ class JsonScanner {
                         }
                     }
                 default:
+                    sb.append((char) c);
             }
         }
 
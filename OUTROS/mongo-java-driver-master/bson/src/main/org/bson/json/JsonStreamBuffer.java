@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2008-2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.json;
+
+import org.bson.BSONException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// A buffer over a character stream, which is read in chunks into a window that only retains the characters that may be returned to: the
+// last character read, so that it can be unread, and all the characters from the earliest outstanding mark onwards.  Positions are
+// absolute offsets in the stream, so they are longs, as a stream may hold more than Integer.MAX_VALUE characters.
+class JsonStreamBuffer implements JsonBuffer {
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final List<Long> markedPositions = new ArrayList<Long>();
+    private char[] buffer;
+    private long bufferStartPos;
+    private int bufferCount;
+    private long position;
+    private boolean eof;
+
+    JsonStreamBuffer(final Reader reader) {
+        this(reader, DEFAULT_BUFFER_SIZE);
+    }
+
+    JsonStreamBuffer(final Reader reader, final int initialBufferSize) {
+        this.reader = reader;
+        this.buffer = new char[initialBufferSize];
+    }
+
+    @Override
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    public int read() {
+        if (eof) {
+            throw new JsonParseException("Trying to read past EOF.");
+        }
+        if (position == bufferStartPos + bufferCount && !fill()) {
+            eof = true;
+            return -1;
+        }
+        return buffer[(int) (position++ - bufferStartPos)];
+    }
+
+    @Override
+    public void unread(final int c) {
+        eof = false;
+        if (c != -1 && position > bufferStartPos && buffer[(int) (position - 1 - bufferStartPos)] == c) {
+            position--;
+        }
+    }
+
+    @Override
+    public long mark() {
+        markedPositions.add(position);
+        return position;
+    }
+
+    @Override
+    public void reset(final long markPos) {
+        if (markPos < bufferStartPos || markPos > bufferStartPos + bufferCount) {
+            throw new IllegalStateException("Mark has been discarded");
+        }
+        discard(markPos);
+        position = markPos;
+    }
+
+    @Override
+    public void discard(final long markPos) {
+        markedPositions.remove(Long.valueOf(markPos));
+    }
+
+    // Reads more characters into the window, first dropping the characters that can no longer be returned to and growing the window if
+    // there is still no room.  Returns false if the end of the stream has been reached.
+    private boolean fill() {
+        long retainFromPos = Math.max(bufferStartPos, position - 1);
+        for (long markedPosition : markedPositions) {
+            retainFromPos = Math.min(retainFromPos, markedPosition);
+        }
+        int discardCount = (int) (retainFromPos - bufferStartPos);
+        if (discardCount > 0) {
+            System.arraycopy(buffer, discardCount, buffer, 0, bufferCount - discardCount);
+            bufferStartPos = retainFromPos;
+            bufferCount -= discardCount;
+        }
+        if (bufferCount == buffer.length) {
+            char[] newBuffer = new char[buffer.length * 2];
+            System.arraycopy(buffer, 0, newBuffer, 0, bufferCount);
+            buffer = newBuffer;
+        }
+
+        try {
+            int charsRead = reader.read(buffer, bufferCount, buffer.length - bufferCount);
+            while (charsRead == 0) {
+                charsRead = reader.read(buffer, bufferCount, buffer.length - bufferCount);
+            }
+            if (charsRead == -1) {
+                return false;
+            }
+            bufferCount += charsRead;
+            return true;
+        } catch (IOException e) {
+            throw new BSONException("Wrapping IOException", e);
+        }
+    }
+}
@@ -106,6 +106,54 @@ public class BsonBinaryWriterTest {
         reader.readEndDocument();
     }
 
+    @Test
+    public void testWriteEncodedName() {
+        EncodedName name = new EncodedName("b1");
+        writer.writeStartDocument();
+        name.writeTo(writer);
+        writer.writeBoolean(true);
+        writer.writeEncodedName(new EncodedName("b2"));
+        writer.writeBoolean(false);
+        writer.writeStartDocument("d");
+        name.writeTo(writer);
+        writer.writeStartArray();
+        writer.writeBoolean(true);
+        writer.writeEndArray();
+        writer.writeEndDocument();
+        writer.writeEndDocument();
+
+        BasicOutputBuffer expectedBuffer = new BasicOutputBuffer();
+        BsonBinaryWriter expectedWriter = new BsonBinaryWriter(expectedBuffer);
+        expectedWriter.writeStartDocument();
+        expectedWriter.writeBoolean("b1", true);
+        expectedWriter.writeBoolean("b2", false);
+        expectedWriter.writeStartDocument("d");
+        expectedWriter.writeStartArray("b1");
+        expectedWriter.writeBoolean(true);
+        expectedWriter.writeEndArray();
+        expectedWriter.writeEndDocument();
+        expectedWriter.writeEndDocument();
+
+        assertArrayEquals(expectedBuffer.toByteArray(), buffer.toByteArray());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWriteEncodedNameIsValidated() {
+        writer = new BsonBinaryWriter(buffer, new FieldNameValidator() {
+            @Override
+            public boolean validate(final String fieldName) {
+                return !fieldName.startsWith("$");
+            }
+
+            @Override
+            public FieldNameValidator getValidatorForField(final String fieldName) {
+                return this;
+            }
+        });
+        writer.writeStartDocument();
+        writer.writeEncodedName(new EncodedName("$invalid"));
+    }
+
     @Test
     public void testWriteAndReadString() {
         writer.writeStartDocument();
@@ -161,6 +161,72 @@ class RawBsonDocumentSpecification extends Specification {
         rawDocument << createRawDocumentVariants()
     }
 
+    def 'get should find the value of an existing key'() {
+        expect:
+        rawDocument.get('a') == document.get('a')
+        rawDocument.get('b') == document.get('b')
+        rawDocument.get('c') == document.get('c')
+        rawDocument.get('d') == document.get('d')
+
+        where:
+        rawDocument << createRawDocumentVariants()
+    }
+
+    def 'get should find the first value of a duplicated key'() {
+        given:
+        def outputBuffer = new BasicOutputBuffer()
+        def writer = new BsonBinaryWriter(outputBuffer)
+        writer.writeStartDocument()
+        writer.writeInt32('a', 1)
+        writer.writeInt32('b', 2)
+        writer.writeInt32('a', 3)
+        writer.writeEndDocument()
+        def rawDocument = new RawBsonDocument(outputBuffer.toByteArray())
+
+        expect:
+        rawDocument.get('a') == new BsonInt32(1)
+        rawDocument.get('b') == new BsonInt32(2)
+        rawDocument.size() == 3
+        rawDocument.keySet() == ['a', 'b'] as Set
+    }
+
+    def 'get and containsKey should find every key of a document with many fields'() {
+        given:
+        def manyFieldsDocument = new BsonDocument()
+        (0..<300).each { manyFieldsDocument.append("f$it".toString(), new BsonDocument('x', new BsonInt32(it))) }
+        def rawDocument = new RawBsonDocument(manyFieldsDocument, new BsonDocumentCodec())
+
+        expect:
+        (0..<300).every {
+            def key = "f$it".toString()
+            rawDocument.containsKey(key) && rawDocument.get(key) == manyFieldsDocument.get(key)
+        }
+        !rawDocument.containsKey('f300')
+        rawDocument.size() == 300
+        rawDocument.keySet() == manyFieldsDocument.keySet()
+    }
+
+    def 'get and containsKey should compare the names of fields whose hash codes collide or that are not ASCII'() {
+        given:
+        def document = new BsonDocument('Aa', new BsonInt32(1))
+                .append('BB', new BsonInt32(2))
+                .append('A', new BsonInt32(3))
+                .append('caf\u00e9', new BsonInt32(4))
+                .append('\u65e5\u672c', new BsonInt32(5))
+                .append('\ud83d\ude00', new BsonInt32(6))
+        def rawDocument = new RawBsonDocument(document, new BsonDocumentCodec())
+
+        expect:
+        'Aa'.hashCode() == 'BB'.hashCode()
+        document.keySet().every { rawDocument.containsKey(it) && rawDocument.get(it) == document.get(it) }
+        !rawDocument.containsKey('Aab')
+        !rawDocument.containsKey('cafe')
+        !rawDocument.containsKey('caf')
+        !rawDocument.containsKey('\u65e5')
+        !rawDocument.containsKey(1)
+        rawDocument.keySet() == document.keySet()
+    }
+
     def 'containValue should find an existing value'() {
         expect:
         rawDocument.containsValue(document.get('a'))
@@ -16,6 +16,7 @@
 
 package org.bson.codecs.pojo;
 
+import org.bson.codecs.DecoderContext;
 import org.bson.codecs.LongCodec;
 import org.bson.codecs.configuration.CodecConfigurationException;
 import org.bson.codecs.configuration.CodecRegistry;
@@ -36,12 +37,16 @@ import org.bson.codecs.pojo.entities.SimpleModel;
 import org.bson.codecs.pojo.entities.SimpleNestedPojoModel;
 import org.bson.codecs.pojo.entities.UpperBoundsModel;
 import org.bson.codecs.pojo.entities.conventions.AnnotationModel;
+import org.bson.codecs.pojo.entities.conventions.CreatorConstructorModel;
 import org.bson.codecs.pojo.entities.conventions.CreatorConstructorPrimitivesModel;
+import org.bson.codecs.pojo.entities.conventions.CreatorConstructorSetterModel;
 import org.bson.codecs.pojo.entities.conventions.CreatorConstructorThrowsExceptionModel;
 import org.bson.codecs.pojo.entities.conventions.CreatorMethodThrowsExceptionModel;
+import org.bson.json.JsonReader;
 import org.bson.types.ObjectId;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -52,6 +57,7 @@ import static org.bson.codecs.configuration.CodecRegistries.fromCodecs;
 import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
 import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
 import static org.bson.codecs.pojo.Conventions.NO_CONVENTIONS;
+import static org.junit.Assert.assertEquals;
 
 public final class PojoCustomTest extends PojoTestCase {
 
@@ -324,6 +330,45 @@ public final class PojoCustomTest extends PojoTestCase {
         decodingShouldFail(getCodec(CreatorConstructorThrowsExceptionModel.class), "{}");
     }
 
+    @Test
+    public void testCreatorWithPartialParameters() {
+        decodesTo(getCodec(CreatorConstructorModel.class), "{stringField: 'foo', longField: {$numberLong: '42'}}",
+                new CreatorConstructorModel(null, "foo", 42L));
+    }
+
+    @Test
+    public void testCreatorWithExtraProperties() {
+        decodesTo(getCodec(CreatorConstructorModel.class),
+                "{extraField: 1, stringField: 'foo', integersField: [10, 11], otherField: 'bar', longField: {$numberLong: '42'}}",
+                new CreatorConstructorModel(Arrays.asList(10, 11), "foo", 42L));
+    }
+
+    @Test
+    public void testCreatorWithDuplicateFields() {
+        // BsonDocument.parse would drop the duplicates, so the codec reads the JSON directly
+        CreatorConstructorModel model = getCodec(CreatorConstructorModel.class).decode(new JsonReader(
+                "{stringField: 'a', longField: {$numberLong: '1'}, stringField: 'b', longField: {$numberLong: '2'}, integersField: [10], "
+                        + "integersField: [11], stringField: 'c'}"), DecoderContext.builder().build());
+
+        assertEquals(new CreatorConstructorModel(Arrays.asList(10), "c", 2L), model);
+    }
+
+    @Test
+    public void testCreatorSetsValuesReadBeforeConstructionAgain() {
+        CreatorConstructorSetterModel model = getCodec(CreatorConstructorSetterModel.class).decode(
+                new JsonReader("{stringField: 'foo', creatorField: 'bar'}"), DecoderContext.builder().build());
+
+        assertEquals("foo", model.getStringField());
+        assertEquals("bar", model.getCreatorField());
+        assertEquals(1, model.setterCallCount());
+
+        model = getCodec(CreatorConstructorSetterModel.class).decode(
+                new JsonReader("{creatorField: 'bar', stringField: 'foo'}"), DecoderContext.builder().build());
+
+        assertEquals("foo", model.getStringField());
+        assertEquals(0, model.setterCallCount());
+    }
+
     @Test(expected = CodecConfigurationException.class)
     public void testInvalidSetterModel() {
         decodingShouldFail(getCodec(InvalidSetterArgsModel.class), "{'integerField': 42, 'stringField': 'myString'}");
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.pojo.entities.conventions;
+
+import org.bson.codecs.pojo.annotations.BsonCreator;
+import org.bson.codecs.pojo.annotations.BsonProperty;
+
+public final class CreatorConstructorSetterModel {
+    private final String creatorField;
+    private String stringField;
+    private int setterCallCount;
+
+    @BsonCreator
+    public CreatorConstructorSetterModel(@BsonProperty("stringField") final String stringField,
+                                         @BsonProperty("creatorField") final String creatorField) {
+        this.stringField = stringField;
+        this.creatorField = creatorField;
+    }
+
+    public String getCreatorField() {
+        return creatorField;
+    }
+
+    public String getStringField() {
+        return stringField;
+    }
+
+    public void setStringField(final String stringField) {
+        this.stringField = stringField;
+        setterCallCount++;
+    }
+
+    public int setterCallCount() {
+        return setterCallCount;
+    }
+}
@@ -18,9 +18,12 @@ package org.bson.io
 
 import org.bson.BsonSerializationException
 import org.bson.ByteBufNIO
+import groovy.transform.CompileStatic
 import org.bson.types.ObjectId
+import spock.lang.IgnoreIf
 import spock.lang.Specification
 
+import java.lang.management.ManagementFactory
 import java.nio.ByteBuffer
 import java.nio.charset.Charset
 
@@ -208,6 +211,79 @@ class ByteBufferBsonInputSpecification extends Specification {
         stream.position == 4
     }
 
+    def 'should return the same cached instance for repeated CStrings'() {
+        given:
+        def cache = new FieldNameCache()
+        def bytes = [0x4a, 0x61, 0x76, 0x61, 0, 0x4a, 0x61, 0x76, 0x61, 0, 0xe0, 0xa4, 0x80, 0, 0x4a, 0x61, 0x76, 0, 0, 0x4a, 0] as byte[]
+        def stream = new ByteBufferBsonInput(new ByteBufNIO(ByteBuffer.wrap(bytes)), cache)
+        def otherStream = new ByteBufferBsonInput(new ByteBufNIO(ByteBuffer.wrap(bytes)), cache)
+
+        when:
+        def first = stream.readCString()
+        def second = stream.readCString()
+
+        then:
+        first == 'Java'
+        second.is(first)
+        stream.position == 10
+        otherStream.readCString().is(first)
+
+        then:
+        stream.readCString() == '\u0900'
+        stream.readCString() == 'Jav'
+        stream.readCString() == ''
+        stream.readCString() == 'J'
+        stream.position == bytes.length
+    }
+
+    def 'should not cache CStrings longer than the maximum name length'() {
+        given:
+        def name = 'a' * (FieldNameCache.MAX_NAME_LENGTH + 1)
+        def bytes = (name + '\u0000' + name + '\u0000').getBytes(Charset.forName('UTF-8'))
+        def stream = new ByteBufferBsonInput(new ByteBufNIO(ByteBuffer.wrap(bytes)), new FieldNameCache())
+
+        when:
+        def first = stream.readCString()
+        def second = stream.readCString()
+
+        then:
+        first == name
+        second == name
+        !second.is(first)
+    }
+
+    def 'should decode CStrings correctly when names collide in the cache'() {
+        given:
+        def names = (0..<100).collect { "name$it".toString() }
+        def bytes = names.collect { it + '\u0000' }.join().getBytes(Charset.forName('UTF-8'))
+        def cache = new FieldNameCache(2)
+
+        when:
+        def stream = new ByteBufferBsonInput(new ByteBufNIO(ByteBuffer.wrap(bytes)), cache)
+        def otherStream = new ByteBufferBsonInput(new ByteBufNIO(ByteBuffer.wrap(bytes)), cache)
+
+        then:
+        names.every { stream.readCString() == it }
+        names.every { otherStream.readCString() == it }
+    }
+
+    @IgnoreIf({ !ByteBufferBsonInputSpecification.isAllocationMeasurable() })
+    def 'should allocate much less reading repeated CStrings with a field name cache'() {
+        given:
+        def names = ['_id', 'name', 'address', 'createdAt', 'tags']
+        def bytes = (names.collect { it + '\u0000' }.join() * 1000).getBytes(Charset.forName('UTF-8'))
+        def cache = new FieldNameCache()
+
+        when:
+        measureReadCStringAllocation(bytes, null)
+        measureReadCStringAllocation(bytes, cache)
+        def uncachedBytes = measureReadCStringAllocation(bytes, null)
+        def cachedBytes = measureReadCStringAllocation(bytes, cache)
+
+        then:
+        cachedBytes < uncachedBytes / 4
+    }
+
     def 'should read from position'() {
         given:
         def stream = new ByteBufferBsonInput(new ByteBufNIO(ByteBuffer.wrap([4, 3, 2, 1] as byte[])))
@@ -407,4 +483,28 @@ class ByteBufferBsonInputSpecification extends Specification {
         then:
         thrown(BsonSerializationException)
     }
+
+    static boolean isAllocationMeasurable() {
+        def threadMXBean = ManagementFactory.getThreadMXBean()
+        threadMXBean instanceof com.sun.management.ThreadMXBean && threadMXBean.isThreadAllocatedMemorySupported() &&
+                threadMXBean.isThreadAllocatedMemoryEnabled()
+    }
+
+    // Returns the number of bytes allocated by the current thread to read every CString in the bytes ten times
+    @CompileStatic
+    private static long measureReadCStringAllocation(final byte[] bytes, final FieldNameCache cache) {
+        def threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()
+        def threadId = Thread.currentThread().getId()
+        def inputs = new ByteBufferBsonInput[10]
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = new ByteBufferBsonInput(new ByteBufNIO(ByteBuffer.wrap(bytes)), cache)
+        }
+        long start = threadMXBean.getThreadAllocatedBytes(threadId)
+        for (ByteBufferBsonInput input : inputs) {
+            while (input.hasRemaining()) {
+                input.readCString()
+            }
+        }
+        threadMXBean.getThreadAllocatedBytes(threadId) - start
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2008-2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.json;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class JsonDocumentIterableTest {
+
+    @Test
+    public void testNewlineDelimitedDocuments() {
+        assertEquals(asList(new BsonDocument("a", new BsonInt32(1)), new BsonDocument("a", new BsonInt32(2))),
+                readAll("{\"a\" : 1}\n{\"a\" : 2}\n"));
+    }
+
+    @Test
+    public void testArrayOfDocuments() {
+        assertEquals(asList(new BsonDocument("a", new BsonInt32(1)), new BsonDocument("a", new BsonInt32(2))),
+                readAll("[{\"a\" : 1},\n{\"a\" : 2}]"));
+    }
+
+    @Test
+    public void testEmpty() {
+        assertTrue(readAll("").isEmpty());
+        assertTrue(readAll("[]").isEmpty());
+    }
+
+    @Test
+    public void testExtendedJson() {
+        assertEquals(asList(BsonDocument.parse("{a : {$binary : 'AQID', $type : '80'}, b : {$regex : 'x', $options : 'i'}}")),
+                readAll("{a : {$binary : 'AQID', $type : '80'}, b : {$regex : 'x', $options : 'i'}}"));
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void testNonDocumentValue() {
+        readAll("{\"a\" : 1}\n2\n");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSecondIterator() {
+        JsonDocumentIterable iterable = new JsonDocumentIterable(new StringReader("{\"a\" : 1}"));
+        iterable.iterator();
+        iterable.iterator();
+    }
+
+    private List<BsonDocument> readAll(final String json) {
+        JsonDocumentIterable iterable = new JsonDocumentIterable(new StringReader(json));
+        try {
+            List<BsonDocument> documents = new ArrayList<BsonDocument>();
+            for (BsonDocument document : iterable) {
+                documents.add(document);
+            }
+            return documents;
+        } finally {
+            iterable.close();
+        }
+    }
+}
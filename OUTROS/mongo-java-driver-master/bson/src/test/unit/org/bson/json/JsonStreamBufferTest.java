@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2008-2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.json;
+
+import org.junit.Test;
+
+import java.io.StringReader;
+
+import static org.junit.Assert.assertEquals;
+
+public class JsonStreamBufferTest {
+
+    @Test
+    public void testRead() {
+        JsonStreamBuffer buffer = new JsonStreamBuffer(new StringReader("ABC"));
+        assertEquals('A', buffer.read());
+        assertEquals('B', buffer.read());
+        assertEquals('C', buffer.read());
+        assertEquals(-1, buffer.read());
+    }
+
+    @Test
+    public void testUnRead() {
+        JsonStreamBuffer buffer = new JsonStreamBuffer(new StringReader("A"));
+        buffer.unread(buffer.read());
+        assertEquals('A', buffer.read());
+        assertEquals(-1, buffer.read());
+    }
+
+    @Test
+    public void testUnReadAcrossRefill() {
+        JsonStreamBuffer buffer = new JsonStreamBuffer(new StringReader("ABC"), 1);
+        assertEquals('A', buffer.read());
+        int c = buffer.read();
+        assertEquals('B', c);
+        buffer.unread(c);
+        assertEquals('B', buffer.read());
+        assertEquals('C', buffer.read());
+        assertEquals(3, buffer.getPosition());
+    }
+
+    @Test
+    public void testMarkAndReset() {
+        JsonStreamBuffer buffer = new JsonStreamBuffer(new StringReader("ABCDEFGH"), 2);
+        assertEquals('A', buffer.read());
+        long markPos = buffer.mark();
+        assertEquals('B', buffer.read());
+        assertEquals('C', buffer.read());
+        assertEquals('D', buffer.read());
+        assertEquals('E', buffer.read());
+        buffer.reset(markPos);
+        assertEquals(1, buffer.getPosition());
+        assertEquals('B', buffer.read());
+        assertEquals('C', buffer.read());
+    }
+
+    @Test
+    public void testNestedMarks() {
+        JsonStreamBuffer buffer = new JsonStreamBuffer(new StringReader("ABCDEFGH"), 1);
+        long outerMarkPos = buffer.mark();
+        assertEquals('A', buffer.read());
+        long innerMarkPos = buffer.mark();
+        assertEquals('B', buffer.read());
+        buffer.discard(innerMarkPos);
+        assertEquals('C', buffer.read());
+        assertEquals('D', buffer.read());
+        buffer.reset(outerMarkPos);
+        assertEquals('A', buffer.read());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testResetToDiscardedMark() {
+        JsonStreamBuffer buffer = new JsonStreamBuffer(new StringReader("ABCDEFGH"), 2);
+        long markPos = buffer.mark();
+        buffer.discard(markPos);
+        for (int i = 0; i < 6; i++) {
+            buffer.read();
+        }
+        buffer.reset(markPos);
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void testEOFCheck() {
+        JsonStreamBuffer buffer = new JsonStreamBuffer(new StringReader(""));
+
+        buffer.read();
+        buffer.read();
+    }
+}
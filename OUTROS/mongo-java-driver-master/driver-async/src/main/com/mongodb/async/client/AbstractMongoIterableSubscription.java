@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.async.client;
+
+import com.mongodb.MongoException;
+import com.mongodb.async.AsyncBatchCursor;
+import com.mongodb.async.SingleResultCallback;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Reads the batches of a MongoIterable's cursor as they are demanded, leaving it to subclasses to queue each batch as a whole or as the
+// results in it.
+abstract class AbstractMongoIterableSubscription<TResult, TItem> extends AbstractSubscription<TItem> {
+
+    private final MongoIterable<TResult> mongoIterable;
+    private final AtomicBoolean isReading = new AtomicBoolean();
+
+    private volatile AsyncBatchCursor<TResult> batchCursor;
+
+    AbstractMongoIterableSubscription(final MongoIterable<TResult> mongoIterable, final Observer<? super TItem> observer) {
+        super(observer);
+        this.mongoIterable = mongoIterable;
+    }
+
+    // Returns the batch size to read with, or null to read with the batch size of the MongoIterable
+    abstract Integer getBatchSize();
+
+    abstract void queueBatch(List<TResult> batch);
+
+    @Override
+    void requestInitialData() {
+        Integer batchSize = getBatchSize();
+        if (batchSize != null) {
+            mongoIterable.batchSize(batchSize);
+        }
+        mongoIterable.batchCursor(new SingleResultCallback<AsyncBatchCursor<TResult>>() {
+            @Override
+            public void onResult(final AsyncBatchCursor<TResult> result, final Throwable t) {
+                if (t != null) {
+                    onError(t);
+                } else if (result != null) {
+                    batchCursor = result;
+                    requestMoreData();
+                } else {
+                    onError(new MongoException("Unexpected error, no AsyncBatchCursor returned from the MongoIterable."));
+                }
+            }
+        });
+    }
+
+    @Override
+    void postTerminate() {
+        if (batchCursor != null) {
+            batchCursor.close();
+        }
+    }
+
+    @Override
+    void requestMoreData() {
+        if (!isTerminated() && batchCursor != null && isReading.compareAndSet(false, true)) {
+            Integer batchSize = getBatchSize();
+            if (batchSize != null) {
+                batchCursor.setBatchSize(batchSize);
+            }
+            batchCursor.next(new SingleResultCallback<List<TResult>>() {
+                @Override
+                public void onResult(final List<TResult> result, final Throwable t) {
+                    if (t != null) {
+                        isReading.set(false);
+                        onError(t);
+                    } else {
+                        // The batch is queued before the next read can start, so that it cannot be overtaken by the end of the cursor
+                        if (result == null) {
+                            markCompleted();
+                        } else {
+                            queueBatch(result);
+                        }
+                        isReading.set(false);
+                        tryProcessResultsQueue();
+                    }
+                }
+            });
+        }
+    }
+}
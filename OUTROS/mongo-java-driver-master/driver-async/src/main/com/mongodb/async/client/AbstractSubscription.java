@@ -18,18 +18,23 @@ package com.mongodb.async.client;
 
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+// Demand and termination are tracked with atomics rather than a lock.  Whichever thread increments the work-in-progress counter from zero
+// drains the results queue, and any thread that signals more work while it does so just increments the counter, so that the draining
+// thread goes round again instead of the signalling thread waiting for it.
 abstract class AbstractSubscription<TResult> implements Subscription {
 
     private final Observer<? super TResult> observer;
 
-    /* protected by `this` */
-    private boolean requestedData;
-    private boolean isProcessing;
-    private long requested = 0;
-    private boolean isUnsubscribed = false;
-    private boolean isTerminated = false;
-    /* protected by `this` */
+    private final AtomicBoolean requestedData = new AtomicBoolean();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicBoolean isTerminated = new AtomicBoolean();
+    private volatile boolean isUnsubscribed;
+    private volatile boolean completed;
 
     private final ConcurrentLinkedQueue<TResult> resultsQueue = new ConcurrentLinkedQueue<TResult>();
 
@@ -39,17 +44,8 @@ abstract class AbstractSubscription<TResult> implements Subscription {
 
     @Override
     public void unsubscribe() {
-        boolean unsubscribe = false;
-
-        synchronized (this) {
-            if (!isUnsubscribed) {
-                unsubscribe = true;
-                isUnsubscribed = true;
-                isTerminated = true;
-            }
-        }
-
-        if (unsubscribe) {
+        isUnsubscribed = true;
+        if (terminalAction()) {
             postTerminate();
         }
     }
@@ -65,20 +61,15 @@ abstract class AbstractSubscription<TResult> implements Subscription {
             throw new IllegalArgumentException("Number requested must be > 0: " + n);
         }
 
-        boolean requestData = false;
-        synchronized (this) {
-            if (requested + n < 1) {
-                requested = Long.MAX_VALUE;
-            } else {
-                requested += n;
-            }
-            if (!requestedData) {
-                requestedData = true;
-                requestData = true;
+        while (true) {
+            long current = requested.get();
+            long updated = current + n < 1 ? Long.MAX_VALUE : current + n;
+            if (current == Long.MAX_VALUE || requested.compareAndSet(current, updated)) {
+                break;
             }
         }
 
-        if (requestData) {
+        if (requestedData.compareAndSet(false, true)) {
             tryRequestInitialData();
         } else {
             tryProcessResultsQueue();
@@ -93,27 +84,40 @@ abstract class AbstractSubscription<TResult> implements Subscription {
     void postTerminate() {
     }
 
-    abstract boolean checkCompleted();
-
     boolean isTerminated() {
-        return isTerminated;
+        return isTerminated.get();
     }
 
     long getRequested() {
-        return requested;
+        return requested.get();
     }
 
-    void addToQueue(final TResult result) {
+    void queue(final TResult result) {
         if (result != null) {
             resultsQueue.add(result);
         }
-        tryProcessResultsQueue();
     }
 
-    void addToQueue(final List<TResult> results) {
+    void queue(final List<TResult> results) {
         if (results != null) {
             resultsQueue.addAll(results);
         }
+    }
+
+    // Must be called after the last results are queued, so that a drain that sees the subscription completed also sees them
+    void markCompleted() {
+        completed = true;
+    }
+
+    void addLastToQueue(final TResult result) {
+        queue(result);
+        markCompleted();
+        tryProcessResultsQueue();
+    }
+
+    void addLastToQueue(final List<TResult> results) {
+        queue(results);
+        markCompleted();
         tryProcessResultsQueue();
     }
 
@@ -125,12 +129,7 @@ abstract class AbstractSubscription<TResult> implements Subscription {
     }
 
     void onNext(final TResult next) {
-        boolean isTerminated = false;
-        synchronized (this) {
-            isTerminated = this.isTerminated;
-        }
-
-        if (!isTerminated) {
+        if (!isTerminated()) {
             try {
                 observer.onNext(next);
             } catch (Throwable t) {
@@ -154,7 +153,7 @@ abstract class AbstractSubscription<TResult> implements Subscription {
         }
     }
 
-    private void tryProcessResultsQueue() {
+    void tryProcessResultsQueue() {
         try {
             processResultsQueue();
         } catch (Throwable t) {
@@ -163,67 +162,52 @@ abstract class AbstractSubscription<TResult> implements Subscription {
     }
 
     private void processResultsQueue() {
-        boolean mustProcess = false;
-
-        synchronized (this) {
-            if (!isProcessing && !isTerminated) {
-                isProcessing = true;
-                mustProcess = true;
-            }
+        if (wip.getAndIncrement() != 0) {
+            return;
         }
 
-        if (mustProcess) {
-            boolean requestMore = false;
-
+        int missed = 1;
+        boolean mustComplete;
+        boolean requestMore;
+        while (true) {
+            long localWanted = requested.get();
             long processedCount = 0;
-            boolean completed = false;
-            while (true) {
-                long localWanted = 0;
-
-                synchronized (this) {
-                    requested -= processedCount;
-                    if (resultsQueue.isEmpty()) {
-                        completed = checkCompleted();
-                        requestMore = requested > 0;
-                        isProcessing = false;
-                        break;
-                    } else if (requested == 0) {
-                        isProcessing = false;
-                        break;
-                    }
-                    localWanted = requested;
-                }
-                processedCount = 0;
-
-                while (localWanted > 0) {
-                    TResult item = resultsQueue.poll();
-                    if (item == null) {
-                        break;
-                    } else {
-                        onNext(item);
-                        localWanted -= 1;
-                        processedCount += 1;
-                    }
+            while (processedCount != localWanted && !isTerminated()) {
+                TResult item = resultsQueue.poll();
+                if (item == null) {
+                    break;
                 }
+                onNext(item);
+                processedCount++;
+            }
+            if (isTerminated()) {
+                return;
+            }
+            if (processedCount != 0 && localWanted != Long.MAX_VALUE) {
+                localWanted = requested.addAndGet(-processedCount);
             }
 
-            if (completed) {
-                onComplete();
-            } else if (requestMore) {
-                requestMoreData();
+            // completed is read before the queue, as it is set after the last results are queued
+            boolean isCompleted = completed;
+            boolean isEmpty = resultsQueue.isEmpty();
+            mustComplete = isCompleted && isEmpty;
+            requestMore = !isCompleted && isEmpty && localWanted > 0;
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
             }
         }
+
+        if (mustComplete) {
+            onComplete();
+        } else if (requestMore) {
+            requestMoreData();
+        }
     }
 
     private boolean terminalAction() {
-        boolean isTerminal = false;
-        synchronized (this) {
-            if (!isTerminated) {
-                isTerminated = true;
-                isTerminal = true;
-            }
-        }
-        return isTerminal;
+        return isTerminated.compareAndSet(false, true);
     }
 
 }
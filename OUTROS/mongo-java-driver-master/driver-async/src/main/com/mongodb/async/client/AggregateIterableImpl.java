@@ -60,6 +60,7 @@ class AggregateIterableImpl<TDocument, TResult> implements AggregateIterable<TRe
     private long maxAwaitTimeMS;
     private long maxTimeMS;
     private Boolean useCursor;
+    private boolean prefetch;
     private Boolean bypassDocumentValidation;
     private Collation collation;
     private String comment;
@@ -113,6 +114,12 @@ class AggregateIterableImpl<TDocument, TResult> implements AggregateIterable<TRe
         return this;
     }
 
+    @Override
+    public AggregateIterable<TResult> prefetch(final boolean prefetch) {
+        this.prefetch = prefetch;
+        return this;
+    }
+
     @Override
     public void toCollection(final SingleResultCallback<Void> callback) {
         List<BsonDocument> aggregateList = createBsonDocumentList();
@@ -200,7 +207,8 @@ class AggregateIterableImpl<TDocument, TResult> implements AggregateIterable<TRe
                     .comment(comment);
             MongoIterable<TResult> delegated = new FindIterableImpl<TDocument, TResult>(new MongoNamespace(namespace.getDatabaseName(),
                     outCollection.asString().getValue()), documentClass, resultClass, codecRegistry, primary(), readConcern,
-                    executor, new BsonDocument(), new FindOptions().collation(collation).maxAwaitTime(maxAwaitTimeMS, MILLISECONDS));
+                    executor, new BsonDocument(), new FindOptions().collation(collation).maxAwaitTime(maxAwaitTimeMS, MILLISECONDS)
+                            .prefetch(prefetch));
             if (batchSize != null) {
                 delegated.batchSize(batchSize);
             }
@@ -212,6 +220,7 @@ class AggregateIterableImpl<TDocument, TResult> implements AggregateIterable<TRe
                     .allowDiskUse(allowDiskUse)
                     .batchSize(batchSize)
                     .useCursor(useCursor)
+                    .prefetch(prefetch)
                     .readConcern(readConcern)
                     .collation(collation)
                     .hint(hint == null ? null : hint.toBsonDocument(documentClass, codecRegistry))
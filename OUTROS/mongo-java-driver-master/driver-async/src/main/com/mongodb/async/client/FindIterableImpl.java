@@ -24,6 +24,7 @@ import com.mongodb.ReadConcern;
 import com.mongodb.ReadPreference;
 import com.mongodb.async.AsyncBatchCursor;
 import com.mongodb.async.SingleResultCallback;
+import com.mongodb.client.model.AdaptiveBatchSize;
 import com.mongodb.client.model.Collation;
 import com.mongodb.client.model.FindOptions;
 import com.mongodb.operation.AsyncOperationExecutor;
@@ -133,6 +134,24 @@ class FindIterableImpl<TDocument, TResult> implements FindIterable<TResult> {
         return this;
     }
 
+    @Override
+    public FindIterable<TResult> prefetch(final boolean prefetch) {
+        findOptions.prefetch(prefetch);
+        return this;
+    }
+
+    @Override
+    public FindIterable<TResult> exhaust(final boolean exhaust) {
+        findOptions.exhaust(exhaust);
+        return this;
+    }
+
+    @Override
+    public FindIterable<TResult> adaptiveBatchSize(final AdaptiveBatchSize adaptiveBatchSize) {
+        findOptions.adaptiveBatchSize(adaptiveBatchSize);
+        return this;
+    }
+
     @Override
     public FindIterable<TResult> oplogReplay(final boolean oplogReplay) {
         findOptions.oplogReplay(oplogReplay);
@@ -251,6 +270,9 @@ class FindIterableImpl<TDocument, TResult> implements FindIterable<TResult> {
                .sort(toBsonDocument(findOptions.getSort()))
                .cursorType(findOptions.getCursorType())
                .noCursorTimeout(findOptions.isNoCursorTimeout())
+               .prefetch(findOptions.isPrefetch())
+               .exhaust(findOptions.isExhaust())
+               .adaptiveBatchSize(findOptions.getAdaptiveBatchSize())
                .oplogReplay(findOptions.isOplogReplay())
                .partial(findOptions.isPartial())
                .slaveOk(readPreference.isSlaveOk())
@@ -25,10 +25,6 @@ class FlatteningSingleResultCallbackSubscription<TResult> extends AbstractSubscr
 
     private final Block<SingleResultCallback<List<TResult>>> block;
 
-    /* protected by `this` */
-    private boolean completed;
-    /* protected by `this` */
-
     FlatteningSingleResultCallbackSubscription(final Block<SingleResultCallback<List<TResult>>> block,
                                                final Observer<? super TResult> observer) {
         super(observer);
@@ -44,17 +40,9 @@ class FlatteningSingleResultCallbackSubscription<TResult> extends AbstractSubscr
                 if (t != null) {
                     onError(t);
                 } else {
-                    synchronized (FlatteningSingleResultCallbackSubscription.this) {
-                        completed = true;
-                    }
-                    addToQueue(result);
+                    addLastToQueue(result);
                 }
             }
         });
     }
-
-    @Override
-    boolean checkCompleted() {
-        return completed;
-    }
 }
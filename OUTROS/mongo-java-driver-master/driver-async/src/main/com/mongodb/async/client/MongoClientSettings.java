@@ -23,6 +23,7 @@ import com.mongodb.ReadPreference;
 import com.mongodb.WriteConcern;
 import com.mongodb.annotations.Immutable;
 import com.mongodb.annotations.NotThreadSafe;
+import com.mongodb.connection.BufferPoolSettings;
 import com.mongodb.connection.ClusterSettings;
 import com.mongodb.connection.ConnectionPoolSettings;
 import com.mongodb.connection.ServerSettings;
@@ -63,6 +64,7 @@ public final class MongoClientSettings {
     private final ConnectionPoolSettings connectionPoolSettings;
     private final ServerSettings serverSettings;
     private final SslSettings sslSettings;
+    private final BufferPoolSettings bufferPoolSettings;
     private final String applicationName;
     private final List<MongoCompressor> compressorList;
 
@@ -107,6 +109,7 @@ public final class MongoClientSettings {
                                                                                       .build();
         private ServerSettings serverSettings = ServerSettings.builder().build();
         private SslSettings sslSettings = SslSettings.builder().build();
+        private BufferPoolSettings bufferPoolSettings = BufferPoolSettings.builder().build();
         private List<MongoCredential> credentialList = Collections.emptyList();
         private String applicationName;
         private List<MongoCompressor> compressorList = Collections.emptyList();
@@ -134,6 +137,7 @@ public final class MongoClientSettings {
             heartbeatSocketSettings = settings.getHeartbeatSocketSettings();
             connectionPoolSettings = settings.getConnectionPoolSettings();
             sslSettings = settings.getSslSettings();
+            bufferPoolSettings = settings.getBufferPoolSettings();
             applicationName = settings.getApplicationName();
             compressorList = settings.getCompressorList();
         }
@@ -210,6 +214,19 @@ public final class MongoClientSettings {
             return this;
         }
 
+        /**
+         * Sets the buffer pool settings.  These settings are applied to the default NIO.2 stream factory, and are ignored if a
+         * {@code StreamFactoryFactory} has been set.
+         *
+         * @param bufferPoolSettings the buffer pool settings
+         * @return {@code this}
+         * @see MongoClientSettings#getBufferPoolSettings()
+         * @since 3.6
+         */
+        public Builder bufferPoolSettings(final BufferPoolSettings bufferPoolSettings) {
+            this.bufferPoolSettings = notNull("bufferPoolSettings", bufferPoolSettings);
+            return this;
+        }
 
         /**
          * Sets the read preference.
@@ -469,6 +486,16 @@ public final class MongoClientSettings {
         return sslSettings;
     }
 
+    /**
+     * Gets the settings for the pool of buffers used by the default NIO.2 stream factory.
+     *
+     * @return the buffer pool settings
+     * @since 3.6
+     */
+    public BufferPoolSettings getBufferPoolSettings() {
+        return bufferPoolSettings;
+    }
+
     /**
      * Gets the connection-specific settings wrapped in a settings object.   This settings object uses the values for connectTimeout,
      * socketTimeout and socketKeepAlive.
@@ -530,6 +557,7 @@ public final class MongoClientSettings {
         heartbeatSocketSettings = builder.heartbeatSocketSettings;
         connectionPoolSettings = builder.connectionPoolSettings;
         sslSettings = builder.sslSettings;
+        bufferPoolSettings = builder.bufferPoolSettings;
         compressorList = builder.compressorList;
     }
 }
@@ -23,6 +23,7 @@ import com.mongodb.client.MongoDriverInformation;
 import com.mongodb.client.gridfs.codecs.GridFSFileCodecProvider;
 import com.mongodb.client.model.geojson.codecs.GeoJsonCodecProvider;
 import com.mongodb.connection.AsynchronousSocketChannelStreamFactory;
+import com.mongodb.connection.BufferPoolSettings;
 import com.mongodb.connection.ClusterSettings;
 import com.mongodb.connection.ConnectionPoolSettings;
 import com.mongodb.connection.DefaultClusterFactory;
@@ -176,9 +177,9 @@ public final class MongoClients {
             return NettyMongoClients.create(settings, mongoDriverInformation);
         } else {
             StreamFactory streamFactory = getStreamFactory(settings.getStreamFactoryFactory(), settings.getSocketSettings(),
-                    settings.getSslSettings(), streamType);
+                    settings.getSslSettings(), settings.getBufferPoolSettings(), streamType);
             StreamFactory heartbeatStreamFactory = getStreamFactory(settings.getStreamFactoryFactory(),
-                    settings.getHeartbeatSocketSettings(), settings.getSslSettings(), streamType);
+                    settings.getHeartbeatSocketSettings(), settings.getSslSettings(), settings.getBufferPoolSettings(), streamType);
             return createMongoClient(settings, mongoDriverInformation, streamFactory, heartbeatStreamFactory, null);
         }
     }
@@ -226,11 +227,11 @@ public final class MongoClients {
 
     private static StreamFactory getStreamFactory(final StreamFactoryFactory streamFactoryFactory,
                                                   final SocketSettings socketSettings, final SslSettings sslSettings,
-                                                  final String streamType) {
+                                                  final BufferPoolSettings bufferPoolSettings, final String streamType) {
         if (streamFactoryFactory != null) {
             return streamFactoryFactory.create(socketSettings, sslSettings);
         } else if (isNio2(streamType)) {
-            return new AsynchronousSocketChannelStreamFactory(socketSettings, sslSettings);
+            return new AsynchronousSocketChannelStreamFactory(socketSettings, sslSettings, null, bufferPoolSettings);
         } else {
             throw new IllegalArgumentException("Unsupported stream type: " + streamType);
         }
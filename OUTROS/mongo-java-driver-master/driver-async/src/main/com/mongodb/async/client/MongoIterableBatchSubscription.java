@@ -0,0 +1,41 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.async.client;
+
+import java.util.List;
+
+// Emits each batch of the cursor as a whole, so that each result requested by the observer is a batch.  The batches are read with the batch
+// size of the MongoIterable, and empty batches are not emitted.
+final class MongoIterableBatchSubscription<TResult> extends AbstractMongoIterableSubscription<TResult, List<TResult>> {
+
+    MongoIterableBatchSubscription(final MongoIterable<TResult> mongoIterable, final Observer<? super List<TResult>> observer) {
+        super(mongoIterable, observer);
+        observer.onSubscribe(this);
+    }
+
+    @Override
+    void queueBatch(final List<TResult> batch) {
+        if (!batch.isEmpty()) {
+            queue(batch);
+        }
+    }
+
+    @Override
+    Integer getBatchSize() {
+        return null;
+    }
+}
@@ -16,93 +16,18 @@
 
 package com.mongodb.async.client;
 
-import com.mongodb.MongoException;
-import com.mongodb.async.AsyncBatchCursor;
-import com.mongodb.async.SingleResultCallback;
-
 import java.util.List;
 
-
-final class MongoIterableSubscription<TResult> extends AbstractSubscription<TResult> {
-
-    private final MongoIterable<TResult> mongoIterable;
-
-    /* protected by `this` */
-    private boolean isReading;
-    private boolean completed;
-    /* protected by `this` */
-
-    private volatile AsyncBatchCursor<TResult> batchCursor;
+final class MongoIterableSubscription<TResult> extends AbstractMongoIterableSubscription<TResult, TResult> {
 
     MongoIterableSubscription(final MongoIterable<TResult> mongoIterable, final Observer<? super TResult> observer) {
-        super(observer);
-        this.mongoIterable = mongoIterable;
+        super(mongoIterable, observer);
         observer.onSubscribe(this);
     }
 
-
-
-    @Override
-    void requestInitialData() {
-        mongoIterable.batchSize(getBatchSize());
-        mongoIterable.batchCursor(new SingleResultCallback<AsyncBatchCursor<TResult>>() {
-            @Override
-            public void onResult(final AsyncBatchCursor<TResult> result, final Throwable t) {
-                if (t != null) {
-                    onError(t);
-                } else if (result != null) {
-                    batchCursor = result;
-                    requestMoreData();
-                } else {
-                    onError(new MongoException("Unexpected error, no AsyncBatchCursor returned from the MongoIterable."));
-                }
-            }
-        });
-    }
-
     @Override
-    boolean checkCompleted() {
-        return completed;
-    }
-
-    @Override
-    void postTerminate() {
-        if (batchCursor != null) {
-            batchCursor.close();
-        }
-    }
-
-    @Override
-    void requestMoreData() {
-        boolean mustRead = false;
-        synchronized (this) {
-            if (!isReading && !isTerminated() && batchCursor != null) {
-                isReading = true;
-                mustRead = true;
-            }
-        }
-
-        if (mustRead) {
-            batchCursor.setBatchSize(getBatchSize());
-            batchCursor.next(new SingleResultCallback<List<TResult>>() {
-                @Override
-                public void onResult(final List<TResult> result, final Throwable t) {
-
-                    synchronized (MongoIterableSubscription.this) {
-                        isReading = false;
-                        if (t == null && result == null) {
-                            completed = true;
-                        }
-                    }
-
-                    if (t != null) {
-                        onError(t);
-                    } else {
-                        addToQueue(result);
-                    }
-                }
-            });
-        }
+    void queueBatch(final List<TResult> batch) {
+        queue(batch);
     }
 
     /**
@@ -113,7 +38,8 @@ final class MongoIterableSubscription<TResult> extends AbstractSubscription<TRes
      *
      * @return the batchSize to use
      */
-    private int getBatchSize() {
+    @Override
+    Integer getBatchSize() {
         long requested = getRequested();
         if (requested <= 1) {
             return 2;
@@ -47,6 +47,26 @@ public final class Observables {
         };
     }
 
+    /**
+     * Convert a {@link MongoIterable} into an {@link Observable} of the batches of its cursor.
+     *
+     * <p>Each result requested by the observer is a whole batch, read with the batch size of the MongoIterable, so that the observer is
+     * called once per batch rather than once per result.  Empty batches are not emitted.</p>
+     *
+     * @param mongoIterable the MongoIterable to subscribe to
+     * @param <TResult>     The type of result in each batch
+     * @return the observable of the batches of the mongoIterable
+     * @since 3.6
+     */
+    public static <TResult> Observable<List<TResult>> observeBatches(final MongoIterable<TResult> mongoIterable) {
+        return new Observable<List<TResult>>() {
+            @Override
+            public void subscribe(final Observer<? super List<TResult>> observer) {
+                new MongoIterableBatchSubscription<TResult>(mongoIterable, observer);
+            }
+        };
+    }
+
     /**
      * Allows the conversion of {@link SingleResultCallback} based operations into an {@link Observable}
      *
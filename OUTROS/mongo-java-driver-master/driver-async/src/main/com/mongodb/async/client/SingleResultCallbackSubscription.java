@@ -23,10 +23,6 @@ class SingleResultCallbackSubscription<TResult> extends AbstractSubscription<TRe
 
     private final Block<SingleResultCallback<TResult>> block;
 
-    /* protected by `this` */
-    private boolean completed;
-    /* protected by `this` */
-
     SingleResultCallbackSubscription(final Block<SingleResultCallback<TResult>> block, final Observer<? super TResult> observer) {
         super(observer);
         this.block = block;
@@ -41,17 +37,9 @@ class SingleResultCallbackSubscription<TResult> extends AbstractSubscription<TRe
                 if (t != null) {
                     onError(t);
                 } else {
-                    synchronized (SingleResultCallbackSubscription.this) {
-                        completed = true;
-                    }
-                    addToQueue(result);
+                    addLastToQueue(result);
                 }
             }
         });
     }
-
-    @Override
-    boolean checkCompleted() {
-        return completed;
-    }
 }
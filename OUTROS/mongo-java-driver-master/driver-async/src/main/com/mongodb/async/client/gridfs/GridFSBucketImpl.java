@@ -147,7 +147,8 @@ final class GridFSBucketImpl implements GridFSBucket {
         notNull("filename", filename);
         int chunkSize = options.getChunkSizeBytes() == null ? chunkSizeBytes : options.getChunkSizeBytes();
         return new GridFSUploadStreamImpl(filesCollection, chunksCollection, id, filename, chunkSize, options.getMetadata(),
-                new GridFSIndexCheckImpl(filesCollection, chunksCollection));
+                new GridFSIndexCheckImpl(filesCollection, chunksCollection), options.getChunksPerInsert(),
+                options.getMaxConcurrentInserts());
     }
 
     @Override
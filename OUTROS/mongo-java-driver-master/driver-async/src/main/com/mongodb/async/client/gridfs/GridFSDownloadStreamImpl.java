@@ -19,6 +19,7 @@ package com.mongodb.async.client.gridfs;
 import com.mongodb.MongoGridFSException;
 import com.mongodb.async.AsyncBatchCursor;
 import com.mongodb.async.SingleResultCallback;
+import com.mongodb.async.client.FindIterable;
 import com.mongodb.async.client.MongoCollection;
 import com.mongodb.client.gridfs.model.GridFSFile;
 import com.mongodb.diagnostics.logging.Logger;
@@ -53,6 +54,7 @@ final class GridFSDownloadStreamImpl implements GridFSDownloadStream {
 
     private AsyncBatchCursor<Document> cursor;
     private int batchSize;
+    private int readAhead;
     private int chunkIndex;
     private int bufferOffset;
     private long currentPosition;
@@ -102,6 +104,14 @@ final class GridFSDownloadStreamImpl implements GridFSDownloadStream {
         return this;
     }
 
+    @Override
+    public GridFSDownloadStream readAhead(final int numberOfChunks) {
+        isTrueArgument("numberOfChunks cannot be negative", numberOfChunks >= 0);
+        this.readAhead = numberOfChunks;
+        discardCursor();
+        return this;
+    }
+
     @Override
     public void read(final ByteBuffer dst, final SingleResultCallback<Integer> callback) {
         notNull("dst", dst);
@@ -144,10 +154,13 @@ final class GridFSDownloadStreamImpl implements GridFSDownloadStream {
         } else if (hasResultsToProcess()) {
             processResults(amountRead, dst, callback);
         } else if (cursor == null) {
-            chunksCollection.find(new Document("files_id", fileInfo.getId())
+            FindIterable<Document> findIterable = chunksCollection.find(new Document("files_id", fileInfo.getId())
                     .append("n", new Document("$gte", chunkIndex)))
-                    .batchSize(batchSize).sort(new Document("n", 1))
-                    .batchCursor(new SingleResultCallback<AsyncBatchCursor<Document>>() {
+                    .batchSize(readAhead > 0 ? readAhead : batchSize).sort(new Document("n", 1));
+            if (readAhead > 0) {
+                findIterable = findIterable.prefetch(true);
+            }
+            findIterable.batchCursor(new SingleResultCallback<AsyncBatchCursor<Document>>() {
                         @Override
                         public void onResult(final AsyncBatchCursor<Document> result, final Throwable t) {
                             if (t != null) {
@@ -168,7 +181,7 @@ final class GridFSDownloadStreamImpl implements GridFSDownloadStream {
                         callback.onResult(null, chunkNotFound(chunkIndex));
                     } else {
                         resultsQueue.addAll(result);
-                        if (batchSize == 1) {
+                        if (readAhead == 0 && batchSize == 1) {
                             discardCursor();
                         }
                         processResults(amountRead, dst, callback);
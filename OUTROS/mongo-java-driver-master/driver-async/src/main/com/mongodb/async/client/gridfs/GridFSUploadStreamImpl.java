@@ -31,8 +31,11 @@ import org.bson.types.ObjectId;
 import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.internal.HexUtils.toHex;
 import static com.mongodb.internal.async.ErrorHandlingResultCallback.errorHandlingCallback;
@@ -47,7 +50,10 @@ final class GridFSUploadStreamImpl implements GridFSUploadStream {
     private final Document metadata;
     private final MessageDigest md5;
     private final GridFSIndexCheck indexCheck;
+    private final int chunksPerInsert;
+    private final int maxConcurrentInserts;
     private final Object closeAndWritingLock = new Object();
+    private final Object insertLock = new Object();
 
 
     /* protected by `closeAndWritingLock` */
@@ -61,11 +67,30 @@ final class GridFSUploadStreamImpl implements GridFSUploadStream {
     private long lengthInBytes;
     private int bufferOffset;
     private int chunkIndex;
+    private final List<Document> pendingChunks = new ArrayList<Document>();
     /* accessed only when writing */
 
+    /* protected by `insertLock` */
+    private int insertsInProgress;
+    private Throwable insertFailure;
+    private Runnable insertCompletedAction;
+    /* protected by `insertLock` */
+
     GridFSUploadStreamImpl(final MongoCollection<GridFSFile> filesCollection, final MongoCollection<Document> chunksCollection,
                            final BsonValue fileId, final String filename, final int chunkSizeBytes, final Document metadata,
                            final GridFSIndexCheck indexCheck) {
+        this(filesCollection, chunksCollection, fileId, filename, chunkSizeBytes, metadata, indexCheck, 1, 1);
+    }
+
+    // Up to chunksPerInsert chunks are sent in each insert.  If maxConcurrentInserts is greater than one, a write completes without
+    // waiting for its insert unless that many are already in progress.
+    GridFSUploadStreamImpl(final MongoCollection<GridFSFile> filesCollection, final MongoCollection<Document> chunksCollection,
+                           final BsonValue fileId, final String filename, final int chunkSizeBytes, final Document metadata,
+                           final GridFSIndexCheck indexCheck, final int chunksPerInsert, final int maxConcurrentInserts) {
+        isTrueArgument("chunksPerInsert > 0", chunksPerInsert > 0);
+        isTrueArgument("maxConcurrentInserts > 0", maxConcurrentInserts > 0);
+        this.chunksPerInsert = chunksPerInsert;
+        this.maxConcurrentInserts = maxConcurrentInserts;
         this.filesCollection = notNull("files collection", filesCollection);
         this.chunksCollection = notNull("chunks collection", chunksCollection);
         this.fileId = notNull("File Id", fileId);
@@ -99,11 +124,17 @@ final class GridFSUploadStreamImpl implements GridFSUploadStream {
         if (!takeWritingLock(errHandlingCallback)) {
             return;
         }
-        chunksCollection.deleteMany(new Document("files_id", fileId), new SingleResultCallback<DeleteResult>() {
+        // The failure of an insert doesn't matter once its chunks are to be deleted
+        awaitInserts(0, new SingleResultCallback<Void>() {
             @Override
-            public void onResult(final DeleteResult result, final Throwable t) {
-                releaseWritingLock();
-                errHandlingCallback.onResult(null, t);
+            public void onResult(final Void result, final Throwable t) {
+                chunksCollection.deleteMany(new Document("files_id", fileId), new SingleResultCallback<DeleteResult>() {
+                    @Override
+                    public void onResult(final DeleteResult result, final Throwable t) {
+                        releaseWritingLock();
+                        errHandlingCallback.onResult(null, t);
+                    }
+                });
             }
         });
     }
@@ -157,7 +188,7 @@ final class GridFSUploadStreamImpl implements GridFSUploadStream {
             callbackIsWritingException(errHandlingCallback);
             return;
         }
-        writeChunk(new SingleResultCallback<Void>() {
+        writeChunk(true, new SingleResultCallback<Void>() {
             @Override
             public void onResult(final Void result, final Throwable t) {
                 if (t != null) {
@@ -201,7 +232,7 @@ final class GridFSUploadStreamImpl implements GridFSUploadStream {
         bufferOffset += amountToCopy;
         lengthInBytes += amountToCopy;
         if (bufferOffset == chunkSizeBytes) {
-            writeChunk(new SingleResultCallback<Void>() {
+            writeChunk(false, new SingleResultCallback<Void>() {
                 @Override
                 public void onResult(final Void result, final Throwable t) {
                     releaseWritingLock();
@@ -230,28 +261,88 @@ final class GridFSUploadStreamImpl implements GridFSUploadStream {
         return true;
     }
 
-    private void writeChunk(final SingleResultCallback<Void> callback) {
+    // When the last chunk is written, the callback is called once every insert has completed
+    private void writeChunk(final boolean lastChunk, final SingleResultCallback<Void> callback) {
         if (md5 == null) {
             callback.onResult(null, new MongoGridFSException("No MD5 message digest available, cannot upload file"));
-        } else if (bufferOffset > 0) {
-            chunksCollection.insertOne(new Document("files_id", fileId).append("n", chunkIndex).append("data", getData()),
-                    new SingleResultCallback<Void>() {
-                        @Override
-                        public void onResult(final Void result, final Throwable t) {
-                            if (t != null) {
-                                callback.onResult(null, t);
-                            } else {
-                                md5.update(buffer);
-                                chunkIndex++;
-                                bufferOffset = 0;
-                                callback.onResult(null, null);
-                            }
-                        }
+            return;
+        }
+        if (bufferOffset > 0) {
+            Binary data = getData();
+            md5.update(buffer);
+            pendingChunks.add(new Document("files_id", fileId).append("n", chunkIndex).append("data", data));
+            chunkIndex++;
+            bufferOffset = 0;
+        }
+        boolean insert = !pendingChunks.isEmpty() && (lastChunk || pendingChunks.size() == chunksPerInsert);
+        // Unless its chunk is inserted before the callback is called, the buffer is still referenced by a chunk document
+        if (!lastChunk && (!insert || maxConcurrentInserts > 1)) {
+            buffer = new byte[chunkSizeBytes];
+        }
+        if (!insert) {
+            awaitInserts(lastChunk ? 0 : maxConcurrentInserts, callback);
+            return;
+        }
+
+        final List<Document> chunks = new ArrayList<Document>(pendingChunks);
+        pendingChunks.clear();
+        awaitInserts(lastChunk ? 0 : maxConcurrentInserts - 1, new SingleResultCallback<Void>() {
+            @Override
+            public void onResult(final Void result, final Throwable t) {
+                if (t != null) {
+                    callback.onResult(null, t);
+                } else {
+                    insertChunks(chunks);
+                    awaitInserts(lastChunk || maxConcurrentInserts == 1 ? 0 : maxConcurrentInserts, callback);
+                }
+            }
+        });
+    }
+
+    private void insertChunks(final List<Document> chunks) {
+        synchronized (insertLock) {
+            insertsInProgress++;
+        }
+        SingleResultCallback<Void> insertCallback = new SingleResultCallback<Void>() {
+            @Override
+            public void onResult(final Void result, final Throwable t) {
+                Runnable action;
+                synchronized (insertLock) {
+                    insertsInProgress--;
+                    if (insertFailure == null) {
+                        insertFailure = t;
                     }
-            );
+                    action = insertCompletedAction;
+                    insertCompletedAction = null;
+                }
+                if (action != null) {
+                    action.run();
+                }
+            }
+        };
+        if (chunks.size() == 1) {
+            chunksCollection.insertOne(chunks.get(0), insertCallback);
         } else {
-            callback.onResult(null, null);
+            chunksCollection.insertMany(chunks, insertCallback);
+        }
+    }
+
+    // Calls back once no more than the given number of inserts are in progress, with the first failure of any insert
+    private void awaitInserts(final int maxInProgress, final SingleResultCallback<Void> callback) {
+        Throwable failure;
+        synchronized (insertLock) {
+            if (insertsInProgress > maxInProgress) {
+                insertCompletedAction = new Runnable() {
+                    @Override
+                    public void run() {
+                        awaitInserts(maxInProgress, callback);
+                    }
+                };
+                return;
+            }
+            failure = insertFailure;
         }
+        callback.onResult(null, failure);
     }
 
     private Binary getData() {
@@ -22,6 +22,7 @@ import com.mongodb.ReadConcern
 import com.mongodb.ReadPreference
 import com.mongodb.ServerAddress
 import com.mongodb.WriteConcern
+import com.mongodb.connection.BufferPoolSettings
 import com.mongodb.connection.ClusterSettings
 import com.mongodb.connection.ConnectionPoolSettings
 import com.mongodb.connection.ServerSettings
@@ -51,6 +52,7 @@ class MongoClientSettingsSpecification extends Specification {
         options.socketSettings == SocketSettings.builder().build()
         options.heartbeatSocketSettings == SocketSettings.builder().build()
         options.serverSettings == ServerSettings.builder().build()
+        options.bufferPoolSettings == BufferPoolSettings.builder().build()
         options.streamFactoryFactory == null
         options.compressorList == []
     }
@@ -90,6 +92,11 @@ class MongoClientSettingsSpecification extends Specification {
         then:
         thrown(IllegalArgumentException)
 
+        when:
+        builder.bufferPoolSettings(null)
+        then:
+        thrown(IllegalArgumentException)
+
         when:
         builder.readPreference(null)
         then:
@@ -283,7 +290,7 @@ class MongoClientSettingsSpecification extends Specification {
         when:
         // A regression test so that if anymore methods are added then the builder(final MongoClientSettings settings) should be updated
         def actual = MongoClientSettings.Builder.declaredFields.grep {  !it.synthetic } *.name.sort()
-        def expected = ['applicationName', 'clusterSettings', 'codecRegistry', 'commandListeners', 'compressorList',
+        def expected = ['applicationName', 'bufferPoolSettings', 'clusterSettings', 'codecRegistry', 'commandListeners', 'compressorList',
                         'connectionPoolSettings', 'credentialList', 'heartbeatSocketSettings', 'readConcern', 'readPreference',
                         'serverSettings', 'socketSettings', 'sslSettings', 'streamFactoryFactory', 'writeConcern']
 
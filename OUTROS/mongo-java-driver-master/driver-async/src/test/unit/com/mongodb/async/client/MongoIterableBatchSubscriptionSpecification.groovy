@@ -0,0 +1,156 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.async.client
+
+import com.mongodb.MongoException
+import com.mongodb.async.AsyncBatchCursor
+import spock.lang.Specification
+
+import static com.mongodb.async.client.Observables.observeBatches
+
+class MongoIterableBatchSubscriptionSpecification extends Specification {
+
+    def 'should do nothing until data is requested'() {
+        given:
+        def mongoIterable = Mock(MongoIterable)
+        def observer = new TestObserver()
+
+        when:
+        observeBatches(mongoIterable).subscribe(observer)
+
+        then:
+        0 * mongoIterable.batchCursor(_)
+
+        when:
+        observer.requestMore(1)
+
+        then:
+        1 * mongoIterable.batchCursor(_)
+    }
+
+    def 'should emit one batch per request'() {
+        given:
+        def observer = new TestObserver()
+        observeBatches(getMongoIterable()).subscribe(observer)
+
+        when:
+        observer.requestMore(1)
+
+        then:
+        observer.assertReceivedOnNext([[1, 2]])
+        observer.assertNoTerminalEvent()
+
+        when:
+        observer.requestMore(5)
+
+        then:
+        observer.assertNoErrors()
+        observer.assertReceivedOnNext([[1, 2], [3, 4]])
+        observer.assertTerminalEvent()
+    }
+
+    def 'should not emit empty batches'() {
+        given:
+        def observer = new TestObserver()
+        observeBatches(getMongoIterable(getCursor([[], [1, 2], [], [3]]))).subscribe(observer)
+
+        when:
+        observer.requestMore(10)
+
+        then:
+        observer.assertNoErrors()
+        observer.assertReceivedOnNext([[1, 2], [3]])
+        observer.assertTerminalEvent()
+    }
+
+    def 'should not change the batch size'() {
+        given:
+        def cursor = getCursor()
+        def mongoIterable = getMongoIterable(cursor)
+        def observer = new TestObserver()
+        observeBatches(mongoIterable).subscribe(observer)
+
+        when:
+        observer.requestMore(Long.MAX_VALUE)
+
+        then:
+        0 * mongoIterable.batchSize(_)
+        0 * cursor.setBatchSize(_)
+        observer.assertTerminalEvent()
+    }
+
+    def 'should call onError if batchCursor.next returns an throwable in the callback'() {
+        given:
+        def observer = new TestObserver()
+        def mongoIterable = Mock(MongoIterable) {
+            1 * batchCursor(_) >> {
+                it[0].onResult(Mock(AsyncBatchCursor) {
+                    next(_) >> { it[0].onResult(null, new MongoException('failed')) }
+                }, null)
+            }
+        }
+        observeBatches(mongoIterable).subscribe(observer)
+
+        when:
+        observer.requestMore(1)
+
+        then:
+        observer.assertErrored()
+        observer.assertTerminalEvent()
+    }
+
+    def 'should close the batchCursor when unsubscribe is called'() {
+        given:
+        def cursor = getCursor()
+        def observer = new TestObserver()
+        observeBatches(getMongoIterable(cursor)).subscribe(observer)
+
+        when:
+        observer.requestMore(1)
+        observer.getSubscription().unsubscribe()
+
+        then:
+        1 * cursor.close()
+        observer.assertNoErrors()
+        observer.assertReceivedOnNext([[1, 2]])
+        observer.assertUnsubscribed()
+    }
+
+    def getMongoIterable() {
+        getMongoIterable(getCursor())
+    }
+
+    def getMongoIterable(AsyncBatchCursor cursor) {
+        Mock(MongoIterable) {
+            1 * batchCursor(_) >> {
+                it[0].onResult(cursor, null)
+            }
+        }
+    }
+
+    def getCursor() {
+        getCursor([[1, 2], [3, 4]])
+    }
+
+    def getCursor(List<List<Integer>> cursorResults) {
+        Mock(AsyncBatchCursor) {
+            next(_) >> {
+                it[0].onResult(cursorResults.isEmpty() ? null : cursorResults.remove(0), null)
+            }
+        }
+    }
+}
@@ -143,6 +143,37 @@ class GridFSDownloadStreamSpecification extends Specification {
         thirdByteBuffer == ByteBuffer.allocate(1)
     }
 
+    def 'should read ahead with a prefetching cursor'() {
+        given:
+        def findQuery = new Document('files_id', FILE_INFO.getId()).append('n', new Document('$gte', 0))
+        def chunkDocument = new Document('files_id', FILE_INFO.getId())
+                .append('n', 0)
+                .append('data', new Binary(new byte[2]))
+
+        def gridFSFindIterable = Mock(GridFSFindIterable)
+        def batchCursor = Mock(AsyncBatchCursor)
+        def findIterable = Mock(FindIterable)
+        def chunksCollection = Mock(MongoCollection)
+        def downloadStream = new GridFSDownloadStreamImpl(gridFSFindIterable, chunksCollection).batchSize(1).readAhead(4)
+
+        when:
+        def futureResult = new FutureResultCallback()
+        downloadStream.read(ByteBuffer.allocate(2), futureResult)
+
+        then:
+        1 * gridFSFindIterable.first(_) >> { it[0].onResult(FILE_INFO, null) }
+        1 * chunksCollection.find(findQuery) >> findIterable
+        1 * findIterable.sort(new Document('n', 1)) >> findIterable
+        1 * findIterable.batchSize(4) >> findIterable
+        1 * findIterable.prefetch(true) >> findIterable
+        1 * findIterable.batchCursor(_) >> { it[0].onResult(batchCursor, null) }
+        1 * batchCursor.next(_) >> { it[0].onResult([chunkDocument], null) }
+        0 * batchCursor.close()
+
+        then:
+        futureResult.get() == 2
+    }
+
     def 'should create a new cursor each time when using batchSize 1'() {
         given:
         def twoBytes = new byte[2]
@@ -67,6 +67,69 @@ class GridFSUploadStreamSpecification extends Specification {
         1 * chunksCollection.insertOne(_, _)
     }
 
+    def 'should insert several chunks at once'() {
+        given:
+        def filesCollection = Mock(MongoCollection)
+        def chunksCollection = Mock(MongoCollection)
+        def uploadStream = new GridFSUploadStreamImpl(filesCollection, chunksCollection, fileId, filename, 2, metadata, NOOP_INDEXCHECK,
+                2, 1)
+
+        when:
+        uploadStream.write(ByteBuffer.wrap([1, 2, 3] as byte[]), Stub(SingleResultCallback))
+
+        then:
+        0 * chunksCollection.insertOne(_, _)
+        0 * chunksCollection.insertMany(_, _)
+
+        when:
+        uploadStream.write(ByteBuffer.wrap([4, 5] as byte[]), Stub(SingleResultCallback))
+
+        then:
+        1 * chunksCollection.insertMany({ List<Document> chunks -> chunks*.getInteger('n') == [0, 1] }, _) >> { it[1].onResult(null, null) }
+
+        when:
+        def futureResult = new FutureResultCallback()
+        uploadStream.close(futureResult)
+        futureResult.get()
+
+        then:
+        1 * chunksCollection.insertOne({ Document chunk -> chunk.getInteger('n') == 2 }, _) >> { it[1].onResult(null, null) }
+
+        then:
+        1 * filesCollection.insertOne(_, _) >> { it[1].onResult(null, null) }
+    }
+
+    def 'should complete writes without waiting for inserts up to the maximum number of concurrent inserts'() {
+        given:
+        def chunksCollection = Mock(MongoCollection)
+        def uploadStream = new GridFSUploadStreamImpl(Stub(MongoCollection), chunksCollection, fileId, filename, 2, metadata,
+                NOOP_INDEXCHECK, 1, 2)
+        def insertCallbacks = []
+
+        when:
+        def futureResult = new FutureResultCallback()
+        uploadStream.write(ByteBuffer.wrap([1, 2, 3, 4] as byte[]), futureResult)
+
+        then:
+        2 * chunksCollection.insertOne(_, _) >> { insertCallbacks.add(it[1]) }
+        futureResult.get() == 4
+
+        when:
+        futureResult = new FutureResultCallback()
+        uploadStream.write(ByteBuffer.wrap([5, 6] as byte[]), futureResult)
+
+        then:
+        0 * chunksCollection.insertOne(_, _)
+        !futureResult.isDone()
+
+        when:
+        insertCallbacks.remove(0).onResult(null, null)
+
+        then:
+        1 * chunksCollection.insertOne(_, _) >> { insertCallbacks.add(it[1]) }
+        futureResult.get() == 2
+    }
+
     def 'should write to the files collection on close'() {
         given:
         def filesCollection = Mock(MongoCollection)
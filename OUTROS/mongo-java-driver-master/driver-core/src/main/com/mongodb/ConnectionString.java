@@ -66,11 +66,15 @@ import static java.util.Collections.singletonList;
  * <li>{@code localThresholdMS=ms}: When choosing among multiple MongoDB servers to send a request, the driver will only
  * send that request to a server whose ping time is less than or equal to the server with the fastest ping time plus the local
  * threshold.</li>
+ * <li>{@code preferLeastLoadedServer=true|false}: Whether server selection prefers the less loaded of two randomly chosen servers,
+ * rather than choosing a single server at random from those that are eligible.</li>
  * </ul>
  * <p>Server Monitoring Configuration:</p>
  * <ul>
  * <li>{@code heartbeatFrequencyMS=ms}: The frequency that the driver will attempt to determine the current state of each server in the
  * cluster.</li>
+ * <li>{@code sharedMonitorThreads=true|false}: Whether servers are monitored by threads shared by all clients in the process, rather
+ * than by a dedicated thread for each server.</li>
  * </ul>
  * <p>Replica set configuration:</p>
  * <ul>
@@ -96,6 +100,8 @@ import static java.util.Collections.singletonList;
  * exception right away.</li>
  * <li>{@code waitQueueTimeoutMS=ms}: The maximum wait time in milliseconds that a thread may wait for a connection to
  * become available.</li>
+ * <li>{@code fairCheckout=true|false}: Whether connections are checked out of the pool strictly in the order in which they were
+ * requested.</li>
  * </ul>
  * <p>Write concern configuration:</p>
  * <ul>
@@ -226,6 +232,9 @@ public class ConnectionString {
     private Integer heartbeatFrequency;
     private String applicationName;
     private List<MongoCompressor> compressorList;
+    private Boolean preferLeastLoadedServer;
+    private Boolean fairCheckout;
+    private Boolean sharedMonitorThreads;
 
     /**
      * Creates a ConnectionString from the given string.
@@ -327,6 +336,7 @@ public class ConnectionString {
         GENERAL_OPTIONS_KEYS.add("maxpoolsize");
         GENERAL_OPTIONS_KEYS.add("waitqueuemultiple");
         GENERAL_OPTIONS_KEYS.add("waitqueuetimeoutms");
+        GENERAL_OPTIONS_KEYS.add("faircheckout");
         GENERAL_OPTIONS_KEYS.add("connecttimeoutms");
         GENERAL_OPTIONS_KEYS.add("maxidletimems");
         GENERAL_OPTIONS_KEYS.add("maxlifetimems");
@@ -340,7 +350,9 @@ public class ConnectionString {
 
         GENERAL_OPTIONS_KEYS.add("serverselectiontimeoutms");
         GENERAL_OPTIONS_KEYS.add("localthresholdms");
+        GENERAL_OPTIONS_KEYS.add("preferleastloadedserver");
         GENERAL_OPTIONS_KEYS.add("heartbeatfrequencyms");
+        GENERAL_OPTIONS_KEYS.add("sharedmonitorthreads");
 
         GENERAL_OPTIONS_KEYS.add("appname");
 
@@ -420,6 +432,12 @@ public class ConnectionString {
                 heartbeatFrequency = parseInteger(value, "heartbeatfrequencyms");
             } else if (key.equals("appname")) {
                 applicationName = value;
+            } else if (key.equals("preferleastloadedserver")) {
+                preferLeastLoadedServer = parseBoolean(value, "preferleastloadedserver");
+            } else if (key.equals("faircheckout")) {
+                fairCheckout = parseBoolean(value, "faircheckout");
+            } else if (key.equals("sharedmonitorthreads")) {
+                sharedMonitorThreads = parseBoolean(value, "sharedmonitorthreads");
             }
         }
 
@@ -1069,6 +1087,38 @@ public class ConnectionString {
         return compressorList;
     }
 
+    /**
+     * Gets whether server selection prefers the less loaded of two randomly chosen servers, rather than choosing a single server at
+     * random from those that are eligible.
+     *
+     * @return whether to prefer the less loaded of two randomly chosen servers, or null if unset
+     * @since 3.6
+     */
+    public Boolean getPreferLeastLoadedServer() {
+        return preferLeastLoadedServer;
+    }
+
+    /**
+     * Gets whether connections are checked out of the pool strictly in the order in which they were requested.
+     *
+     * @return whether connections are checked out in the order in which they were requested, or null if unset
+     * @since 3.6
+     */
+    public Boolean getFairCheckout() {
+        return fairCheckout;
+    }
+
+    /**
+     * Gets whether servers are monitored by threads shared by all clients in the process, rather than by a dedicated thread for each
+     * server.
+     *
+     * @return whether to monitor servers with shared threads, or null if unset
+     * @since 3.6
+     */
+    public Boolean getSharedMonitorThreads() {
+        return sharedMonitorThreads;
+    }
+
     @Override
     public String toString() {
         return connectionString;
@@ -1146,6 +1196,16 @@ public class ConnectionString {
         if (!compressorList.equals(that.compressorList)) {
             return false;
         }
+        if (preferLeastLoadedServer != null ? !preferLeastLoadedServer.equals(that.preferLeastLoadedServer)
+                                            : that.preferLeastLoadedServer != null) {
+            return false;
+        }
+        if (fairCheckout != null ? !fairCheckout.equals(that.fairCheckout) : that.fairCheckout != null) {
+            return false;
+        }
+        if (sharedMonitorThreads != null ? !sharedMonitorThreads.equals(that.sharedMonitorThreads) : that.sharedMonitorThreads != null) {
+            return false;
+        }
 
         return true;
     }
@@ -1172,6 +1232,9 @@ public class ConnectionString {
         result = 31 * result + (requiredReplicaSetName != null ? requiredReplicaSetName.hashCode() : 0);
         result = 31 * result + (applicationName != null ? applicationName.hashCode() : 0);
         result = 31 * result + compressorList.hashCode();
+        result = 31 * result + (preferLeastLoadedServer != null ? preferLeastLoadedServer.hashCode() : 0);
+        result = 31 * result + (fairCheckout != null ? fairCheckout.hashCode() : 0);
+        result = 31 * result + (sharedMonitorThreads != null ? sharedMonitorThreads.hashCode() : 0);
         return result;
     }
 }
@@ -18,6 +18,8 @@ package com.mongodb.client.gridfs.model;
 
 import org.bson.Document;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+
 /**
  * GridFS upload options
  *
@@ -28,6 +30,8 @@ import org.bson.Document;
 public final class GridFSUploadOptions {
     private Integer chunkSizeBytes;
     private Document metadata;
+    private int chunksPerInsert = 1;
+    private int maxConcurrentInserts = 1;
 
     /**
      * Construct a new instance.
@@ -77,4 +81,52 @@ public final class GridFSUploadOptions {
         return this;
     }
 
+    /**
+     * The number of chunks that are sent to the server in each insert.
+     *
+     * @return the number of chunks per insert
+     * @since 3.6
+     */
+    public int getChunksPerInsert() {
+        return chunksPerInsert;
+    }
+
+    /**
+     * Sets the number of chunks that are sent to the server in each insert.  The default is 1.
+     *
+     * @param chunksPerInsert the number of chunks per insert, which must be greater than 0
+     * @return this
+     * @since 3.6
+     */
+    public GridFSUploadOptions chunksPerInsert(final int chunksPerInsert) {
+        isTrueArgument("chunksPerInsert > 0", chunksPerInsert > 0);
+        this.chunksPerInsert = chunksPerInsert;
+        return this;
+    }
+
+    /**
+     * The number of chunk inserts that may be in progress while the upload stream accepts more bytes.
+     *
+     * @return the maximum number of concurrent inserts
+     * @since 3.6
+     */
+    public int getMaxConcurrentInserts() {
+        return maxConcurrentInserts;
+    }
+
+    /**
+     * Sets the number of chunk inserts that may be in progress while the upload stream accepts more bytes.  The default is 1, which
+     * means that each insert completes before any more bytes are accepted.  Larger values keep the connection busy while the
+     * application writes, at the cost of holding up to {@code chunksPerInsert * maxConcurrentInserts} chunks in memory.
+     *
+     * @param maxConcurrentInserts the maximum number of concurrent inserts, which must be greater than 0
+     * @return this
+     * @since 3.6
+     */
+    public GridFSUploadOptions maxConcurrentInserts(final int maxConcurrentInserts) {
+        isTrueArgument("maxConcurrentInserts > 0", maxConcurrentInserts > 0);
+        this.maxConcurrentInserts = maxConcurrentInserts;
+        return this;
+    }
+
 }
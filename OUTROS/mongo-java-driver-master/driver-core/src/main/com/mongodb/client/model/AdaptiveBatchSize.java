@@ -0,0 +1,212 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.model;
+
+import com.mongodb.annotations.Immutable;
+import com.mongodb.annotations.NotThreadSafe;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.assertions.Assertions.notNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * The bounds and targets that a cursor uses to choose the batch size of each getMore.
+ *
+ * <p>The cursor keeps track of the average size of the documents that it decodes, and of how long each getMore takes.  It asks for as
+ * many documents as it expects to fit in the target number of bytes, and in the target latency, within the minimum and maximum batch
+ * size.</p>
+ *
+ * @since 3.6
+ */
+@Immutable
+public final class AdaptiveBatchSize {
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final int targetBatchBytes;
+    private final long targetLatencyMS;
+
+    /**
+     * Convenience method to create a Builder.
+     *
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * An AdaptiveBatchSize builder.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private int minBatchSize = 16;
+        private int maxBatchSize = 16 * 1024;
+        private int targetBatchBytes = 4 * 1024 * 1024;
+        private long targetLatencyMS = 100;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the smallest number of documents to ask for in a getMore.  The default is 16.
+         *
+         * @param minBatchSize the minimum batch size, which must be greater than 0
+         * @return this
+         */
+        public Builder minBatchSize(final int minBatchSize) {
+            this.minBatchSize = minBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets the largest number of documents to ask for in a getMore.  The default is 16384.
+         *
+         * @param maxBatchSize the maximum batch size, which must not be less than the minimum batch size
+         * @return this
+         */
+        public Builder maxBatchSize(final int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of bytes of documents that a batch should hold.  The default is 4MB.
+         *
+         * @param targetBatchBytes the target size of a batch in bytes, which must be greater than 0
+         * @return this
+         */
+        public Builder targetBatchBytes(final int targetBatchBytes) {
+            this.targetBatchBytes = targetBatchBytes;
+            return this;
+        }
+
+        /**
+         * Sets how long a getMore should take.  The default is 100 milliseconds.  A value of 0 means that the batch size is chosen only
+         * from the size of the documents.
+         *
+         * @param targetLatency the target latency, which must not be negative
+         * @param timeUnit the time unit, which may not be null
+         * @return this
+         */
+        public Builder targetLatency(final long targetLatency, final TimeUnit timeUnit) {
+            notNull("timeUnit", timeUnit);
+            this.targetLatencyMS = MILLISECONDS.convert(targetLatency, timeUnit);
+            return this;
+        }
+
+        /**
+         * Creates a new AdaptiveBatchSize object with the settings initialised on this builder.
+         *
+         * @return a new AdaptiveBatchSize object
+         */
+        public AdaptiveBatchSize build() {
+            return new AdaptiveBatchSize(this);
+        }
+    }
+
+    /**
+     * Gets the smallest number of documents to ask for in a getMore.
+     *
+     * @return the minimum batch size
+     */
+    public int getMinBatchSize() {
+        return minBatchSize;
+    }
+
+    /**
+     * Gets the largest number of documents to ask for in a getMore.
+     *
+     * @return the maximum batch size
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Gets the number of bytes of documents that a batch should hold.
+     *
+     * @return the target size of a batch in bytes
+     */
+    public int getTargetBatchBytes() {
+        return targetBatchBytes;
+    }
+
+    /**
+     * Gets how long a getMore should take.
+     *
+     * @param timeUnit the time unit to return the result in
+     * @return the target latency
+     */
+    public long getTargetLatency(final TimeUnit timeUnit) {
+        notNull("timeUnit", timeUnit);
+        return timeUnit.convert(targetLatencyMS, MILLISECONDS);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        AdaptiveBatchSize that = (AdaptiveBatchSize) o;
+
+        if (minBatchSize != that.minBatchSize) {
+            return false;
+        }
+        if (maxBatchSize != that.maxBatchSize) {
+            return false;
+        }
+        if (targetBatchBytes != that.targetBatchBytes) {
+            return false;
+        }
+        return targetLatencyMS == that.targetLatencyMS;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = minBatchSize;
+        result = 31 * result + maxBatchSize;
+        result = 31 * result + targetBatchBytes;
+        result = 31 * result + (int) (targetLatencyMS ^ (targetLatencyMS >>> 32));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveBatchSize{"
+                + "minBatchSize=" + minBatchSize
+                + ", maxBatchSize=" + maxBatchSize
+                + ", targetBatchBytes=" + targetBatchBytes
+                + ", targetLatencyMS=" + targetLatencyMS
+                + "}";
+    }
+
+    private AdaptiveBatchSize(final Builder builder) {
+        isTrueArgument("minBatchSize > 0", builder.minBatchSize > 0);
+        isTrueArgument("maxBatchSize >= minBatchSize", builder.maxBatchSize >= builder.minBatchSize);
+        isTrueArgument("targetBatchBytes > 0", builder.targetBatchBytes > 0);
+        isTrueArgument("targetLatency >= 0", builder.targetLatencyMS >= 0);
+        this.minBatchSize = builder.minBatchSize;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.targetBatchBytes = builder.targetBatchBytes;
+        this.targetLatencyMS = builder.targetLatencyMS;
+    }
+}
@@ -42,6 +42,9 @@ public final class FindOptions {
     private Bson sort;
     private CursorType cursorType = CursorType.NonTailable;
     private boolean noCursorTimeout;
+    private boolean prefetch;
+    private boolean exhaust;
+    private AdaptiveBatchSize adaptiveBatchSize;
     private boolean oplogReplay;
     private boolean partial;
     private Collation collation;
@@ -75,6 +78,9 @@ public final class FindOptions {
         sort = from.sort;
         cursorType = from.cursorType;
         noCursorTimeout = from.noCursorTimeout;
+        prefetch = from.prefetch;
+        exhaust = from.exhaust;
+        adaptiveBatchSize = from.adaptiveBatchSize;
         oplogReplay = from.oplogReplay;
         partial = from.partial;
         comment = from.comment;
@@ -313,6 +319,76 @@ public final class FindOptions {
         return this;
     }
 
+    /**
+     * Gets whether the cursor fetches the next batch in the background while the application processes the current one.
+     *
+     * @return true if the cursor prefetches the next batch
+     * @since 3.6
+     */
+    public boolean isPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * Sets whether the cursor fetches the next batch in the background while the application processes the current one.  At most one
+     * batch is fetched ahead of the application.
+     *
+     * @param prefetch true if the cursor should prefetch the next batch
+     * @return this
+     * @since 3.6
+     */
+    public FindOptions prefetch(final boolean prefetch) {
+        this.prefetch = prefetch;
+        return this;
+    }
+
+    /**
+     * Gets whether the server streams the batches of the cursor without waiting for a getMore for each one.
+     *
+     * @return true if the server streams the batches of the cursor
+     * @since 3.6
+     */
+    public boolean isExhaust() {
+        return exhaust;
+    }
+
+    /**
+     * Sets whether the server streams the batches of the cursor without waiting for a getMore for each one.  The batches are streamed
+     * on a connection that is dedicated to the cursor until the stream ends, and that is discarded if the cursor is closed before then.
+     * Servers that can't stream batches ignore this option.
+     *
+     * @param exhaust true if the server should stream the batches of the cursor
+     * @return this
+     * @since 3.6
+     */
+    public FindOptions exhaust(final boolean exhaust) {
+        this.exhaust = exhaust;
+        return this;
+    }
+
+    /**
+     * Gets the bounds and targets for choosing the batch size of each getMore, or null if every getMore uses the batch size.
+     *
+     * @return the adaptive batch size, which may be null
+     * @since 3.6
+     */
+    public AdaptiveBatchSize getAdaptiveBatchSize() {
+        return adaptiveBatchSize;
+    }
+
+    /**
+     * Sets the bounds and targets for choosing the batch size of each getMore from the size of the documents and the latency of the
+     * previous getMore.  The batch size still applies to the first batch.  If null, every getMore uses the batch size.
+     *
+     * @param adaptiveBatchSize the adaptive batch size, which may be null
+     * @return this
+     * @since 3.6
+     */
+    public FindOptions adaptiveBatchSize(final AdaptiveBatchSize adaptiveBatchSize) {
+        this.adaptiveBatchSize = adaptiveBatchSize;
+        return this;
+    }
+
     /**
      * Users should not set this under normal circumstances.
      *
@@ -600,6 +676,9 @@ public final class FindOptions {
                 + ", sort=" + sort
                 + ", cursorType=" + cursorType
                 + ", noCursorTimeout=" + noCursorTimeout
+                + ", prefetch=" + prefetch
+                + ", exhaust=" + exhaust
+                + ", adaptiveBatchSize=" + adaptiveBatchSize
                 + ", oplogReplay=" + oplogReplay
                 + ", partial=" + partial
                 + ", collation=" + collation
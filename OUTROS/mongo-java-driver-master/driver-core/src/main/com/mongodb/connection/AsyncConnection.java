@@ -137,6 +137,45 @@ public interface AsyncConnection extends ReferenceCounted {
                           boolean responseExpected, SplittablePayload payload, FieldNameValidator payloadFieldNameValidator,
                           SingleResultCallback<T> callback);
 
+    /**
+     * Execute the command asynchronously, allowing the server to stream further replies to it on this connection without waiting for
+     * another request.  While {@link #hasMoreToCome()} returns true, no other command may be executed on this connection, and each
+     * further reply is received with {@link #receiveMoreToComeAsync(Decoder, SessionContext, SingleResultCallback)}.  Servers that can't
+     * stream replies ignore the request to do so.
+     *
+     * @param <T>                  the type of the result
+     * @param database             the database to execute the command in
+     * @param command              the command document
+     * @param fieldNameValidator   the field name validator for the command document
+     * @param readPreference       the read preference that was applied to get this connection
+     * @param commandResultDecoder the decoder for the result
+     * @param sessionContext       the session context
+     * @param callback             the callback to be passed the command result
+     * @since 3.6
+     */
+    <T> void exhaustCommandAsync(String database, BsonDocument command, FieldNameValidator fieldNameValidator,
+                                 ReadPreference readPreference, Decoder<T> commandResultDecoder, SessionContext sessionContext,
+                                 SingleResultCallback<T> callback);
+
+    /**
+     * Returns whether the server will stream another reply to the last command executed on this connection.
+     *
+     * @return true if there is another reply to receive
+     * @since 3.6
+     */
+    boolean hasMoreToCome();
+
+    /**
+     * Asynchronously receive the next reply that the server streams to the last command executed on this connection.
+     *
+     * @param <T>                  the type of the result
+     * @param commandResultDecoder the decoder for the result
+     * @param sessionContext       the session context
+     * @param callback             the callback to be passed the command result
+     * @since 3.6
+     */
+    <T> void receiveMoreToComeAsync(Decoder<T> commandResultDecoder, SessionContext sessionContext, SingleResultCallback<T> callback);
+
     /**
      * Execute the query asynchronously.
      *
@@ -30,7 +30,6 @@ import java.nio.channels.AsynchronousChannelGroup;
 import java.nio.channels.AsynchronousSocketChannel;
 import java.nio.channels.CompletionHandler;
 import java.nio.channels.InterruptedByTimeoutException;
-import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -104,23 +103,11 @@ final class AsynchronousSocketChannelStream implements Stream {
 
     @Override
     public void writeAsync(final List<ByteBuf> buffers, final AsyncCompletionHandler<Void> handler) {
-        final AsyncWritableByteChannel byteChannel = new AsyncWritableByteChannelAdapter();
-        final Iterator<ByteBuf> iter = buffers.iterator();
-        pipeOneBuffer(byteChannel, iter.next(), new AsyncCompletionHandler<Void>() {
-            @Override
-            public void completed(final Void t) {
-                if (iter.hasNext()) {
-                    pipeOneBuffer(byteChannel, iter.next(), this);
-                } else {
-                    handler.completed(null);
-                }
-            }
-
-            @Override
-            public void failed(final Throwable t) {
-                handler.failed(t);
-            }
-        });
+        ByteBuffer[] byteBuffers = new ByteBuffer[buffers.size()];
+        for (int i = 0; i < buffers.size(); i++) {
+            byteBuffers[i] = buffers.get(i).asNIO();
+        }
+        gatheringWrite(byteBuffers, 0, handler);
     }
 
     @Override
@@ -169,48 +156,41 @@ final class AsynchronousSocketChannelStream implements Stream {
         return group;
     }
 
-    private void pipeOneBuffer(final AsyncWritableByteChannel byteChannel, final ByteBuf byteBuffer,
-                               final AsyncCompletionHandler<Void> outerHandler) {
-        byteChannel.write(byteBuffer.asNIO(), new AsyncCompletionHandler<Void>() {
-            @Override
-            public void completed(final Void t) {
-                if (byteBuffer.hasRemaining()) {
-                    byteChannel.write(byteBuffer.asNIO(), this);
-                } else {
-                    outerHandler.completed(null);
-                }
-            }
-
-            @Override
-            public void failed(final Throwable t) {
-                outerHandler.failed(t);
-            }
-        });
+    private void gatheringWrite(final ByteBuffer[] byteBuffers, final int offset, final AsyncCompletionHandler<Void> handler) {
+        channel.write(byteBuffers, offset, byteBuffers.length - offset, 0, MILLISECONDS, null,
+                      new GatheringWriteCompletionHandler(byteBuffers, handler));
     }
 
-    private class AsyncWritableByteChannelAdapter implements AsyncWritableByteChannel {
-        @Override
-        public void write(final ByteBuffer src, final AsyncCompletionHandler<Void> handler) {
-            channel.write(src, null, new WriteCompletionHandler(handler));
-        }
+    private final class GatheringWriteCompletionHandler extends BaseCompletionHandler<Void, Long, Void> {
+        private final ByteBuffer[] byteBuffers;
 
-        private class WriteCompletionHandler extends BaseCompletionHandler<Void, Integer, Object> {
+        private GatheringWriteCompletionHandler(final ByteBuffer[] byteBuffers, final AsyncCompletionHandler<Void> handler) {
+            super(handler);
+            this.byteBuffers = byteBuffers;
+        }
 
-            WriteCompletionHandler(final AsyncCompletionHandler<Void> handler) {
-                super(handler);
+        @Override
+        public void completed(final Long result, final Void attachment) {
+            AsyncCompletionHandler<Void> localHandler = getHandlerAndClear();
+            int offset = 0;
+            while (offset < byteBuffers.length && !byteBuffers[offset].hasRemaining()) {
+                offset++;
             }
-
-            @Override
-            public void completed(final Integer result, final Object attachment) {
-                AsyncCompletionHandler<Void> localHandler = getHandlerAndClear();
+            if (offset == byteBuffers.length) {
                 localHandler.completed(null);
+            } else {
+                try {
+                    gatheringWrite(byteBuffers, offset, localHandler);
+                } catch (Throwable t) {
+                    localHandler.failed(t);
+                }
             }
+        }
 
-            @Override
-            public void failed(final Throwable exc, final Object attachment) {
-                AsyncCompletionHandler<Void> localHandler = getHandlerAndClear();
-                localHandler.failed(exc);
-            }
+        @Override
+        public void failed(final Throwable exc, final Void attachment) {
+            AsyncCompletionHandler<Void> localHandler = getHandlerAndClear();
+            localHandler.failed(exc);
         }
     }
 
@@ -29,7 +29,7 @@ import static com.mongodb.assertions.Assertions.notNull;
  * @since 3.0
  */
 public class AsynchronousSocketChannelStreamFactory implements StreamFactory {
-    private final BufferProvider bufferProvider = new PowerOfTwoBufferPool();
+    private final BufferProvider bufferProvider;
     private final SocketSettings settings;
     private final AsynchronousChannelGroup group;
 
@@ -54,6 +54,21 @@ public class AsynchronousSocketChannelStreamFactory implements StreamFactory {
      */
     public AsynchronousSocketChannelStreamFactory(final SocketSettings settings, final SslSettings sslSettings,
                                                   final AsynchronousChannelGroup group) {
+        this(settings, sslSettings, group, BufferPoolSettings.builder().build());
+    }
+
+    /**
+     * Create a new factory.
+     *
+     * @param settings the socket settings
+     * @param sslSettings the SSL settings
+     * @param group the {@code AsynchronousChannelGroup} to use or null for the default group
+     * @param bufferPoolSettings the settings for the buffer pool
+     *
+     * @since 3.6
+     */
+    public AsynchronousSocketChannelStreamFactory(final SocketSettings settings, final SslSettings sslSettings,
+                                                  final AsynchronousChannelGroup group, final BufferPoolSettings bufferPoolSettings) {
         if (sslSettings.isEnabled()) {
             throw new UnsupportedOperationException("No SSL support in java.nio.channels.AsynchronousSocketChannel. For SSL support use "
                     + "com.mongodb.connection.netty.NettyStreamFactoryFactory");
@@ -61,6 +76,7 @@ public class AsynchronousSocketChannelStreamFactory implements StreamFactory {
 
         this.settings = notNull("settings", settings);
         this.group = group;
+        this.bufferProvider = new PowerOfTwoBufferPool(notNull("bufferPoolSettings", bufferPoolSettings));
     }
 
     @Override
@@ -18,6 +18,8 @@ package com.mongodb.connection;
 
 import java.nio.channels.AsynchronousChannelGroup;
 
+import static com.mongodb.assertions.Assertions.notNull;
+
 /**
  * A {@code StreamFactoryFactory} implementation for AsynchronousSocketChannel-based streams.
  *
@@ -26,6 +28,7 @@ import java.nio.channels.AsynchronousChannelGroup;
  */
 public class AsynchronousSocketChannelStreamFactoryFactory implements StreamFactoryFactory {
     private final AsynchronousChannelGroup group;
+    private final BufferPoolSettings bufferPoolSettings;
 
     /**
      * Construct an instance with the default {@code BufferProvider} and {@code AsynchronousChannelGroup}.
@@ -54,6 +57,7 @@ public class AsynchronousSocketChannelStreamFactoryFactory implements StreamFact
      */
     public static final class Builder {
         private AsynchronousChannelGroup group;
+        private BufferPoolSettings bufferPoolSettings = BufferPoolSettings.builder().build();
 
         /**
          * Sets the {@code AsynchronousChannelGroup}
@@ -66,6 +70,17 @@ public class AsynchronousSocketChannelStreamFactoryFactory implements StreamFact
             return this;
         }
 
+        /**
+         * Sets the settings for the pool of buffers used by the created streams.
+         *
+         * @param bufferPoolSettings the buffer pool settings
+         * @return this
+         */
+        public Builder bufferPoolSettings(final BufferPoolSettings bufferPoolSettings) {
+            this.bufferPoolSettings = notNull("bufferPoolSettings", bufferPoolSettings);
+            return this;
+        }
+
         /**
          * Build an instance of {@code AsynchronousSocketChannelStreamFactoryFactory}.
          * @return the AsynchronousSocketChannelStreamFactoryFactory
@@ -77,10 +92,11 @@ public class AsynchronousSocketChannelStreamFactoryFactory implements StreamFact
 
     @Override
     public StreamFactory create(final SocketSettings socketSettings, final SslSettings sslSettings) {
-        return new AsynchronousSocketChannelStreamFactory(socketSettings, sslSettings,  group);
+        return new AsynchronousSocketChannelStreamFactory(socketSettings, sslSettings, group, bufferPoolSettings);
     }
 
     private AsynchronousSocketChannelStreamFactoryFactory(final Builder builder) {
         group = builder.group;
+        bufferPoolSettings = builder.bufferPoolSettings;
     }
 }
@@ -331,15 +331,27 @@ abstract class BaseCluster implements Cluster {
         }
     }
 
-    // gets a random server that still exists in the cluster.  Returns null if there are none.
+    // gets a random server that still exists in the cluster.  If the settings prefer the least loaded server, gets two distinct random
+    // servers instead and returns the one with the lower load.  Returns null if there are none.
     private ClusterableServer getRandomServer(final List<ServerDescription> serverDescriptions) {
+        ClusterableServer server = removeRandomServer(serverDescriptions);
+        if (server == null || !settings.isPreferLeastLoadedServer()) {
+            return server;
+        }
+        ClusterableServer otherServer = removeRandomServer(serverDescriptions);
+        if (otherServer != null && otherServer.getLoad() < server.getLoad()) {
+            return otherServer;
+        }
+        return server;
+    }
+
+    // removes random servers from the list until it finds one that still exists in the cluster.  Returns null if there are none.
+    private ClusterableServer removeRandomServer(final List<ServerDescription> serverDescriptions) {
         while (!serverDescriptions.isEmpty()) {
-            int serverPos = getRandom().nextInt(serverDescriptions.size());
-            ClusterableServer server = getServer(serverDescriptions.get(serverPos).getAddress());
+            ServerDescription serverDescription = serverDescriptions.remove(getRandom().nextInt(serverDescriptions.size()));
+            ClusterableServer server = getServer(serverDescription.getAddress());
             if (server != null) {
                 return server;
-            } else {
-                serverDescriptions.remove(serverPos);
             }
         }
         return null;
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection;
+
+import com.mongodb.annotations.Immutable;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.assertions.Assertions.notNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * An immutable class representing the settings of the buffer pool used by the stream factories to allocate the buffers that messages are
+ * encoded into and read from.
+ *
+ * @since 3.6
+ */
+@Immutable
+public class BufferPoolSettings {
+    private final boolean directBuffers;
+    private final int maxBuffersPerSize;
+    private final long maxIdleTimeMS;
+
+    /**
+     * Gets a builder for an instance of {@code BufferPoolSettings}.
+     *
+     * @return the builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * A builder for an instance of {@code BufferPoolSettings}.
+     */
+    public static class Builder {
+        private boolean directBuffers;
+        private int maxBuffersPerSize = Integer.MAX_VALUE;
+        private long maxIdleTimeMS;
+
+        /**
+         * Sets whether the pool allocates direct (off-heap) buffers.  Direct buffers avoid the copy from heap to native memory when
+         * writing to a socket channel, but are only used by streams that are backed by a channel.
+         *
+         * @param directBuffers true if the pool should allocate direct buffers
+         * @return this
+         */
+        public Builder directBuffers(final boolean directBuffers) {
+            this.directBuffers = directBuffers;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of idle buffers retained for each power of two buffer size.  Buffers released when the limit has been
+         * reached are discarded rather than pooled.
+         *
+         * @param maxBuffersPerSize the maximum number of idle buffers per size, which must be &gt;= 0
+         * @return this
+         */
+        public Builder maxBuffersPerSize(final int maxBuffersPerSize) {
+            isTrueArgument("maxBuffersPerSize >= 0", maxBuffersPerSize >= 0);
+            this.maxBuffersPerSize = maxBuffersPerSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum time that a buffer can remain unused in the pool before it is discarded.  A value of zero means that pooled
+         * buffers are never discarded for being idle.
+         *
+         * @param maxIdleTime the maximum idle time, which must be &gt;= 0
+         * @param timeUnit    the time unit
+         * @return this
+         */
+        public Builder maxIdleTime(final long maxIdleTime, final TimeUnit timeUnit) {
+            isTrueArgument("maxIdleTime >= 0", maxIdleTime >= 0);
+            this.maxIdleTimeMS = MILLISECONDS.convert(maxIdleTime, notNull("timeUnit", timeUnit));
+            return this;
+        }
+
+        /**
+         * Build an instance of {@code BufferPoolSettings}.
+         *
+         * @return the buffer pool settings for this builder
+         */
+        public BufferPoolSettings build() {
+            return new BufferPoolSettings(this);
+        }
+    }
+
+    /**
+     * Gets whether the pool allocates direct (off-heap) buffers.  Defaults to false.
+     *
+     * @return true if the pool allocates direct buffers
+     */
+    public boolean isDirectBuffers() {
+        return directBuffers;
+    }
+
+    /**
+     * Gets the maximum number of idle buffers retained for each power of two buffer size.  Defaults to {@code Integer.MAX_VALUE}.
+     *
+     * @return the maximum number of idle buffers per size
+     */
+    public int getMaxBuffersPerSize() {
+        return maxBuffersPerSize;
+    }
+
+    /**
+     * Gets the maximum time that a buffer can remain unused in the pool before it is discarded.  Defaults to 0, which indicates that
+     * pooled buffers are never discarded for being idle.
+     *
+     * @param timeUnit the time unit to get the idle time in
+     * @return the maximum idle time in the requested time unit
+     */
+    public long getMaxIdleTime(final TimeUnit timeUnit) {
+        return timeUnit.convert(maxIdleTimeMS, MILLISECONDS);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BufferPoolSettings that = (BufferPoolSettings) o;
+
+        if (directBuffers != that.directBuffers) {
+            return false;
+        }
+        if (maxBuffersPerSize != that.maxBuffersPerSize) {
+            return false;
+        }
+        if (maxIdleTimeMS != that.maxIdleTimeMS) {
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = (directBuffers ? 1 : 0);
+        result = 31 * result + maxBuffersPerSize;
+        result = 31 * result + (int) (maxIdleTimeMS ^ (maxIdleTimeMS >>> 32));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "BufferPoolSettings{"
+               + "directBuffers=" + directBuffers
+               + ", maxBuffersPerSize=" + maxBuffersPerSize
+               + ", maxIdleTimeMS=" + maxIdleTimeMS
+               + '}';
+    }
+
+    BufferPoolSettings(final Builder builder) {
+        directBuffers = builder.directBuffers;
+        maxBuffersPerSize = builder.maxBuffersPerSize;
+        maxIdleTimeMS = builder.maxIdleTimeMS;
+    }
+}
@@ -49,6 +49,7 @@ public final class ClusterSettings {
     private final String description;
     private final long serverSelectionTimeoutMS;
     private final int maxWaitQueueSize;
+    private final boolean preferLeastLoadedServer;
     private final List<ClusterListener> clusterListeners;
 
     /**
@@ -84,6 +85,7 @@ public final class ClusterSettings {
         private String description;
         private long serverSelectionTimeoutMS = TimeUnit.MILLISECONDS.convert(30, TimeUnit.SECONDS);
         private int maxWaitQueueSize = 500;
+        private boolean preferLeastLoadedServer;
         private final List<ClusterListener> clusterListeners = new ArrayList<ClusterListener>();
 
         private Builder() {
@@ -99,6 +101,7 @@ public final class ClusterSettings {
             serverSelector = clusterSettings.serverSelector;
             serverSelectionTimeoutMS = clusterSettings.serverSelectionTimeoutMS;
             maxWaitQueueSize = clusterSettings.maxWaitQueueSize;
+            preferLeastLoadedServer = clusterSettings.preferLeastLoadedServer;
             clusterListeners.addAll(clusterSettings.clusterListeners);
         }
 
@@ -207,6 +210,22 @@ public final class ClusterSettings {
             return this;
         }
 
+        /**
+         * <p>Sets whether server selection should prefer the less loaded of two randomly chosen servers, rather than choosing a single
+         * server at random from those that are eligible.  The load of a server is the number of operations that are using or waiting
+         * for one of its connections.</p>
+         *
+         * <p>Default is false.</p>
+         *
+         * @param preferLeastLoadedServer whether to prefer the less loaded of two randomly chosen servers
+         * @return this
+         * @since 3.6
+         */
+        public Builder preferLeastLoadedServer(final boolean preferLeastLoadedServer) {
+            this.preferLeastLoadedServer = preferLeastLoadedServer;
+            return this;
+        }
+
         /**
          * Adds a cluster listener.
          *
@@ -248,6 +267,10 @@ public final class ClusterSettings {
                 serverSelectionTimeout(connectionString.getServerSelectionTimeout(), TimeUnit.MILLISECONDS);
             }
 
+            if (connectionString.getPreferLeastLoadedServer() != null) {
+                preferLeastLoadedServer(connectionString.getPreferLeastLoadedServer());
+            }
+
             return this;
         }
 
@@ -343,6 +366,19 @@ public final class ClusterSettings {
         return maxWaitQueueSize;
     }
 
+    /**
+     * <p>Gets whether server selection prefers the less loaded of two randomly chosen servers, rather than choosing a single server at
+     * random from those that are eligible.</p>
+     *
+     * <p>Default is false.</p>
+     *
+     * @return whether to prefer the less loaded of two randomly chosen servers
+     * @since 3.6
+     */
+    public boolean isPreferLeastLoadedServer() {
+        return preferLeastLoadedServer;
+    }
+
     /**
      * Gets the cluster listeners.  The default value is an empty list.
      *
@@ -370,6 +406,9 @@ public final class ClusterSettings {
         if (serverSelectionTimeoutMS != that.serverSelectionTimeoutMS) {
             return false;
         }
+        if (preferLeastLoadedServer != that.preferLeastLoadedServer) {
+            return false;
+        }
         if (description != null ? !description.equals(that.description) : that.description != null) {
             return false;
         }
@@ -406,6 +445,7 @@ public final class ClusterSettings {
         result = 31 * result + (description != null ? description.hashCode() : 0);
         result = 31 * result + (int) (serverSelectionTimeoutMS ^ (serverSelectionTimeoutMS >>> 32));
         result = 31 * result + maxWaitQueueSize;
+        result = 31 * result + (preferLeastLoadedServer ? 1 : 0);
         result = 31 * result + clusterListeners.hashCode();
         return result;
     }
@@ -421,6 +461,7 @@ public final class ClusterSettings {
                + ", clusterListeners='" + clusterListeners + '\''
                + ", serverSelectionTimeout='" + serverSelectionTimeoutMS + " ms" + '\''
                + ", maxWaitQueueSize=" + maxWaitQueueSize
+               + ", preferLeastLoadedServer=" + preferLeastLoadedServer
                + ", description='" + description + '\''
                + '}';
     }
@@ -471,6 +512,7 @@ public final class ClusterSettings {
         serverSelector = builder.serverSelector;
         serverSelectionTimeoutMS = builder.serverSelectionTimeoutMS;
         maxWaitQueueSize = builder.maxWaitQueueSize;
+        preferLeastLoadedServer = builder.preferLeastLoadedServer;
         clusterListeners = unmodifiableList(builder.clusterListeners);
     }
 }
@@ -44,4 +44,11 @@ interface ClusterableServer extends Server {
      * Attempt to connect to the server.
      */
     void connect();
+
+    /**
+     * Gets the number of operations that are currently using or waiting for a connection to the server.
+     *
+     * @return the load on the server
+     */
+    int getLoad();
 }
@@ -49,6 +49,7 @@ final class CommandMessage extends RequestMessage {
     private final SplittablePayload payload;
     private final FieldNameValidator payloadFieldNameValidator;
     private final boolean responseExpected;
+    private final boolean exhaustAllowed;
 
     CommandMessage(final MongoNamespace namespace, final BsonDocument command, final FieldNameValidator commandFieldNameValidator,
                    final ReadPreference readPreference, final MessageSettings settings) {
@@ -58,6 +59,14 @@ final class CommandMessage extends RequestMessage {
     CommandMessage(final MongoNamespace namespace, final BsonDocument command, final FieldNameValidator commandFieldNameValidator,
                    final ReadPreference readPreference, final MessageSettings settings, final boolean responseExpected,
                    final SplittablePayload payload, final FieldNameValidator payloadFieldNameValidator) {
+        this(namespace, command, commandFieldNameValidator, readPreference, settings, responseExpected, payload, payloadFieldNameValidator,
+                false);
+    }
+
+    // If exhaustAllowed is true, the server may stream further replies to the command without waiting for another request
+    CommandMessage(final MongoNamespace namespace, final BsonDocument command, final FieldNameValidator commandFieldNameValidator,
+                   final ReadPreference readPreference, final MessageSettings settings, final boolean responseExpected,
+                   final SplittablePayload payload, final FieldNameValidator payloadFieldNameValidator, final boolean exhaustAllowed) {
         super(namespace.getFullName(), getOpCode(settings), settings);
         this.namespace = namespace;
         this.command = command;
@@ -66,6 +75,16 @@ final class CommandMessage extends RequestMessage {
         this.payload = payload;
         this.payloadFieldNameValidator = payloadFieldNameValidator;
         this.readPreference = readPreference;
+        this.exhaustAllowed = exhaustAllowed;
+    }
+
+    boolean isExhaustAllowed() {
+        return exhaustAllowed;
+    }
+
+    CommandMessage withoutExhaustAllowed() {
+        return new CommandMessage(namespace, command, commandFieldNameValidator, readPreference, getSettings(), responseExpected, payload,
+                payloadFieldNameValidator, false);
     }
 
     boolean containsPayload() {
@@ -139,10 +158,12 @@ final class CommandMessage extends RequestMessage {
     }
 
     private int getFlagBits() {
-        if (calculateIsResponseExpected()) {
-            return 0;
-        } else {
+        if (!calculateIsResponseExpected()) {
             return 1 << 1;
+        } else if (exhaustAllowed) {
+            return 1 << 16;
+        } else {
+            return 0;
         }
     }
 
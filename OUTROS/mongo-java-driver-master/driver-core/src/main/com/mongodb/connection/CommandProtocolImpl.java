@@ -41,6 +41,7 @@ class CommandProtocolImpl<T> implements CommandProtocol<T> {
     private final Decoder<T> commandResultDecoder;
     private final boolean responseExpected;
     private SessionContext sessionContext;
+    private boolean exhaustAllowed;
 
     CommandProtocolImpl(final String database, final BsonDocument command, final FieldNameValidator commandFieldNameValidator,
                         final ReadPreference readPreference, final Decoder<T> commandResultDecoder) {
@@ -109,9 +110,14 @@ class CommandProtocolImpl<T> implements CommandProtocol<T> {
         return this;
     }
 
+    CommandProtocolImpl<T> exhaustAllowed(final boolean exhaustAllowed) {
+        this.exhaustAllowed = exhaustAllowed;
+        return this;
+    }
+
     private CommandMessage getCommandMessage(final InternalConnection connection) {
         return new CommandMessage(namespace, command, commandFieldNameValidator, readPreference,
-                    getMessageSettings(connection.getDescription()), responseExpected, payload, payloadFieldNameValidator);
+                    getMessageSettings(connection.getDescription()), responseExpected, payload, payloadFieldNameValidator, exhaustAllowed);
     }
 
     private String getCommandName() {
@@ -17,119 +17,62 @@
 
 package com.mongodb.connection;
 
-import com.mongodb.MongoInternalException;
+import com.mongodb.management.CompressorStatistics;
 import org.bson.ByteBuf;
 import org.bson.io.BsonOutput;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.io.UnsupportedEncodingException;
 import java.util.List;
 
 abstract class Compressor {
 
-    static final int BUFFER_SIZE = 256;
+    static final int BUFFER_SIZE = 8192;
 
     abstract String getName();
 
     abstract byte getId();
 
-    void compress(final List<ByteBuf> source, final BsonOutput target) {
-        BufferExposingByteArrayOutputStream baos = new BufferExposingByteArrayOutputStream(1024);
-        OutputStream outputStream = null;
-        try {
-            outputStream = getOutputStream(baos);
-            byte[] scratch = new byte[BUFFER_SIZE];
-            for (ByteBuf cur : source) {
-                while (cur.hasRemaining()) {
-                    int numBytes = Math.min(cur.remaining(), scratch.length);
-                    cur.get(scratch, 0, numBytes);
-                    outputStream.write(scratch, 0, numBytes);
-                }
-            }
-
-        } catch (IOException e) {
-            throw new MongoInternalException("Unexpected IOException", e);
-        } finally {
-            try {
-                if (outputStream != null) {
-                    outputStream.close();
-                }
-            } catch (IOException e) {
-                // ignore
-            }
+    // The statistics are kept per compressor name rather than per connection, and are only recorded once an application enables them
+    final void compress(final List<ByteBuf> source, final BsonOutput target) {
+        CompressorStatistics statistics = CompressorStatistics.getInstance(getName());
+        if (statistics == null) {
+            doCompress(source, target);
+        } else {
+            long startTimeNanos = System.nanoTime();
+            int uncompressedSize = getRemaining(source);
+            int startPosition = target.getPosition();
+            doCompress(source, target);
+            statistics.record(uncompressedSize, target.getPosition() - startPosition, System.nanoTime() - startTimeNanos);
         }
-        target.writeBytes(baos.getInternalBytes(), 0, baos.size());
     }
 
-    void uncompress(final ByteBuf source, final ByteBuf target) {
-        InputStream inputStream = null;
-
-        try {
-            inputStream = getInputStream(new ByteBufInputStream(source));
-            byte[] scratch = new byte[BUFFER_SIZE];
-            int numBytes = inputStream.read(scratch);
-            while (numBytes != -1) {
-                target.put(scratch, 0, numBytes);
-                numBytes = inputStream.read(scratch);
-            }
-        } catch (IOException e) {
-            throw new MongoInternalException("Unexpected IOException", e);
-        } finally {
-            try {
-                if (inputStream != null) {
-                    inputStream.close();
-                }
-            } catch (IOException e) {
-                // ignore
-            }
+    final void uncompress(final ByteBuf source, final ByteBuf target) {
+        CompressorStatistics statistics = CompressorStatistics.getInstance(getName());
+        if (statistics == null) {
+            doUncompress(source, target);
+        } else {
+            long startTimeNanos = System.nanoTime();
+            int compressedSize = source.remaining();
+            int startPosition = target.position();
+            doUncompress(source, target);
+            statistics.record(compressedSize, target.position() - startPosition, System.nanoTime() - startTimeNanos);
         }
     }
 
-    // override this if not overriding the compress method
-    OutputStream getOutputStream(final OutputStream source) throws IOException {
-        throw new UnsupportedEncodingException();
-    }
-
-    // override this if not overriding the uncompress method
-    InputStream getInputStream(final InputStream source) throws IOException {
-        throw new UnsupportedOperationException();
+    // Releases any native resources held by the compressor.  Called when its connection is closed.
+    void close() {
     }
 
-    private static final class ByteBufInputStream extends InputStream {
-        private final ByteBuf source;
-
-        ByteBufInputStream(final ByteBuf source) {
-            this.source = source;
-        }
-
-        @Override
-        public int read(final byte[] bytes, final int offset, final int length) {
-            if (!source.hasRemaining()) {
-                return -1;
-            }
+    // Consumes the remaining bytes of each source buffer and writes their compressed form to the target
+    abstract void doCompress(List<ByteBuf> source, BsonOutput target);
 
-            int bytesToRead = length > source.remaining() ? source.remaining() : length;
-            source.get(bytes, offset, bytesToRead);
-            return bytesToRead;
-        }
-
-        @Override
-        public int read() {
-            throw new UnsupportedOperationException();
-        }
-    }
-
-    // Just so we don't have to copy the buffer
-    private static final class BufferExposingByteArrayOutputStream extends ByteArrayOutputStream {
-        BufferExposingByteArrayOutputStream(final int size) {
-            super(size);
-        }
+    // Consumes the remaining bytes of the source buffer and puts their uncompressed form in the target
+    abstract void doUncompress(ByteBuf source, ByteBuf target);
 
-        byte[] getInternalBytes() {
-            return buf;
+    static int getRemaining(final List<ByteBuf> source) {
+        int remaining = 0;
+        for (ByteBuf cur : source) {
+            remaining += cur.remaining();
         }
+        return remaining;
     }
 }
@@ -135,6 +135,43 @@ public interface Connection extends ReferenceCounted {
                   Decoder<T> commandResultDecoder, SessionContext sessionContext, boolean responseExpected,
                   SplittablePayload payload, FieldNameValidator payloadFieldNameValidator);
 
+    /**
+     * Execute the command, allowing the server to stream further replies to it on this connection without waiting for another request.
+     * While {@link #hasMoreToCome()} returns true, no other command may be executed on this connection, and each further reply is
+     * received with {@link #receiveMoreToCome(Decoder, SessionContext)}.  Servers that can't stream replies ignore the request to do so.
+     *
+     * @param <T>                  the type of the result
+     * @param database             the database to execute the command in
+     * @param command              the command document
+     * @param fieldNameValidator   the field name validator for the command document
+     * @param readPreference       the read preference that was applied to get this connection
+     * @param commandResultDecoder the decoder for the result
+     * @param sessionContext       the session context
+     * @return the command result
+     * @since 3.6
+     */
+    <T> T exhaustCommand(String database, BsonDocument command, FieldNameValidator fieldNameValidator, ReadPreference readPreference,
+                         Decoder<T> commandResultDecoder, SessionContext sessionContext);
+
+    /**
+     * Returns whether the server will stream another reply to the last command executed on this connection.
+     *
+     * @return true if there is another reply to receive
+     * @since 3.6
+     */
+    boolean hasMoreToCome();
+
+    /**
+     * Receive the next reply that the server streams to the last command executed on this connection.
+     *
+     * @param <T>                  the type of the result
+     * @param commandResultDecoder the decoder for the result
+     * @param sessionContext       the session context
+     * @return the command result
+     * @since 3.6
+     */
+    <T> T receiveMoreToCome(Decoder<T> commandResultDecoder, SessionContext sessionContext);
+
     /**
      * Execute the query.
      *
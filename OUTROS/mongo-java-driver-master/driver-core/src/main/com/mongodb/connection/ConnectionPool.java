@@ -31,5 +31,13 @@ interface ConnectionPool extends Closeable {
 
     void invalidate();
 
+    /**
+     * Gets the number of checkouts of connections from the pool plus the number of requests waiting for one.  A connection that is
+     * shared by several asynchronous callers counts once for each of them.
+     *
+     * @return the load on the pool
+     */
+    int getLoad();
+
     void close();
 }
@@ -47,6 +47,8 @@ public class ConnectionPoolSettings {
     private final long maxConnectionIdleTimeMS;
     private final long maintenanceInitialDelayMS;
     private final long maintenanceFrequencyMS;
+    private final boolean fairCheckout;
+    private final int maxRequestsPerConnection;
 
     /**
      * Gets a Builder for creating a new ConnectionPoolSettings instance.
@@ -82,6 +84,8 @@ public class ConnectionPoolSettings {
         private long maxConnectionIdleTimeMS;
         private long maintenanceInitialDelayMS;
         private long maintenanceFrequencyMS = MILLISECONDS.convert(1, MINUTES);
+        private boolean fairCheckout = true;
+        private int maxRequestsPerConnection = 1;
 
         Builder() {
         }
@@ -95,6 +99,8 @@ public class ConnectionPoolSettings {
             maxConnectionIdleTimeMS = connectionPoolSettings.maxConnectionIdleTimeMS;
             maintenanceInitialDelayMS = connectionPoolSettings.maintenanceInitialDelayMS;
             maintenanceFrequencyMS = connectionPoolSettings.maintenanceFrequencyMS;
+            fairCheckout = connectionPoolSettings.fairCheckout;
+            maxRequestsPerConnection = connectionPoolSettings.maxRequestsPerConnection;
         }
 
         /**
@@ -203,6 +209,43 @@ public class ConnectionPoolSettings {
             return this;
         }
 
+        /**
+         * Sets whether connections are checked out strictly in the order in which they were requested.
+         *
+         * <p>When false, a thread can take an available connection without synchronizing with the threads that are waiting for one, and
+         * threads only queue when the pool is exhausted.  Idle connections are also kept in slots striped by thread, so a thread usually
+         * gets back the connection it last released without contending with other threads.  This reduces contention when many threads
+         * check connections in and out concurrently, at the cost of strict first-come-first-served ordering.</p>
+         *
+         * <p>Default is true.</p>
+         *
+         * @param fairCheckout true if connections should be checked out in the order in which they were requested
+         * @return this
+         * @since 3.6
+         */
+        public Builder fairCheckout(final boolean fairCheckout) {
+            this.fairCheckout = fairCheckout;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of asynchronous requests that may be in flight at the same time on a single connection.
+         *
+         * <p>When greater than one, asynchronous operations against MongoDB 3.6 or later share connections: each request is written as
+         * soon as it is ready and the replies are matched to their requests as they arrive, so fewer connections are needed for the same
+         * number of concurrent operations.  Synchronous operations always use a connection exclusively.</p>
+         *
+         * <p>Default is 1, which disables sharing.</p>
+         *
+         * @param maxRequestsPerConnection the maximum number of concurrent requests on a connection, which must be greater than 0
+         * @return this
+         * @since 3.6
+         */
+        public Builder maxRequestsPerConnection(final int maxRequestsPerConnection) {
+            this.maxRequestsPerConnection = maxRequestsPerConnection;
+            return this;
+        }
+
         /**
          * Adds the given connection pool listener.
          *
@@ -249,6 +292,9 @@ public class ConnectionPoolSettings {
             if (connectionString.getThreadsAllowedToBlockForConnectionMultiplier() != null) {
                 maxWaitQueueSize(connectionString.getThreadsAllowedToBlockForConnectionMultiplier() * maxSize);
             }
+            if (connectionString.getFairCheckout() != null) {
+                fairCheckout(connectionString.getFairCheckout());
+            }
             return this;
         }
     }
@@ -343,6 +389,30 @@ public class ConnectionPoolSettings {
         return timeUnit.convert(maintenanceFrequencyMS, MILLISECONDS);
     }
 
+    /**
+     * Returns whether connections are checked out strictly in the order in which they were requested.
+     *
+     * <p>Default is true.</p>
+     *
+     * @return true if connections are checked out in the order in which they were requested
+     * @since 3.6
+     */
+    public boolean isFairCheckout() {
+        return fairCheckout;
+    }
+
+    /**
+     * Returns the maximum number of asynchronous requests that may be in flight at the same time on a single connection.
+     *
+     * <p>Default is 1, which disables sharing.</p>
+     *
+     * @return the maximum number of concurrent requests on a connection
+     * @since 3.6
+     */
+    public int getMaxRequestsPerConnection() {
+        return maxRequestsPerConnection;
+    }
+
     /**
      * Gets the list of added {@code ConnectionPoolListener}. The default is an empty list.
      *
@@ -388,6 +458,12 @@ public class ConnectionPoolSettings {
         if (maxWaitTimeMS != that.maxWaitTimeMS) {
             return false;
         }
+        if (fairCheckout != that.fairCheckout) {
+            return false;
+        }
+        if (maxRequestsPerConnection != that.maxRequestsPerConnection) {
+            return false;
+        }
         if (!connectionPoolListeners.equals(that.connectionPoolListeners)) {
             return false;
         }
@@ -405,6 +481,8 @@ public class ConnectionPoolSettings {
         result = 31 * result + (int) (maxConnectionIdleTimeMS ^ (maxConnectionIdleTimeMS >>> 32));
         result = 31 * result + (int) (maintenanceInitialDelayMS ^ (maintenanceInitialDelayMS >>> 32));
         result = 31 * result + (int) (maintenanceFrequencyMS ^ (maintenanceFrequencyMS >>> 32));
+        result = 31 * result + (fairCheckout ? 1 : 0);
+        result = 31 * result + maxRequestsPerConnection;
         result = 31 * result + connectionPoolListeners.hashCode();
         return result;
     }
@@ -420,6 +498,8 @@ public class ConnectionPoolSettings {
                + ", maxConnectionIdleTimeMS=" + maxConnectionIdleTimeMS
                + ", maintenanceInitialDelayMS=" + maintenanceInitialDelayMS
                + ", maintenanceFrequencyMS=" + maintenanceFrequencyMS
+               + ", fairCheckout=" + fairCheckout
+               + ", maxRequestsPerConnection=" + maxRequestsPerConnection
                + ", connectionPoolListeners=" + connectionPoolListeners
                + '}';
     }
@@ -433,6 +513,7 @@ public class ConnectionPoolSettings {
         isTrue("maxConnectionIdleTime >= 0", builder.maxConnectionIdleTimeMS >= 0);
         isTrue("sizeMaintenanceFrequency > 0", builder.maintenanceFrequencyMS > 0);
         isTrue("maxSize >= minSize", builder.maxSize >= builder.minSize);
+        isTrue("maxRequestsPerConnection > 0", builder.maxRequestsPerConnection > 0);
 
         maxSize = builder.maxSize;
         minSize = builder.minSize;
@@ -442,6 +523,8 @@ public class ConnectionPoolSettings {
         maxConnectionIdleTimeMS = builder.maxConnectionIdleTimeMS;
         maintenanceInitialDelayMS = builder.maintenanceInitialDelayMS;
         maintenanceFrequencyMS = builder.maintenanceFrequencyMS;
+        fairCheckout = builder.fairCheckout;
+        maxRequestsPerConnection = builder.maxRequestsPerConnection;
         connectionPoolListeners = unmodifiableList(builder.connectionPoolListeners);
     }
 }
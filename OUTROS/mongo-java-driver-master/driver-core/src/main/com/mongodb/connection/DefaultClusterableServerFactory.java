@@ -22,6 +22,7 @@ import com.mongodb.ServerAddress;
 import com.mongodb.client.MongoDriverInformation;
 import com.mongodb.event.CommandListener;
 import com.mongodb.event.ServerListener;
+import org.bson.io.FieldNameCache;
 
 import java.util.Collections;
 import java.util.List;
@@ -38,6 +39,8 @@ class DefaultClusterableServerFactory implements ClusterableServerFactory {
     private final String applicationName;
     private final MongoDriverInformation mongoDriverInformation;
     private final List<MongoCompressor> compressorList;
+    // Shared by the connections to all the servers in the cluster, as the replies from each of them tend to repeat the same field names
+    private final FieldNameCache fieldNameCache = new FieldNameCache();
 
     DefaultClusterableServerFactory(final ClusterId clusterId, final ClusterSettings clusterSettings, final ServerSettings serverSettings,
                                     final ConnectionPoolSettings connectionPoolSettings, final StreamFactory streamFactory,
@@ -63,7 +66,8 @@ class DefaultClusterableServerFactory implements ClusterableServerFactory {
                                     final ClusterClock clusterClock) {
         ConnectionPool connectionPool = new DefaultConnectionPool(new ServerId(clusterId, serverAddress),
                 new InternalStreamConnectionFactory(streamFactory, credentialList, applicationName,
-                        mongoDriverInformation, compressorList, commandListener), connectionPoolSettings);
+                        mongoDriverInformation, compressorList, commandListener,
+                        connectionPoolSettings.getMaxRequestsPerConnection() > 1, fieldNameCache), connectionPoolSettings);
         ServerMonitorFactory serverMonitorFactory =
             new DefaultServerMonitorFactory(new ServerId(clusterId, serverAddress), serverSettings, clusterClock,
                     new InternalStreamConnectionFactory(heartbeatStreamFactory, credentialList, applicationName,
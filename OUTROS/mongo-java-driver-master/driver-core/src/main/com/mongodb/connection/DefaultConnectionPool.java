@@ -38,13 +38,17 @@ import com.mongodb.event.ConnectionRemovedEvent;
 import com.mongodb.internal.connection.ConcurrentPool;
 import com.mongodb.internal.connection.ConcurrentPool.Prune;
 import com.mongodb.internal.thread.DaemonThreadFactory;
+import com.mongodb.internal.thread.SharedTimer;
 import org.bson.ByteBuf;
 import org.bson.codecs.Decoder;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -55,6 +59,7 @@ import static com.mongodb.internal.async.ErrorHandlingResultCallback.errorHandli
 import static com.mongodb.internal.event.EventListenerHelper.getConnectionPoolListener;
 import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 class DefaultConnectionPool implements ConnectionPool {
     private static final Logger LOGGER = Loggers.getLogger("connection");
@@ -64,8 +69,12 @@ class DefaultConnectionPool implements ConnectionPool {
     private final AtomicInteger waitQueueSize = new AtomicInteger(0);
     private final AtomicInteger generation = new AtomicInteger(0);
     private final ExecutorService sizeMaintenanceTimer;
-    private ExecutorService asyncGetter;
+    private final ConcurrentLinkedQueue<AsyncWaiter> asyncWaiters = new ConcurrentLinkedQueue<AsyncWaiter>();
+    private final AtomicInteger asyncWaitersWorkInProgress = new AtomicInteger();
     private final Runnable maintenanceTask;
+    private final List<SharedConnection> sharedConnections = new ArrayList<SharedConnection>();
+    // The number of checkouts of shared connections beyond the first one of each, which the pool's in use count does not include
+    private final AtomicInteger additionalSharedCheckouts = new AtomicInteger();
     private final ConnectionPoolListener connectionPoolListener;
     private final ServerId serverId;
     private volatile boolean closed;
@@ -76,7 +85,8 @@ class DefaultConnectionPool implements ConnectionPool {
         this.settings = notNull("settings", settings);
         UsageTrackingInternalConnectionItemFactory connectionItemFactory
         = new UsageTrackingInternalConnectionItemFactory(internalConnectionFactory);
-        pool = new ConcurrentPool<UsageTrackingInternalConnection>(settings.getMaxSize(), connectionItemFactory);
+        pool = new ConcurrentPool<UsageTrackingInternalConnection>(settings.getMaxSize(), connectionItemFactory,
+                                                                   settings.isFairCheckout(), !settings.isFairCheckout());
         maintenanceTask = createMaintenanceTask();
         sizeMaintenanceTimer = createMaintenanceTimer();
         this.connectionPoolListener = getConnectionPoolListener(settings);
@@ -94,6 +104,7 @@ class DefaultConnectionPool implements ConnectionPool {
             if (waitQueueSize.incrementAndGet() > settings.getMaxWaitQueueSize()) {
                 throw createWaitQueueFullException();
             }
+            long startTimeNanos = System.nanoTime();
             try {
                 connectionPoolListener.waitQueueEntered(new ConnectionPoolWaitQueueEnteredEvent(serverId));
                 PooledConnection pooledConnection = getPooledConnection(timeout, timeUnit);
@@ -101,7 +112,7 @@ class DefaultConnectionPool implements ConnectionPool {
                     try {
                         pooledConnection.open();
                     } catch (Throwable t) {
-                        pool.release(pooledConnection.wrapped, true);
+                        release(pooledConnection.wrapped, true);
                         if (t instanceof MongoException) {
                             throw (MongoException) t;
                         } else {
@@ -112,7 +123,8 @@ class DefaultConnectionPool implements ConnectionPool {
 
                 return pooledConnection;
             } finally {
-                connectionPoolListener.waitQueueExited(new ConnectionPoolWaitQueueExitedEvent(serverId));
+                connectionPoolListener.waitQueueExited(new ConnectionPoolWaitQueueExitedEvent(serverId, System.nanoTime() - startTimeNanos,
+                                                                                               NANOSECONDS));
             }
         } finally {
             waitQueueSize.decrementAndGet();
@@ -126,6 +138,14 @@ class DefaultConnectionPool implements ConnectionPool {
         }
 
         final SingleResultCallback<InternalConnection> errHandlingCallback = errorHandlingCallback(callback, LOGGER);
+        // a shared connection with room for another request is handed to the oldest waiter first, so only take one if none is waiting
+        if (settings.getMaxRequestsPerConnection() > 1 && asyncWaiters.isEmpty()) {
+            SharedConnection sharedConnection = getSharedConnection();
+            if (sharedConnection != null) {
+                errHandlingCallback.onResult(checkOut(sharedConnection.wrapped, sharedConnection), null);
+                return;
+            }
+        }
         PooledConnection connection = null;
 
         try {
@@ -151,30 +171,12 @@ class DefaultConnectionPool implements ConnectionPool {
             }
             callback.onResult(null, createWaitQueueFullException());
         } else {
-            final long startTimeMillis = System.currentTimeMillis();
             connectionPoolListener.waitQueueEntered(new ConnectionPoolWaitQueueEnteredEvent(serverId));
-            getAsyncGetter().submit(new Runnable() {
-                @Override
-                public void run() {
-                    try {
-                        if (getRemainingWaitTime() <= 0) {
-                            errHandlingCallback.onResult(null, createTimeoutException());
-                        } else {
-                            PooledConnection connection = getPooledConnection(getRemainingWaitTime(), MILLISECONDS);
-                            openAsync(connection, errHandlingCallback);
-                        }
-                    } catch (Throwable t) {
-                        errHandlingCallback.onResult(null, t);
-                    } finally {
-                        waitQueueSize.decrementAndGet();
-                        connectionPoolListener.waitQueueExited(new ConnectionPoolWaitQueueExitedEvent(serverId));
-                    }
-                }
-
-                private long getRemainingWaitTime() {
-                    return startTimeMillis + settings.getMaxWaitTime(MILLISECONDS) - System.currentTimeMillis();
-                }
-            });
+            AsyncWaiter waiter = new AsyncWaiter(errHandlingCallback);
+            asyncWaiters.add(waiter);
+            waiter.scheduleTimeout(settings.getMaxWaitTime(MILLISECONDS));
+            // a connection may have been checked in before the waiter was added, in which case nothing else would hand it over
+            serviceAsyncWaiters();
         }
     }
 
@@ -185,7 +187,7 @@ class DefaultConnectionPool implements ConnectionPool {
                 LOGGER.trace(String.format("Pooled connection %s to server %s is already open",
                                            pooledConnection.getDescription().getConnectionId(), serverId));
             }
-            callback.onResult(pooledConnection, null);
+            callback.onResult(share(pooledConnection), null);
         } else {
             if (LOGGER.isTraceEnabled()) {
                 LOGGER.trace(String.format("Pooled connection %s to server %s is not yet open",
@@ -200,29 +202,184 @@ class DefaultConnectionPool implements ConnectionPool {
                                                        pooledConnection.getDescription().getConnectionId(), serverId));
                         }
                         callback.onResult(null, t);
-                        pool.release(pooledConnection.wrapped, true);
+                        release(pooledConnection.wrapped, true);
                     } else {
                         if (LOGGER.isTraceEnabled()) {
                             LOGGER.trace(String.format("Pooled connection %s to server %s is now open",
                                                        pooledConnection.getDescription().getConnectionId(), serverId));
                         }
-                        callback.onResult(pooledConnection, null);
+                        callback.onResult(share(pooledConnection), null);
                     }
                 }
             });
         }
     }
 
-    private synchronized ExecutorService getAsyncGetter() {
-        if (asyncGetter == null) {
-            asyncGetter = Executors.newSingleThreadExecutor(new DaemonThreadFactory("AsyncGetter"));
+    /**
+     * Reserves a request on a connection that is already shared by other asynchronous callers and has room for another one.
+     * Connections are filled in order, so that as few as possible are in use.
+     */
+    private SharedConnection getSharedConnection() {
+        synchronized (sharedConnections) {
+            for (SharedConnection cur : sharedConnections) {
+                if (cur.users < settings.getMaxRequestsPerConnection() && !cur.wrapped.isClosed() && !shouldPrune(cur.wrapped)) {
+                    cur.users++;
+                    additionalSharedCheckouts.incrementAndGet();
+                    return cur;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Makes a newly checked out connection available to other asynchronous callers, if sharing is enabled and the server supports
+     * OP_MSG.
+     */
+    private PooledConnection share(final PooledConnection pooledConnection) {
+        if (settings.getMaxRequestsPerConnection() == 1 || pooledConnection.sharedConnection != null
+            || pooledConnection.wrapped.getDescription().getServerVersion().compareTo(new ServerVersion(3, 5)) < 0) {
+            return pooledConnection;
+        }
+        SharedConnection sharedConnection = new SharedConnection(pooledConnection.wrapped);
+        synchronized (sharedConnections) {
+            sharedConnections.add(sharedConnection);
+        }
+        return new PooledConnection(pooledConnection.wrapped, sharedConnection);
+    }
+
+    /**
+     * Releases a request on a shared connection.  The connection is checked back in to the pool when its last user releases it, and
+     * otherwise the freed request is handed to the oldest async waiter.
+     */
+    private void releaseShared(final SharedConnection sharedConnection) {
+        boolean stillShared;
+        synchronized (sharedConnections) {
+            stillShared = --sharedConnection.users > 0;
+            if (stillShared) {
+                additionalSharedCheckouts.decrementAndGet();
+            } else {
+                sharedConnections.remove(sharedConnection);
+            }
+        }
+        if (stillShared) {
+            if (!asyncWaiters.isEmpty()) {
+                serviceAsyncWaiters();
+            }
+        } else {
+            release(sharedConnection.wrapped, sharedConnection.wrapped.isClosed() || shouldPrune(sharedConnection.wrapped));
+        }
+    }
+
+    private void release(final UsageTrackingInternalConnection internalConnection, final boolean prune) {
+        pool.release(internalConnection, prune);
+        if (!asyncWaiters.isEmpty()) {
+            serviceAsyncWaiters();
+        }
+    }
+
+    /**
+     * Hands available connections to the oldest async waiters, preferring requests on connections that are already shared.  Only one
+     * thread drains the wait queue at a time: a thread that finds another one draining just records that there is more work, so that a
+     * callback that checks a connection back in never recurses into this method.
+     */
+    private void serviceAsyncWaiters() {
+        if (asyncWaitersWorkInProgress.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            while (!asyncWaiters.isEmpty()) {
+                if (settings.getMaxRequestsPerConnection() > 1) {
+                    SharedConnection sharedConnection = getSharedConnection();
+                    if (sharedConnection != null) {
+                        AsyncWaiter waiter = pollAsyncWaiter();
+                        if (waiter == null) {
+                            releaseShared(sharedConnection);
+                            break;
+                        }
+                        PooledConnection connection;
+                        try {
+                            connection = checkOut(sharedConnection.wrapped, sharedConnection);
+                        } catch (Throwable t) {
+                            releaseShared(sharedConnection);
+                            waiter.onResult(null, t);
+                            continue;
+                        }
+                        waiter.onConnection(connection);
+                        continue;
+                    }
+                }
+                UsageTrackingInternalConnection internalConnection;
+                try {
+                    internalConnection = getInternalConnectionWithoutWaiting();
+                } catch (Throwable t) {
+                    AsyncWaiter waiter = pollAsyncWaiter();
+                    if (waiter != null) {
+                        waiter.onResult(null, t);
+                    }
+                    continue;
+                }
+                if (internalConnection == null) {
+                    break;
+                }
+                AsyncWaiter waiter = pollAsyncWaiter();
+                if (waiter == null) {
+                    pool.release(internalConnection);
+                    break;
+                }
+                PooledConnection connection;
+                try {
+                    connection = checkOut(internalConnection);
+                } catch (Throwable t) {
+                    pool.release(internalConnection);
+                    waiter.onResult(null, t);
+                    continue;
+                }
+                waiter.onConnection(connection);
+            }
+            missed = asyncWaitersWorkInProgress.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private UsageTrackingInternalConnection getInternalConnectionWithoutWaiting() {
+        try {
+            UsageTrackingInternalConnection internalConnection = pool.get(0, MILLISECONDS);
+            while (shouldPrune(internalConnection)) {
+                pool.release(internalConnection, true);
+                internalConnection = pool.get(0, MILLISECONDS);
+            }
+            return internalConnection;
+        } catch (MongoTimeoutException e) {
+            return null;
+        }
+    }
+
+    private AsyncWaiter pollAsyncWaiter() {
+        AsyncWaiter waiter = asyncWaiters.poll();
+        while (waiter != null && !waiter.complete()) {
+            waiter = asyncWaiters.poll();
+        }
+        return waiter;
+    }
+
+    /**
+     * Removes completed waiters from the head of the wait queue.  A timed out waiter is left in the queue, to be skipped when the queue is
+     * drained, rather than searched for, but waiters usually time out in the order they were added, so trimming the head keeps the queue
+     * from growing while no connections are checked in.
+     */
+    private void removeCompletedAsyncWaiters() {
+        AsyncWaiter waiter = asyncWaiters.peek();
+        while (waiter != null && waiter.isCompleted() && asyncWaiters.remove(waiter)) {
+            waiter = asyncWaiters.peek();
         }
-        return asyncGetter;
     }
 
-    private synchronized void shutdownAsyncGetter() {
-        if (asyncGetter != null) {
-            asyncGetter.shutdownNow();
+    private void failAsyncWaiters() {
+        AsyncWaiter waiter = pollAsyncWaiter();
+        while (waiter != null) {
+            waiter.onResult(null, new IllegalStateException("The pool is closed"));
+            waiter = pollAsyncWaiter();
         }
     }
 
@@ -232,6 +389,11 @@ class DefaultConnectionPool implements ConnectionPool {
         generation.incrementAndGet();
     }
 
+    @Override
+    public int getLoad() {
+        return pool.getInUseCount() + additionalSharedCheckouts.get() + waitQueueSize.get();
+    }
+
     @Override
     public void close() {
         if (!closed) {
@@ -239,8 +401,8 @@ class DefaultConnectionPool implements ConnectionPool {
             if (sizeMaintenanceTimer != null) {
                 sizeMaintenanceTimer.shutdownNow();
             }
-            shutdownAsyncGetter();
             closed = true;
+            failAsyncWaiters();
             connectionPoolListener.connectionPoolClosed(new ConnectionPoolClosedEvent(serverId));
         }
     }
@@ -260,11 +422,19 @@ class DefaultConnectionPool implements ConnectionPool {
             pool.release(internalConnection, true);
             internalConnection = pool.get(timeout, timeUnit);
         }
+        return checkOut(internalConnection);
+    }
+
+    private PooledConnection checkOut(final UsageTrackingInternalConnection internalConnection) {
+        return checkOut(internalConnection, null);
+    }
+
+    private PooledConnection checkOut(final UsageTrackingInternalConnection internalConnection, final SharedConnection sharedConnection) {
         connectionPoolListener.connectionCheckedOut(new ConnectionCheckedOutEvent(internalConnection.getDescription().getConnectionId()));
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Checked out connection [%s] to server %s", getId(internalConnection), serverId.getAddress()));
         }
-        return new PooledConnection(internalConnection);
+        return new PooledConnection(internalConnection, sharedConnection);
     }
 
     private MongoTimeoutException createTimeoutException() {
@@ -374,10 +544,12 @@ class DefaultConnectionPool implements ConnectionPool {
 
     private class PooledConnection implements InternalConnection {
         private final UsageTrackingInternalConnection wrapped;
+        private final SharedConnection sharedConnection;
         private final AtomicBoolean isClosed = new AtomicBoolean();
 
-        PooledConnection(final UsageTrackingInternalConnection wrapped) {
+        PooledConnection(final UsageTrackingInternalConnection wrapped, final SharedConnection sharedConnection) {
             this.wrapped = notNull("wrapped", wrapped);
+            this.sharedConnection = sharedConnection;
         }
 
         @Override
@@ -402,7 +574,12 @@ class DefaultConnectionPool implements ConnectionPool {
                         LOGGER.trace(format("Checked in connection [%s] to server %s", getId(wrapped), serverId.getAddress()));
                     }
                 }
-                pool.release(wrapped, wrapped.isClosed() || shouldPrune(wrapped));
+                if (sharedConnection != null) {
+                    releaseShared(sharedConnection);
+                } else {
+                    // A connection that the server is still streaming replies on can't be reused, so it is discarded rather than drained
+                    release(wrapped, wrapped.isClosed() || wrapped.hasMoreToCome() || shouldPrune(wrapped));
+                }
             }
         }
 
@@ -459,6 +636,38 @@ class DefaultConnectionPool implements ConnectionPool {
             });
         }
 
+        @Override
+        public boolean hasMoreToCome() {
+            isTrue("open", !isClosed.get());
+            return wrapped.hasMoreToCome();
+        }
+
+        @Override
+        public <T> T receive(final Decoder<T> decoder, final SessionContext sessionContext) {
+            isTrue("open", !isClosed.get());
+            try {
+                return wrapped.receive(decoder, sessionContext);
+            } catch (MongoException e) {
+                incrementGenerationOnSocketException(this, e);
+                throw e;
+            }
+        }
+
+        @Override
+        public <T> void receiveAsync(final Decoder<T> decoder, final SessionContext sessionContext,
+                                     final SingleResultCallback<T> callback) {
+            isTrue("open", !isClosed.get());
+            wrapped.receiveAsync(decoder, sessionContext, new SingleResultCallback<T>() {
+                @Override
+                public void onResult(final T result, final Throwable t) {
+                    if (t != null) {
+                        incrementGenerationOnSocketException(PooledConnection.this, t);
+                    }
+                    callback.onResult(result, t);
+                }
+            });
+        }
+
         @Override
         public ResponseBuffers receiveMessage(final int responseTo) {
             isTrue("open", !isClosed.get());
@@ -505,6 +714,89 @@ class DefaultConnectionPool implements ConnectionPool {
         }
     }
 
+    /**
+     * A connection that is checked out to several asynchronous callers at once.  It is checked back in to the pool when the last of them
+     * checks it in.
+     */
+    private static final class SharedConnection {
+        private final UsageTrackingInternalConnection wrapped;
+        private int users = 1;  // guarded by sharedConnections
+
+        SharedConnection(final UsageTrackingInternalConnection wrapped) {
+            this.wrapped = wrapped;
+        }
+    }
+
+    /**
+     * An asynchronous request for a connection that is waiting for one to be checked in.  Exactly one of the check-in, the timeout and
+     * the closing of the pool completes it.  A timed out waiter's callback is run on the shared callback executor rather than on the
+     * timer thread, so that a slow callback can't delay the timeouts of other waiters.
+     */
+    private final class AsyncWaiter {
+        private final SingleResultCallback<InternalConnection> callback;
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private final long startTimeNanos = System.nanoTime();
+        private volatile ScheduledFuture<?> timeoutFuture;
+
+        AsyncWaiter(final SingleResultCallback<InternalConnection> callback) {
+            this.callback = callback;
+        }
+
+        void scheduleTimeout(final long maxWaitTimeMS) {
+            if (maxWaitTimeMS < 0) {
+                return;
+            }
+            timeoutFuture = SharedTimer.getInstance().schedule(new Runnable() {
+                @Override
+                public void run() {
+                    if (complete()) {
+                        removeCompletedAsyncWaiters();
+                        SharedTimer.getCallbackExecutor().execute(new Runnable() {
+                            @Override
+                            public void run() {
+                                onResult(null, createTimeoutException());
+                            }
+                        });
+                    }
+                }
+            }, maxWaitTimeMS, MILLISECONDS);
+            // the waiter may have been completed before the timeout was assigned, in which case complete() could not cancel it
+            if (completed.get()) {
+                timeoutFuture.cancel(false);
+            }
+        }
+
+        boolean isCompleted() {
+            return completed.get();
+        }
+
+        boolean complete() {
+            if (!completed.compareAndSet(false, true)) {
+                return false;
+            }
+            ScheduledFuture<?> future = timeoutFuture;
+            if (future != null) {
+                future.cancel(false);
+            }
+            waitQueueSize.decrementAndGet();
+            connectionPoolListener.waitQueueExited(new ConnectionPoolWaitQueueExitedEvent(serverId, System.nanoTime() - startTimeNanos,
+                                                                                           NANOSECONDS));
+            return true;
+        }
+
+        void onConnection(final PooledConnection connection) {
+            try {
+                openAsync(connection, callback);
+            } catch (Throwable t) {
+                callback.onResult(null, t);
+            }
+        }
+
+        void onResult(final InternalConnection connection, final Throwable t) {
+            callback.onResult(connection, t);
+        }
+    }
+
     private class UsageTrackingInternalConnectionItemFactory implements ConcurrentPool.ItemFactory<UsageTrackingInternalConnection> {
         private final InternalConnectionFactory internalConnectionFactory;
 
@@ -141,6 +141,11 @@ class DefaultServer implements ClusterableServer {
         serverMonitor.connect();
     }
 
+    @Override
+    public int getLoad() {
+        return connectionPool.getLoad();
+    }
+
     ConnectionPool getConnectionPool() {
         return connectionPool;
     }
@@ -126,6 +126,25 @@ class DefaultServerConnection extends AbstractReferenceCounted implements Connec
                 commandResultDecoder, responseExpected, payload,  payloadFieldNameValidator), sessionContext);
     }
 
+    @Override
+    public <T> T exhaustCommand(final String database, final BsonDocument command, final FieldNameValidator fieldNameValidator,
+                                final ReadPreference readPreference, final Decoder<T> commandResultDecoder,
+                                final SessionContext sessionContext) {
+        return executeProtocol(new CommandProtocolImpl<T>(database, command, fieldNameValidator, readPreference, commandResultDecoder)
+                                       .exhaustAllowed(true), sessionContext);
+    }
+
+    @Override
+    public boolean hasMoreToCome() {
+        isTrue("open", getCount() > 0);
+        return wrapped.hasMoreToCome();
+    }
+
+    @Override
+    public <T> T receiveMoreToCome(final Decoder<T> commandResultDecoder, final SessionContext sessionContext) {
+        return executeProtocol(new MoreToComeProtocol<T>(commandResultDecoder), sessionContext);
+    }
+
     @Override
     public <T> void commandAsync(final String database, final BsonDocument command, final boolean slaveOk,
                                  final FieldNameValidator fieldNameValidator, final Decoder<T> commandResultDecoder,
@@ -151,6 +170,20 @@ class DefaultServerConnection extends AbstractReferenceCounted implements Connec
                 commandResultDecoder, responseExpected, payload,  payloadFieldNameValidator), sessionContext, callback);
     }
 
+    @Override
+    public <T> void exhaustCommandAsync(final String database, final BsonDocument command, final FieldNameValidator fieldNameValidator,
+                                        final ReadPreference readPreference, final Decoder<T> commandResultDecoder,
+                                        final SessionContext sessionContext, final SingleResultCallback<T> callback) {
+        executeProtocolAsync(new CommandProtocolImpl<T>(database, command, fieldNameValidator, readPreference, commandResultDecoder)
+                                     .exhaustAllowed(true), sessionContext, callback);
+    }
+
+    @Override
+    public <T> void receiveMoreToComeAsync(final Decoder<T> commandResultDecoder, final SessionContext sessionContext,
+                                           final SingleResultCallback<T> callback) {
+        executeProtocolAsync(new MoreToComeProtocol<T>(commandResultDecoder), sessionContext, callback);
+    }
+
     @Override
     public <T> QueryResult<T> query(final MongoNamespace namespace, final BsonDocument queryDocument, final BsonDocument fields,
                                     final int numberToReturn, final int skip,
@@ -24,9 +24,12 @@ import com.mongodb.event.ServerHeartbeatFailedEvent;
 import com.mongodb.event.ServerHeartbeatStartedEvent;
 import com.mongodb.event.ServerHeartbeatSucceededEvent;
 import com.mongodb.event.ServerMonitorListener;
+import com.mongodb.internal.thread.SharedMonitorExecutor;
+import com.mongodb.internal.thread.SharedTimer;
 import org.bson.BsonDocument;
 import org.bson.BsonInt32;
 
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -55,6 +58,7 @@ class DefaultServerMonitor implements ServerMonitor {
     private final ServerSettings serverSettings;
     private final ServerMonitorRunnable monitor;
     private final Thread monitorThread;
+    private final HeartbeatScheduler heartbeatScheduler;
     private final Lock lock = new ReentrantLock();
     private final Condition condition = lock.newCondition();
     private volatile boolean isClosed;
@@ -70,18 +74,32 @@ class DefaultServerMonitor implements ServerMonitor {
         this.internalConnectionFactory = notNull("internalConnectionFactory", internalConnectionFactory);
         this.connectionPool = connectionPool;
         monitor = new ServerMonitorRunnable();
-        monitorThread = new Thread(monitor, "cluster-" + this.serverId.getClusterId() + "-" + this.serverId.getAddress());
-        monitorThread.setDaemon(true);
+        if (serverSettings.isSharedMonitorThreads()) {
+            monitorThread = null;
+            heartbeatScheduler = new HeartbeatScheduler();
+        } else {
+            monitorThread = new Thread(monitor, "cluster-" + this.serverId.getClusterId() + "-" + this.serverId.getAddress());
+            monitorThread.setDaemon(true);
+            heartbeatScheduler = null;
+        }
         isClosed = false;
     }
 
     @Override
     public void start() {
-        monitorThread.start();
+        if (heartbeatScheduler != null) {
+            heartbeatScheduler.start();
+        } else {
+            monitorThread.start();
+        }
     }
 
     @Override
     public void connect() {
+        if (heartbeatScheduler != null) {
+            heartbeatScheduler.connect();
+            return;
+        }
         lock.lock();
         try {
             condition.signal();
@@ -93,71 +111,87 @@ class DefaultServerMonitor implements ServerMonitor {
     @Override
     public void close() {
         isClosed = true;
-        monitorThread.interrupt();
+        if (heartbeatScheduler != null) {
+            heartbeatScheduler.close();
+        } else {
+            monitorThread.interrupt();
+        }
     }
 
     class ServerMonitorRunnable implements Runnable {
         private final ExponentiallyWeightedMovingAverage averageRoundTripTime = new ExponentiallyWeightedMovingAverage(0.2);
+        private InternalConnection connection;
+        private ServerDescription currentServerDescription = getConnectingServerDescription(null);
 
         @Override
-        @SuppressWarnings("unchecked")
         public synchronized void run() {
-            InternalConnection connection = null;
             try {
-                ServerDescription currentServerDescription = getConnectingServerDescription(null);
                 while (!isClosed) {
-                    ServerDescription previousServerDescription = currentServerDescription;
-                    try {
-                        if (connection == null) {
-                            connection = internalConnectionFactory.create(serverId);
-                            try {
-                                connection.open();
-                            } catch (Throwable t) {
-                                connection = null;
-                                throw t;
-                            }
-                        }
-                        try {
-                            currentServerDescription = lookupServerDescription(connection);
-                        } catch (MongoSocketException e) {
-                            connectionPool.invalidate();
-                            connection.close();
-                            connection = null;
-                            connection = internalConnectionFactory.create(serverId);
-                            try {
-                                connection.open();
-                            } catch (Throwable t) {
-                                connection = null;
-                                throw t;
-                            }
-                            try {
-                                currentServerDescription = lookupServerDescription(connection);
-                            } catch (MongoSocketException e1) {
-                                connection.close();
-                                connection = null;
-                                throw e1;
-                            }
-                        }
-                    } catch (Throwable t) {
-                        averageRoundTripTime.reset();
-                        currentServerDescription = getConnectingServerDescription(t);
-                    }
-
+                    checkServer();
                     if (!isClosed) {
-                        try {
-                            logStateChange(previousServerDescription, currentServerDescription);
-                            serverStateListener.stateChanged(new ChangeEvent<ServerDescription>(previousServerDescription,
-                                    currentServerDescription));
-                        } catch (Throwable t) {
-                            LOGGER.warn("Exception in monitor thread during notification of server description state change", t);
-                        }
                         waitForNext();
                     }
                 }
             } finally {
-                if (connection != null) {
+                closeConnection();
+            }
+        }
+
+        // checks the server once and notifies the listener of its new description
+        @SuppressWarnings("unchecked")
+        synchronized void checkServer() {
+            ServerDescription previousServerDescription = currentServerDescription;
+            try {
+                if (connection == null) {
+                    connection = internalConnectionFactory.create(serverId);
+                    try {
+                        connection.open();
+                    } catch (Throwable t) {
+                        connection = null;
+                        throw t;
+                    }
+                }
+                try {
+                    currentServerDescription = lookupServerDescription(connection);
+                } catch (MongoSocketException e) {
+                    connectionPool.invalidate();
                     connection.close();
+                    connection = null;
+                    connection = internalConnectionFactory.create(serverId);
+                    try {
+                        connection.open();
+                    } catch (Throwable t) {
+                        connection = null;
+                        throw t;
+                    }
+                    try {
+                        currentServerDescription = lookupServerDescription(connection);
+                    } catch (MongoSocketException e1) {
+                        connection.close();
+                        connection = null;
+                        throw e1;
+                    }
                 }
+            } catch (Throwable t) {
+                averageRoundTripTime.reset();
+                currentServerDescription = getConnectingServerDescription(t);
+            }
+
+            if (!isClosed) {
+                try {
+                    logStateChange(previousServerDescription, currentServerDescription);
+                    serverStateListener.stateChanged(new ChangeEvent<ServerDescription>(previousServerDescription,
+                            currentServerDescription));
+                } catch (Throwable t) {
+                    LOGGER.warn("Exception in monitor thread during notification of server description state change", t);
+                }
+            }
+        }
+
+        synchronized void closeConnection() {
+            if (connection != null) {
+                connection.close();
+                connection = null;
             }
         }
 
@@ -230,6 +264,93 @@ class DefaultServerMonitor implements ServerMonitor {
         }
     }
 
+    /**
+     * Schedules checks of the server on the shared timer and runs them on the shared monitor executor, so that no thread is dedicated
+     * to this server between checks.  At most one check is scheduled or running at a time.
+     */
+    private final class HeartbeatScheduler {
+        private final Runnable submitCheckTask = new Runnable() {
+            @Override
+            public void run() {
+                submitCheck();
+            }
+        };
+        private final Runnable checkTask = new Runnable() {
+            @Override
+            public void run() {
+                check();
+            }
+        };
+        private ScheduledFuture<?> scheduledCheck;
+        private boolean checkInProgress;
+        private boolean recheckRequested;
+        private long lastCheckEndNanos;
+
+        synchronized void start() {
+            submitCheck();
+        }
+
+        // Checks the server as soon as the minimum heartbeat frequency allows
+        synchronized void connect() {
+            if (isClosed) {
+                return;
+            }
+            if (checkInProgress) {
+                recheckRequested = true;
+            } else if (scheduledCheck != null && scheduledCheck.cancel(false)) {
+                scheduledCheck = null;
+                scheduleCheck(lastCheckEndNanos + serverSettings.getMinHeartbeatFrequency(NANOSECONDS) - System.nanoTime());
+            }
+        }
+
+        synchronized void close() {
+            if (scheduledCheck != null) {
+                scheduledCheck.cancel(false);
+                scheduledCheck = null;
+            }
+            if (!checkInProgress) {
+                monitor.closeConnection();
+            }
+        }
+
+        private synchronized void submitCheck() {
+            scheduledCheck = null;
+            if (isClosed) {
+                return;
+            }
+            checkInProgress = true;
+            SharedMonitorExecutor.getInstance().execute(checkTask);
+        }
+
+        private void check() {
+            try {
+                monitor.checkServer();
+            } finally {
+                checkCompleted();
+            }
+        }
+
+        private synchronized void checkCompleted() {
+            checkInProgress = false;
+            lastCheckEndNanos = System.nanoTime();
+            if (isClosed) {
+                monitor.closeConnection();
+                return;
+            }
+            scheduleCheck(recheckRequested ? serverSettings.getMinHeartbeatFrequency(NANOSECONDS)
+                                           : serverSettings.getHeartbeatFrequency(NANOSECONDS));
+            recheckRequested = false;
+        }
+
+        private void scheduleCheck(final long delayNanos) {
+            if (delayNanos <= 0) {
+                submitCheck();
+            } else {
+                scheduledCheck = SharedTimer.getInstance().schedule(submitCheckTask, delayNanos, NANOSECONDS);
+            }
+        }
+    }
+
     static boolean shouldLogStageChange(final ServerDescription previous, final ServerDescription current) {
 
         if (previous.isOk() != current.isOk()) {
@@ -80,6 +80,33 @@ interface InternalConnection extends BufferProvider {
     <T> void sendAndReceiveAsync(CommandMessage message, Decoder<T> decoder, SessionContext sessionContext,
                                  SingleResultCallback<T> callback);
 
+    /**
+     * Returns whether the server will stream another reply to the last command without waiting for a further request.  This is only the
+     * case after a reply to a command message that allows exhaust.  No other request may be sent on the connection until all of the
+     * replies have been received.
+     *
+     * @return true if the server has more replies to send
+     */
+    boolean hasMoreToCome();
+
+    /**
+     * Receive the next reply that the server streams to the last command.
+     *
+     * @param decoder the decoder for the reply
+     * @param sessionContext the session context
+     * @return the decoded reply
+     */
+    <T> T receive(Decoder<T> decoder, SessionContext sessionContext);
+
+    /**
+     * Asynchronously receive the next reply that the server streams to the last command.
+     *
+     * @param decoder the decoder for the reply
+     * @param sessionContext the session context
+     * @param callback the callback
+     */
+    <T> void receiveAsync(Decoder<T> decoder, SessionContext sessionContext, SingleResultCallback<T> callback);
+
     /**
      * Send a message to the server. The connection may not make any attempt to validate the integrity of the message.
      *
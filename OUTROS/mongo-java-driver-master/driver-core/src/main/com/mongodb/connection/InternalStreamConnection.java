@@ -39,17 +39,22 @@ import org.bson.BsonInt32;
 import org.bson.ByteBuf;
 import org.bson.codecs.BsonDocumentCodec;
 import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
 import org.bson.codecs.RawBsonDocumentCodec;
 import org.bson.io.ByteBufferBsonInput;
+import org.bson.io.FieldNameCache;
 
 import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.net.SocketTimeoutException;
 import java.nio.channels.ClosedByInterruptException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -66,6 +71,7 @@ import static com.mongodb.connection.ProtocolHelper.sendCommandFailedEvent;
 import static com.mongodb.connection.ProtocolHelper.sendCommandStartedEvent;
 import static com.mongodb.connection.ProtocolHelper.sendCommandSucceededEvent;
 import static com.mongodb.internal.async.ErrorHandlingResultCallback.errorHandlingCallback;
+import static com.mongodb.internal.event.EventListenerHelper.isResponseDocumentRequired;
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
 
@@ -97,19 +103,41 @@ class InternalStreamConnection implements InternalConnection {
 
     private final List<MongoCompressor> compressorList;
     private final CommandListener commandListener;
+    private final boolean responseDocumentRequired;
     private volatile Compressor sendCompressor;
     private volatile Map<Byte, Compressor> compressorMap;
+    private final RequestMultiplexer requestMultiplexer;
+    private volatile boolean hasMoreToCome;
+    private volatile int moreToComeResponseTo;
+    private final DecoderContext replyDecoderContext;
 
     InternalStreamConnection(final ServerId serverId, final StreamFactory streamFactory,
                              final List<MongoCompressor> compressorList, final CommandListener commandListener,
                              final InternalConnectionInitializer connectionInitializer) {
+        this(serverId, streamFactory, compressorList, commandListener, connectionInitializer, false);
+    }
+
+    InternalStreamConnection(final ServerId serverId, final StreamFactory streamFactory,
+                             final List<MongoCompressor> compressorList, final CommandListener commandListener,
+                             final InternalConnectionInitializer connectionInitializer, final boolean multiplexed) {
+        this(serverId, streamFactory, compressorList, commandListener, connectionInitializer, multiplexed, null);
+    }
+
+    // The field name cache, if not null, is used to decode the replies to commands, and may be shared with other connections
+    InternalStreamConnection(final ServerId serverId, final StreamFactory streamFactory,
+                             final List<MongoCompressor> compressorList, final CommandListener commandListener,
+                             final InternalConnectionInitializer connectionInitializer, final boolean multiplexed,
+                             final FieldNameCache fieldNameCache) {
         this.serverId = notNull("serverId", serverId);
         this.streamFactory = notNull("streamFactory", streamFactory);
         this.compressorList = notNull("compressorList", compressorList);
         this.compressorMap = createCompressorMap(compressorList);
         this.commandListener = commandListener;
+        this.responseDocumentRequired = isResponseDocumentRequired(commandListener);
         this.connectionInitializer = notNull("connectionInitializer", connectionInitializer);
         description = new ConnectionDescription(serverId);
+        this.requestMultiplexer = multiplexed ? new RequestMultiplexer() : null;
+        this.replyDecoderContext = DecoderContext.builder().fieldNameCache(fieldNameCache).build();
     }
 
     @Override
@@ -205,7 +233,7 @@ class InternalStreamConnection implements InternalConnection {
         if (mongoCompressor.getName().equals("zlib")) {
             return new ZlibCompressor(mongoCompressor);
         } else if (mongoCompressor.getName().equals("snappy")) {
-            return new SnappyCompressor();
+            return new SnappyCompressor(this);
         } else {
             throw new MongoClientException("Unsupported compressor " + mongoCompressor.getName());
         }
@@ -221,6 +249,10 @@ class InternalStreamConnection implements InternalConnection {
             if (stream != null) {
                 stream.close();
             }
+            for (Compressor compressor : compressorMap.values()) {
+                compressor.close();
+            }
+            failMultiplexedRequests(new MongoSocketClosedException("The connection was closed", getServerAddress()));
         }
     }
 
@@ -287,6 +319,7 @@ class InternalStreamConnection implements InternalConnection {
                                                 final CommandEventSender commandEventSender, final SessionContext sessionContext) {
         ResponseBuffers responseBuffers = receiveMessage(message.getId());
         try {
+            updateMoreToCome(responseBuffers);
             updateSessionContext(sessionContext, responseBuffers);
 
             if (!isCommandOk(responseBuffers)) {
@@ -296,17 +329,21 @@ class InternalStreamConnection implements InternalConnection {
 
             commandEventSender.sendSucceededEvent(responseBuffers);
 
-            return new ReplyMessage<T>(responseBuffers, decoder, message.getId()).getDocuments().get(0);
+            return new ReplyMessage<T>(responseBuffers, decoder, message.getId(), replyDecoderContext).getDocuments().get(0);
         } finally {
             responseBuffers.close();
         }
     }
 
     @Override
-    public <T> void sendAndReceiveAsync(final CommandMessage message, final Decoder<T> decoder, final SessionContext sessionContext,
-                                        final SingleResultCallback<T> callback) {
+    public <T> void sendAndReceiveAsync(final CommandMessage commandMessage, final Decoder<T> decoder,
+                                        final SessionContext sessionContext, final SingleResultCallback<T> callback) {
         notNull("stream is open", stream, callback);
 
+        // A connection shared by several requests tracks no single stream of replies, so the server is not allowed to stream them
+        CommandMessage message = requestMultiplexer != null && commandMessage.isExhaustAllowed()
+                                 ? commandMessage.withoutExhaustAllowed() : commandMessage;
+
         if (isClosed()) {
             callback.onResult(null, new MongoSocketClosedException("Can not read from a closed socket", getServerAddress()));
             return;
@@ -353,7 +390,7 @@ class InternalStreamConnection implements InternalConnection {
                     commandEventSender.sendSucceededEventForOneWayCommand();
                     callback.onResult(null, null);
                 } else {
-                    readAsync(MESSAGE_HEADER_LENGTH, new MessageHeaderCallback(new SingleResultCallback<ResponseBuffers>() {
+                    receiveResponseBuffersAsync(messageId, new SingleResultCallback<ResponseBuffers>() {
                         @Override
                         public void onResult(final ResponseBuffers responseBuffers, final Throwable t) {
                             if (t != null) {
@@ -362,6 +399,7 @@ class InternalStreamConnection implements InternalConnection {
                                 return;
                             }
                             try {
+                                updateMoreToCome(responseBuffers);
                                 updateSessionContext(sessionContext, responseBuffers);
                                 boolean commandOk =
                                         isCommandOk(new BsonBinaryReader(new ByteBufferBsonInput(responseBuffers.getBodyByteBuffer())));
@@ -373,7 +411,8 @@ class InternalStreamConnection implements InternalConnection {
                                     throw commandFailureException;
                                 }
                                 commandEventSender.sendSucceededEvent(responseBuffers);
-                                T result = new ReplyMessage<T>(responseBuffers, decoder, messageId).getDocuments().get(0);
+                                T result = new ReplyMessage<T>(responseBuffers, decoder, messageId, replyDecoderContext).getDocuments()
+                                                                                                                         .get(0);
 
                                 callback.onResult(result, null);
                             } catch (Throwable localThrowable) {
@@ -382,12 +421,73 @@ class InternalStreamConnection implements InternalConnection {
                                 responseBuffers.close();
                             }
                         }
-                    }));
+                    });
+                }
+            }
+        });
+    }
+
+    @Override
+    public boolean hasMoreToCome() {
+        return hasMoreToCome;
+    }
+
+    @Override
+    public <T> T receive(final Decoder<T> decoder, final SessionContext sessionContext) {
+        isTrue("has more to come", hasMoreToCome);
+        int responseTo = moreToComeResponseTo;
+        ResponseBuffers responseBuffers = receiveMessage(responseTo);
+        try {
+            return getMoreToComeResponse(responseBuffers, responseTo, decoder, sessionContext);
+        } finally {
+            responseBuffers.close();
+        }
+    }
+
+    @Override
+    public <T> void receiveAsync(final Decoder<T> decoder, final SessionContext sessionContext, final SingleResultCallback<T> callback) {
+        isTrue("has more to come", hasMoreToCome, callback);
+        final int responseTo = moreToComeResponseTo;
+        receiveMessageAsync(responseTo, new SingleResultCallback<ResponseBuffers>() {
+            @Override
+            public void onResult(final ResponseBuffers responseBuffers, final Throwable t) {
+                if (t != null) {
+                    callback.onResult(null, t);
+                    return;
+                }
+                T result;
+                try {
+                    result = getMoreToComeResponse(responseBuffers, responseTo, decoder, sessionContext);
+                } catch (Throwable localThrowable) {
+                    callback.onResult(null, localThrowable);
+                    return;
+                } finally {
+                    responseBuffers.close();
                 }
+                callback.onResult(result, null);
             }
         });
     }
 
+    // Replies that the server streams after the first one are not responses to a command sent by the driver, so no command events are
+    // sent for them
+    private <T> T getMoreToComeResponse(final ResponseBuffers responseBuffers, final int responseTo, final Decoder<T> decoder,
+                                        final SessionContext sessionContext) {
+        updateMoreToCome(responseBuffers);
+        updateSessionContext(sessionContext, responseBuffers);
+        if (!isCommandOk(responseBuffers)) {
+            throw getCommandFailureException(getResponseDocument(responseBuffers, responseTo, new BsonDocumentCodec()),
+                    description.getServerAddress());
+        }
+        return new ReplyMessage<T>(responseBuffers, decoder, responseTo, replyDecoderContext).getDocuments().get(0);
+    }
+
+    // Each streamed reply is a response to the one before it
+    private void updateMoreToCome(final ResponseBuffers responseBuffers) {
+        moreToComeResponseTo = responseBuffers.getReplyHeader().getRequestId();
+        hasMoreToCome = responseBuffers.getReplyHeader().hasMoreToCome();
+    }
+
     @Override
     public void sendMessage(final List<ByteBuf> byteBuffers, final int lastRequestId) {
         notNull("stream is open", stream);
@@ -428,7 +528,11 @@ class InternalStreamConnection implements InternalConnection {
             return;
         }
 
-        writeAsync(byteBuffers, errorHandlingCallback(callback, LOGGER));
+        if (requestMultiplexer != null) {
+            requestMultiplexer.write(byteBuffers, errorHandlingCallback(callback, LOGGER));
+        } else {
+            writeAsync(byteBuffers, errorHandlingCallback(callback, LOGGER));
+        }
     }
 
     private void writeAsync(final List<ByteBuf> byteBuffers, final SingleResultCallback<Void> callback) {
@@ -440,8 +544,10 @@ class InternalStreamConnection implements InternalConnection {
 
             @Override
             public void failed(final Throwable t) {
+                MongoException writeException = translateWriteException(t);
+                failMultiplexedRequests(writeException);
                 close();
-                callback.onResult(null, translateWriteException(t));
+                callback.onResult(null, writeException);
             }
         });
     }
@@ -458,7 +564,7 @@ class InternalStreamConnection implements InternalConnection {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(String.format("Start receiving response on %s", getId()));
         }
-        readAsync(MESSAGE_HEADER_LENGTH, new MessageHeaderCallback(new SingleResultCallback<ResponseBuffers>() {
+        receiveResponseBuffersAsync(responseTo, new SingleResultCallback<ResponseBuffers>() {
             @Override
             public void onResult(final ResponseBuffers result, final Throwable t) {
                 if (t != null) {
@@ -468,7 +574,21 @@ class InternalStreamConnection implements InternalConnection {
                     callback.onResult(result, null);
                 }
             }
-        }));
+        });
+    }
+
+    private void receiveResponseBuffersAsync(final int responseTo, final SingleResultCallback<ResponseBuffers> callback) {
+        if (requestMultiplexer != null) {
+            requestMultiplexer.receive(responseTo, callback);
+        } else {
+            readAsync(MESSAGE_HEADER_LENGTH, new MessageHeaderCallback(callback));
+        }
+    }
+
+    private void failMultiplexedRequests(final Throwable t) {
+        if (requestMultiplexer != null) {
+            requestMultiplexer.fail(t);
+        }
     }
 
     private void readAsync(final int numBytes, final SingleResultCallback<ByteBuf> callback) {
@@ -486,8 +606,10 @@ class InternalStreamConnection implements InternalConnection {
 
                 @Override
                 public void failed(final Throwable t) {
+                    MongoException readException = translateReadException(t);
+                    failMultiplexedRequests(readException);
                     close();
-                    callback.onResult(null, translateReadException(t));
+                    callback.onResult(null, readException);
                 }
             });
         } catch (Exception e) {
@@ -653,6 +775,155 @@ class InternalStreamConnection implements InternalConnection {
         }
     }
 
+    /**
+     * Lets several asynchronous requests share the connection.  Writes are queued so that only one is outstanding on the stream at a
+     * time, and a single read loop runs while any request is waiting for its reply, handing each reply to the request it responds to.
+     * A reply that arrives before its request has started to wait for it is held until it does.
+     */
+    private final class RequestMultiplexer {
+        private final Object lock = new Object();
+        private final Queue<PendingWrite> pendingWrites = new LinkedList<PendingWrite>();
+        private final Map<Integer, SingleResultCallback<ResponseBuffers>> pendingReplies =
+                new HashMap<Integer, SingleResultCallback<ResponseBuffers>>();
+        private final Map<Integer, ResponseBuffers> unclaimedReplies = new HashMap<Integer, ResponseBuffers>();
+        private boolean writing;
+        private boolean reading;
+        private Throwable failure;
+
+        void write(final List<ByteBuf> byteBuffers, final SingleResultCallback<Void> callback) {
+            Throwable localFailure;
+            synchronized (lock) {
+                localFailure = failure;
+                if (localFailure == null) {
+                    if (writing) {
+                        pendingWrites.add(new PendingWrite(byteBuffers, callback));
+                        return;
+                    }
+                    writing = true;
+                }
+            }
+            if (localFailure != null) {
+                callback.onResult(null, localFailure);
+            } else {
+                startWrite(byteBuffers, callback);
+            }
+        }
+
+        void receive(final int responseTo, final SingleResultCallback<ResponseBuffers> callback) {
+            ResponseBuffers reply;
+            Throwable localFailure;
+            boolean startReading = false;
+            synchronized (lock) {
+                reply = unclaimedReplies.remove(responseTo);
+                localFailure = failure;
+                if (reply == null && localFailure == null) {
+                    pendingReplies.put(responseTo, callback);
+                    if (!reading) {
+                        reading = true;
+                        startReading = true;
+                    }
+                }
+            }
+            if (reply != null) {
+                callback.onResult(reply, null);
+            } else if (localFailure != null) {
+                callback.onResult(null, localFailure);
+            } else if (startReading) {
+                readNextReply();
+            }
+        }
+
+        void fail(final Throwable t) {
+            List<PendingWrite> failedWrites;
+            List<SingleResultCallback<ResponseBuffers>> failedReplies;
+            List<ResponseBuffers> discardedReplies;
+            synchronized (lock) {
+                if (failure != null) {
+                    return;
+                }
+                failure = t;
+                failedWrites = new ArrayList<PendingWrite>(pendingWrites);
+                pendingWrites.clear();
+                failedReplies = new ArrayList<SingleResultCallback<ResponseBuffers>>(pendingReplies.values());
+                pendingReplies.clear();
+                discardedReplies = new ArrayList<ResponseBuffers>(unclaimedReplies.values());
+                unclaimedReplies.clear();
+            }
+            for (ResponseBuffers cur : discardedReplies) {
+                cur.close();
+            }
+            for (PendingWrite cur : failedWrites) {
+                cur.callback.onResult(null, t);
+            }
+            for (SingleResultCallback<ResponseBuffers> cur : failedReplies) {
+                cur.onResult(null, t);
+            }
+        }
+
+        private void startWrite(final List<ByteBuf> byteBuffers, final SingleResultCallback<Void> callback) {
+            writeAsync(byteBuffers, new SingleResultCallback<Void>() {
+                @Override
+                public void onResult(final Void result, final Throwable t) {
+                    PendingWrite next;
+                    synchronized (lock) {
+                        next = pendingWrites.poll();
+                        if (next == null) {
+                            writing = false;
+                        }
+                    }
+                    if (next != null) {
+                        startWrite(next.byteBuffers, next.callback);
+                    }
+                    callback.onResult(null, t);
+                }
+            });
+        }
+
+        private void readNextReply() {
+            readAsync(MESSAGE_HEADER_LENGTH, new MessageHeaderCallback(new SingleResultCallback<ResponseBuffers>() {
+                @Override
+                public void onResult(final ResponseBuffers result, final Throwable t) {
+                    if (t != null) {
+                        fail(t);
+                        close();
+                        return;
+                    }
+                    int responseTo = result.getReplyHeader().getResponseTo();
+                    SingleResultCallback<ResponseBuffers> callback;
+                    boolean held = false;
+                    boolean continueReading;
+                    synchronized (lock) {
+                        callback = pendingReplies.remove(responseTo);
+                        if (callback == null && failure == null) {
+                            unclaimedReplies.put(responseTo, result);
+                            held = true;
+                        }
+                        continueReading = !pendingReplies.isEmpty();
+                        reading = continueReading;
+                    }
+                    if (continueReading) {
+                        readNextReply();
+                    }
+                    if (callback != null) {
+                        callback.onResult(result, null);
+                    } else if (!held) {
+                        result.close();
+                    }
+                }
+            }));
+        }
+    }
+
+    private static final class PendingWrite {
+        private final List<ByteBuf> byteBuffers;
+        private final SingleResultCallback<Void> callback;
+
+        PendingWrite(final List<ByteBuf> byteBuffers, final SingleResultCallback<Void> callback) {
+            this.byteBuffers = byteBuffers;
+            this.callback = callback;
+        }
+    }
+
     private class CommandEventSender {
         private final long startTimeNanos;
         private final CommandMessage message;
@@ -712,18 +983,20 @@ class InternalStreamConnection implements InternalConnection {
 
         public void sendSucceededEvent(final ResponseBuffers responseBuffers) {
             if (commandListener != null && opened()) {
-                BsonDocument responseDocumentForEvent = (SECURITY_SENSITIVE_COMMANDS.contains(commandName))
+                BsonDocument responseDocumentForEvent = (SECURITY_SENSITIVE_COMMANDS.contains(commandName) || !responseDocumentRequired)
                                                                 ? new BsonDocument()
                                                                 : getResponseDocument(responseBuffers, message.getId(),
                         new RawBsonDocumentCodec());
-                sendCommandSucceededEvent(message, commandName, responseDocumentForEvent, description, startTimeNanos, commandListener);
+                sendCommandSucceededEvent(message, commandName, responseDocumentForEvent,
+                        responseBuffers.getReplyHeader().getMessageLength(), description, startTimeNanos, commandListener);
             }
         }
 
         public void sendSucceededEventForOneWayCommand() {
             if (commandListener != null && opened()) {
                 BsonDocument responseDocumentForEvent = new BsonDocument("ok", new BsonInt32(1));
-                sendCommandSucceededEvent(message, commandName, responseDocumentForEvent, description, startTimeNanos, commandListener);
+                sendCommandSucceededEvent(message, commandName, responseDocumentForEvent, 0, description, startTimeNanos,
+                        commandListener);
             }
         }
     }
@@ -21,6 +21,7 @@ import com.mongodb.MongoCredential;
 import com.mongodb.client.MongoDriverInformation;
 import com.mongodb.event.CommandListener;
 import org.bson.BsonDocument;
+import org.bson.io.FieldNameCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -34,14 +35,33 @@ class InternalStreamConnectionFactory implements InternalConnectionFactory {
     private final List<Authenticator> authenticators;
     private final List<MongoCompressor> compressorList;
     private final CommandListener commandListener;
+    private final boolean multiplexed;
+    private final FieldNameCache fieldNameCache;
 
     InternalStreamConnectionFactory(final StreamFactory streamFactory, final List<MongoCredential> credentialList,
                                     final String applicationName, final MongoDriverInformation mongoDriverInformation,
                                     final List<MongoCompressor> compressorList,
                                     final CommandListener commandListener) {
+        this(streamFactory, credentialList, applicationName, mongoDriverInformation, compressorList, commandListener, false);
+    }
+
+    InternalStreamConnectionFactory(final StreamFactory streamFactory, final List<MongoCredential> credentialList,
+                                    final String applicationName, final MongoDriverInformation mongoDriverInformation,
+                                    final List<MongoCompressor> compressorList,
+                                    final CommandListener commandListener, final boolean multiplexed) {
+        this(streamFactory, credentialList, applicationName, mongoDriverInformation, compressorList, commandListener, multiplexed, null);
+    }
+
+    InternalStreamConnectionFactory(final StreamFactory streamFactory, final List<MongoCredential> credentialList,
+                                    final String applicationName, final MongoDriverInformation mongoDriverInformation,
+                                    final List<MongoCompressor> compressorList,
+                                    final CommandListener commandListener, final boolean multiplexed,
+                                    final FieldNameCache fieldNameCache) {
         this.streamFactory = notNull("streamFactory", streamFactory);
         this.compressorList = notNull("compressorList", compressorList);
         this.commandListener = commandListener;
+        this.multiplexed = multiplexed;
+        this.fieldNameCache = fieldNameCache;
         this.clientMetadataDocument = createClientMetadataDocument(applicationName, mongoDriverInformation);
         notNull("credentialList", credentialList);
         this.authenticators = new ArrayList<Authenticator>(credentialList.size());
@@ -54,7 +74,8 @@ class InternalStreamConnectionFactory implements InternalConnectionFactory {
     public InternalConnection create(final ServerId serverId) {
         return new InternalStreamConnection(serverId, streamFactory, compressorList, commandListener,
                                             new InternalStreamConnectionInitializer(authenticators, clientMetadataDocument,
-                                                                                           compressorList));
+                                                                                           compressorList),
+                                            multiplexed, fieldNameCache);
     }
 
     private Authenticator createAuthenticator(final MongoCredential credential) {
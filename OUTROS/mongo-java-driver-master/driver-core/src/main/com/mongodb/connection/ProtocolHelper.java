@@ -262,10 +262,16 @@ final class ProtocolHelper {
     static void sendCommandSucceededEvent(final RequestMessage message, final String commandName, final BsonDocument response,
                                           final ConnectionDescription connectionDescription, final long startTimeNanos,
                                           final CommandListener commandListener) {
+        sendCommandSucceededEvent(message, commandName, response, -1, connectionDescription, startTimeNanos, commandListener);
+    }
+
+    static void sendCommandSucceededEvent(final RequestMessage message, final String commandName, final BsonDocument response,
+                                          final int responseSize, final ConnectionDescription connectionDescription,
+                                          final long startTimeNanos, final CommandListener commandListener) {
         try {
             commandListener.commandSucceeded(new CommandSucceededEvent(message.getId(), connectionDescription,
                                                                        commandName,
-                                                                       response, System.nanoTime() - startTimeNanos));
+                                                                       response, responseSize, System.nanoTime() - startTimeNanos));
         } catch (Exception e) {
             if (PROTOCOL_EVENT_LOGGER.isWarnEnabled()) {
                 PROTOCOL_EVENT_LOGGER.warn(format("Exception thrown raising command succeeded event to listener %s", commandListener), e);
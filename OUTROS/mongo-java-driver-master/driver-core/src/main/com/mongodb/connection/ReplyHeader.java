@@ -42,6 +42,7 @@ final class ReplyHeader {
 
     private static final int CURSOR_NOT_FOUND_RESPONSE_FLAG = 1;
     private static final int QUERY_FAILURE_RESPONSE_FLAG = 2;
+    private static final int MORE_TO_COME_FLAG_BIT = 1 << 1;
 
     private final int messageLength;
     private final int requestId;
@@ -50,6 +51,7 @@ final class ReplyHeader {
     private final long cursorId;
     private final int startingFrom;
     private final int numberReturned;
+    private final boolean moreToCome;
 
     ReplyHeader(final ByteBuf header, final MessageHeader messageHeader) {
         this(messageHeader.getMessageLength(), messageHeader.getOpCode(), messageHeader, header);
@@ -70,7 +72,7 @@ final class ReplyHeader {
             startingFrom = 0;
             numberReturned = 1;
 
-            header.getInt();  // ignore flag bits
+            moreToCome = (header.getInt() & MORE_TO_COME_FLAG_BIT) != 0;
             header.get();     // ignore payload type
         } else if (opCode == OP_REPLY.getValue()) {
             if (messageLength < TOTAL_REPLY_HEADER_LENGTH) {
@@ -78,6 +80,7 @@ final class ReplyHeader {
                         messageLength, TOTAL_REPLY_HEADER_LENGTH));
             }
 
+            moreToCome = false;
             responseFlags = header.getInt();
             cursorId = header.getLong();
             startingFrom = header.getInt();
@@ -187,4 +190,14 @@ final class ReplyHeader {
     public boolean isQueryFailure() {
         return (responseFlags & QUERY_FAILURE_RESPONSE_FLAG) == QUERY_FAILURE_RESPONSE_FLAG;
     }
+
+    /**
+     * Gets whether the server will send another reply to the same request without waiting for a further request.  Only an OP_MSG reply
+     * to a command sent with the exhaustAllowed flag bit can have its moreToCome flag bit set.
+     *
+     * @return true if another reply to the same request will follow this one
+     */
+    public boolean hasMoreToCome() {
+        return moreToCome;
+    }
 }
@@ -40,15 +40,21 @@ class ReplyMessage<T> {
     private final List<T> documents;
 
     ReplyMessage(final ResponseBuffers responseBuffers, final Decoder<T> decoder, final long requestId) {
+        this(responseBuffers, decoder, requestId, DecoderContext.builder().build());
+    }
+
+    // The documents are read with the field name cache of the decoder context, if it has one
+    ReplyMessage(final ResponseBuffers responseBuffers, final Decoder<T> decoder, final long requestId,
+                 final DecoderContext decoderContext) {
         this(responseBuffers.getReplyHeader(), requestId);
 
         if (replyHeader.getNumberReturned() > 0) {
             try {
-                BsonInput bsonInput = new ByteBufferBsonInput(responseBuffers.getBodyByteBuffer());
+                BsonInput bsonInput = new ByteBufferBsonInput(responseBuffers.getBodyByteBuffer(), decoderContext.getFieldNameCache());
                 while (documents.size() < replyHeader.getNumberReturned()) {
                     BsonBinaryReader reader = new BsonBinaryReader(bsonInput);
                     try {
-                        documents.add(decoder.decode(reader, DecoderContext.builder().build()));
+                        documents.add(decoder.decode(reader, decoderContext));
                     } finally {
                         reader.close();
                     }
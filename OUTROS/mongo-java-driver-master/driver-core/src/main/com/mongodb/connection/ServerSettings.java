@@ -38,6 +38,7 @@ import static java.util.Collections.unmodifiableList;
 public class ServerSettings {
     private final long heartbeatFrequencyMS;
     private final long minHeartbeatFrequencyMS;
+    private final boolean sharedMonitorThreads;
     private final List<ServerListener> serverListeners;
     private final List<ServerMonitorListener> serverMonitorListeners;
 
@@ -68,6 +69,7 @@ public class ServerSettings {
     public static final class Builder {
         private long heartbeatFrequencyMS = 10000;
         private long minHeartbeatFrequencyMS = 500;
+        private boolean sharedMonitorThreads;
         private final List<ServerListener> serverListeners = new ArrayList<ServerListener>();
         private final List<ServerMonitorListener> serverMonitorListeners = new ArrayList<ServerMonitorListener>();
 
@@ -78,6 +80,7 @@ public class ServerSettings {
             notNull("serverSettings", serverSettings);
             heartbeatFrequencyMS = serverSettings.heartbeatFrequencyMS;
             minHeartbeatFrequencyMS = serverSettings.minHeartbeatFrequencyMS;
+            sharedMonitorThreads = serverSettings.sharedMonitorThreads;
             serverListeners.addAll(serverSettings.serverListeners);
             serverMonitorListeners.addAll(serverSettings.serverMonitorListeners);
         }
@@ -107,6 +110,20 @@ public class ServerSettings {
             return this;
         }
 
+        /**
+         * Sets whether servers are monitored by threads shared by all clients in the process, rather than by a dedicated thread for each
+         * server.  Checks are scheduled on a shared timer, and a thread is only used while a server is being checked.  The default value is
+         * false.
+         *
+         * @param sharedMonitorThreads whether to monitor servers with shared threads
+         * @return this
+         * @since 3.6
+         */
+        public Builder sharedMonitorThreads(final boolean sharedMonitorThreads) {
+            this.sharedMonitorThreads = sharedMonitorThreads;
+            return this;
+        }
+
         /**
          * Add a server listener.
          *
@@ -144,6 +161,9 @@ public class ServerSettings {
             if (connectionString.getHeartbeatFrequency() != null) {
                 heartbeatFrequencyMS = connectionString.getHeartbeatFrequency();
             }
+            if (connectionString.getSharedMonitorThreads() != null) {
+                sharedMonitorThreads = connectionString.getSharedMonitorThreads();
+            }
             return this;
         }
 
@@ -178,6 +198,18 @@ public class ServerSettings {
         return timeUnit.convert(minHeartbeatFrequencyMS, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Gets whether servers are monitored by threads shared by all clients in the process, rather than by a dedicated thread for each
+     * server.  Checks are scheduled on a shared timer, and a thread is only used while a server is being checked.  The default value is
+     * false.
+     *
+     * @return whether to monitor servers with shared threads
+     * @since 3.6
+     */
+    public boolean isSharedMonitorThreads() {
+        return sharedMonitorThreads;
+    }
+
     /**
      * Gets the server listeners.  The default value is an empty list.
      *
@@ -215,6 +247,9 @@ public class ServerSettings {
         if (minHeartbeatFrequencyMS != that.minHeartbeatFrequencyMS) {
             return false;
         }
+        if (sharedMonitorThreads != that.sharedMonitorThreads) {
+            return false;
+        }
 
         if (!serverListeners.equals(that.serverListeners)) {
             return false;
@@ -230,6 +265,7 @@ public class ServerSettings {
     public int hashCode() {
         int result = (int) (heartbeatFrequencyMS ^ (heartbeatFrequencyMS >>> 32));
         result = 31 * result + (int) (minHeartbeatFrequencyMS ^ (minHeartbeatFrequencyMS >>> 32));
+        result = 31 * result + (sharedMonitorThreads ? 1 : 0);
         result = 31 * result + serverListeners.hashCode();
         result = 31 * result + serverMonitorListeners.hashCode();
         return result;
@@ -240,6 +276,7 @@ public class ServerSettings {
         return "ServerSettings{"
                + "heartbeatFrequencyMS=" + heartbeatFrequencyMS
                + ", minHeartbeatFrequencyMS=" + minHeartbeatFrequencyMS
+               + ", sharedMonitorThreads=" + sharedMonitorThreads
                + ", serverListeners='" + serverListeners + '\''
                + ", serverMonitorListeners='" + serverMonitorListeners + '\''
                + '}';
@@ -248,6 +285,7 @@ public class ServerSettings {
     ServerSettings(final Builder builder) {
         heartbeatFrequencyMS = builder.heartbeatFrequencyMS;
         minHeartbeatFrequencyMS = builder.minHeartbeatFrequencyMS;
+        sharedMonitorThreads = builder.sharedMonitorThreads;
         serverListeners = unmodifiableList(builder.serverListeners);
         serverMonitorListeners = unmodifiableList(builder.serverMonitorListeners);
     }
@@ -21,13 +21,18 @@ import com.mongodb.MongoInternalException;
 import org.bson.ByteBuf;
 import org.bson.io.BsonOutput;
 import org.xerial.snappy.Snappy;
-import org.xerial.snappy.SnappyInputStream;
 
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 class SnappyCompressor extends Compressor {
+    private final BufferProvider bufferProvider;
+
+    SnappyCompressor(final BufferProvider bufferProvider) {
+        this.bufferProvider = bufferProvider;
+    }
+
     @Override
     public String getName() {
         return "snappy";
@@ -39,42 +44,91 @@ class SnappyCompressor extends Compressor {
     }
 
     // the server does not support the framing format so SnappyFramedOutputStream can't be used.  The entire source message must first
-    // be copied into a single byte array.  For that reason the compress method defined in the base class can't be used.
+    // be copied into a single buffer, as snappy only compresses contiguous input.  The buffers are taken from the pool rather than
+    // allocated for each message.  Snappy's ByteBuffer API only accepts direct buffers, so it is used when the pool hands out direct
+    // buffers, and the arrays of heap buffers are used otherwise.
     @Override
-    public void compress(final List<ByteBuf> source, final BsonOutput target) {
-        int uncompressedSize = getUncompressedSize(source);
-
-        byte[] singleByteArraySource = new byte[uncompressedSize];
-        copy(source, singleByteArraySource);
-
+    void doCompress(final List<ByteBuf> source, final BsonOutput target) {
+        int uncompressedSize = getRemaining(source);
+        ByteBuf uncompressed = bufferProvider.getBuffer(uncompressedSize);
+        ByteBuf compressed = bufferProvider.getBuffer(Snappy.maxCompressedLength(uncompressedSize));
         try {
-            byte[] out = new byte[Snappy.maxCompressedLength(uncompressedSize)];
-            int compressedSize = Snappy.compress(singleByteArraySource, 0, singleByteArraySource.length, out, 0);
-            target.writeBytes(out, 0, compressedSize);
+            if (uncompressed.asNIO().isDirect() && compressed.asNIO().isDirect()) {
+                compressDirect(source, uncompressed.asNIO(), compressed.asNIO(), target);
+            } else {
+                compressArray(source, getHeapBuffer(uncompressed), getHeapBuffer(compressed), target);
+            }
         } catch (IOException e) {
             throw new MongoInternalException("Unexpected IOException", e);
+        } finally {
+            uncompressed.release();
+            compressed.release();
         }
     }
 
-    private int getUncompressedSize(final List<ByteBuf> source) {
-        int uncompressedSize = 0;
+    private static void compressDirect(final List<ByteBuf> source, final ByteBuffer in, final ByteBuffer out, final BsonOutput target)
+            throws IOException {
         for (ByteBuf cur : source) {
-            uncompressedSize += cur.remaining();
+            in.put(cur.asNIO());
+            cur.position(cur.limit());
+        }
+        in.flip();
+        int compressedSize = Snappy.compress(in, out);
+
+        // the compressed bytes are copied to the target in chunks, as it only accepts arrays
+        byte[] chunk = new byte[Math.min(compressedSize, BUFFER_SIZE)];
+        int remaining = compressedSize;
+        while (remaining > 0) {
+            int count = Math.min(remaining, chunk.length);
+            out.get(chunk, 0, count);
+            target.writeBytes(chunk, 0, count);
+            remaining -= count;
         }
-        return uncompressedSize;
     }
 
-    private void copy(final List<ByteBuf> source, final byte[] in) {
-        int offset = 0;
+    private static void compressArray(final List<ByteBuf> source, final ByteBuffer in, final ByteBuffer out, final BsonOutput target)
+            throws IOException {
+        int inOffset = in.arrayOffset() + in.position();
+        int offset = inOffset;
         for (ByteBuf cur : source) {
             int remaining = cur.remaining();
-            cur.get(in, offset, remaining);
+            cur.get(in.array(), offset, remaining);
             offset += remaining;
         }
+
+        int outOffset = out.arrayOffset() + out.position();
+        int compressedSize = Snappy.compress(in.array(), inOffset, offset - inOffset, out.array(), outOffset);
+        target.writeBytes(out.array(), outOffset, compressedSize);
     }
 
     @Override
-    InputStream getInputStream(final InputStream source) throws IOException {
-        return new SnappyInputStream(source);
+    void doUncompress(final ByteBuf source, final ByteBuf target) {
+        ByteBuffer in = source.asNIO();
+        ByteBuffer out = target.asNIO();
+        try {
+            if (in.hasArray() && out.hasArray()) {
+                int uncompressedSize = Snappy.uncompress(in.array(), in.arrayOffset() + in.position(), source.remaining(),
+                                                         out.array(), out.arrayOffset() + out.position());
+                source.position(source.limit());
+                target.position(target.position() + uncompressedSize);
+            } else if (in.isDirect() && out.isDirect()) {
+                int uncompressedSize = Snappy.uncompress(in, out);
+                source.position(source.limit());
+                target.position(target.position() + uncompressedSize);
+            } else {
+                byte[] compressed = new byte[source.remaining()];
+                source.get(compressed);
+                byte[] uncompressed = Snappy.uncompress(compressed);
+                target.put(uncompressed, 0, uncompressed.length);
+            }
+        } catch (IOException e) {
+            throw new MongoInternalException("Unexpected IOException", e);
+        }
+    }
+
+    // pooled buffers are normally backed by an array, but fall back to a heap buffer of the same size if the pool hands out direct ones
+    private static ByteBuffer getHeapBuffer(final ByteBuf buffer) {
+        ByteBuffer nioBuffer = buffer.asNIO();
+        return nioBuffer.hasArray() ? nioBuffer : ByteBuffer.allocate(buffer.remaining());
     }
 }
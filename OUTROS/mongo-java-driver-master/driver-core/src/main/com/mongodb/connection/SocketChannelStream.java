@@ -30,10 +30,15 @@ import static com.mongodb.assertions.Assertions.isTrue;
 import static com.mongodb.assertions.Assertions.notNull;
 
 class SocketChannelStream implements Stream {
+    // Reads smaller than this are satisfied from a read-ahead buffer, so that a message header and a small body cost a single
+    // system call.  Larger reads go directly into the destination buffer.
+    static final int READ_AHEAD_SIZE = 8192;
+
     private final ServerAddress address;
     private final SocketSettings settings;
     private final SslSettings sslSettings;
     private final BufferProvider bufferProvider;
+    private final ByteBuffer readAhead = ByteBuffer.allocate(READ_AHEAD_SIZE);
     private volatile SocketChannel socketChannel;
     private volatile boolean isClosed;
 
@@ -43,6 +48,7 @@ class SocketChannelStream implements Stream {
         this.settings = notNull("settings", settings);
         this.sslSettings = notNull("sslSettings", sslSettings);
         this.bufferProvider = notNull("bufferProvider", bufferProvider);
+        readAhead.flip();
     }
 
     @Override
@@ -65,16 +71,17 @@ class SocketChannelStream implements Stream {
     public void write(final List<ByteBuf> buffers) throws IOException {
         isTrue("open", !isClosed());
 
-        int totalSize = 0;
         ByteBuffer[] byteBufferArray = new ByteBuffer[buffers.size()];
         for (int i = 0; i < buffers.size(); i++) {
             byteBufferArray[i] = buffers.get(i).asNIO();
-            totalSize += byteBufferArray[i].limit();
         }
 
-        long bytesRead = 0;
-        while (bytesRead < totalSize) {
-            bytesRead += socketChannel.write(byteBufferArray);
+        int offset = 0;
+        while (offset < byteBufferArray.length) {
+            socketChannel.write(byteBufferArray, offset, byteBufferArray.length - offset);
+            while (offset < byteBufferArray.length && !byteBufferArray[offset].hasRemaining()) {
+                offset++;
+            }
         }
     }
 
@@ -83,18 +90,50 @@ class SocketChannelStream implements Stream {
         ByteBuf buffer = bufferProvider.getBuffer(numBytes);
         isTrue("open", !isClosed());
 
-        int totalBytesRead = 0;
-        while (totalBytesRead < buffer.limit()) {
-            int bytesRead = socketChannel.read(buffer.asNIO());
-            if (bytesRead == -1) {
-                buffer.release();
-                throw new MongoSocketReadException("Prematurely reached end of stream", getAddress());
+        ByteBuffer dst = buffer.asNIO();
+        try {
+            transferReadAhead(dst);
+            if (dst.remaining() >= READ_AHEAD_SIZE) {
+                while (dst.hasRemaining()) {
+                    readFromChannel(dst);
+                }
+            } else {
+                while (dst.hasRemaining()) {
+                    readAhead.compact();
+                    try {
+                        readFromChannel(readAhead);
+                    } finally {
+                        readAhead.flip();
+                    }
+                    transferReadAhead(dst);
+                }
             }
-            totalBytesRead += bytesRead;
+        } catch (IOException e) {
+            buffer.release();
+            throw e;
+        } catch (RuntimeException e) {
+            buffer.release();
+            throw e;
         }
         return buffer.flip();
     }
 
+    private void transferReadAhead(final ByteBuffer dst) {
+        int count = Math.min(readAhead.remaining(), dst.remaining());
+        if (count > 0) {
+            int limit = readAhead.limit();
+            readAhead.limit(readAhead.position() + count);
+            dst.put(readAhead);
+            readAhead.limit(limit);
+        }
+    }
+
+    private void readFromChannel(final ByteBuffer dst) throws IOException {
+        if (socketChannel.read(dst) == -1) {
+            throw new MongoSocketReadException("Prematurely reached end of stream", getAddress());
+        }
+    }
+
     @Override
     public void openAsync(final AsyncCompletionHandler<Void> handler) {
         throw new UnsupportedOperationException(getClass() + " does not support asynchronous operations.");
@@ -22,6 +22,8 @@ import com.mongodb.ServerAddress;
 import org.bson.ByteBuf;
 
 import javax.net.SocketFactory;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -31,6 +33,10 @@ import java.util.List;
 import static com.mongodb.assertions.Assertions.notNull;
 
 class SocketStream implements Stream {
+    // Small writes are coalesced and small reads are satisfied from the read-ahead, so that a message header and a small body cost
+    // a single system call.  Reads and writes at least this large bypass the intermediate buffer.
+    private static final int BUFFER_SIZE = 8192;
+
     private final ServerAddress address;
     private final SocketSettings settings;
     private final SslSettings sslSettings;
@@ -55,8 +61,8 @@ class SocketStream implements Stream {
         try {
             socket = socketFactory.createSocket();
             SocketStreamHelper.initialize(socket, address, settings, sslSettings);
-            outputStream = socket.getOutputStream();
-            inputStream = socket.getInputStream();
+            outputStream = new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE);
+            inputStream = new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE);
         } catch (IOException e) {
             close();
             throw new MongoSocketOpenException("Exception opening socket", getAddress(), e);
@@ -73,6 +79,7 @@ class SocketStream implements Stream {
         for (final ByteBuf cur : buffers) {
             outputStream.write(cur.array(), 0, cur.limit());
         }
+        outputStream.flush();
     }
 
     @Override
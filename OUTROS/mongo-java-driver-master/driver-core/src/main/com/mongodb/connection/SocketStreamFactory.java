@@ -25,6 +25,7 @@ import javax.net.ssl.SSLContext;
 import java.security.NoSuchAlgorithmException;
 
 import static com.mongodb.assertions.Assertions.notNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * Factory for creating instances of {@code SocketStream}.
@@ -35,7 +36,8 @@ public class SocketStreamFactory implements StreamFactory {
     private final SocketSettings settings;
     private final SslSettings sslSettings;
     private final SocketFactory socketFactory;
-    private final BufferProvider bufferProvider = new PowerOfTwoBufferPool();
+    private final BufferProvider bufferProvider;
+    private final BufferProvider channelBufferProvider;
 
     /**
      * Creates a new factory with the given settings for connecting to servers and the given SSL settings
@@ -55,9 +57,39 @@ public class SocketStreamFactory implements StreamFactory {
      * @param socketFactory a SocketFactory for creating connections to servers.
      */
     public SocketStreamFactory(final SocketSettings settings, final SslSettings sslSettings, final SocketFactory socketFactory) {
+        this(settings, sslSettings, socketFactory, BufferPoolSettings.builder().build());
+    }
+
+    /**
+     * Creates a new factory with the given settings for connecting to servers, a factory for creating connections, and the given settings
+     * for the pool of buffers used by the created streams.
+     *
+     * <p>Direct buffers are only used by streams that are backed by a {@code SocketChannel}.  Streams that are backed by a
+     * {@code Socket} always use heap buffers.</p>
+     *
+     * @param settings           the SocketSettings for connecting to a MongoDB server
+     * @param sslSettings        the SSL for connecting to a MongoDB server
+     * @param socketFactory      a SocketFactory for creating connections to servers, which may be null
+     * @param bufferPoolSettings the settings for the buffer pool
+     * @since 3.6
+     */
+    public SocketStreamFactory(final SocketSettings settings, final SslSettings sslSettings, final SocketFactory socketFactory,
+                               final BufferPoolSettings bufferPoolSettings) {
         this.settings = notNull("settings", settings);
         this.sslSettings = notNull("sslSettings", sslSettings);
         this.socketFactory = socketFactory;
+        notNull("bufferPoolSettings", bufferPoolSettings);
+        if (bufferPoolSettings.isDirectBuffers()) {
+            this.bufferProvider = new PowerOfTwoBufferPool(BufferPoolSettings.builder()
+                                                                   .maxBuffersPerSize(bufferPoolSettings.getMaxBuffersPerSize())
+                                                                   .maxIdleTime(bufferPoolSettings.getMaxIdleTime(MILLISECONDS),
+                                                                                MILLISECONDS)
+                                                                   .build());
+            this.channelBufferProvider = new PowerOfTwoBufferPool(bufferPoolSettings);
+        } else {
+            this.bufferProvider = new PowerOfTwoBufferPool(bufferPoolSettings);
+            this.channelBufferProvider = bufferProvider;
+        }
     }
 
     @Override
@@ -70,7 +102,7 @@ public class SocketStreamFactory implements StreamFactory {
         } else if (System.getProperty("org.mongodb.useSocket", "false").equals("true")) {
             stream = new SocketStream(serverAddress, settings, sslSettings, SocketFactory.getDefault(), bufferProvider);
         } else {
-            stream = new SocketChannelStream(serverAddress, settings, sslSettings, bufferProvider);
+            stream = new SocketChannelStream(serverAddress, settings, sslSettings, channelBufferProvider);
         }
 
         return stream;
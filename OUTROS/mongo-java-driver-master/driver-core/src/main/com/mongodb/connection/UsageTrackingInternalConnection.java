@@ -112,6 +112,30 @@ class UsageTrackingInternalConnection implements InternalConnection {
         wrapped.sendAndReceiveAsync(message, decoder, sessionContext, errHandlingCallback);
     }
 
+    @Override
+    public boolean hasMoreToCome() {
+        return wrapped.hasMoreToCome();
+    }
+
+    @Override
+    public <T> T receive(final Decoder<T> decoder, final SessionContext sessionContext) {
+        T result = wrapped.receive(decoder, sessionContext);
+        lastUsedAt = System.currentTimeMillis();
+        return result;
+    }
+
+    @Override
+    public <T> void receiveAsync(final Decoder<T> decoder, final SessionContext sessionContext, final SingleResultCallback<T> callback) {
+        SingleResultCallback<T> errHandlingCallback = errorHandlingCallback(new SingleResultCallback<T>() {
+            @Override
+            public void onResult(final T result, final Throwable t) {
+                lastUsedAt = System.currentTimeMillis();
+                callback.onResult(result, t);
+            }
+        }, LOGGER);
+        wrapped.receiveAsync(decoder, sessionContext, errHandlingCallback);
+    }
+
     @Override
     public ResponseBuffers receiveMessage(final int responseTo) {
         ResponseBuffers responseBuffers = wrapped.receiveMessage(responseTo);
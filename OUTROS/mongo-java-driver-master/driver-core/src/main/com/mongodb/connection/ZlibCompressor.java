@@ -18,19 +18,30 @@
 package com.mongodb.connection;
 
 import com.mongodb.MongoCompressor;
+import com.mongodb.MongoInternalException;
+import org.bson.ByteBuf;
+import org.bson.io.BsonOutput;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.zip.DataFormatException;
 import java.util.zip.Deflater;
-import java.util.zip.DeflaterOutputStream;
-import java.util.zip.InflaterInputStream;
+import java.util.zip.Inflater;
 
+// A compressor belongs to a single connection, so the deflater and the inflater are reset and reused for each message rather than created
+// for each one.  A connection receives at most one message at a time, but a connection that is shared by several requests compresses
+// their messages on the threads that send them, so compression is serialized on the deflater.  Buffers that are backed by an array are
+// handed to the deflater and the inflater directly; the scratch arrays are only used to copy to or from the other kinds of buffer.
 class ZlibCompressor extends Compressor {
-    private final int level;
+    private final Deflater deflater;
+    private final Inflater inflater = new Inflater();
+    private final byte[] deflatedScratch = new byte[BUFFER_SIZE];
+    private byte[] deflaterInputScratch;
+    private byte[] inflaterInputScratch;
+    private byte[] inflatedScratch;
 
     ZlibCompressor(final MongoCompressor mongoCompressor) {
-        this.level = mongoCompressor.getProperty(MongoCompressor.LEVEL, Deflater.DEFAULT_COMPRESSION);
+        this.deflater = new Deflater(mongoCompressor.getProperty(MongoCompressor.LEVEL, Deflater.DEFAULT_COMPRESSION));
     }
 
     @Override
@@ -44,12 +55,110 @@ class ZlibCompressor extends Compressor {
     }
 
     @Override
-    InputStream getInputStream(final InputStream source) throws IOException {
-        return new InflaterInputStream(source);
+    void doCompress(final List<ByteBuf> source, final BsonOutput target) {
+        synchronized (deflater) {
+            deflate(source, target);
+        }
+    }
+
+    private void deflate(final List<ByteBuf> source, final BsonOutput target) {
+        deflater.reset();
+        for (ByteBuf cur : source) {
+            while (cur.hasRemaining()) {
+                ByteBuffer nioBuffer = cur.asNIO();
+                int length;
+                if (nioBuffer.hasArray()) {
+                    length = cur.remaining();
+                    deflater.setInput(nioBuffer.array(), nioBuffer.arrayOffset() + nioBuffer.position(), length);
+                } else {
+                    if (deflaterInputScratch == null) {
+                        deflaterInputScratch = new byte[BUFFER_SIZE];
+                    }
+                    length = Math.min(cur.remaining(), deflaterInputScratch.length);
+                    cur.get(deflaterInputScratch, 0, length);
+                    deflater.setInput(deflaterInputScratch, 0, length);
+                }
+                while (!deflater.needsInput()) {
+                    writeDeflated(target);
+                }
+                if (nioBuffer.hasArray()) {
+                    cur.position(cur.position() + length);
+                }
+            }
+        }
+        deflater.finish();
+        while (!deflater.finished()) {
+            writeDeflated(target);
+        }
+    }
+
+    @Override
+    void doUncompress(final ByteBuf source, final ByteBuf target) {
+        inflater.reset();
+        ByteBuffer targetBuffer = target.asNIO();
+        boolean targetHasArray = targetBuffer.hasArray();
+        int targetOffset = targetHasArray ? targetBuffer.arrayOffset() + targetBuffer.position() : 0;
+        int targetCapacity = target.remaining();
+        int numBytesInflated = 0;
+        try {
+            while (!inflater.finished()) {
+                if (inflater.needsInput()) {
+                    setInflaterInput(source);
+                }
+                int numBytes;
+                if (targetHasArray) {
+                    numBytes = inflater.inflate(targetBuffer.array(), targetOffset + numBytesInflated, targetCapacity - numBytesInflated);
+                } else {
+                    if (inflatedScratch == null) {
+                        inflatedScratch = new byte[BUFFER_SIZE];
+                    }
+                    numBytes = inflater.inflate(inflatedScratch, 0, Math.min(inflatedScratch.length, targetCapacity - numBytesInflated));
+                    target.put(inflatedScratch, 0, numBytes);
+                }
+                numBytesInflated += numBytes;
+                if (numBytes == 0 && !inflater.finished() && !inflater.needsInput()) {
+                    throw new MongoInternalException("The uncompressed message is larger than its header states");
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new MongoInternalException("Unexpected DataFormatException", e);
+        }
+        if (targetHasArray) {
+            target.position(target.position() + numBytesInflated);
+        }
     }
 
     @Override
-    OutputStream getOutputStream(final OutputStream source) throws IOException {
-        return new DeflaterOutputStream(source, new Deflater(level));
+    void close() {
+        synchronized (deflater) {
+            deflater.end();
+        }
+        inflater.end();
+    }
+
+    private void writeDeflated(final BsonOutput target) {
+        int numBytes = deflater.deflate(deflatedScratch);
+        if (numBytes > 0) {
+            target.writeBytes(deflatedScratch, 0, numBytes);
+        }
+    }
+
+    private void setInflaterInput(final ByteBuf source) {
+        if (!source.hasRemaining()) {
+            throw new MongoInternalException("Unexpected end of compressed message");
+        }
+        ByteBuffer nioBuffer = source.asNIO();
+        if (nioBuffer.hasArray()) {
+            int length = source.remaining();
+            inflater.setInput(nioBuffer.array(), nioBuffer.arrayOffset() + nioBuffer.position(), length);
+            source.position(source.position() + length);
+        } else {
+            if (inflaterInputScratch == null) {
+                inflaterInputScratch = new byte[BUFFER_SIZE];
+            }
+            int length = Math.min(source.remaining(), inflaterInputScratch.length);
+            source.get(inflaterInputScratch, 0, length);
+            inflater.setInput(inflaterInputScratch, 0, length);
+        }
     }
 }
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.event;
+
+/**
+ * A listener for command events that only needs the size of the reply to a command, and not the reply itself.
+ *
+ * <p>If every command listener is a {@code CommandMetricsListener}, the driver does not copy the reply to each command into a document
+ * for the {@link CommandSucceededEvent}.  The response of the event is then an empty document, and the size of the reply is given by
+ * {@link CommandSucceededEvent#getResponseSize()}.</p>
+ *
+ * @since 3.6
+ */
+public interface CommandMetricsListener extends CommandListener {
+}
@@ -28,6 +28,7 @@ import static com.mongodb.assertions.Assertions.isTrueArgument;
  */
 public final class CommandSucceededEvent extends CommandEvent {
     private final BsonDocument response;
+    private final int responseSize;
     private final long elapsedTimeNanos;
 
     /**
@@ -40,8 +41,25 @@ public final class CommandSucceededEvent extends CommandEvent {
      */
     public CommandSucceededEvent(final int requestId, final ConnectionDescription connectionDescription,
                                  final String commandName, final BsonDocument response, final long elapsedTimeNanos) {
+        this(requestId, connectionDescription, commandName, response, -1, elapsedTimeNanos);
+    }
+
+    /**
+     * Construct an instance.
+     * @param requestId the request id
+     * @param connectionDescription the connection description
+     * @param commandName the command name
+     * @param response the command response
+     * @param responseSize the size of the reply message in bytes, or -1 if it's not known
+     * @param elapsedTimeNanos the non-negative elapsed time in nanoseconds for the operation to complete
+     * @since 3.6
+     */
+    public CommandSucceededEvent(final int requestId, final ConnectionDescription connectionDescription,
+                                 final String commandName, final BsonDocument response, final int responseSize,
+                                 final long elapsedTimeNanos) {
         super(requestId, connectionDescription, commandName);
         this.response = response;
+        this.responseSize = responseSize;
         isTrueArgument("elapsed time is not negative", elapsedTimeNanos >= 0);
         this.elapsedTimeNanos = elapsedTimeNanos;
     }
@@ -65,4 +83,15 @@ public final class CommandSucceededEvent extends CommandEvent {
     public BsonDocument getResponse() {
         return response;
     }
+
+    /**
+     * Gets the size of the reply message in bytes, or -1 if it's not known.
+     *
+     * @return the size of the reply
+     * @see CommandMetricsListener
+     * @since 3.6
+     */
+    public int getResponseSize() {
+        return responseSize;
+    }
 }
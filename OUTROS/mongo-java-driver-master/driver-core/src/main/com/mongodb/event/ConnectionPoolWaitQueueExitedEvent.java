@@ -19,6 +19,10 @@ package com.mongodb.event;
 
 import com.mongodb.connection.ServerId;
 
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
 /**
  * An event for entering the wait queue of the connection pool.
  *
@@ -26,6 +30,7 @@ import com.mongodb.connection.ServerId;
  */
 public final class ConnectionPoolWaitQueueExitedEvent {
     private final ServerId serverId;
+    private final long elapsedTimeNanos;
 
     /**
      * Construct an instance.
@@ -33,7 +38,20 @@ public final class ConnectionPoolWaitQueueExitedEvent {
      * @param serverId the server id
      */
     public ConnectionPoolWaitQueueExitedEvent(final ServerId serverId) {
+        this(serverId, 0, NANOSECONDS);
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param serverId the server id
+     * @param elapsedTime the time spent in the wait queue
+     * @param timeUnit the time unit of the elapsed time
+     * @since 3.6
+     */
+    public ConnectionPoolWaitQueueExitedEvent(final ServerId serverId, final long elapsedTime, final TimeUnit timeUnit) {
         this.serverId = serverId;
+        this.elapsedTimeNanos = timeUnit.toNanos(elapsedTime);
     }
 
     /**
@@ -45,10 +63,22 @@ public final class ConnectionPoolWaitQueueExitedEvent {
         return serverId;
     }
 
+    /**
+     * Gets the time spent in the wait queue, or 0 if it was not measured.
+     *
+     * @param timeUnit the time unit in which to return the elapsed time
+     * @return the elapsed time in the given unit
+     * @since 3.6
+     */
+    public long getElapsedTime(final TimeUnit timeUnit) {
+        return timeUnit.convert(elapsedTimeNanos, NANOSECONDS);
+    }
+
     @Override
     public String toString() {
         return "ConnectionPoolWaitQueueExitedEvent{"
                        + "serverId=" + serverId
+                       + ", elapsedTimeNanos=" + elapsedTimeNanos
                        + '}';
     }
 }
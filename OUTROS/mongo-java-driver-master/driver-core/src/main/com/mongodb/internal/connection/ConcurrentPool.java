@@ -24,6 +24,7 @@ import com.mongodb.internal.connection.ConcurrentLinkedDeque.RemovalReportingIte
 import java.util.Iterator;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * A concurrent pool implementation.
@@ -37,6 +38,9 @@ public class ConcurrentPool<T> implements Pool<T> {
 
     private final ConcurrentLinkedDeque<T> available = new ConcurrentLinkedDeque<T>();
     private final Semaphore permits;
+    // Only used by striped pools.  Each thread first releases items to, and takes them from, the slot that its id maps to, so that
+    // threads which repeatedly check items out and back in rarely contend on the shared deque.  A slot holds at most one idle item.
+    private final AtomicReferenceArray<T> slots;
     private volatile boolean closed;
 
     public enum Prune {
@@ -67,15 +71,51 @@ public class ConcurrentPool<T> implements Pool<T> {
     }
 
     /**
-     * Initializes a new pool of objects.
+     * Initializes a new pool of objects that hands out permits in the order in which they were requested.
      *
      * @param maxSize     max to hold to at any given time. if < 0 then no limit
      * @param itemFactory factory used to create and close items in the pool
      */
     public ConcurrentPool(final int maxSize, final ItemFactory<T> itemFactory) {
+        this(maxSize, itemFactory, true);
+    }
+
+    /**
+     * Initializes a new pool of objects.
+     *
+     * <p>A non-fair pool lets a thread take an available permit with a single compare-and-set, even if other threads are already
+     * waiting.  Threads only queue when no permit is available, and queued threads are then served in the order in which they
+     * arrived.  This trades strict first-come-first-served ordering for much higher throughput when many threads check items in and
+     * out concurrently.</p>
+     *
+     * @param maxSize     max to hold to at any given time. if < 0 then no limit
+     * @param itemFactory factory used to create and close items in the pool
+     * @param fair        true if permits should be handed out strictly in the order in which they were requested
+     */
+    public ConcurrentPool(final int maxSize, final ItemFactory<T> itemFactory, final boolean fair) {
+        this(maxSize, itemFactory, fair, false);
+    }
+
+    /**
+     * Initializes a new pool of objects.
+     *
+     * <p>A striped pool keeps idle items in per-thread slots, striped by thread id, before they overflow to the shared deque, so a
+     * thread usually gets back the item it last released without touching any state shared with other threads.  The items in the
+     * slots are not ordered by the time they were released, so a striped pool should not be used with an item factory that relies on
+     * {@link Prune#STOP} to prune the oldest items first.</p>
+     *
+     * @param maxSize     max to hold to at any given time. if < 0 then no limit
+     * @param itemFactory factory used to create and close items in the pool
+     * @param fair        true if permits should be handed out strictly in the order in which they were requested
+     * @param striped     true if idle items should be kept in per-thread slots before the shared deque
+     */
+    public ConcurrentPool(final int maxSize, final ItemFactory<T> itemFactory, final boolean fair, final boolean striped) {
         this.maxSize = maxSize;
         this.itemFactory = itemFactory;
-        permits = new Semaphore(maxSize, true);
+        permits = new Semaphore(maxSize, fair);
+        slots = striped
+                ? new AtomicReferenceArray<T>(Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), maxSize)))
+                : null;
     }
 
     /**
@@ -106,7 +146,7 @@ public class ConcurrentPool<T> implements Pool<T> {
 
         if (prune) {
             close(t);
-        } else {
+        } else if (!offerToSlot(t)) {
             available.addLast(t);
         }
 
@@ -141,7 +181,7 @@ public class ConcurrentPool<T> implements Pool<T> {
             throw new MongoTimeoutException(String.format("Timeout waiting for a pooled item after %d %s", timeout, timeUnit));
         }
 
-        T t = available.pollLast();
+        T t = pollAvailable();
         if (t == null) {
             t = createNewAndReleasePermitIfFailure(false);
         }
@@ -165,6 +205,15 @@ public class ConcurrentPool<T> implements Pool<T> {
                 }
             }
         }
+        // The items in the slots are not ordered, so a STOP does not apply to them
+        if (slots != null) {
+            for (int i = 0; i < slots.length(); i++) {
+                T cur = slots.get(i);
+                if (cur != null && itemFactory.shouldPrune(cur) == Prune.YES && slots.compareAndSet(i, cur, null)) {
+                    close(cur);
+                }
+            }
+        }
     }
 
     public void ensureMinSize(final int minSize, final boolean initialize) {
@@ -176,6 +225,36 @@ public class ConcurrentPool<T> implements Pool<T> {
         }
     }
 
+    // Takes an idle item from the slot of the current thread, then from the deque, and only then from the slots of other threads, so
+    // that a new item is never created while an idle one is left in the pool
+    private T pollAvailable() {
+        if (slots == null) {
+            return available.pollLast();
+        }
+        int index = getSlotIndex();
+        T t = pollSlot(index);
+        if (t == null) {
+            t = available.pollLast();
+        }
+        for (int i = 1; t == null && i < slots.length(); i++) {
+            t = pollSlot((index + i) % slots.length());
+        }
+        return t;
+    }
+
+    private T pollSlot(final int index) {
+        T t = slots.get(index);
+        return t != null && slots.compareAndSet(index, t, null) ? t : null;
+    }
+
+    private boolean offerToSlot(final T t) {
+        return slots != null && slots.compareAndSet(getSlotIndex(), null, t);
+    }
+
+    private int getSlotIndex() {
+        return (int) (Thread.currentThread().getId() % slots.length());
+    }
+
     private T createNewAndReleasePermitIfFailure(final boolean initialize) {
         try {
             T newMember = itemFactory.create(initialize);
@@ -220,6 +299,32 @@ public class ConcurrentPool<T> implements Pool<T> {
             close(t);
             iter.remove();
         }
+        if (slots != null) {
+            for (int i = 0; i < slots.length(); i++) {
+                T t = slots.getAndSet(i, null);
+                if (t != null) {
+                    close(t);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets whether idle items are kept in per-thread slots before the shared deque.
+     *
+     * @return true if the pool is striped
+     */
+    public boolean isStriped() {
+        return slots != null;
+    }
+
+    /**
+     * Gets whether permits are handed out strictly in the order in which they were requested.
+     *
+     * @return true if the pool is fair
+     */
+    public boolean isFair() {
+        return permits.isFair();
     }
 
     public int getMaxSize() {
@@ -231,7 +336,15 @@ public class ConcurrentPool<T> implements Pool<T> {
     }
 
     public int getAvailableCount() {
-        return available.size();
+        int count = available.size();
+        if (slots != null) {
+            for (int i = 0; i < slots.length(); i++) {
+                if (slots.get(i) != null) {
+                    count++;
+                }
+            }
+        }
+        return count;
     }
 
     public int getCount() {
@@ -16,6 +16,7 @@
 
 package com.mongodb.internal.connection;
 
+import com.mongodb.connection.BufferPoolSettings;
 import com.mongodb.connection.BufferProvider;
 import com.mongodb.internal.connection.ConcurrentPool.Prune;
 import org.bson.ByteBuf;
@@ -26,15 +27,28 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * Power-of-two buffer pool implementation.
  *
+ * <p>Each power of two size has its own pool of idle buffers.  The number of idle buffers retained for each size can be capped, and
+ * buffers that have been idle for longer than the configured maximum idle time are discarded lazily, by whichever thread next uses the
+ * pool once the idle time has elapsed.</p>
+ *
  * <p>This class should not be considered a part of the public API.</p>
  */
 public class PowerOfTwoBufferPool implements BufferProvider {
 
-    private final Map<Integer, ConcurrentPool<ByteBuffer>> powerOfTwoToPoolMap = new HashMap<Integer, ConcurrentPool<ByteBuffer>>();
+    private final Map<Integer, SizeClass> powerOfTwoToPoolMap = new HashMap<Integer, SizeClass>();
+    private final boolean directBuffers;
+    private final int maxBuffersPerSize;
+    private final long maxIdleTimeMS;
+
+    private final AtomicLong nextPruneTimeMS = new AtomicLong();
 
     /**
      * Construct an instance with a highest power of two of 24.
@@ -49,49 +63,90 @@ public class PowerOfTwoBufferPool implements BufferProvider {
      * @param highestPowerOfTwo the highest power of two buffer size that will be pooled
      */
     public PowerOfTwoBufferPool(final int highestPowerOfTwo) {
+        this(highestPowerOfTwo, BufferPoolSettings.builder().build());
+    }
+
+    /**
+     * Construct an instance with a highest power of two of 24.
+     *
+     * @param settings the buffer pool settings
+     */
+    public PowerOfTwoBufferPool(final BufferPoolSettings settings) {
+        this(24, settings);
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param highestPowerOfTwo the highest power of two buffer size that will be pooled
+     * @param settings          the buffer pool settings
+     */
+    public PowerOfTwoBufferPool(final int highestPowerOfTwo, final BufferPoolSettings settings) {
+        this.directBuffers = settings.isDirectBuffers();
+        this.maxBuffersPerSize = settings.getMaxBuffersPerSize();
+        this.maxIdleTimeMS = settings.getMaxIdleTime(MILLISECONDS);
         int powerOfTwo = 1;
         for (int i = 0; i <= highestPowerOfTwo; i++) {
-            final int size = powerOfTwo;
-            powerOfTwoToPoolMap.put(i, new ConcurrentPool<ByteBuffer>(Integer.MAX_VALUE,
-                                                                         new ConcurrentPool.ItemFactory<ByteBuffer>() {
-                                                                             @Override
-                                                                             public ByteBuffer create(final boolean initialize) {
-                                                                                 return createNew(size);
-                                                                             }
-
-                                                                             @Override
-                                                                             public void close(final ByteBuffer byteBuffer) {
-                                                                             }
-
-                                                                             @Override
-                                                                             public Prune shouldPrune(final ByteBuffer byteBuffer) {
-                                                                                 return Prune.STOP;
-                                                                             }
-                                                                         }));
+            powerOfTwoToPoolMap.put(i, new SizeClass(powerOfTwo));
             powerOfTwo = powerOfTwo << 1;
         }
+        nextPruneTimeMS.set(System.currentTimeMillis() + maxIdleTimeMS);
     }
 
     @Override
     public ByteBuf getBuffer(final int size) {
-        ConcurrentPool<ByteBuffer> pool = powerOfTwoToPoolMap.get(log2(roundUpToNextHighestPowerOfTwo(size)));
-        ByteBuffer byteBuffer = (pool == null) ? createNew(size) : pool.get();
+        pruneIfDue();
+        SizeClass sizeClass = powerOfTwoToPoolMap.get(log2(roundUpToNextHighestPowerOfTwo(size)));
+        PooledBuffer pooledBuffer = sizeClass == null ? new PooledBuffer(createNew(size)) : sizeClass.get();
 
+        ByteBuffer byteBuffer = pooledBuffer.buffer;
         ((Buffer) byteBuffer).clear();
         ((Buffer) byteBuffer).limit(size);
-        return new PooledByteBufNIO(byteBuffer);
+        return new PooledByteBufNIO(pooledBuffer);
+    }
+
+    /**
+     * Gets whether this pool allocates direct buffers.
+     *
+     * @return true if this pool allocates direct buffers
+     */
+    public boolean isDirectBuffers() {
+        return directBuffers;
+    }
+
+    /**
+     * Discards all idle buffers that have been unused for longer than the maximum idle time.
+     */
+    public void prune() {
+        if (maxIdleTimeMS == 0) {
+            return;
+        }
+        for (SizeClass sizeClass : powerOfTwoToPoolMap.values()) {
+            sizeClass.pool.prune();
+        }
+    }
+
+    private void pruneIfDue() {
+        if (maxIdleTimeMS == 0) {
+            return;
+        }
+        long nextPruneTime = nextPruneTimeMS.get();
+        long now = System.currentTimeMillis();
+        if (now >= nextPruneTime && nextPruneTimeMS.compareAndSet(nextPruneTime, now + maxIdleTimeMS)) {
+            prune();
+        }
     }
 
     private ByteBuffer createNew(final int size) {
-        ByteBuffer buf = ByteBuffer.allocate(size);  // TODO: configure whether this uses allocateDirect or allocate
+        ByteBuffer buf = directBuffers ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
         buf.order(ByteOrder.LITTLE_ENDIAN);
         return buf;
     }
 
-    private void release(final ByteBuffer buffer) {
-        ConcurrentPool<ByteBuffer> pool = powerOfTwoToPoolMap.get(log2(roundUpToNextHighestPowerOfTwo(buffer.capacity())));
-        if (pool != null) {
-            pool.release(buffer);
+    private void release(final PooledBuffer pooledBuffer) {
+        SizeClass sizeClass = powerOfTwoToPoolMap.get(log2(roundUpToNextHighestPowerOfTwo(pooledBuffer.buffer.capacity())));
+        if (sizeClass != null) {
+            sizeClass.release(pooledBuffer);
         }
     }
 
@@ -111,18 +166,80 @@ public class PowerOfTwoBufferPool implements BufferProvider {
         return v;
     }
 
+    private static final class PooledBuffer {
+        private final ByteBuffer buffer;
+        private volatile boolean idle;
+        private volatile long lastReleasedAt;
+
+        PooledBuffer(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+    }
+
+    private final class SizeClass implements ConcurrentPool.ItemFactory<PooledBuffer> {
+        private final int size;
+        private final AtomicInteger idleCount = new AtomicInteger();
+        private final ConcurrentPool<PooledBuffer> pool;
+
+        SizeClass(final int size) {
+            this.size = size;
+            this.pool = new ConcurrentPool<PooledBuffer>(Integer.MAX_VALUE, this, false);
+        }
+
+        PooledBuffer get() {
+            PooledBuffer pooledBuffer = pool.get();
+            if (pooledBuffer.idle) {
+                pooledBuffer.idle = false;
+                idleCount.decrementAndGet();
+            }
+            return pooledBuffer;
+        }
+
+        void release(final PooledBuffer pooledBuffer) {
+            if (idleCount.incrementAndGet() > maxBuffersPerSize) {
+                idleCount.decrementAndGet();
+                pool.release(pooledBuffer, true);
+                return;
+            }
+            pooledBuffer.lastReleasedAt = System.currentTimeMillis();
+            pooledBuffer.idle = true;
+            pool.release(pooledBuffer);
+        }
+
+        @Override
+        public PooledBuffer create(final boolean initialize) {
+            return new PooledBuffer(createNew(size));
+        }
+
+        @Override
+        public void close(final PooledBuffer pooledBuffer) {
+            // only idle buffers that are pruned need to be accounted for.  The memory itself is reclaimed by the garbage collector
+            if (pooledBuffer.idle) {
+                pooledBuffer.idle = false;
+                idleCount.decrementAndGet();
+            }
+        }
+
+        @Override
+        public Prune shouldPrune(final PooledBuffer pooledBuffer) {
+            // buffers are released to the end of the deque, so the first one that is not expired ends the scan
+            return System.currentTimeMillis() - pooledBuffer.lastReleasedAt > maxIdleTimeMS ? Prune.YES : Prune.STOP;
+        }
+    }
+
     private class PooledByteBufNIO extends ByteBufNIO {
+        private final PooledBuffer pooledBuffer;
 
-        PooledByteBufNIO(final ByteBuffer buf) {
-            super(buf);
+        PooledByteBufNIO(final PooledBuffer pooledBuffer) {
+            super(pooledBuffer.buffer);
+            this.pooledBuffer = pooledBuffer;
         }
 
         @Override
         public void release() {
-            ByteBuffer wrapped = asNIO();
             super.release();
             if (getReferenceCount() == 0) {
-                PowerOfTwoBufferPool.this.release(wrapped);
+                PowerOfTwoBufferPool.this.release(pooledBuffer);
             }
         }
     }
@@ -40,6 +40,15 @@ final class CommandListenerMulticaster implements CommandListener {
         this.commandListeners = new ArrayList<CommandListener>(commandListeners);
     }
 
+    boolean isResponseDocumentRequired() {
+        for (CommandListener cur : commandListeners) {
+            if (EventListenerHelper.isResponseDocumentRequired(cur)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void commandStarted(final CommandStartedEvent event) {
         for (CommandListener cur : commandListeners) {
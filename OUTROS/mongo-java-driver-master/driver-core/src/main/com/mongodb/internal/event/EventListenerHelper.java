@@ -22,6 +22,7 @@ import com.mongodb.connection.ServerSettings;
 import com.mongodb.event.ClusterListener;
 import com.mongodb.event.ClusterListenerAdapter;
 import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandMetricsListener;
 import com.mongodb.event.ConnectionPoolListener;
 import com.mongodb.event.ConnectionPoolListenerAdapter;
 import com.mongodb.event.ServerListener;
@@ -56,6 +57,14 @@ public final class EventListenerHelper {
         }
     }
 
+    // Only listeners that are all CommandMetricsListener instances can do without the reply to each command as a document
+    public static boolean isResponseDocumentRequired(final CommandListener commandListener) {
+        if (commandListener instanceof CommandListenerMulticaster) {
+            return ((CommandListenerMulticaster) commandListener).isResponseDocumentRequired();
+        }
+        return commandListener != null && !(commandListener instanceof CommandMetricsListener);
+    }
+
     public static ConnectionPoolListener getConnectionPoolListener(final ConnectionPoolSettings connectionPoolSettings) {
         switch (connectionPoolSettings.getConnectionPoolListeners().size()) {
             case 0:
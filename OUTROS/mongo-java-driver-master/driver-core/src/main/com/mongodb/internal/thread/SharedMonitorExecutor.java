@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.thread;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * A process-wide executor for server monitoring tasks, shared by all clients so that no thread is dedicated to a server between checks.
+ * Checks block on the network, so threads are created on demand rather than bounded: a check of an unresponsive server, which may block
+ * until the heartbeat socket timeout, never delays the checks of other servers.  As each server has at most one check in progress, no
+ * more threads are used than there are servers being checked at once, and idle threads exit after a minute.
+ *
+ * <p>This class should not be considered a part of the public API.</p>
+ */
+public final class SharedMonitorExecutor {
+
+    /**
+     * Gets the shared monitor executor.  It is created on first use and is never shut down.
+     *
+     * @return the shared monitor executor
+     */
+    public static ExecutorService getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private static final class Holder {
+        private static final ExecutorService INSTANCE = createExecutor();
+
+        private static ExecutorService createExecutor() {
+            return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, SECONDS, new SynchronousQueue<Runnable>(),
+                                          new DaemonThreadFactory("SharedMonitor"));
+        }
+    }
+
+    private SharedMonitorExecutor() {
+    }
+}
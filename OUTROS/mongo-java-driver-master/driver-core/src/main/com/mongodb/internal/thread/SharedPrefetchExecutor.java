@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.thread;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * A process-wide executor on which synchronous cursors fetch their next batch while the application processes the current one, and on
+ * which GridFS upload streams insert chunks in the background.  Each cursor or stream bounds the work it has in progress, so a thread is
+ * created whenever none is idle, and idle threads exit.
+ *
+ * <p>This class should not be considered a part of the public API.</p>
+ */
+public final class SharedPrefetchExecutor {
+
+    /**
+     * Gets the shared prefetch executor.  It is created on first use and is never shut down.
+     *
+     * @return the shared prefetch executor
+     */
+    public static ExecutorService getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private static final class Holder {
+        private static final ExecutorService INSTANCE = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, SECONDS,
+                                                                               new SynchronousQueue<Runnable>(),
+                                                                               new DaemonThreadFactory("SharedPrefetch"));
+    }
+
+    private SharedPrefetchExecutor() {
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.thread;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * A process-wide timer for short tasks such as timeouts, shared by all clients so that scheduling a task never requires a dedicated
+ * thread.  Tasks run on a single daemon thread, so they must not block.  Cancelled tasks are removed from the timer's queue, immediately
+ * on Java 7 and later and otherwise within a second, so it is safe to schedule a timeout for every operation and cancel it when the
+ * operation completes first.  Work that may block, such as completing an application callback, should be handed off to the
+ * {@link #getCallbackExecutor() callback executor}.
+ *
+ * <p>This class should not be considered a part of the public API.</p>
+ */
+public final class SharedTimer {
+
+    /**
+     * Gets the shared timer.  It is created on first use and is never shut down.
+     *
+     * @return the shared timer
+     */
+    public static ScheduledExecutorService getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Gets the shared executor for work triggered by a timer task that may block, such as completing an application callback with a
+     * timeout.  Its threads are created on demand and exit once they have been idle for a minute.
+     *
+     * @return the shared callback executor
+     */
+    public static ExecutorService getCallbackExecutor() {
+        return CallbackExecutorHolder.INSTANCE;
+    }
+
+    private static final class Holder {
+        private static final ScheduledExecutorService INSTANCE = createTimer();
+
+        private static final long PURGE_PERIOD_MS = 1000;
+
+        private static ScheduledExecutorService createTimer() {
+            final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, new DaemonThreadFactory("SharedTimer"));
+            if (!setRemoveOnCancelPolicy(timer)) {
+                timer.scheduleWithFixedDelay(new Runnable() {
+                    @Override
+                    public void run() {
+                        timer.purge();
+                    }
+                }, PURGE_PERIOD_MS, PURGE_PERIOD_MS, MILLISECONDS);
+            }
+            return timer;
+        }
+
+        // setRemoveOnCancelPolicy was added in Java 7, so it is called reflectively.  Without it cancelled tasks are left in the queue until
+        // they expire, so on Java 6 they are purged periodically instead.
+        private static boolean setRemoveOnCancelPolicy(final ScheduledThreadPoolExecutor timer) {
+            try {
+                ScheduledThreadPoolExecutor.class.getMethod("setRemoveOnCancelPolicy", boolean.class).invoke(timer, true);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // this is expected if running on a release prior to Java 7
+                return false;
+            } catch (IllegalAccessException e) {
+                // this is unexpected as the method is public
+                return false;
+            } catch (InvocationTargetException e) {
+                // this is unexpected as the method does not throw
+                return false;
+            }
+        }
+    }
+
+    private static final class CallbackExecutorHolder {
+        private static final ExecutorService INSTANCE = Executors.newCachedThreadPool(new DaemonThreadFactory("SharedTimerCallback"));
+    }
+
+    private SharedTimer() {
+    }
+}
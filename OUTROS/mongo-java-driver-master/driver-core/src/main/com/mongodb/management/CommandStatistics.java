@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.management;
+
+import com.mongodb.ServerAddress;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An MBean implementation for command statistics.
+ */
+final class CommandStatistics implements CommandStatisticsMBean {
+    private final String commandName;
+    private final String namespace;
+    private final ServerAddress serverAddress;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong bytesReceived = new AtomicLong();
+
+    CommandStatistics(final String commandName, final String namespace, final ServerAddress serverAddress) {
+        this.commandName = commandName;
+        this.namespace = namespace;
+        this.serverAddress = serverAddress;
+    }
+
+    @Override
+    public String getCommandName() {
+        return commandName;
+    }
+
+    @Override
+    public String getNamespace() {
+        return namespace;
+    }
+
+    @Override
+    public String getHost() {
+        return serverAddress.getHost();
+    }
+
+    @Override
+    public int getPort() {
+        return serverAddress.getPort();
+    }
+
+    @Override
+    public long getCount() {
+        return latencies.getCount();
+    }
+
+    @Override
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    @Override
+    public long getBytesReceived() {
+        return bytesReceived.get();
+    }
+
+    @Override
+    public long getMeanLatencyMicros() {
+        return latencies.getMeanMicros();
+    }
+
+    @Override
+    public long getLatencyP50Micros() {
+        return latencies.getPercentileMicros(50);
+    }
+
+    @Override
+    public long getLatencyP99Micros() {
+        return latencies.getPercentileMicros(99);
+    }
+
+    @Override
+    public long getLatencyP999Micros() {
+        return latencies.getPercentileMicros(99.9);
+    }
+
+    void commandSucceeded(final long elapsedTime, final TimeUnit timeUnit, final int replySize) {
+        latencies.record(elapsedTime, timeUnit);
+        bytesReceived.addAndGet(replySize);
+    }
+
+    void commandFailed(final long elapsedTime, final TimeUnit timeUnit) {
+        latencies.record(elapsedTime, timeUnit);
+        failureCount.incrementAndGet();
+    }
+}
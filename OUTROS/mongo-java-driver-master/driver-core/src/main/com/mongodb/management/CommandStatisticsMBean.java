@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.management;
+
+/**
+ * <p>A standard MXBean interface for the statistics of a command with a namespace on a server.</p>
+ *
+ * <p>This interface is NOT part of the public API.  Be prepared for non-binary compatible changes in minor releases.</p>
+ *
+ * @since 3.6
+ */
+public interface CommandStatisticsMBean {
+
+    /**
+     * Gets the name of the command.
+     *
+     * @return the command name
+     */
+    String getCommandName();
+
+    /**
+     * Gets the namespace of the command, which is the database name followed by the collection name if the command has one.
+     *
+     * @return the namespace
+     */
+    String getNamespace();
+
+    /**
+     * Gets the host that the command was sent to.
+     *
+     * @return the host
+     */
+    String getHost();
+
+    /**
+     * Gets the port that the command was sent to.
+     *
+     * @return the port
+     */
+    int getPort();
+
+    /**
+     * Gets the number of times that the command completed, whether it succeeded or failed.
+     *
+     * @return the count of completed commands
+     */
+    long getCount();
+
+    /**
+     * Gets the number of times that the command failed.
+     *
+     * @return the count of failed commands
+     */
+    long getFailureCount();
+
+    /**
+     * Gets the number of bytes in the replies to the command.
+     *
+     * @return the number of bytes received
+     */
+    long getBytesReceived();
+
+    /**
+     * Gets the mean latency of the command.
+     *
+     * @return the mean latency in microseconds
+     */
+    long getMeanLatencyMicros();
+
+    /**
+     * Gets the median latency of the command.
+     *
+     * @return the median latency in microseconds
+     */
+    long getLatencyP50Micros();
+
+    /**
+     * Gets the 99th percentile of the latency of the command.
+     *
+     * @return the 99th percentile latency in microseconds
+     */
+    long getLatencyP99Micros();
+
+    /**
+     * Gets the 99.9th percentile of the latency of the command.
+     *
+     * @return the 99.9th percentile latency in microseconds
+     */
+    long getLatencyP999Micros();
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.management;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.mongodb.management.JMXConnectionPoolListener.ensureValidValue;
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * <p>The statistics of a wire protocol compressor, summed over every connection in the process that uses it.  Statistics are only
+ * recorded for a compressor once an application has enabled them with {@link #enable(String)}, which also registers them as an MBean.
+ * </p>
+ *
+ * @since 3.6
+ */
+public final class CompressorStatistics implements CompressorStatisticsMBean {
+    private static final ConcurrentMap<String, CompressorStatistics> STATISTICS = new ConcurrentHashMap<String, CompressorStatistics>();
+
+    private final String compressorName;
+    private final AtomicLong bytesIn = new AtomicLong();
+    private final AtomicLong bytesOut = new AtomicLong();
+    private final AtomicLong timeSpentNanos = new AtomicLong();
+
+    /**
+     * Enables the statistics of the compressor with the given name, and registers them as an MBean.  Does nothing if they are already
+     * enabled.
+     *
+     * @param compressorName the compressor name, e.g. "zlib" or "snappy"
+     * @return the statistics of the compressor
+     */
+    public static CompressorStatistics enable(final String compressorName) {
+        CompressorStatistics statistics = STATISTICS.get(compressorName);
+        if (statistics == null) {
+            statistics = new CompressorStatistics(compressorName);
+            CompressorStatistics existing = STATISTICS.putIfAbsent(compressorName, statistics);
+            if (existing != null) {
+                return existing;
+            }
+            MBeanServerFactory.getMBeanServer().registerMBean(statistics, getMBeanObjectName(compressorName));
+        }
+        return statistics;
+    }
+
+    /**
+     * Disables the statistics of the compressor with the given name, and unregisters their MBean.  Does nothing if they are not enabled.
+     *
+     * @param compressorName the compressor name
+     */
+    public static void disable(final String compressorName) {
+        if (STATISTICS.remove(compressorName) != null) {
+            MBeanServerFactory.getMBeanServer().unregisterMBean(getMBeanObjectName(compressorName));
+        }
+    }
+
+    /**
+     * Gets the statistics of the compressor with the given name.
+     *
+     * @param compressorName the compressor name
+     * @return the statistics of the compressor, or null if they are not enabled
+     */
+    public static CompressorStatistics getInstance(final String compressorName) {
+        return STATISTICS.get(compressorName);
+    }
+
+    private CompressorStatistics(final String compressorName) {
+        this.compressorName = compressorName;
+    }
+
+    /**
+     * Records one compression or uncompression.
+     *
+     * @param numBytesIn     the number of bytes passed to the compressor
+     * @param numBytesOut    the number of bytes produced by the compressor
+     * @param timeSpentNanos the time spent in nanoseconds
+     */
+    public void record(final int numBytesIn, final int numBytesOut, final long timeSpentNanos) {
+        bytesIn.addAndGet(numBytesIn);
+        bytesOut.addAndGet(numBytesOut);
+        this.timeSpentNanos.addAndGet(timeSpentNanos);
+    }
+
+    @Override
+    public String getCompressorName() {
+        return compressorName;
+    }
+
+    @Override
+    public long getBytesIn() {
+        return bytesIn.get();
+    }
+
+    @Override
+    public long getBytesOut() {
+        return bytesOut.get();
+    }
+
+    @Override
+    public long getTimeSpentMicros() {
+        return MICROSECONDS.convert(timeSpentNanos.get(), NANOSECONDS);
+    }
+
+    static String getMBeanObjectName(final String compressorName) {
+        return format("org.mongodb.driver:type=Compressor,name=%s", ensureValidValue(compressorName));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.management;
+
+/**
+ * <p>A standard MXBean interface for the statistics of a wire protocol compressor, summed over every connection in the process that uses
+ * it.</p>
+ *
+ * <p>This interface is NOT part of the public API.  Be prepared for non-binary compatible changes in minor releases.</p>
+ *
+ * @since 3.6
+ */
+public interface CompressorStatisticsMBean {
+
+    /**
+     * Gets the name of the compressor.
+     *
+     * @return the compressor name
+     */
+    String getCompressorName();
+
+    /**
+     * Gets the number of bytes passed to the compressor, whether to compress or to uncompress them.
+     *
+     * @return the number of bytes in
+     */
+    long getBytesIn();
+
+    /**
+     * Gets the number of bytes produced by the compressor, whether by compressing or by uncompressing.
+     *
+     * @return the number of bytes out
+     */
+    long getBytesOut();
+
+    /**
+     * Gets the total time spent compressing and uncompressing.
+     *
+     * @return the time spent in microseconds
+     */
+    long getTimeSpentMicros();
+}
@@ -29,6 +29,8 @@ import com.mongodb.event.ConnectionRemovedEvent;
 
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
 /**
  * An MBean implementation for connection pool statistics.
  */
@@ -38,6 +40,7 @@ final class ConnectionPoolStatistics extends ConnectionPoolListenerAdapter imple
     private final AtomicInteger size = new AtomicInteger();
     private final AtomicInteger checkedOutCount = new AtomicInteger();
     private final AtomicInteger waitQueueSize = new AtomicInteger();
+    private final LatencyHistogram waitTimes = new LatencyHistogram();
 
     ConnectionPoolStatistics(final ConnectionPoolOpenedEvent event) {
         serverAddress = event.getServerId().getAddress();
@@ -79,6 +82,21 @@ final class ConnectionPoolStatistics extends ConnectionPoolListenerAdapter imple
         return waitQueueSize.get();
     }
 
+    @Override
+    public long getWaitTimeP50Micros() {
+        return waitTimes.getPercentileMicros(50);
+    }
+
+    @Override
+    public long getWaitTimeP99Micros() {
+        return waitTimes.getPercentileMicros(99);
+    }
+
+    @Override
+    public long getWaitTimeP999Micros() {
+        return waitTimes.getPercentileMicros(99.9);
+    }
+
     @Override
     public void connectionCheckedOut(final ConnectionCheckedOutEvent event) {
         checkedOutCount.incrementAndGet();
@@ -107,5 +125,6 @@ final class ConnectionPoolStatistics extends ConnectionPoolListenerAdapter imple
     @Override
     public void waitQueueExited(final ConnectionPoolWaitQueueExitedEvent event) {
         waitQueueSize.decrementAndGet();
+        waitTimes.record(event.getElapsedTime(NANOSECONDS), NANOSECONDS);
     }
 }
@@ -73,4 +73,28 @@ public interface ConnectionPoolStatisticsMBean {
      * @return size of the wait queue
      */
     int getWaitQueueSize();
+
+    /**
+     * Gets the median time spent in the wait queue for a connection from this pool.
+     *
+     * @return the median wait time in microseconds
+     * @since 3.6
+     */
+    long getWaitTimeP50Micros();
+
+    /**
+     * Gets the 99th percentile of the time spent in the wait queue for a connection from this pool.
+     *
+     * @return the 99th percentile wait time in microseconds
+     * @since 3.6
+     */
+    long getWaitTimeP99Micros();
+
+    /**
+     * Gets the 99.9th percentile of the time spent in the wait queue for a connection from this pool.
+     *
+     * @return the 99.9th percentile wait time in microseconds
+     * @since 3.6
+     */
+    long getWaitTimeP999Micros();
 }
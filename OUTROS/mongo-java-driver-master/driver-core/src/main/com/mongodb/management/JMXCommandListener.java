@@ -0,0 +1,234 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.management;
+
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ClusterClosedEvent;
+import com.mongodb.event.ClusterListenerAdapter;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandMetricsListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.management.JMXConnectionPoolListener.ensureValidValue;
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * A command listener that keeps latency histograms and reply sizes for each command name, namespace and server, and manages a JMX MBean
+ * for each of them.
+ *
+ * <p>The statistics can also be read with {@link #getCommandStatistics()}.  Each latency histogram takes a fixed amount of memory and is
+ * updated without locking.  As a {@link CommandMetricsListener}, it does not need the replies to be copied into documents for its
+ * events.  To have the MBeans of a {@code MongoClient} unregistered when it is closed, add this listener as a cluster listener as well
+ * as a command listener.</p>
+ *
+ * <p>To bound the number of MBeans when an application uses many collections, statistics are only kept separately for a maximum number
+ * of namespaces.  The commands on any other namespace are aggregated per command name and server, under the namespace
+ * {@value #OTHER_NAMESPACES}.</p>
+ *
+ * @since 3.6
+ */
+public class JMXCommandListener extends ClusterListenerAdapter implements CommandMetricsListener {
+    /**
+     * The namespace that the statistics of the commands on namespaces beyond the maximum are aggregated under.
+     */
+    public static final String OTHER_NAMESPACES = "*";
+
+    private static final int DEFAULT_MAX_NAMESPACES = 100;
+
+    private final int maxNamespaces;
+    private final ConcurrentMap<String, Boolean> trackedNamespaces = new ConcurrentHashMap<String, Boolean>();
+    private final ConcurrentMap<Integer, String> namespaces = new ConcurrentHashMap<Integer, String>();
+    private final ConcurrentMap<Key, CommandStatistics> map = new ConcurrentHashMap<Key, CommandStatistics>();
+
+    /**
+     * Construct an instance that keeps separate statistics for up to 100 namespaces.
+     */
+    public JMXCommandListener() {
+        this(DEFAULT_MAX_NAMESPACES);
+    }
+
+    /**
+     * Construct an instance that keeps separate statistics for up to the given number of namespaces.
+     *
+     * @param maxNamespaces the maximum number of namespaces to keep separate statistics for, which may be 0 to aggregate the statistics
+     *                      of each command name and server over all namespaces
+     */
+    public JMXCommandListener(final int maxNamespaces) {
+        isTrueArgument("maxNamespaces >= 0", maxNamespaces >= 0);
+        this.maxNamespaces = maxNamespaces;
+    }
+
+    /**
+     * Gets the maximum number of namespaces that separate statistics are kept for.
+     *
+     * @return the maximum number of namespaces
+     */
+    public int getMaxNamespaces() {
+        return maxNamespaces;
+    }
+
+    @Override
+    public void commandStarted(final CommandStartedEvent event) {
+        namespaces.put(event.getRequestId(), getTrackedNamespace(getNamespace(event)));
+    }
+
+    @Override
+    public void commandSucceeded(final CommandSucceededEvent event) {
+        String namespace = namespaces.remove(event.getRequestId());
+        if (namespace != null) {
+            getStatistics(event.getCommandName(), namespace, event.getConnectionDescription().getConnectionId().getServerId())
+                    .commandSucceeded(event.getElapsedTime(NANOSECONDS), NANOSECONDS, Math.max(0, event.getResponseSize()));
+        }
+    }
+
+    @Override
+    public void commandFailed(final CommandFailedEvent event) {
+        String namespace = namespaces.remove(event.getRequestId());
+        if (namespace != null) {
+            getStatistics(event.getCommandName(), namespace, event.getConnectionDescription().getConnectionId().getServerId())
+                    .commandFailed(event.getElapsedTime(NANOSECONDS), NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void clusterClosed(final ClusterClosedEvent event) {
+        Iterator<Map.Entry<Key, CommandStatistics>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Key key = iterator.next().getKey();
+            if (key.serverId.getClusterId().equals(event.getClusterId())) {
+                iterator.remove();
+                MBeanServerFactory.getMBeanServer().unregisterMBean(getMBeanObjectName(key.commandName, key.namespace, key.serverId));
+            }
+        }
+    }
+
+    /**
+     * Gets the statistics of each command name, namespace and server that a command has completed for.
+     *
+     * @return the command statistics
+     */
+    public List<CommandStatisticsMBean> getCommandStatistics() {
+        return new ArrayList<CommandStatisticsMBean>(map.values());
+    }
+
+    String getMBeanObjectName(final String commandName, final String namespace, final ServerId serverId) {
+        String name = format("org.mongodb.driver:type=Command,clusterId=%s,host=%s,port=%s,commandName=%s,namespace=%s",
+                             ensureValidValue(serverId.getClusterId().getValue()),
+                             ensureValidValue(serverId.getAddress().getHost()),
+                             serverId.getAddress().getPort(),
+                             ensureValidValue(commandName),
+                             ensureValidValue(namespace));
+        if (serverId.getClusterId().getDescription() != null) {
+            name = format("%s,description=%s", name, ensureValidValue(serverId.getClusterId().getDescription()));
+        }
+        return name;
+    }
+
+    // for unit test
+    CommandStatisticsMBean getMBean(final String commandName, final String namespace, final ServerId serverId) {
+        return map.get(new Key(commandName, namespace, serverId));
+    }
+
+    private CommandStatistics getStatistics(final String commandName, final String namespace, final ServerId serverId) {
+        Key key = new Key(commandName, namespace, serverId);
+        CommandStatistics statistics = map.get(key);
+        if (statistics == null) {
+            statistics = new CommandStatistics(commandName, namespace, serverId.getAddress());
+            CommandStatistics existing = map.putIfAbsent(key, statistics);
+            if (existing != null) {
+                return existing;
+            }
+            MBeanServerFactory.getMBeanServer().registerMBean(statistics, getMBeanObjectName(commandName, namespace, serverId));
+        }
+        return statistics;
+    }
+
+    // Namespaces are tracked on a first come, first served basis, and the count may overshoot the maximum by the number of threads
+    // racing to add one, which is harmless
+    private String getTrackedNamespace(final String namespace) {
+        if (trackedNamespaces.containsKey(namespace)) {
+            return namespace;
+        }
+        if (trackedNamespaces.size() < maxNamespaces) {
+            trackedNamespaces.putIfAbsent(namespace, Boolean.TRUE);
+            return namespace;
+        }
+        return OTHER_NAMESPACES;
+    }
+
+    // The collection is the value of the command name for most commands that have one, but is a separate field of a getMore
+    private static String getNamespace(final CommandStartedEvent event) {
+        BsonDocument command = event.getCommand();
+        BsonValue collectionName = command.get(event.getCommandName().equals("getMore") ? "collection" : event.getCommandName());
+        if (collectionName != null && collectionName.isString()) {
+            return event.getDatabaseName() + "." + collectionName.asString().getValue();
+        }
+        return event.getDatabaseName();
+    }
+
+    private static final class Key {
+        private final String commandName;
+        private final String namespace;
+        private final ServerId serverId;
+
+        Key(final String commandName, final String namespace, final ServerId serverId) {
+            this.commandName = commandName;
+            this.namespace = namespace;
+            this.serverId = serverId;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            Key key = (Key) o;
+
+            if (!commandName.equals(key.commandName)) {
+                return false;
+            }
+            if (!namespace.equals(key.namespace)) {
+                return false;
+            }
+            return serverId.equals(key.serverId);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = commandName.hashCode();
+            result = 31 * result + namespace.hashCode();
+            result = 31 * result + serverId.hashCode();
+            return result;
+        }
+    }
+}
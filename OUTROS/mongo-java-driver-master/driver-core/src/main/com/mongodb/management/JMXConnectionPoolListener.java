@@ -130,7 +130,7 @@ public class JMXConnectionPoolListener implements ConnectionPoolListener {
         return map.get(serverId);
     }
 
-    private String ensureValidValue(final String value) {
+    static String ensureValidValue(final String value) {
         if (containsQuotableCharacter(value)) {
             return ObjectName.quote(value);
         } else {
@@ -138,7 +138,7 @@ public class JMXConnectionPoolListener implements ConnectionPoolListener {
         }
     }
 
-    private boolean containsQuotableCharacter(final String value) {
+    private static boolean containsQuotableCharacter(final String value) {
         if (value == null || value.length() == 0) {
             return false;
         }
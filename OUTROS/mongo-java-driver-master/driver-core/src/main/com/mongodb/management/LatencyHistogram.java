@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.management;
+
+import com.mongodb.annotations.ThreadSafe;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+// A histogram of latencies in microseconds, with a fixed number of buckets and no locks.  Each power of two is split into 16 buckets, so
+// a percentile is within about 6% of the recorded latency, up to about an hour, above which every latency falls in the last bucket.
+@ThreadSafe
+final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 31;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+
+    void record(final long latency, final TimeUnit timeUnit) {
+        long micros = Math.max(0, MICROSECONDS.convert(latency, timeUnit));
+        buckets.incrementAndGet(getBucket(micros));
+        totalMicros.addAndGet(micros);
+        count.incrementAndGet();
+    }
+
+    long getCount() {
+        return count.get();
+    }
+
+    long getMeanMicros() {
+        long currentCount = count.get();
+        return currentCount == 0 ? 0 : totalMicros.get() / currentCount;
+    }
+
+    // Returns the middle of the bucket that holds the percentile, or 0 if nothing has been recorded
+    long getPercentileMicros(final double percentile) {
+        isTrueArgument("percentile is between 0 and 100", percentile >= 0 && percentile <= 100);
+        long currentCount = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            currentCount += buckets.get(i);
+        }
+        if (currentCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * currentCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return getLowestValue(i) + getBucketWidth(i) / 2;
+            }
+        }
+        return getLowestValue(BUCKET_COUNT - 1);
+    }
+
+    static int getBucket(final long micros) {
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long getLowestValue(final int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKET_COUNT;
+        return (1L << exponent) + (subBucket << (exponent - SUB_BUCKET_BITS));
+    }
+
+    private static long getBucketWidth(final int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return 0;
+        }
+        return 1L << (bucket / SUB_BUCKET_COUNT - 1);
+    }
+}
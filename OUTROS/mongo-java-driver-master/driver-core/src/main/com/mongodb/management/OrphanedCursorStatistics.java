@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.management;
+
+import org.bson.types.ObjectId;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.mongodb.management.JMXConnectionPoolListener.ensureValidValue;
+import static java.lang.String.format;
+
+/**
+ * <p>This class is NOT part of the public API.  It may change at any time without notification.</p>
+ *
+ * <p>The statistics of the cursors of a legacy {@code Mongo} instance that are tracked so that their server cursors can be killed if they
+ * are garbage collected without being closed.  If the application enables it, the statistics are registered as an MBean for the life of
+ * the {@code Mongo} instance.</p>
+ *
+ * @since 3.6
+ */
+public final class OrphanedCursorStatistics implements OrphanedCursorStatisticsMBean {
+    private final String mBeanObjectName;
+    private final AtomicInteger trackedCursorCount = new AtomicInteger();
+    private final AtomicLong leakedCursorCount = new AtomicLong();
+    private final ConcurrentMap<String, AtomicLong> leakedCursorCountsByCallSite = new ConcurrentHashMap<String, AtomicLong>();
+
+    /**
+     * Construct an instance.
+     *
+     * @param description the user-defined description of the client, which may be null
+     */
+    public OrphanedCursorStatistics(final String description) {
+        String name = format("org.mongodb.driver:type=OrphanedCursors,clientId=%s", new ObjectId().toHexString());
+        if (description != null) {
+            name = format("%s,description=%s", name, ensureValidValue(description));
+        }
+        this.mBeanObjectName = name;
+    }
+
+    /**
+     * Registers these statistics as an MBean.
+     */
+    public void registerMBean() {
+        MBeanServerFactory.getMBeanServer().registerMBean(this, mBeanObjectName);
+    }
+
+    /**
+     * Unregisters the MBean of these statistics.
+     */
+    public void unregisterMBean() {
+        MBeanServerFactory.getMBeanServer().unregisterMBean(mBeanObjectName);
+    }
+
+    /**
+     * Records that a cursor is tracked.
+     */
+    public void cursorTracked() {
+        trackedCursorCount.incrementAndGet();
+    }
+
+    /**
+     * Records that a cursor is no longer tracked, because it was closed or garbage collected.
+     */
+    public void cursorUntracked() {
+        trackedCursorCount.decrementAndGet();
+    }
+
+    /**
+     * Records that a cursor was garbage collected while holding a server cursor, without having been closed.
+     *
+     * @param callSite the call site that created the cursor, or null if it was not recorded
+     */
+    public void cursorLeaked(final String callSite) {
+        leakedCursorCount.incrementAndGet();
+        if (callSite == null) {
+            return;
+        }
+        AtomicLong count = leakedCursorCountsByCallSite.get(callSite);
+        if (count == null) {
+            count = new AtomicLong();
+            AtomicLong existing = leakedCursorCountsByCallSite.putIfAbsent(callSite, count);
+            if (existing != null) {
+                count = existing;
+            }
+        }
+        count.incrementAndGet();
+    }
+
+    @Override
+    public int getTrackedCursorCount() {
+        return trackedCursorCount.get();
+    }
+
+    @Override
+    public long getLeakedCursorCount() {
+        return leakedCursorCount.get();
+    }
+
+    @Override
+    public Map<String, Long> getLeakedCursorCountsByCallSite() {
+        Map<String, Long> counts = new HashMap<String, Long>();
+        for (Map.Entry<String, AtomicLong> entry : leakedCursorCountsByCallSite.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().get());
+        }
+        return counts;
+    }
+
+    String getMBeanObjectName() {
+        return mBeanObjectName;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.management;
+
+import java.util.Map;
+
+/**
+ * <p>A standard MBean interface for the cursors of a legacy {@code Mongo} instance that are tracked so that their server cursors can be
+ * killed if they are garbage collected without being closed.</p>
+ *
+ * <p>This interface is NOT part of the public API.  Be prepared for non-binary compatible changes in minor releases.</p>
+ *
+ * @since 3.6
+ */
+public interface OrphanedCursorStatisticsMBean {
+
+    /**
+     * Gets the number of cursors that are currently tracked, because they hold a server cursor and have been neither closed nor
+     * garbage collected.
+     *
+     * @return the number of tracked cursors
+     */
+    int getTrackedCursorCount();
+
+    /**
+     * Gets the number of cursors that were garbage collected while holding a server cursor, without having been closed.
+     *
+     * @return the number of leaked cursors
+     */
+    long getLeakedCursorCount();
+
+    /**
+     * Gets the number of leaked cursors by the call site that created them, which is the first stack frame outside of the driver.  Call
+     * sites are only recorded while debug logging is enabled for the {@code org.mongodb.driver.cursor} logger.
+     *
+     * @return the number of leaked cursors by call site
+     */
+    Map<String, Long> getLeakedCursorCountsByCallSite();
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.operation;
+
+import com.mongodb.client.model.AdaptiveBatchSize;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonReader;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
+import org.bson.io.BsonInput;
+
+import static com.mongodb.assertions.Assertions.notNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+// Chooses the batch size of each getMore from the average size of the documents decoded so far and from how long each document took to
+// arrive in the last getMore.  Both averages are moving averages, so that the batch size follows changes in the documents and the
+// network.
+final class AdaptiveBatchSizer {
+    private static final double WEIGHT = 0.5;
+
+    private final AdaptiveBatchSize settings;
+    private double averageDocumentBytes;
+    private double averageNanosPerDocument;
+    private long batchBytes;
+    private int batchDocuments;
+    private long getMoreStartNanos;
+
+    AdaptiveBatchSizer(final AdaptiveBatchSize settings) {
+        this.settings = notNull("settings", settings);
+    }
+
+    <T> Decoder<T> measure(final Decoder<T> decoder) {
+        return new Decoder<T>() {
+            @Override
+            public T decode(final BsonReader reader, final DecoderContext decoderContext) {
+                if (!(reader instanceof BsonBinaryReader)) {
+                    return decoder.decode(reader, decoderContext);
+                }
+                BsonInput bsonInput = ((BsonBinaryReader) reader).getBsonInput();
+                int start = bsonInput.getPosition();
+                T document = decoder.decode(reader, decoderContext);
+                documentDecoded(bsonInput.getPosition() - start);
+                return document;
+            }
+        };
+    }
+
+    // Until a batch has been measured, the configured batch size is used, or the minimum if none was configured
+    synchronized int getBatchSize(final int configuredBatchSize) {
+        if (averageDocumentBytes == 0) {
+            return clamp(configuredBatchSize == 0 ? settings.getMinBatchSize() : Math.abs(configuredBatchSize));
+        }
+        double batchSize = settings.getTargetBatchBytes() / averageDocumentBytes;
+        long targetLatencyNanos = settings.getTargetLatency(NANOSECONDS);
+        if (targetLatencyNanos != 0 && averageNanosPerDocument != 0) {
+            batchSize = Math.min(batchSize, targetLatencyNanos / averageNanosPerDocument);
+        }
+        return clamp((int) Math.min(batchSize, Integer.MAX_VALUE));
+    }
+
+    synchronized void getMoreSent() {
+        batchBytes = 0;
+        batchDocuments = 0;
+        getMoreStartNanos = System.nanoTime();
+    }
+
+    // Batches that the server streams without a getMore are measured for their size only, as they may have been waiting to be read
+    synchronized void batchReceived() {
+        if (batchDocuments != 0) {
+            averageDocumentBytes = average(averageDocumentBytes, (double) batchBytes / batchDocuments);
+            if (getMoreStartNanos != 0) {
+                averageNanosPerDocument = average(averageNanosPerDocument,
+                                                  (double) (System.nanoTime() - getMoreStartNanos) / batchDocuments);
+            }
+        }
+        batchBytes = 0;
+        batchDocuments = 0;
+        getMoreStartNanos = 0;
+    }
+
+    private synchronized void documentDecoded(final int bytes) {
+        batchBytes += bytes;
+        batchDocuments++;
+    }
+
+    private int clamp(final int batchSize) {
+        return Math.max(settings.getMinBatchSize(), Math.min(settings.getMaxBatchSize(), batchSize));
+    }
+
+    private static double average(final double average, final double sample) {
+        return average == 0 ? sample : WEIGHT * sample + (1 - WEIGHT) * average;
+    }
+}
@@ -85,6 +85,7 @@ public class AggregateOperation<T> implements AsyncReadOperation<AsyncBatchCurso
     private long maxAwaitTimeMS;
     private long maxTimeMS;
     private Boolean useCursor;
+    private boolean prefetch;
     private ReadConcern readConcern = ReadConcern.DEFAULT;
 
     /**
@@ -189,6 +190,30 @@ public class AggregateOperation<T> implements AsyncReadOperation<AsyncBatchCurso
         return this;
     }
 
+    /**
+     * Returns true if the cursor fetches the next batch in the background while the application processes the current one.  The default
+     * is false.
+     *
+     * @return true if the cursor prefetches the next batch
+     * @since 3.6
+     */
+    public boolean isPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * Sets whether the cursor fetches the next batch in the background while the application processes the current one.  At most one
+     * batch is fetched ahead of the application.
+     *
+     * @param prefetch true if the cursor should prefetch the next batch
+     * @return this
+     * @since 3.6
+     */
+    public AggregateOperation<T> prefetch(final boolean prefetch) {
+        this.prefetch = prefetch;
+        return this;
+    }
+
     /**
      * Gets the maximum execution time on the server for this operation.  The default is 0, which places no limit on the execution time.
      *
@@ -465,7 +490,7 @@ public class AggregateOperation<T> implements AsyncReadOperation<AsyncBatchCurso
             public BatchCursor<T> apply(final BsonDocument result, final ServerAddress serverAddress) {
                 QueryResult<T> queryResult = createQueryResult(result, connection.getDescription());
                 return new QueryBatchCursor<T>(queryResult, 0, batchSize != null ? batchSize : 0, maxAwaitTimeMS, decoder, source,
-                        connection);
+                        connection, prefetch);
             }
         };
     }
@@ -477,7 +502,7 @@ public class AggregateOperation<T> implements AsyncReadOperation<AsyncBatchCurso
             public AsyncBatchCursor<T> apply(final BsonDocument result, final ServerAddress serverAddress) {
                 QueryResult<T> queryResult = createQueryResult(result, connection.getDescription());
                 return new AsyncQueryBatchCursor<T>(queryResult, 0, batchSize != null ? batchSize : 0, maxAwaitTimeMS, decoder,
-                        source, connection);
+                        source, connection, prefetch);
             }
         };
     }
@@ -496,6 +521,7 @@ public class AggregateOperation<T> implements AsyncReadOperation<AsyncBatchCurso
                 + ", maxAwaitTimeMS=" + maxAwaitTimeMS
                 + ", maxTimeMS=" + maxTimeMS
                 + ", useCursor=" + useCursor
+                + ", prefetch=" + prefetch
                 + ", readConcern=" + readConcern
                 + "}";
     }
@@ -24,6 +24,7 @@ import com.mongodb.ServerCursor;
 import com.mongodb.async.AsyncBatchCursor;
 import com.mongodb.async.SingleResultCallback;
 import com.mongodb.binding.AsyncConnectionSource;
+import com.mongodb.client.model.AdaptiveBatchSize;
 import com.mongodb.connection.AsyncConnection;
 import com.mongodb.connection.QueryResult;
 import com.mongodb.internal.validator.NoOpFieldNameValidator;
@@ -34,6 +35,7 @@ import org.bson.BsonInt64;
 import org.bson.BsonString;
 import org.bson.FieldNameValidator;
 import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.Codec;
 import org.bson.codecs.Decoder;
 
 import java.util.List;
@@ -58,24 +60,58 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
     private final MongoNamespace namespace;
     private final int limit;
     private final Decoder<T> decoder;
+    private final Codec<BsonDocument> getMoreResultCodec;
     private final long maxTimeMS;
     private final AsyncConnectionSource connectionSource;
+    private final boolean prefetch;
+    private final boolean exhaust;
+    private final AdaptiveBatchSizer batchSizer;
     private final AtomicBoolean isClosed = new AtomicBoolean();
     private final AtomicReference<ServerCursor> cursor;
+    private final AtomicReference<AsyncConnection> exhaustConnection = new AtomicReference<AsyncConnection>();
     private final Object lock = new Object();
     private volatile QueryResult<T> firstBatch;
     private volatile int batchSize;
     private volatile int count;
+    private volatile Prefetch prefetchInProgress;
+    private volatile Prefetch latestPrefetch;
 
     AsyncQueryBatchCursor(final QueryResult<T> firstBatch, final int limit, final int batchSize, final long maxTimeMS,
                           final Decoder<T> decoder, final AsyncConnectionSource connectionSource, final AsyncConnection connection) {
+        this(firstBatch, limit, batchSize, maxTimeMS, decoder, connectionSource, connection, false);
+    }
+
+    // If prefetch is true, the getMore for the next batch is sent as soon as the current one is passed to the callback of next
+    AsyncQueryBatchCursor(final QueryResult<T> firstBatch, final int limit, final int batchSize, final long maxTimeMS,
+                          final Decoder<T> decoder, final AsyncConnectionSource connectionSource, final AsyncConnection connection,
+                          final boolean prefetch) {
+        this(firstBatch, limit, batchSize, maxTimeMS, decoder, connectionSource, connection, prefetch, false);
+    }
+
+    // If exhaust is true, the server is asked to stream the batches after the first getMore on a connection that the cursor keeps until
+    // the stream ends
+    AsyncQueryBatchCursor(final QueryResult<T> firstBatch, final int limit, final int batchSize, final long maxTimeMS,
+                          final Decoder<T> decoder, final AsyncConnectionSource connectionSource, final AsyncConnection connection,
+                          final boolean prefetch, final boolean exhaust) {
+        this(firstBatch, limit, batchSize, maxTimeMS, decoder, connectionSource, connection, prefetch, exhaust, null);
+    }
+
+    // If adaptiveBatchSize is not null, the batch size of each getMore is chosen from the size of the documents and the latency of the
+    // previous getMore, instead of the batch size of the cursor
+    AsyncQueryBatchCursor(final QueryResult<T> firstBatch, final int limit, final int batchSize, final long maxTimeMS,
+                          final Decoder<T> decoder, final AsyncConnectionSource connectionSource, final AsyncConnection connection,
+                          final boolean prefetch, final boolean exhaust, final AdaptiveBatchSize adaptiveBatchSize) {
         isTrueArgument("maxTimeMS >= 0", maxTimeMS >= 0);
         this.maxTimeMS = maxTimeMS;
+        this.prefetch = prefetch;
+        this.exhaust = exhaust;
         this.namespace = firstBatch.getNamespace();
         this.firstBatch = firstBatch;
         this.limit = limit;
         this.batchSize = batchSize;
-        this.decoder = decoder;
+        this.batchSizer = adaptiveBatchSize == null ? null : new AdaptiveBatchSizer(adaptiveBatchSize);
+        this.decoder = batchSizer == null ? decoder : batchSizer.measure(decoder);
+        this.getMoreResultCodec = CommandResultDocumentCodec.create(this.decoder, "nextBatch");
         this.cursor = new AtomicReference<ServerCursor>(firstBatch.getCursor());
         this.connectionSource = notNull("connectionSource", connectionSource);
         this.count += firstBatch.getResults().size();
@@ -90,7 +126,19 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
     @Override
     public void close() {
         if (!isClosed.getAndSet(true)) {
-            killCursorOnClose();
+            releaseExhaustConnection();
+            Prefetch localPrefetch = latestPrefetch;
+            if (localPrefetch == null) {
+                killCursorOnClose();
+            } else {
+                // Killing the cursor while its getMore is in flight could fail on the server, leaving the cursor open
+                localPrefetch.afterCompletion(new Runnable() {
+                    @Override
+                    public void run() {
+                        killCursorOnClose();
+                    }
+                });
+            }
         }
     }
 
@@ -132,14 +180,51 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
                 results = null;
             }
             firstBatch = null;
+            if (results != null) {
+                startPrefetch();
+            }
             callback.onResult(results, null);
+        } else if (prefetchInProgress != null) {
+            Prefetch localPrefetch = prefetchInProgress;
+            prefetchInProgress = null;
+            localPrefetch.complete(prefetchingCallback(callback));
         } else {
             ServerCursor localCursor = getCursorForNext();
             if (localCursor == null) {
                 callback.onResult(null, null);
             } else {
-                getMore(localCursor, callback, tryNext);
+                getMore(localCursor, prefetchingCallback(callback), tryNext);
+            }
+        }
+    }
+
+    private SingleResultCallback<List<T>> prefetchingCallback(final SingleResultCallback<List<T>> callback) {
+        if (!prefetch) {
+            return callback;
+        }
+        return new SingleResultCallback<List<T>>() {
+            @Override
+            public void onResult(final List<T> result, final Throwable t) {
+                if (result != null) {
+                    startPrefetch();
+                }
+                callback.onResult(result, t);
             }
+        };
+    }
+
+    // Sends the getMore for the next batch, unless the cursor is exhausted.  The cursor does not end up closed here even if it is
+    // exhausted, as the next call to next should still find it open and return null.
+    private void startPrefetch() {
+        if (!prefetch || isClosed() || limitReached() || getServerCursor() == null) {
+            return;
+        }
+        ServerCursor localCursor = getCursorForNext();
+        if (localCursor != null) {
+            Prefetch localPrefetch = new Prefetch();
+            prefetchInProgress = localPrefetch;
+            latestPrefetch = localPrefetch;
+            getMore(localCursor, localPrefetch, false);
         }
     }
 
@@ -148,6 +233,11 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
     }
 
     private void getMore(final ServerCursor cursor, final SingleResultCallback<List<T>> callback, final boolean tryNext) {
+        AsyncConnection localExhaustConnection = exhaustConnection.getAndSet(null);
+        if (localExhaustConnection != null) {
+            getMore(localExhaustConnection, cursor, callback, tryNext);
+            return;
+        }
         connectionSource.getConnection(new SingleResultCallback<AsyncConnection>() {
             @Override
             public void onResult(final AsyncConnection connection, final Throwable t) {
@@ -163,13 +253,23 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
 
     private void getMore(final AsyncConnection connection, final ServerCursor cursor, final SingleResultCallback<List<T>> callback,
                          final boolean tryNext) {
-        if (serverIsAtLeastVersionThreeDotTwo(connection.getDescription())) {
-            connection.commandAsync(namespace.getDatabaseName(), asGetMoreCommandDocument(cursor.getId()), NO_OP_FIELD_NAME_VALIDATOR,
-                    ReadPreference.primary(), CommandResultDocumentCodec.create(decoder, "nextBatch"),
+        if (connection.hasMoreToCome()) {
+            connection.receiveMoreToComeAsync(getMoreResultCodec, connectionSource.getSessionContext(),
+                    new CommandResultSingleResultCallback(connection, cursor, callback, tryNext));
+        } else if (serverIsAtLeastVersionThreeDotTwo(connection.getDescription()) && exhaust) {
+            getMoreSent();
+            connection.exhaustCommandAsync(namespace.getDatabaseName(), asGetMoreCommandDocument(cursor.getId()),
+                    NO_OP_FIELD_NAME_VALIDATOR, ReadPreference.primary(), getMoreResultCodec,
                     connectionSource.getSessionContext(), new CommandResultSingleResultCallback(connection, cursor, callback, tryNext));
+        } else if (serverIsAtLeastVersionThreeDotTwo(connection.getDescription())) {
+            getMoreSent();
+            connection.commandAsync(namespace.getDatabaseName(), asGetMoreCommandDocument(cursor.getId()), NO_OP_FIELD_NAME_VALIDATOR,
+                    ReadPreference.primary(), getMoreResultCodec, connectionSource.getSessionContext(),
+                    new CommandResultSingleResultCallback(connection, cursor, callback, tryNext));
 
         } else {
-            connection.getMoreAsync(namespace, cursor.getId(), getNumberToReturn(limit, batchSize, count),
+            getMoreSent();
+            connection.getMoreAsync(namespace, cursor.getId(), getNumberToReturn(limit, getBatchSizeForGetMore(), count),
                                     decoder, new QueryResultSingleResultCallback(connection, callback, tryNext));
         }
     }
@@ -178,7 +278,7 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
         BsonDocument document = new BsonDocument("getMore", new BsonInt64(cursorId))
                                 .append("collection", new BsonString(namespace.getCollectionName()));
 
-        int batchSizeForGetMoreCommand = Math.abs(getNumberToReturn(limit, this.batchSize, count));
+        int batchSizeForGetMoreCommand = Math.abs(getNumberToReturn(limit, getBatchSizeForGetMore(), count));
         if (batchSizeForGetMoreCommand != 0) {
             document.append("batchSize", new BsonInt32(batchSizeForGetMoreCommand));
         }
@@ -188,8 +288,21 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
         return document;
     }
 
+    private void getMoreSent() {
+        if (batchSizer != null) {
+            batchSizer.getMoreSent();
+        }
+    }
+
+    private int getBatchSizeForGetMore() {
+        return batchSizer == null ? batchSize : batchSizer.getBatchSize(batchSize);
+    }
+
     private void killCursorOnClose() {
-        final ServerCursor localCursor = getServerCursor();
+        killCursorOnNewConnection(getServerCursor());
+    }
+
+    private void killCursorOnNewConnection(final ServerCursor localCursor) {
         if (localCursor != null) {
             connectionSource.getConnection(new SingleResultCallback<AsyncConnection>() {
                 @Override
@@ -245,7 +358,12 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
 
     private void handleGetMoreQueryResult(final AsyncConnection connection, final SingleResultCallback<List<T>> callback,
                                           final QueryResult<T> result, final boolean tryNext) {
+        if (batchSizer != null) {
+            batchSizer.batchReceived();
+        }
         if (isClosed()) {
+            // The cursor is killed once a prefetch completes, so it must be the one the server returned
+            cursor.getAndSet(result.getCursor());
             connection.release();
             connectionSource.release();
             callback.onResult(null, new MongoException(format("The cursor was closed before %s completed.",
@@ -258,9 +376,19 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
             getMore(connection, result.getCursor(), callback, tryNext);
         } else {
             count += result.getResults().size();
-            if (limitReached()) {
+            if (limitReached() && connection.hasMoreToCome()) {
+                // The cursor can't be killed on a connection that the server is still streaming batches on
+                connection.release();
+                killCursorOnNewConnection(cursor.getAndSet(null));
+            } else if (limitReached()) {
                 killCursor(connection);
                 connection.release();
+            } else if (result.getCursor() != null && connection.hasMoreToCome()) {
+                exhaustConnection.set(connection);
+                connectionSource.release();
+                if (isClosed()) {
+                    releaseExhaustConnection();
+                }
             } else {
                 connection.release();
                 connectionSource.release();
@@ -274,6 +402,14 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
         }
     }
 
+    // Releasing the connection that batches are still being streamed on discards it, which ends the stream
+    private void releaseExhaustConnection() {
+        AsyncConnection localExhaustConnection = exhaustConnection.getAndSet(null);
+        if (localExhaustConnection != null) {
+            localExhaustConnection.release();
+        }
+    }
+
     private class CommandResultSingleResultCallback implements SingleResultCallback<BsonDocument> {
         private final AsyncConnection connection;
         private final ServerCursor cursor;
@@ -329,6 +465,55 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
         }
     }
 
+    // Holds the result of a getMore sent ahead of the call to next that will return it, until that call supplies its callback
+    private final class Prefetch implements SingleResultCallback<List<T>> {
+        private List<T> result;
+        private Throwable throwable;
+        private boolean completed;
+        private SingleResultCallback<List<T>> callback;
+        private Runnable completionAction;
+
+        @Override
+        public void onResult(final List<T> result, final Throwable t) {
+            SingleResultCallback<List<T>> localCallback;
+            Runnable localCompletionAction;
+            synchronized (this) {
+                this.result = result;
+                this.throwable = t;
+                completed = true;
+                localCallback = callback;
+                localCompletionAction = completionAction;
+            }
+            if (localCompletionAction != null) {
+                localCompletionAction.run();
+            }
+            if (localCallback != null) {
+                localCallback.onResult(result, t);
+            }
+        }
+
+        // Runs the action once the getMore has completed, whether or not its result has been handed to a call to next
+        void afterCompletion(final Runnable action) {
+            synchronized (this) {
+                if (!completed) {
+                    completionAction = action;
+                    return;
+                }
+            }
+            action.run();
+        }
+
+        void complete(final SingleResultCallback<List<T>> callback) {
+            synchronized (this) {
+                if (!completed) {
+                    this.callback = callback;
+                    return;
+                }
+            }
+            callback.onResult(result, throwable);
+        }
+    }
+
     private ServerCursor getCursorForNext() {
         ServerCursor localCursor;
         synchronized (lock) {
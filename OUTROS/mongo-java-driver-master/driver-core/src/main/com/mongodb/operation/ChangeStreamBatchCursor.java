@@ -114,14 +114,17 @@ final class ChangeStreamBatchCursor<T> implements BatchCursor<T> {
     private List<T> convertResults(final List<RawBsonDocument> rawDocuments) {
         List<T> results = null;
         if (rawDocuments != null) {
-            results = new ArrayList<T>();
+            results = new ArrayList<T>(rawDocuments.size());
             for (RawBsonDocument rawDocument : rawDocuments) {
                 if (!rawDocument.containsKey("_id")) {
                     throw new MongoChangeStreamException("Cannot provide resume functionality when the resume token is missing.");
                 }
-                resumeToken = rawDocument.getDocument("_id");
                 results.add(rawDocument.decode(changeStreamOperation.getDecoder()));
             }
+            // Only the resume token of the last change is needed to resume, so there's no need to slice one out of every change
+            if (!rawDocuments.isEmpty()) {
+                resumeToken = rawDocuments.get(rawDocuments.size() - 1).getDocument("_id");
+            }
         }
         return results;
     }
@@ -50,21 +50,25 @@ import java.util.List;
 import java.util.Map;
 
 class CommandResultCodecProvider<P> implements CodecProvider {
-    private final Map<Class<?>, Codec<?>> codecs = new HashMap<Class<?>, Codec<?>>();
+    // The codecs for the BSON values are stateless, so they are shared by every provider rather than created for every command reply
+    private static final Map<Class<?>, Codec<?>> CODECS = new HashMap<Class<?>, Codec<?>>();
     private final Decoder<P> payloadDecoder;
     private final List<String> fieldsContainingPayload;
 
+    static {
+        addCodecs();
+    }
+
     CommandResultCodecProvider(final Decoder<P> payloadDecoder, final List<String> fieldContainingPayload) {
         this.payloadDecoder = payloadDecoder;
         this.fieldsContainingPayload = fieldContainingPayload;
-        addCodecs();
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <T> Codec<T> get(final Class<T> clazz, final CodecRegistry registry) {
-        if (codecs.containsKey(clazz)) {
-            return (Codec<T>) codecs.get(clazz);
+        if (CODECS.containsKey(clazz)) {
+            return (Codec<T>) CODECS.get(clazz);
         }
 
         if (clazz == BsonArray.class) {
@@ -78,7 +82,7 @@ class CommandResultCodecProvider<P> implements CodecProvider {
         return null;
     }
 
-    private void addCodecs() {
+    private static void addCodecs() {
         addCodec(new BsonNullCodec());
         addCodec(new BsonBinaryCodec());
         addCodec(new BsonBooleanCodec());
@@ -100,8 +104,8 @@ class CommandResultCodecProvider<P> implements CodecProvider {
         addCodec(new BsonJavaScriptWithScopeCodec(new BsonDocumentCodec()));
     }
 
-    private <T extends BsonValue> void addCodec(final Codec<T> codec) {
-        codecs.put(codec.getEncoderClass(), codec);
+    private static <T extends BsonValue> void addCodec(final Codec<T> codec) {
+        CODECS.put(codec.getEncoderClass(), codec);
     }
 
     @Override
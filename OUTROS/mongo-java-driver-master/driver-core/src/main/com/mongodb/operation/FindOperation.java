@@ -33,6 +33,7 @@ import com.mongodb.binding.AsyncSingleConnectionReadBinding;
 import com.mongodb.binding.ConnectionSource;
 import com.mongodb.binding.ReadBinding;
 import com.mongodb.binding.SingleConnectionReadBinding;
+import com.mongodb.client.model.AdaptiveBatchSize;
 import com.mongodb.client.model.Collation;
 import com.mongodb.connection.AsyncConnection;
 import com.mongodb.connection.Connection;
@@ -98,6 +99,9 @@ public class FindOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>
     private boolean slaveOk;
     private boolean oplogReplay;
     private boolean noCursorTimeout;
+    private boolean prefetch;
+    private boolean exhaust;
+    private AdaptiveBatchSize adaptiveBatchSize;
     private boolean partial;
     private ReadConcern readConcern = ReadConcern.DEFAULT;
     private Collation collation;
@@ -447,6 +451,77 @@ public class FindOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>
         return this;
     }
 
+    /**
+     * Returns true if the cursor fetches the next batch in the background while the application processes the current one.  The default
+     * is false.
+     *
+     * @return true if the cursor prefetches the next batch
+     * @since 3.6
+     */
+    public boolean isPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * Sets whether the cursor fetches the next batch in the background while the application processes the current one.  At most one
+     * batch is fetched ahead of the application.
+     *
+     * @param prefetch true if the cursor should prefetch the next batch
+     * @return this
+     * @since 3.6
+     */
+    public FindOperation<T> prefetch(final boolean prefetch) {
+        this.prefetch = prefetch;
+        return this;
+    }
+
+    /**
+     * Returns true if the server streams the batches of the cursor without waiting for a getMore for each one.  The default is false.
+     *
+     * @return true if the server streams the batches of the cursor
+     * @since 3.6
+     */
+    public boolean isExhaust() {
+        return exhaust;
+    }
+
+    /**
+     * Sets whether the server streams the batches of the cursor without waiting for a getMore for each one.  The batches are streamed
+     * on a connection that is dedicated to the cursor until the stream ends, and that is discarded if the cursor is closed before then.
+     * Servers that can't stream batches ignore this option.
+     *
+     * @param exhaust true if the server should stream the batches of the cursor
+     * @return this
+     * @since 3.6
+     */
+    public FindOperation<T> exhaust(final boolean exhaust) {
+        this.exhaust = exhaust;
+        return this;
+    }
+
+    /**
+     * Gets the bounds and targets for choosing the batch size of each getMore, or null if every getMore uses the batch size.
+     *
+     * @return the adaptive batch size, which may be null
+     * @since 3.6
+     */
+    public AdaptiveBatchSize getAdaptiveBatchSize() {
+        return adaptiveBatchSize;
+    }
+
+    /**
+     * Sets the bounds and targets for choosing the batch size of each getMore from the size of the documents and the latency of the
+     * previous getMore.  The batch size still applies to the first batch.  If null, every getMore uses the batch size.
+     *
+     * @param adaptiveBatchSize the adaptive batch size, which may be null
+     * @return this
+     * @since 3.6
+     */
+    public FindOperation<T> adaptiveBatchSize(final AdaptiveBatchSize adaptiveBatchSize) {
+        this.adaptiveBatchSize = adaptiveBatchSize;
+        return this;
+    }
+
     /**
      * Returns true if can get partial results from a mongos if some shards are down.
      *
@@ -736,7 +811,8 @@ public class FindOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>
                                                                   isPartial(),
                                                                   isOplogReplay(),
                                                                   decoder);
-                    return new QueryBatchCursor<T>(queryResult, limit, batchSize, getMaxTimeForCursor(), decoder, source, connection);
+                    return new QueryBatchCursor<T>(queryResult, limit, batchSize, getMaxTimeForCursor(), decoder, source, connection,
+                            prefetch, exhaust, adaptiveBatchSize);
                 }
             }
         });
@@ -791,7 +867,8 @@ public class FindOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>
                                                                 wrappedCallback.onResult(null, t);
                                                             } else {
                                                                 wrappedCallback.onResult(new AsyncQueryBatchCursor<T>(result, limit,
-                                                                        batchSize, getMaxTimeForCursor(), decoder, source, connection),
+                                                                        batchSize, getMaxTimeForCursor(), decoder, source, connection,
+                                                                        prefetch, exhaust, adaptiveBatchSize),
                                                                         null);
                                                             }
                                                         }
@@ -1109,7 +1186,8 @@ public class FindOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>
             @Override
             public BatchCursor<T> apply(final BsonDocument result, final ServerAddress serverAddress) {
                 QueryResult<T> queryResult = documentToQueryResult(result, serverAddress);
-                return new QueryBatchCursor<T>(queryResult, limit, batchSize, getMaxTimeForCursor(), decoder, source, connection);
+                return new QueryBatchCursor<T>(queryResult, limit, batchSize, getMaxTimeForCursor(), decoder, source, connection,
+                        prefetch, exhaust, adaptiveBatchSize);
             }
         };
     }
@@ -1124,7 +1202,8 @@ public class FindOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>
             @Override
             public AsyncBatchCursor<T> apply(final BsonDocument result, final ServerAddress serverAddress) {
                 QueryResult<T> queryResult = documentToQueryResult(result, serverAddress);
-                return new AsyncQueryBatchCursor<T>(queryResult, limit, batchSize, getMaxTimeForCursor(), decoder, source, connection);
+                return new AsyncQueryBatchCursor<T>(queryResult, limit, batchSize, getMaxTimeForCursor(), decoder, source, connection,
+                        prefetch, exhaust, adaptiveBatchSize);
             }
         };
     }
@@ -18,13 +18,17 @@ package com.mongodb.operation;
 
 import com.mongodb.MongoCommandException;
 import com.mongodb.MongoException;
+import com.mongodb.MongoInternalException;
+import com.mongodb.MongoInterruptedException;
 import com.mongodb.MongoNamespace;
 import com.mongodb.ReadPreference;
 import com.mongodb.ServerAddress;
 import com.mongodb.ServerCursor;
 import com.mongodb.binding.ConnectionSource;
+import com.mongodb.client.model.AdaptiveBatchSize;
 import com.mongodb.connection.Connection;
 import com.mongodb.connection.QueryResult;
+import com.mongodb.internal.thread.SharedPrefetchExecutor;
 import com.mongodb.internal.validator.NoOpFieldNameValidator;
 import org.bson.BsonArray;
 import org.bson.BsonDocument;
@@ -33,10 +37,13 @@ import org.bson.BsonInt64;
 import org.bson.BsonString;
 import org.bson.FieldNameValidator;
 import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.Codec;
 import org.bson.codecs.Decoder;
 
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
@@ -51,13 +58,19 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
     private final MongoNamespace namespace;
     private final int limit;
     private final Decoder<T> decoder;
+    private final Codec<BsonDocument> getMoreResultCodec;
     private final ConnectionSource connectionSource;
     private final long maxTimeMS;
+    private final boolean prefetch;
+    private final boolean exhaust;
+    private final AdaptiveBatchSizer batchSizer;
     private int batchSize;
     private ServerCursor serverCursor;
     private List<T> nextBatch;
     private int count;
     private boolean closed;
+    private Future<?> prefetchFuture;
+    private Connection exhaustConnection;
 
     QueryBatchCursor(final QueryResult<T> firstQueryResult, final int limit, final int batchSize, final Decoder<T> decoder) {
         this(firstQueryResult, limit, batchSize, decoder, (ConnectionSource) null);
@@ -70,12 +83,40 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
 
     QueryBatchCursor(final QueryResult<T> firstQueryResult, final int limit, final int batchSize, final long maxTimeMS,
                      final Decoder<T> decoder, final ConnectionSource connectionSource, final Connection connection) {
+        this(firstQueryResult, limit, batchSize, maxTimeMS, decoder, connectionSource, connection, false);
+    }
+
+    // If prefetch is true, the next batch is fetched in the background as soon as the current one is returned from next
+    QueryBatchCursor(final QueryResult<T> firstQueryResult, final int limit, final int batchSize, final long maxTimeMS,
+                     final Decoder<T> decoder, final ConnectionSource connectionSource, final Connection connection,
+                     final boolean prefetch) {
+        this(firstQueryResult, limit, batchSize, maxTimeMS, decoder, connectionSource, connection, prefetch, false);
+    }
+
+    // If exhaust is true, the server is asked to stream the batches after the first getMore on a connection that the cursor keeps until
+    // the stream ends
+    QueryBatchCursor(final QueryResult<T> firstQueryResult, final int limit, final int batchSize, final long maxTimeMS,
+                     final Decoder<T> decoder, final ConnectionSource connectionSource, final Connection connection,
+                     final boolean prefetch, final boolean exhaust) {
+        this(firstQueryResult, limit, batchSize, maxTimeMS, decoder, connectionSource, connection, prefetch, exhaust, null);
+    }
+
+    // If adaptiveBatchSize is not null, the batch size of each getMore is chosen from the size of the documents and the latency of the
+    // previous getMore, instead of the batch size of the cursor
+    QueryBatchCursor(final QueryResult<T> firstQueryResult, final int limit, final int batchSize, final long maxTimeMS,
+                     final Decoder<T> decoder, final ConnectionSource connectionSource, final Connection connection,
+                     final boolean prefetch, final boolean exhaust, final AdaptiveBatchSize adaptiveBatchSize) {
         isTrueArgument("maxTimeMS >= 0", maxTimeMS >= 0);
+        notNull("decoder", decoder);
         this.maxTimeMS = maxTimeMS;
+        this.prefetch = prefetch;
+        this.exhaust = exhaust;
         this.namespace = firstQueryResult.getNamespace();
         this.limit = limit;
         this.batchSize = batchSize;
-        this.decoder = notNull("decoder", decoder);
+        this.batchSizer = adaptiveBatchSize == null ? null : new AdaptiveBatchSizer(adaptiveBatchSize);
+        this.decoder = batchSizer == null ? decoder : batchSizer.measure(decoder);
+        this.getMoreResultCodec = CommandResultDocumentCodec.create(this.decoder, "nextBatch");
         if (firstQueryResult.getCursor() != null) {
             notNull("connectionSource", connectionSource);
         }
@@ -97,6 +138,8 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
             throw new IllegalStateException("Cursor has been closed");
         }
 
+        awaitPrefetch();
+
         if (nextBatch != null) {
             return true;
         }
@@ -127,6 +170,7 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
 
         List<T> retVal = nextBatch;
         nextBatch = null;
+        startPrefetch();
         return retVal;
     }
 
@@ -150,6 +194,8 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
         if (!closed) {
             closed = true;
             try {
+                awaitPrefetchBeforeClose();
+                releaseExhaustConnection();
                 killCursor();
             } finally {
                 if (connectionSource != null) {
@@ -172,6 +218,8 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
     }
 
     boolean tryHasNext() {
+        awaitPrefetch();
+
         if (nextBatch != null) {
             return true;
         }
@@ -193,6 +241,7 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
             throw new IllegalStateException("Iterator has been closed");
         }
 
+        awaitPrefetch();
         return serverCursor;
     }
 
@@ -205,37 +254,138 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
         return connectionSource.getServerDescription().getAddress();
     }
 
+    private void startPrefetch() {
+        if (prefetch && serverCursor != null && !limitReached()) {
+            prefetchFuture = SharedPrefetchExecutor.getInstance().submit(new Runnable() {
+                @Override
+                public void run() {
+                    getMore();
+                }
+            });
+        }
+    }
+
+    // Waits for the fetch of the next batch, if any, to complete, and rethrows its exception if it failed.  The state of this cursor is
+    // only modified by the fetch while it is in progress, and waiting for it makes the modifications visible to the calling thread.
+    private void awaitPrefetch() {
+        if (prefetchFuture == null) {
+            return;
+        }
+        try {
+            prefetchFuture.get();
+            prefetchFuture = null;
+        } catch (InterruptedException e) {
+            throw new MongoInterruptedException("Interrupted while waiting for the next batch", e);
+        } catch (ExecutionException e) {
+            prefetchFuture = null;
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new MongoInternalException("Unexpected exception while fetching the next batch", cause);
+            }
+        }
+    }
+
+    // Waits for the fetch of the next batch, if any, without throwing, so that the server cursor is never killed while its getMore is in
+    // flight.  An interrupt does not end the wait, as the fetch can't be abandoned, but is restored once it completes.
+    private void awaitPrefetchBeforeClose() {
+        if (prefetchFuture == null) {
+            return;
+        }
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    prefetchFuture.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    // Ignore exceptions from the fetch of a batch that will never be returned
+                    break;
+                } catch (RuntimeException e) {
+                    // Ignore exceptions from the fetch of a batch that will never be returned
+                    break;
+                }
+            }
+        } finally {
+            prefetchFuture = null;
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     private void getMore() {
-        Connection connection = connectionSource.getConnection();
+        Connection connection = exhaustConnection != null ? exhaustConnection : connectionSource.getConnection();
+        exhaustConnection = null;
+        boolean killCursor = false;
         try {
-            if (serverIsAtLeastVersionThreeDotTwo(connection.getDescription())) {
+            if (connection.hasMoreToCome()) {
                 try {
-                    initFromCommandResult(connection.command(namespace.getDatabaseName(),
-                                                             asGetMoreCommandDocument(),
-                                                             NO_OP_FIELD_NAME_VALIDATOR,
-                                                             ReadPreference.primary(),
-                                                             CommandResultDocumentCodec.create(decoder, "nextBatch"),
-                                                             connectionSource.getSessionContext()));
+                    initFromCommandResult(connection.receiveMoreToCome(getMoreResultCodec, connectionSource.getSessionContext()));
+                } catch (MongoCommandException e) {
+                    throw translateCommandException(e, serverCursor);
+                }
+            } else if (serverIsAtLeastVersionThreeDotTwo(connection.getDescription())) {
+                getMoreSent();
+                try {
+                    initFromCommandResult(getMoreCommand(connection));
                 } catch (MongoCommandException e) {
                     throw translateCommandException(e, serverCursor);
                 }
             } else {
+                getMoreSent();
                 initFromQueryResult(connection.getMore(namespace, serverCursor.getId(),
-                        getNumberToReturn(limit, batchSize, count), decoder));
+                        getNumberToReturn(limit, getBatchSizeForGetMore(), count), decoder));
+            }
+            if (batchSizer != null) {
+                batchSizer.batchReceived();
             }
             if (limitReached()) {
-                killCursor(connection);
+                // The cursor can't be killed on a connection that the server is still streaming batches on
+                if (connection.hasMoreToCome()) {
+                    killCursor = true;
+                } else {
+                    killCursor(connection);
+                }
+            } else if (serverCursor != null && connection.hasMoreToCome()) {
+                exhaustConnection = connection.retain();
             }
         } finally {
             connection.release();
         }
+        if (killCursor) {
+            killCursor();
+        }
+    }
+
+    private BsonDocument getMoreCommand(final Connection connection) {
+        if (exhaust) {
+            return connection.exhaustCommand(namespace.getDatabaseName(), asGetMoreCommandDocument(), NO_OP_FIELD_NAME_VALIDATOR,
+                    ReadPreference.primary(), getMoreResultCodec, connectionSource.getSessionContext());
+        } else {
+            return connection.command(namespace.getDatabaseName(), asGetMoreCommandDocument(), NO_OP_FIELD_NAME_VALIDATOR,
+                    ReadPreference.primary(), getMoreResultCodec, connectionSource.getSessionContext());
+        }
+    }
+
+    // Releasing the connection that batches are still being streamed on discards it, which ends the stream
+    private void releaseExhaustConnection() {
+        if (exhaustConnection != null) {
+            exhaustConnection.release();
+            exhaustConnection = null;
+        }
     }
 
     private BsonDocument asGetMoreCommandDocument() {
         BsonDocument document = new BsonDocument("getMore", new BsonInt64(serverCursor.getId()))
                                 .append("collection", new BsonString(namespace.getCollectionName()));
 
-        int batchSizeForGetMoreCommand = Math.abs(getNumberToReturn(limit, this.batchSize, count));
+        int batchSizeForGetMoreCommand = Math.abs(getNumberToReturn(limit, getBatchSizeForGetMore(), count));
         if (batchSizeForGetMoreCommand != 0) {
             document.append("batchSize", new BsonInt32(batchSizeForGetMoreCommand));
         }
@@ -246,6 +396,16 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
         return document;
     }
 
+    private void getMoreSent() {
+        if (batchSizer != null) {
+            batchSizer.getMoreSent();
+        }
+    }
+
+    private int getBatchSizeForGetMore() {
+        return batchSizer == null ? batchSize : batchSizer.getBatchSize(batchSize);
+    }
+
     private void initFromQueryResult(final QueryResult<T> queryResult) {
         serverCursor = queryResult.getCursor();
         nextBatch = queryResult.getResults().isEmpty() ? null : queryResult.getResults();
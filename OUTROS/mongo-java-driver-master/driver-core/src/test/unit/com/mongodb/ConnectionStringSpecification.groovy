@@ -116,6 +116,9 @@ class ConnectionStringSpecification extends Specification {
         connectionString.getHeartbeatFrequency() == 20000
         connectionString.getStreamType() == 'netty'
         connectionString.getApplicationName() == 'app1'
+        connectionString.getSharedMonitorThreads()
+        !connectionString.getFairCheckout()
+        connectionString.getPreferLeastLoadedServer()
 
         where:
         connectionString <<
@@ -127,6 +130,9 @@ class ConnectionStringSpecification extends Specification {
                                             + 'serverSelectionTimeoutMS=25000&'
                                             + 'localThresholdMS=30&'
                                             + 'heartbeatFrequencyMS=20000&'
+                                            + 'sharedMonitorThreads=true&'
+                                            + 'fairCheckout=false&'
+                                            + 'preferLeastLoadedServer=true&'
                                             + 'appName=app1'),
                  new ConnectionString('mongodb://localhost/?minPoolSize=5;maxPoolSize=10;waitQueueMultiple=7;waitQueueTimeoutMS=150;'
                                             + 'maxIdleTimeMS=200;maxLifeTimeMS=300;replicaSet=test;'
@@ -136,6 +142,9 @@ class ConnectionStringSpecification extends Specification {
                                             + 'serverSelectionTimeoutMS=25000;'
                                             + 'localThresholdMS=30;'
                                             + 'heartbeatFrequencyMS=20000;'
+                                            + 'sharedMonitorThreads=true;'
+                                            + 'fairCheckout=false;'
+                                            + 'preferLeastLoadedServer=true;'
                                             + 'appName=app1'),
                  new ConnectionString('mongodb://localhost/test?minPoolSize=5;maxPoolSize=10&waitQueueMultiple=7;waitQueueTimeoutMS=150;'
                                             + 'maxIdleTimeMS=200&maxLifeTimeMS=300&replicaSet=test;'
@@ -146,6 +155,9 @@ class ConnectionStringSpecification extends Specification {
                                             + 'serverSelectionTimeoutMS=25000&'
                                             + 'localThresholdMS=30;'
                                             + 'heartbeatFrequencyMS=20000&'
+                                            + 'sharedMonitorThreads=true;'
+                                            + 'fairCheckout=false;'
+                                            + 'preferLeastLoadedServer=true;'
                                             + 'appName=app1')]
         //for documentation, i.e. the Unroll description for each type
         type << ['amp', 'semi', 'mixed']
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection
+
+import com.mongodb.MongoSocketReadException
+import org.bson.ByteBuf
+import org.bson.ByteBufNIO
+import spock.lang.IgnoreIf
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+
+import static com.mongodb.ClusterFixture.isNotAtLeastJava7
+import static com.mongodb.connection.SocketStreamSpecification.createBytes
+import static com.mongodb.connection.SocketStreamSpecification.split
+import static java.util.concurrent.TimeUnit.SECONDS
+
+@IgnoreIf({ isNotAtLeastJava7() })
+class AsynchronousSocketChannelStreamSpecification extends Specification {
+    static final int SOCKET_BUFFER_SIZE = 16 * 1024
+
+    def buffers = []
+    def bufferProvider = { int size ->
+        def buffer = new ByteBufNIO(ByteBuffer.allocate(size))
+        buffers << buffer
+        buffer
+    } as BufferProvider
+
+    def 'should complete a gathering write only once every buffer has been written'() {
+        given:
+        // Much more than the socket buffers can hold, so the channel writes only part of the buffers before the server reads them
+        def sizes = [0, 5, 3 * 1024 * 1024, 0, 17, 5 * 1024 * 1024 + 3, 1]
+        def bytes = createBytes(sizes.sum())
+        def server = new LoopbackServer(SOCKET_BUFFER_SIZE)
+        def received = server.receive(bytes.length)
+        def stream = createStream(server)
+        stream.open()
+
+        when:
+        stream.write(split(bytes, sizes).collect { new ByteBufNIO(ByteBuffer.wrap(it)) })
+
+        then:
+        received.get(10, SECONDS) == bytes
+
+        cleanup:
+        stream.close()
+        server.close()
+    }
+
+    def 'should read a message that arrives in several chunks'() {
+        given:
+        def chunkSizes = [3, 13, 1, 30, 200, 40000]
+        def bytes = createBytes(chunkSizes.sum())
+        def server = new LoopbackServer()
+        def sent = server.send(split(bytes, chunkSizes))
+        def stream = createStream(server)
+        stream.open()
+
+        when:
+        def header = stream.read(16)
+        def body = stream.read(bytes.length - 16)
+
+        then:
+        def readBytes = new byte[bytes.length]
+        header.get(readBytes, 0, 16)
+        body.get(readBytes, 16, bytes.length - 16)
+        readBytes == bytes
+        sent.get(10, SECONDS) == null
+
+        cleanup:
+        stream.close()
+        server.close()
+    }
+
+    def 'should release the buffer and fail when the end of stream is reached in the middle of a message'() {
+        given:
+        def server = new LoopbackServer()
+        def sent = server.send([createBytes(10)])
+        def stream = createStream(server)
+        stream.open()
+        stream.read(4).release()
+
+        when:
+        stream.read(16)
+
+        then:
+        thrown(MongoSocketReadException)
+        sent.get(10, SECONDS) == null
+        buffers.size() == 2
+        buffers.every { ByteBuf buffer -> buffer.referenceCount == 0 }
+
+        cleanup:
+        stream.close()
+        server.close()
+    }
+
+    private AsynchronousSocketChannelStream createStream(final LoopbackServer server) {
+        new AsynchronousSocketChannelStream(server.getAddress(), SocketSettings.builder().sendBufferSize(SOCKET_BUFFER_SIZE).build(),
+                                            bufferProvider, null)
+    }
+}
@@ -158,6 +158,30 @@ class BaseClusterSpecification extends Specification {
         serverSelectionTimeoutMS << [30, 0, -1]
     }
 
+    def 'should select the less loaded of two servers when preferring the least loaded server'() {
+        given:
+        def cluster = new MultiServerCluster(new ClusterId(),
+                builder().mode(MULTIPLE)
+                        .hosts([firstServer, secondServer, thirdServer])
+                        .serverSelectionTimeout(1, SECONDS)
+                        .preferLeastLoadedServer(true)
+                        .build(),
+                factory)
+        factory.sendNotification(firstServer, REPLICA_SET_SECONDARY, allServers)
+        factory.sendNotification(secondServer, REPLICA_SET_SECONDARY, allServers)
+        factory.sendNotification(thirdServer, REPLICA_SET_PRIMARY, allServers)
+        factory.getServer(firstServer).setLoad(10)
+        factory.getServer(secondServer).setLoad(1)
+
+        expect:
+        (1..100).every {
+            cluster.selectServer(new ReadPreferenceServerSelector(ReadPreference.secondary())).description.address == secondServer
+        }
+
+        cleanup:
+        cluster?.close()
+    }
+
     @Category(Slow)
     def 'should wait indefinitely for a server until interrupted'() {
         given:
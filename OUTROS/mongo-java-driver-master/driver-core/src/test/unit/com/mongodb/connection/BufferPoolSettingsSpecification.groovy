@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection
+
+import spock.lang.Specification
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS
+import static java.util.concurrent.TimeUnit.SECONDS
+
+class BufferPoolSettingsSpecification extends Specification {
+
+    def 'should have correct defaults'() {
+        when:
+        def settings = BufferPoolSettings.builder().build()
+
+        then:
+        !settings.directBuffers
+        settings.maxBuffersPerSize == Integer.MAX_VALUE
+        settings.getMaxIdleTime(MILLISECONDS) == 0
+    }
+
+    def 'should apply builder settings'() {
+        when:
+        def settings = BufferPoolSettings.builder()
+                                         .directBuffers(true)
+                                         .maxBuffersPerSize(16)
+                                         .maxIdleTime(30, SECONDS)
+                                         .build()
+
+        then:
+        settings.directBuffers
+        settings.maxBuffersPerSize == 16
+        settings.getMaxIdleTime(MILLISECONDS) == 30000
+    }
+
+    def 'should throw exception on invalid argument'() {
+        when:
+        BufferPoolSettings.builder().maxBuffersPerSize(-1)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        when:
+        BufferPoolSettings.builder().maxIdleTime(-1, SECONDS)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def 'identical settings should be equal and have the same hash code'() {
+        expect:
+        BufferPoolSettings.builder().build() == BufferPoolSettings.builder().build()
+        BufferPoolSettings.builder().directBuffers(true).maxBuffersPerSize(16).maxIdleTime(30, SECONDS).build() ==
+        BufferPoolSettings.builder().directBuffers(true).maxBuffersPerSize(16).maxIdleTime(30, SECONDS).build()
+        BufferPoolSettings.builder().directBuffers(true).maxBuffersPerSize(16).maxIdleTime(30, SECONDS).build().hashCode() ==
+        BufferPoolSettings.builder().directBuffers(true).maxBuffersPerSize(16).maxIdleTime(30, SECONDS).build().hashCode()
+    }
+
+    def 'different settings should not be equal'() {
+        expect:
+        BufferPoolSettings.builder().directBuffers(true).build() != BufferPoolSettings.builder().directBuffers(false).build()
+        BufferPoolSettings.builder().maxBuffersPerSize(1).build() != BufferPoolSettings.builder().maxBuffersPerSize(2).build()
+    }
+}
@@ -42,6 +42,7 @@ class ClusterSettingsSpecification extends Specification {
         settings.serverSelector == null
         settings.getServerSelectionTimeout(TimeUnit.SECONDS) == 30
         settings.maxWaitQueueSize == 500
+        !settings.preferLeastLoadedServer
         settings.clusterListeners == []
     }
 
@@ -60,6 +61,7 @@ class ClusterSettingsSpecification extends Specification {
                                       .addClusterListener(listenerOne)
                                       .addClusterListener(listenerTwo)
                                       .maxWaitQueueSize(100)
+                                      .preferLeastLoadedServer(true)
                                       .build();
 
         then:
@@ -71,6 +73,7 @@ class ClusterSettingsSpecification extends Specification {
         settings.serverSelector == serverSelector
         settings.getServerSelectionTimeout(TimeUnit.MILLISECONDS) == 1000
         settings.maxWaitQueueSize == 100
+        settings.preferLeastLoadedServer
         settings.clusterListeners == [listenerOne, listenerTwo]
     }
 
@@ -147,6 +150,15 @@ class ClusterSettingsSpecification extends Specification {
 
         then:
         settings.getServerSelectionTimeout(TimeUnit.MILLISECONDS) == 50000
+        !settings.isPreferLeastLoadedServer()
+
+        when:
+        settings = ClusterSettings.builder().applyConnectionString(new ConnectionString('mongodb://example.com:27018/?' +
+                'preferLeastLoadedServer=true'))
+                .build()
+
+        then:
+        settings.isPreferLeastLoadedServer()
     }
 
     def 'when cluster type is unknown and replica set name is specified, should set cluster type to ReplicaSet'() {
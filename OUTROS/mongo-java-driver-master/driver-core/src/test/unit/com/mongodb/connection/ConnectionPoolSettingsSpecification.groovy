@@ -83,6 +83,23 @@ class ConnectionPoolSettingsSpecification extends Specification {
                 .build()                      | 5000 | 75 | 11 | 101000 | 51000 | 1 | 5000 | 1000000
     }
 
+    def 'should set fair checkout'() {
+        expect:
+        ConnectionPoolSettings.builder().build().isFairCheckout()
+        !ConnectionPoolSettings.builder().fairCheckout(false).build().isFairCheckout()
+        !ConnectionPoolSettings.builder(ConnectionPoolSettings.builder().fairCheckout(false).build()).build().isFairCheckout()
+        ConnectionPoolSettings.builder().fairCheckout(false).build() != ConnectionPoolSettings.builder().build()
+    }
+
+    def 'should set max requests per connection'() {
+        expect:
+        ConnectionPoolSettings.builder().build().getMaxRequestsPerConnection() == 1
+        ConnectionPoolSettings.builder().maxRequestsPerConnection(8).build().getMaxRequestsPerConnection() == 8
+        ConnectionPoolSettings.builder(ConnectionPoolSettings.builder().maxRequestsPerConnection(8).build()).build()
+                .getMaxRequestsPerConnection() == 8
+        ConnectionPoolSettings.builder().maxRequestsPerConnection(8).build() != ConnectionPoolSettings.builder().build()
+    }
+
     def 'should throw exception on invalid argument'() {
         when:
         ConnectionPoolSettings.builder().maxSize(1).maxWaitQueueSize(-1).build()
@@ -119,6 +136,12 @@ class ConnectionPoolSettingsSpecification extends Specification {
 
         then:
         thrown(IllegalStateException)
+
+        when:
+        ConnectionPoolSettings.builder().maxRequestsPerConnection(0).build()
+
+        then:
+        thrown(IllegalStateException)
     }
 
     def 'settings with same values should be equal'() {
@@ -143,7 +166,7 @@ class ConnectionPoolSettingsSpecification extends Specification {
         when:
         def settings = ConnectionPoolSettings.builder().applyConnectionString(
                 new ConnectionString('mongodb://localhost/?waitQueueTimeoutMS=100&minPoolSize=5&maxPoolSize=10&waitQueueMultiple=7&'
-                                             + 'maxIdleTimeMS=200&maxLifeTimeMS=300'))
+                                             + 'maxIdleTimeMS=200&maxLifeTimeMS=300&fairCheckout=false'))
                                              .build()
 
         then:
@@ -153,6 +176,7 @@ class ConnectionPoolSettingsSpecification extends Specification {
         settings.getMaxConnectionIdleTime(MILLISECONDS) == 200
         settings.getMaxConnectionLifeTime(MILLISECONDS) == 300
         settings.getMaxWaitQueueSize() == 70
+        !settings.isFairCheckout()
     }
 
     def 'toString should be overridden'() {
@@ -17,7 +17,6 @@
 package com.mongodb.connection
 
 import category.Slow
-import com.mongodb.MongoException
 import com.mongodb.MongoNamespace
 import com.mongodb.MongoSocketReadException
 import com.mongodb.MongoSocketWriteException
@@ -428,6 +427,44 @@ class DefaultConnectionPoolSpecification extends Specification {
         connectionLatch.get()
     }
 
+    def 'should hand checked in connections to asynchronous waiters in the order in which they arrived'() {
+        given:
+        pool = new DefaultConnectionPool(SERVER_ID, connectionFactory,
+                                         builder().maxSize(1).maxWaitQueueSize(2).build())
+
+        when:
+        def connection = pool.get()
+        def firstConnectionLatch = selectConnectionAsync(pool)
+        def secondConnectionLatch = selectConnectionAsync(pool)
+        connection.close()
+
+        then:
+        firstConnectionLatch.latch.count == 0
+        secondConnectionLatch.latch.count == 1
+
+        when:
+        firstConnectionLatch.get().close()
+
+        then:
+        secondConnectionLatch.get()
+        !Thread.getAllStackTraces().keySet()*.name.any { it.startsWith('AsyncGetter') }
+    }
+
+    def 'should fail asynchronous waiters when the pool is closed'() {
+        given:
+        pool = new DefaultConnectionPool(SERVER_ID, connectionFactory,
+                                         builder().maxSize(1).maxWaitQueueSize(1).build())
+        pool.get()
+        def connectionLatch = selectConnectionAsync(pool)
+
+        when:
+        pool.close()
+        connectionLatch.get()
+
+        then:
+        thrown(IllegalStateException)
+    }
+
     def 'when getting a connection asynchronously should send MongoTimeoutException to callback after timeout period'() {
         given:
         pool = new DefaultConnectionPool(SERVER_ID, connectionFactory,
@@ -450,6 +487,25 @@ class DefaultConnectionPoolSpecification extends Specification {
         thrown(MongoTimeoutException)
     }
 
+    def 'should not complete timed out asynchronous waiters on the timer thread'() {
+        given:
+        pool = new DefaultConnectionPool(SERVER_ID, connectionFactory,
+                                         builder().maxSize(1).maxWaitQueueSize(1).maxWaitTime(5, MILLISECONDS).build())
+        pool.get()
+        def threadName = null
+        def latch = new CountDownLatch(1)
+
+        when:
+        pool.getAsync { InternalConnection result, Throwable e ->
+            threadName = Thread.currentThread().name
+            latch.countDown()
+        }
+        latch.await()
+
+        then:
+        !threadName.startsWith('SharedTimer-')
+    }
+
     def 'when getting a connection asynchronously should send MongoWaitQueueFullException to callback if there are too many waiters'() {
         given:
         pool = new DefaultConnectionPool(SERVER_ID, connectionFactory,
@@ -464,13 +520,102 @@ class DefaultConnectionPoolSpecification extends Specification {
         thrown(MongoWaitQueueFullException)
     }
 
+    def 'should hand a shared connection to an asynchronous waiter when one of its users checks it in'() {
+        given:
+        def description = new ConnectionDescription(new ConnectionId(SERVER_ID, 1, 1), new ServerVersion(3, 6), ServerType.STANDALONE,
+                1000, 16 * 1024 * 1024, 48 * 1000 * 1000, [])
+        def connectionFactory = Stub(InternalConnectionFactory) {
+            create(_) >> Stub(InternalConnection) {
+                opened() >> true
+                getDescription() >> description
+            }
+        }
+        pool = new DefaultConnectionPool(SERVER_ID, connectionFactory, builder().maxSize(1).maxRequestsPerConnection(2).build())
+
+        when:
+        def first = selectConnectionAsyncAndGet(pool)
+        def second = selectConnectionAsyncAndGet(pool)
+        def waiterLatch = selectConnectionAsync(pool)
+
+        then:
+        pool.getPool().getInUseCount() == 1
+        pool.getLoad() == 3
+        waiterLatch.latch.count == 1
+
+        when:
+        first.close()
+
+        then:
+        waiterLatch.latch.count == 0
+        waiterLatch.get().getDescription() == description
+        pool.getLoad() == 2
+
+        when:
+        def fourth = selectConnectionAsync(pool)
+        second.close()
+
+        then:
+        fourth.latch.count == 0
+        pool.getLoad() == 2
+
+        when:
+        waiterLatch.get().close()
+        fourth.get().close()
+
+        then:
+        pool.getLoad() == 0
+        pool.getPool().getInUseCount() == 0
+    }
+
+    def 'should share connections between asynchronous callers when requests can be multiplexed'() {
+        given:
+        def description = new ConnectionDescription(new ConnectionId(SERVER_ID, 1, 1), new ServerVersion(3, 6), ServerType.STANDALONE,
+                1000, 16 * 1024 * 1024, 48 * 1000 * 1000, [])
+        def connections = (1..2).collect {
+            Stub(InternalConnection) {
+                opened() >> true
+                getDescription() >> description
+            }
+        }
+        def connectionFactory = Stub(InternalConnectionFactory) {
+            create(_) >>> connections
+        }
+        pool = new DefaultConnectionPool(SERVER_ID, connectionFactory, builder().maxSize(2).maxRequestsPerConnection(2).build())
+
+        when:
+        def first = selectConnectionAsyncAndGet(pool)
+        def second = selectConnectionAsyncAndGet(pool)
+
+        then:
+        pool.getPool().getInUseCount() == 1
+
+        when:
+        def third = selectConnectionAsyncAndGet(pool)
+
+        then:
+        pool.getPool().getInUseCount() == 2
+
+        when:
+        first.close()
+
+        then:
+        pool.getPool().getInUseCount() == 2
+
+        when:
+        second.close()
+        third.close()
+
+        then:
+        pool.getPool().getInUseCount() == 0
+    }
+
     def selectConnectionAsyncAndGet(DefaultConnectionPool pool) {
         selectConnectionAsync(pool).get()
     }
 
     def selectConnectionAsync(DefaultConnectionPool pool) {
         def serverLatch = new ConnectionLatch()
-        pool.getAsync { InternalConnection result, MongoException e ->
+        pool.getAsync { InternalConnection result, Throwable e ->
             serverLatch.connection = result
             serverLatch.throwable = e
             serverLatch.latch.countDown()
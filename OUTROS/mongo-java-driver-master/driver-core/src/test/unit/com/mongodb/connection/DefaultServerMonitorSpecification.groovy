@@ -63,6 +63,90 @@ class DefaultServerMonitorSpecification extends Specification {
         !stateChanged
     }
 
+    def 'should check the server again on connect when using shared monitor threads'() {
+        given:
+        def firstCheckLatch = new CountDownLatch(1)
+        def secondCheckLatch = new CountDownLatch(2)
+        def changeListener = new ChangeListener<ServerDescription>() {
+            @Override
+            void stateChanged(final ChangeEvent<ServerDescription> event) {
+                firstCheckLatch.countDown()
+                secondCheckLatch.countDown()
+            }
+        }
+        def internalConnectionFactory = Mock(InternalConnectionFactory) {
+            create(_) >> {
+                Mock(InternalConnection) {
+                    open() >> { throw new MongoSocketReadTimeoutException('timeout', new ServerAddress(), null) }
+                }
+            }
+        }
+        monitor = new DefaultServerMonitor(new ServerId(new ClusterId(), new ServerAddress()),
+                ServerSettings.builder().sharedMonitorThreads(true)
+                        .heartbeatFrequency(1, TimeUnit.HOURS)
+                        .minHeartbeatFrequency(10, TimeUnit.MILLISECONDS)
+                        .build(),
+                new ClusterClock(), changeListener, internalConnectionFactory, new TestConnectionPool())
+
+        when:
+        monitor.start()
+
+        then:
+        monitor.monitorThread == null
+        firstCheckLatch.await(5, TimeUnit.SECONDS)
+
+        when:
+        monitor.connect()
+
+        then:
+        secondCheckLatch.await(5, TimeUnit.SECONDS)
+
+        cleanup:
+        monitor?.close()
+    }
+
+    def 'should not delay the checks of other servers while shared monitor threads are blocked checking unresponsive servers'() {
+        given:
+        def releaseLatch = new CountDownLatch(1)
+        def blockedLatch = new CountDownLatch(10)
+        def checkedLatch = new CountDownLatch(1)
+        def settings = ServerSettings.builder().sharedMonitorThreads(true).heartbeatFrequency(1, TimeUnit.HOURS).build()
+        // Spock mocks handle one invocation at a time, so connections that block while opening are coerced from closures instead
+        def unresponsiveConnectionFactory = { ServerId serverId ->
+            [open: {
+                blockedLatch.countDown()
+                releaseLatch.await(30, TimeUnit.SECONDS)
+                throw new MongoSocketReadTimeoutException('timeout', serverId.address, null)
+            }] as InternalConnection
+        } as InternalConnectionFactory
+        def connectionFactory = { ServerId serverId ->
+            [open: { throw new MongoSocketReadTimeoutException('timeout', serverId.address, null) }] as InternalConnection
+        } as InternalConnectionFactory
+        def unresponsiveMonitors = (1..10).collect {
+            new DefaultServerMonitor(new ServerId(new ClusterId(), new ServerAddress('unresponsive', it)), settings, new ClusterClock(),
+                    { } as ChangeListener<ServerDescription>, unresponsiveConnectionFactory, new TestConnectionPool())
+        }
+        monitor = new DefaultServerMonitor(new ServerId(new ClusterId(), new ServerAddress()), settings, new ClusterClock(),
+                { checkedLatch.countDown() } as ChangeListener<ServerDescription>, connectionFactory, new TestConnectionPool())
+
+        when:
+        unresponsiveMonitors*.start()
+
+        then:
+        blockedLatch.await(5, TimeUnit.SECONDS)
+
+        when:
+        monitor.start()
+
+        then:
+        checkedLatch.await(5, TimeUnit.SECONDS)
+
+        cleanup:
+        releaseLatch.countDown()
+        unresponsiveMonitors*.close()
+        monitor?.close()
+    }
+
     def 'should send started and succeeded heartbeat events'() {
         given:
         def changeListener = new ChangeListener<ServerDescription>() {
@@ -18,6 +18,7 @@ package com.mongodb.connection
 
 import category.Async
 import com.mongodb.MongoCommandException
+import com.mongodb.MongoCompressor
 import com.mongodb.MongoInternalException
 import com.mongodb.MongoNamespace
 import com.mongodb.MongoSocketClosedException
@@ -27,6 +28,7 @@ import com.mongodb.MongoSocketWriteException
 import com.mongodb.ServerAddress
 import com.mongodb.async.FutureResultCallback
 import com.mongodb.event.CommandFailedEvent
+import com.mongodb.event.CommandMetricsListener
 import com.mongodb.event.CommandStartedEvent
 import com.mongodb.event.CommandSucceededEvent
 import com.mongodb.internal.connection.NoOpSessionContext
@@ -36,15 +38,20 @@ import org.bson.BsonInt32
 import org.bson.BsonString
 import org.bson.ByteBuf
 import org.bson.ByteBufNIO
+import org.bson.RawBsonDocument
 import org.bson.codecs.BsonDocumentCodec
 import org.junit.experimental.categories.Category
 import spock.lang.IgnoreIf
 import spock.lang.Specification
 
 import java.nio.ByteBuffer
+import java.nio.ByteOrder
+import java.util.concurrent.ConcurrentLinkedQueue
 import java.util.concurrent.CountDownLatch
 import java.util.concurrent.ExecutorService
 import java.util.concurrent.Executors
+import java.util.zip.DataFormatException
+import java.util.zip.Inflater
 
 import static com.mongodb.ReadPreference.primary
 import static com.mongodb.connection.ConnectionDescription.getDefaultMaxMessageSize
@@ -419,6 +426,106 @@ class InternalStreamConnectionSpecification extends Specification {
         !connection.isClosed()
     }
 
+    def 'should dispatch replies to multiplexed asynchronous commands by the request they respond to'() {
+        given:
+        def connection = new InternalStreamConnection(SERVER_ID, streamFactory, [], commandListener, initializer, true)
+        connection.open()
+        def firstCommandMessage = new CommandMessage(cmdNamespace, new BsonDocument('ping', new BsonInt32(1)), fieldNameValidator,
+                primary(), messageSettings)
+        def secondCommandMessage = new CommandMessage(cmdNamespace, new BsonDocument('ping', new BsonInt32(2)), fieldNameValidator,
+                primary(), messageSettings)
+        def firstCallback = new FutureResultCallback()
+        def secondCallback = new FutureResultCallback()
+        def firstResponse = '{ok : 1, n : 1}'
+        def secondResponse = '{ok : 1, n : 2}'
+        def headers = [helper.messageHeader(secondCommandMessage.getId(), secondResponse),
+                       helper.messageHeader(firstCommandMessage.getId(), firstResponse)]
+        def bodies = [helper.reply(secondResponse), helper.reply(firstResponse)]
+
+        stream.getBuffer(1024) >> { new ByteBufNIO(ByteBuffer.wrap(new byte[1024])) }
+        stream.writeAsync(_, _) >> { buffers, handler ->
+            handler.completed(null)
+        }
+        stream.readAsync(16, _) >> { numBytes, handler ->
+            handler.completed(headers.remove(0))
+        }
+        stream.readAsync(_, _) >> { numBytes, handler ->
+            handler.completed(bodies.remove(0))
+        }
+
+        when:
+        connection.sendAndReceiveAsync(firstCommandMessage, new BsonDocumentCodec(), NoOpSessionContext.INSTANCE, firstCallback)
+
+        then:
+        firstCallback.get() == BsonDocument.parse(firstResponse)
+        !secondCallback.isDone()
+
+        when:
+        connection.sendAndReceiveAsync(secondCommandMessage, new BsonDocumentCodec(), NoOpSessionContext.INSTANCE, secondCallback)
+
+        then:
+        secondCallback.get() == BsonDocument.parse(secondResponse)
+        headers.isEmpty()
+        bodies.isEmpty()
+    }
+
+    def 'should not corrupt the compressed messages of concurrent multiplexed asynchronous commands'() {
+        given:
+        def zlibDescription = new ConnectionDescription(connectionId, new ServerVersion(3, 6), ServerType.STANDALONE,
+                getDefaultMaxWriteBatchSize(), getDefaultMaxDocumentSize(), getDefaultMaxMessageSize(), ['zlib'])
+        def zlibInitializer = Mock(InternalConnectionInitializer) {
+            initialize(_) >> { zlibDescription }
+        }
+        def connection = new InternalStreamConnection(SERVER_ID, streamFactory, [MongoCompressor.createZlibCompressor()],
+                commandListener, zlibInitializer, true)
+        connection.open()
+        int numberOfThreads = 8
+        int commandsPerThread = 25
+        def written = new ConcurrentLinkedQueue<byte[]>()
+        def callbacks = new ConcurrentLinkedQueue<FutureResultCallback>()
+        stream.getBuffer(_) >> { int size -> new ByteBufNIO(ByteBuffer.allocate(size)) }
+        stream.writeAsync(_, _) >> { List<ByteBuf> buffers, AsyncCompletionHandler<Void> handler ->
+            def bytes = new ByteArrayOutputStream()
+            buffers.each { ByteBuf buffer ->
+                def array = new byte[buffer.remaining()]
+                buffer.duplicate().get(array)
+                bytes.write(array)
+            }
+            written.add(bytes.toByteArray())
+            handler.completed(null)
+        }
+        def executor = Executors.newFixedThreadPool(numberOfThreads)
+        def startLatch = new CountDownLatch(1)
+
+        when:
+        def futures = (0..<numberOfThreads).collect { int thread ->
+            executor.submit {
+                startLatch.await()
+                (0..<commandsPerThread).each { int i ->
+                    int id = thread * commandsPerThread + i
+                    def command = new BsonDocument('ping', new BsonInt32(1)).append('id', new BsonInt32(id))
+                            .append('padding', new BsonString(padding(id)))
+                    def callback = new FutureResultCallback()
+                    callbacks.add(callback)
+                    connection.sendAndReceiveAsync(new CommandMessage(cmdNamespace, command, fieldNameValidator, primary(),
+                            messageSettings), new BsonDocumentCodec(), NoOpSessionContext.INSTANCE, callback)
+                }
+            }
+        }
+        startLatch.countDown()
+        futures*.get(30, SECONDS)
+        def commands = written.collect { inflateCommand(it) }
+
+        then:
+        callbacks.every { !it.isDone() }
+        !commands.contains(null)
+        commands.collect { it.getInt32('id').getValue() } as Set == (0..<numberOfThreads * commandsPerThread) as Set
+        commands.every { it.getString('padding').getValue() == padding(it.getInt32('id').getValue()) }
+
+        cleanup:
+        executor.shutdownNow()
+    }
+
     def 'should notify all asynchronous writers of an exception'() {
         given:
         int numberOfOperations = 3
@@ -473,6 +580,28 @@ class InternalStreamConnectionSpecification extends Specification {
                         new BsonDocument('ok', new BsonInt32(1)), 1000)])
     }
 
+    def 'should not copy the reply into the succeeded event for a command metrics listener'() {
+        given:
+        def metricsListener = Mock(CommandMetricsListener)
+        def connection = new InternalStreamConnection(SERVER_ID, streamFactory, [], metricsListener, initializer)
+        connection.open()
+        def pingCommandDocument = new BsonDocument('ping', new BsonInt32(1))
+        def commandMessage = new CommandMessage(cmdNamespace, pingCommandDocument, fieldNameValidator, primary(), messageSettings)
+        stream.getBuffer(1024) >> { new ByteBufNIO(ByteBuffer.wrap(new byte[1024])) }
+        stream.read(16) >> helper.defaultMessageHeader(commandMessage.getId())
+        stream.read(90) >> helper.defaultReply()
+
+        when:
+        def result = connection.sendAndReceive(commandMessage, new BsonDocumentCodec(), NoOpSessionContext.INSTANCE)
+
+        then:
+        result.getInt32('ok') == new BsonInt32(1)
+        1 * metricsListener.commandStarted(_)
+        1 * metricsListener.commandSucceeded({ CommandSucceededEvent event ->
+            event.commandName == 'ping' && event.response.isEmpty() && event.responseSize > 0
+        })
+    }
+
     def 'should extract cluster and operation time into session context'() {
         given:
         def connection = getOpenedConnection()
@@ -870,4 +999,32 @@ class InternalStreamConnectionSpecification extends Specification {
             true
         }
     }
+
+    private static String padding(final int id) {
+        (0..<2000).collect { Integer.toString(it * (id + 1), 36) }.join(',')
+    }
+
+    // Inflates an OP_COMPRESSED message holding an OP_MSG, and returns the command document in its first section, or null if the
+    // message is corrupt
+    private static BsonDocument inflateCommand(final byte[] message) {
+        def buffer = ByteBuffer.wrap(message).order(ByteOrder.LITTLE_ENDIAN)
+        assert buffer.getInt(0) == message.length
+        assert buffer.getInt(12) == OpCode.OP_COMPRESSED.getValue()
+        assert buffer.getInt(16) == OpCode.OP_MSG.getValue()
+        def uncompressed = new byte[buffer.getInt(20)]
+        def inflater = new Inflater()
+        try {
+            inflater.setInput(message, 25, message.length - 25)
+            if (inflater.inflate(uncompressed) != uncompressed.length || !inflater.finished()) {
+                return null
+            }
+        } catch (DataFormatException e) {
+            return null
+        } finally {
+            inflater.end()
+        }
+        def body = ByteBuffer.wrap(uncompressed).order(ByteOrder.LITTLE_ENDIAN)
+        assert body.get(4) == (byte) 0
+        new RawBsonDocument(uncompressed, 5, body.getInt(5))
+    }
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection
+
+import com.mongodb.ServerAddress
+import com.mongodb.event.ClusterClosedEvent
+import com.mongodb.event.CommandFailedEvent
+import com.mongodb.event.CommandStartedEvent
+import com.mongodb.event.CommandSucceededEvent
+import com.mongodb.management.JMXCommandListener
+import org.bson.BsonDocument
+import org.bson.BsonInt32
+import org.bson.BsonInt64
+import org.bson.BsonString
+import spock.lang.Specification
+import spock.lang.Subject
+
+import javax.management.ObjectName
+import java.lang.management.ManagementFactory
+
+class JMXCommandListenerSpecification extends Specification {
+    private static final ServerId SERVER_ID = new ServerId(new ClusterId(), new ServerAddress('host1', 27018))
+    private static final ConnectionDescription CONNECTION_DESCRIPTION = new ConnectionDescription(SERVER_ID)
+
+    @Subject
+    private final JMXCommandListener jmxListener = new JMXCommandListener()
+
+    def cleanup() {
+        jmxListener.clusterClosed(new ClusterClosedEvent(SERVER_ID.clusterId))
+    }
+
+    def 'statistics should reflect the completed commands'() {
+        when:
+        jmxListener.commandStarted(new CommandStartedEvent(1, CONNECTION_DESCRIPTION, 'db', 'find',
+                new BsonDocument('find', new BsonString('coll'))))
+        jmxListener.commandSucceeded(new CommandSucceededEvent(1, CONNECTION_DESCRIPTION, 'find', new BsonDocument(), 100, 2000000))
+        jmxListener.commandStarted(new CommandStartedEvent(2, CONNECTION_DESCRIPTION, 'db', 'getMore',
+                new BsonDocument('getMore', new BsonInt64(42)).append('collection', new BsonString('coll'))))
+        jmxListener.commandFailed(new CommandFailedEvent(2, CONNECTION_DESCRIPTION, 'getMore', 3000000, new RuntimeException()))
+        jmxListener.commandStarted(new CommandStartedEvent(3, CONNECTION_DESCRIPTION, 'admin', 'ismaster',
+                new BsonDocument('ismaster', new BsonInt32(1))))
+        jmxListener.commandSucceeded(new CommandSucceededEvent(3, CONNECTION_DESCRIPTION, 'ismaster', new BsonDocument(), 1000))
+
+        then:
+        with(jmxListener.getMBean('find', 'db.coll', SERVER_ID)) {
+            commandName == 'find'
+            namespace == 'db.coll'
+            host == SERVER_ID.address.host
+            port == SERVER_ID.address.port
+            count == 1
+            failureCount == 0
+            bytesReceived == 100
+            Math.abs(latencyP50Micros - 2000) < 2000 / 16
+        }
+        with(jmxListener.getMBean('getMore', 'db.coll', SERVER_ID)) {
+            count == 1
+            failureCount == 1
+            bytesReceived == 0
+        }
+        jmxListener.getMBean('ismaster', 'admin', SERVER_ID).count == 1
+        jmxListener.commandStatistics.size() == 3
+    }
+
+    def 'should add MBean'() {
+        when:
+        jmxListener.commandStarted(new CommandStartedEvent(1, CONNECTION_DESCRIPTION, 'db', 'find',
+                new BsonDocument('find', new BsonString('coll'))))
+        jmxListener.commandSucceeded(new CommandSucceededEvent(1, CONNECTION_DESCRIPTION, 'find', new BsonDocument(), 1000))
+
+        then:
+        ManagementFactory.getPlatformMBeanServer().isRegistered(
+                new ObjectName(jmxListener.getMBeanObjectName('find', 'db.coll', SERVER_ID)))
+    }
+
+    def 'should remove MBeans when the cluster is closed'() {
+        given:
+        jmxListener.commandStarted(new CommandStartedEvent(1, CONNECTION_DESCRIPTION, 'db', 'find',
+                new BsonDocument('find', new BsonString('coll'))))
+        jmxListener.commandSucceeded(new CommandSucceededEvent(1, CONNECTION_DESCRIPTION, 'find', new BsonDocument(), 1000))
+
+        when:
+        jmxListener.clusterClosed(new ClusterClosedEvent(new ClusterId()))
+
+        then:
+        jmxListener.getMBean('find', 'db.coll', SERVER_ID) != null
+
+        when:
+        jmxListener.clusterClosed(new ClusterClosedEvent(SERVER_ID.clusterId))
+
+        then:
+        jmxListener.getMBean('find', 'db.coll', SERVER_ID) == null
+        !ManagementFactory.getPlatformMBeanServer().isRegistered(
+                new ObjectName(jmxListener.getMBeanObjectName('find', 'db.coll', SERVER_ID)))
+    }
+
+    def 'should aggregate the statistics of the namespaces beyond the maximum'() {
+        given:
+        def listener = new JMXCommandListener(2)
+
+        when:
+        ['coll1', 'coll2', 'coll3', 'coll4', 'coll1'].eachWithIndex { String collectionName, int i ->
+            listener.commandStarted(new CommandStartedEvent(i, CONNECTION_DESCRIPTION, 'db', 'find',
+                    new BsonDocument('find', new BsonString(collectionName))))
+            listener.commandSucceeded(new CommandSucceededEvent(i, CONNECTION_DESCRIPTION, 'find', new BsonDocument(), 1000))
+        }
+
+        then:
+        listener.getMBean('find', 'db.coll1', SERVER_ID).count == 2
+        listener.getMBean('find', 'db.coll2', SERVER_ID).count == 1
+        listener.getMBean('find', JMXCommandListener.OTHER_NAMESPACES, SERVER_ID).count == 2
+        listener.commandStatistics.size() == 3
+        ManagementFactory.getPlatformMBeanServer().isRegistered(
+                new ObjectName(listener.getMBeanObjectName('find', JMXCommandListener.OTHER_NAMESPACES, SERVER_ID)))
+
+        cleanup:
+        listener.clusterClosed(new ClusterClosedEvent(SERVER_ID.clusterId))
+    }
+
+    def 'should aggregate the statistics of all namespaces if the maximum is 0'() {
+        given:
+        def listener = new JMXCommandListener(0)
+
+        when:
+        listener.commandStarted(new CommandStartedEvent(1, CONNECTION_DESCRIPTION, 'db', 'find',
+                new BsonDocument('find', new BsonString('coll'))))
+        listener.commandSucceeded(new CommandSucceededEvent(1, CONNECTION_DESCRIPTION, 'find', new BsonDocument(), 1000))
+
+        then:
+        listener.getMBean('find', JMXCommandListener.OTHER_NAMESPACES, SERVER_ID).count == 1
+        listener.commandStatistics.size() == 1
+
+        cleanup:
+        listener.clusterClosed(new ClusterClosedEvent(SERVER_ID.clusterId))
+    }
+
+    def 'should throw if the maximum number of namespaces is negative'() {
+        when:
+        new JMXCommandListener(-1)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def 'should create a valid ObjectName'() {
+        when:
+        def objectName = new ObjectName(jmxListener.getMBeanObjectName('find', 'db.coll', SERVER_ID))
+
+        then:
+        objectName.toString() == "org.mongodb.driver:type=Command,clusterId=${SERVER_ID.clusterId.value}," +
+        "host=${SERVER_ID.address.host},port=${SERVER_ID.address.port},commandName=find,namespace=db.coll"
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection;
+
+import com.mongodb.ServerAddress;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A server on the loopback interface that accepts a single connection from a stream under test, and either sends it bytes in separate
+ * chunks or receives bytes from it.
+ */
+public class LoopbackServer implements Closeable {
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    public LoopbackServer() throws IOException {
+        this(0);
+    }
+
+    /**
+     * @param receiveBufferSize the receive buffer size of the accepted connection, or 0 for the default
+     */
+    public LoopbackServer(final int receiveBufferSize) throws IOException {
+        serverSocket = new ServerSocket();
+        if (receiveBufferSize > 0) {
+            serverSocket.setReceiveBufferSize(receiveBufferSize);
+        }
+        serverSocket.setSoTimeout(10000);
+        serverSocket.bind(new InetSocketAddress(InetAddress.getByName("127.0.0.1"), 0), 1);
+    }
+
+    public ServerAddress getAddress() {
+        return new ServerAddress("127.0.0.1", serverSocket.getLocalPort());
+    }
+
+    /**
+     * Accepts a connection and writes each chunk to it with a separate flush, pausing between chunks so that the client sees them as
+     * separate short reads, then closes the connection.
+     */
+    public Future<Void> send(final List<byte[]> chunks) {
+        return executor.submit(new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                Socket socket = serverSocket.accept();
+                try {
+                    socket.setTcpNoDelay(true);
+                    OutputStream outputStream = socket.getOutputStream();
+                    for (byte[] chunk : chunks) {
+                        outputStream.write(chunk);
+                        outputStream.flush();
+                        Thread.sleep(5);
+                    }
+                } finally {
+                    socket.close();
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Accepts a connection and reads the given number of bytes from it, after waiting long enough for the client's writes to fill the
+     * socket buffers.
+     */
+    public Future<byte[]> receive(final int numBytes) {
+        return executor.submit(new Callable<byte[]>() {
+            @Override
+            public byte[] call() throws Exception {
+                Socket socket = serverSocket.accept();
+                try {
+                    Thread.sleep(100);
+                    InputStream inputStream = socket.getInputStream();
+                    ByteArrayOutputStream received = new ByteArrayOutputStream(numBytes);
+                    byte[] buffer = new byte[4096];
+                    while (received.size() < numBytes) {
+                        int bytesRead = inputStream.read(buffer, 0, Math.min(buffer.length, numBytes - received.size()));
+                        if (bytesRead == -1) {
+                            break;
+                        }
+                        received.write(buffer, 0, bytesRead);
+                    }
+                    return received.toByteArray();
+                } finally {
+                    socket.close();
+                }
+            }
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        executor.shutdownNow();
+        serverSocket.close();
+    }
+}
@@ -17,8 +17,12 @@
 package com.mongodb.connection;
 
 import com.mongodb.MongoInternalException;
+import org.bson.BsonDocument;
 import org.bson.ByteBufNIO;
 import org.bson.Document;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.io.FieldNameCache;
 import org.junit.Test;
 
 import java.nio.Buffer;
@@ -26,6 +30,10 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
 import static com.mongodb.connection.ConnectionDescription.getDefaultMaxMessageSize;
+import static com.mongodb.connection.MessageHelper.buildReply;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 public class ReplyMessageTest {
     @Test(expected = MongoInternalException.class)
@@ -70,4 +78,30 @@ public class ReplyMessageTest {
         ReplyHeader replyHeader = new ReplyHeader(byteBuf, new MessageHeader(byteBuf, getDefaultMaxMessageSize()));
         new ReplyMessage<Document>(replyHeader, 5);
     }
+
+    @Test
+    public void shouldDecodeFieldNamesWithTheFieldNameCacheOfTheDecoderContext() {
+        DecoderContext decoderContext = DecoderContext.builder().fieldNameCache(new FieldNameCache()).build();
+        String json = "{cursor: {id: 0, ns: 'db.coll', firstBatch: []}, ok: 1}";
+
+        BsonDocument first = new ReplyMessage<BsonDocument>(buildReply(1, json, 0), new BsonDocumentCodec(), 1, decoderContext)
+                                     .getDocuments().get(0);
+        BsonDocument second = new ReplyMessage<BsonDocument>(buildReply(2, json, 0), new BsonDocumentCodec(), 2, decoderContext)
+                                      .getDocuments().get(0);
+
+        assertEquals(BsonDocument.parse(json), second);
+        assertSame(first.keySet().iterator().next(), second.keySet().iterator().next());
+        assertSame(first.getDocument("cursor").keySet().iterator().next(), second.getDocument("cursor").keySet().iterator().next());
+    }
+
+    @Test
+    public void shouldDecodeFieldNamesWithoutACacheByDefault() {
+        String json = "{ok: 1}";
+
+        BsonDocument first = new ReplyMessage<BsonDocument>(buildReply(1, json, 0), new BsonDocumentCodec(), 1).getDocuments().get(0);
+        BsonDocument second = new ReplyMessage<BsonDocument>(buildReply(2, json, 0), new BsonDocumentCodec(), 2).getDocuments().get(0);
+
+        assertEquals(first, second);
+        assertNotSame(first.keySet().iterator().next(), second.keySet().iterator().next());
+    }
 }
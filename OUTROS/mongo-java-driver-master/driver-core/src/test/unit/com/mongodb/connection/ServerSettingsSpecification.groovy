@@ -17,6 +17,7 @@ class ServerSettingsSpecification extends Specification {
         then:
         settings.getHeartbeatFrequency(MILLISECONDS) == 10000
         settings.getMinHeartbeatFrequency(MILLISECONDS) == 500
+        !settings.sharedMonitorThreads
         settings.serverListeners == []
         settings.serverMonitorListeners == []
     }
@@ -32,6 +33,7 @@ class ServerSettingsSpecification extends Specification {
         def settings = ServerSettings.builder()
                 .heartbeatFrequency(4, SECONDS)
                 .minHeartbeatFrequency(1, SECONDS)
+                .sharedMonitorThreads(true)
                 .addServerListener(serverListenerOne)
                 .addServerListener(serverListenerTwo)
                 .addServerMonitorListener(serverMonitorListenerOne)
@@ -42,6 +44,7 @@ class ServerSettingsSpecification extends Specification {
         then:
         settings.getHeartbeatFrequency(MILLISECONDS) == 4000
         settings.getMinHeartbeatFrequency(MILLISECONDS) == 1000
+        settings.sharedMonitorThreads
         settings.serverListeners == [serverListenerOne, serverListenerTwo]
         settings.serverMonitorListeners == [serverMonitorListenerOne, serverMonitorListenerTwo]
     }
@@ -49,11 +52,12 @@ class ServerSettingsSpecification extends Specification {
     def 'when connection string is applied to builder, all properties should be set'() {
         when:
         def settings = ServerSettings.builder().applyConnectionString(new ConnectionString('mongodb://example.com:27018/?' +
-                'heartbeatFrequencyMS=20000'))
+                'heartbeatFrequencyMS=20000&sharedMonitorThreads=true'))
                 .build()
 
         then:
         settings.getHeartbeatFrequency(MILLISECONDS) == 20000
+        settings.isSharedMonitorThreads()
     }
 
     def 'lists of listeners should be unmodifiable'() {
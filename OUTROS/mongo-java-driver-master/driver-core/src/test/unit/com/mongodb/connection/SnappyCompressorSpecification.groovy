@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection
+
+import com.mongodb.internal.connection.PowerOfTwoBufferPool
+import org.bson.ByteBufNIO
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.ByteBuffer
+
+class SnappyCompressorSpecification extends Specification {
+
+    @Unroll
+    def 'should uncompress what it compresses when #description'() {
+        given:
+        def bufferProvider = new PowerOfTwoBufferPool(BufferPoolSettings.builder().directBuffers(directPool).build())
+        def compressor = new SnappyCompressor(bufferProvider)
+        def bytes = new byte[20000]
+        bytes.eachWithIndex { byte entry, int i -> bytes[i] = (byte) (i % 7) }
+
+        when:
+        def source = [wrap(bytes, 0, 5000, directMessage), wrap(bytes, 5000, 15000, directMessage)]
+        def bsonOutput = new ByteBufferBsonOutput(bufferProvider)
+        compressor.compress(source, bsonOutput)
+        def compressed = bsonOutput.toByteArray()
+
+        then:
+        source.every { !it.hasRemaining() }
+        compressed.length < bytes.length
+
+        when:
+        def target = new ByteBufNIO(directMessage ? ByteBuffer.allocateDirect(bytes.length) : ByteBuffer.allocate(bytes.length))
+        def compressedBuffer = wrap(compressed, 0, compressed.length, directMessage)
+        compressor.uncompress(compressedBuffer, target)
+        target.flip()
+        def uncompressed = new byte[target.remaining()]
+        target.get(uncompressed)
+
+        then:
+        !compressedBuffer.hasRemaining()
+        uncompressed == bytes
+
+        where:
+        description                                 | directPool | directMessage
+        'the pool and the messages are on the heap' | false      | false
+        'the pool and the messages are direct'      | true       | true
+        'only the pool is direct'                   | true       | false
+        'only the messages are direct'              | false      | true
+    }
+
+    private static ByteBufNIO wrap(final byte[] bytes, final int offset, final int length, final boolean direct) {
+        def buffer = direct ? ByteBuffer.allocateDirect(length) : ByteBuffer.allocate(length)
+        buffer.put(bytes, offset, length)
+        buffer.flip()
+        new ByteBufNIO(buffer)
+    }
+}
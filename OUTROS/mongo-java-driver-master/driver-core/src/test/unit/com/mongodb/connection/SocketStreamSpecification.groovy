@@ -0,0 +1,159 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection
+
+import com.mongodb.MongoSocketReadException
+import com.mongodb.ServerAddress
+import org.bson.ByteBuf
+import org.bson.ByteBufNIO
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import javax.net.SocketFactory
+import java.nio.ByteBuffer
+
+import static com.mongodb.connection.SocketChannelStream.READ_AHEAD_SIZE
+import static java.util.concurrent.TimeUnit.SECONDS
+
+// Tests the read-ahead of SocketChannelStream and the buffering of SocketStream against a server on the loopback interface
+class SocketStreamSpecification extends Specification {
+    static final STREAM_TYPES = ['SocketStream', 'SocketChannelStream']
+
+    def server = new LoopbackServer()
+    def buffers = []
+    def bufferProvider = { int size ->
+        def buffer = new ByteBufNIO(ByteBuffer.allocate(size))
+        buffers << buffer
+        buffer
+    } as BufferProvider
+
+    def cleanup() {
+        server.close()
+    }
+
+    @Unroll
+    def 'should read from #streamType with chunk and read sizes #sizes'() {
+        given:
+        def chunkSizes = sizes[0]
+        def readSizes = sizes[1]
+        def bytes = createBytes(chunkSizes.sum())
+        def sent = server.send(split(bytes, chunkSizes))
+        def stream = createStream(streamType)
+        stream.open()
+
+        when:
+        def received = readSizes.collect { int numBytes ->
+            def buffer = stream.read(numBytes)
+            assert buffer.position() == 0
+            assert buffer.remaining() == numBytes
+            def readBytes = new byte[numBytes]
+            buffer.get(readBytes)
+            buffer.release()
+            readBytes
+        }
+
+        then:
+        received.collectMany { it as List } == bytes as List
+        sent.get(10, SECONDS) == null
+
+        cleanup:
+        stream.close()
+
+        where:
+        [streamType, sizes] << [STREAM_TYPES, [
+                // short reads, where a header and body arrive in separate chunks and reads span several chunks
+                [[3, 13, 1, 30, 200], [16, 16, 215]],
+                // reads that cross the end of the data held in the read-ahead buffer
+                [[4000, 4200, 1, READ_AHEAD_SIZE - 1, 50, 174], [16, READ_AHEAD_SIZE - 2, 10, READ_AHEAD_SIZE + 50, 158]],
+                // reads larger than the read-ahead buffer, both before and after some of their data has been read ahead
+                [[100, READ_AHEAD_SIZE * 3 + 7, READ_AHEAD_SIZE], [20, READ_AHEAD_SIZE * 3 + 50, 37, READ_AHEAD_SIZE]]
+        ]].combinations()
+    }
+
+    @Unroll
+    def 'should release the buffer and throw when #streamType reaches the end of stream reading #numBytes bytes'() {
+        given:
+        def sent = server.send([createBytes(10)])
+        def stream = createStream(streamType)
+        stream.open()
+        def header = stream.read(4)
+        header.release()
+
+        when:
+        stream.read(numBytes)
+
+        then:
+        thrown(MongoSocketReadException)
+        sent.get(10, SECONDS) == null
+        buffers.size() == 2
+        buffers.every { ByteBuf buffer -> buffer.referenceCount == 0 }
+
+        cleanup:
+        stream.close()
+
+        where:
+        [streamType, numBytes] << [STREAM_TYPES, [16, READ_AHEAD_SIZE * 2]].combinations()
+    }
+
+    @Unroll
+    def 'should write all the buffers from #streamType'() {
+        given:
+        def sizes = [5, 0, 100000, 3, 1 << 20, 17]
+        def bytes = createBytes(sizes.sum())
+        def received = server.receive(bytes.length)
+        def stream = createStream(streamType)
+        stream.open()
+
+        when:
+        stream.write(split(bytes, sizes).collect { new ByteBufNIO(ByteBuffer.wrap(it)) })
+
+        then:
+        received.get(10, SECONDS) == bytes
+
+        cleanup:
+        stream.close()
+
+        where:
+        streamType << STREAM_TYPES
+    }
+
+    private Stream createStream(final String streamType) {
+        ServerAddress address = server.getAddress()
+        def settings = SocketSettings.builder().build()
+        def sslSettings = SslSettings.builder().build()
+        streamType == 'SocketStream' ? new SocketStream(address, settings, sslSettings, SocketFactory.getDefault(), bufferProvider)
+                                     : new SocketChannelStream(address, settings, sslSettings, bufferProvider)
+    }
+
+    static byte[] createBytes(final int length) {
+        def bytes = new byte[length]
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i % 251)
+        }
+        bytes
+    }
+
+    static List<byte[]> split(final byte[] bytes, final List<Integer> sizes) {
+        def chunks = []
+        int offset = 0
+        for (int size : sizes) {
+            chunks << Arrays.copyOfRange(bytes, offset, offset + size)
+            offset += size
+        }
+        chunks
+    }
+}
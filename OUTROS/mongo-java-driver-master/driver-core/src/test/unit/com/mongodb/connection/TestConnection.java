@@ -141,6 +141,36 @@ class TestConnection implements Connection, AsyncConnection {
         executeEnqueuedCommandBasedProtocolAsync(sessionContext, callback);
     }
 
+    @Override
+    public <T> T exhaustCommand(final String database, final BsonDocument command, final FieldNameValidator fieldNameValidator,
+                                final ReadPreference readPreference, final Decoder<T> commandResultDecoder,
+                                final SessionContext sessionContext) {
+        return executeEnqueuedCommandBasedProtocol(sessionContext);
+    }
+
+    @Override
+    public <T> void exhaustCommandAsync(final String database, final BsonDocument command, final FieldNameValidator fieldNameValidator,
+                                        final ReadPreference readPreference, final Decoder<T> commandResultDecoder,
+                                        final SessionContext sessionContext, final SingleResultCallback<T> callback) {
+        executeEnqueuedCommandBasedProtocolAsync(sessionContext, callback);
+    }
+
+    @Override
+    public boolean hasMoreToCome() {
+        return false;
+    }
+
+    @Override
+    public <T> T receiveMoreToCome(final Decoder<T> commandResultDecoder, final SessionContext sessionContext) {
+        return executeEnqueuedCommandBasedProtocol(sessionContext);
+    }
+
+    @Override
+    public <T> void receiveMoreToComeAsync(final Decoder<T> commandResultDecoder, final SessionContext sessionContext,
+                                           final SingleResultCallback<T> callback) {
+        executeEnqueuedCommandBasedProtocolAsync(sessionContext, callback);
+    }
+
     @Override
     public <T> QueryResult<T> query(final MongoNamespace namespace, final BsonDocument queryDocument, final BsonDocument fields,
                                     final int numberToReturn, final int skip,
@@ -60,6 +60,22 @@ public class TestConnectionPool implements ConnectionPool {
                 throw new UnsupportedOperationException("Not implemented yet!");
             }
 
+            @Override
+            public boolean hasMoreToCome() {
+                throw new UnsupportedOperationException("Not implemented yet!");
+            }
+
+            @Override
+            public <T> T receive(final Decoder<T> decoder, final SessionContext sessionContext) {
+                throw new UnsupportedOperationException("Not implemented yet!");
+            }
+
+            @Override
+            public <T> void receiveAsync(final Decoder<T> decoder, final SessionContext sessionContext,
+                                         final SingleResultCallback<T> callback) {
+                throw new UnsupportedOperationException("Not implemented yet!");
+            }
+
             @Override
             public ResponseBuffers receiveMessage(final int responseTo) {
                 throw new UnsupportedOperationException("Not implemented yet!");
@@ -129,6 +145,11 @@ public class TestConnectionPool implements ConnectionPool {
     public void invalidate() {
     }
 
+    @Override
+    public int getLoad() {
+        return 0;
+    }
+
     @Override
     public void close() {
     }
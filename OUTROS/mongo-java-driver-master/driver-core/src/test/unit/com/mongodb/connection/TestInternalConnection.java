@@ -180,6 +180,21 @@ class TestInternalConnection implements InternalConnection {
         }
     }
 
+    @Override
+    public boolean hasMoreToCome() {
+        return false;
+    }
+
+    @Override
+    public <T> T receive(final Decoder<T> decoder, final SessionContext sessionContext) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> void receiveAsync(final Decoder<T> decoder, final SessionContext sessionContext, final SingleResultCallback<T> callback) {
+        callback.onResult(null, new UnsupportedOperationException());
+    }
+
     private ReplyHeader replaceResponseTo(final ReplyHeader header, final int responseTo) {
         ByteBuffer headerByteBuffer = ByteBuffer.allocate(36);
         headerByteBuffer.order(ByteOrder.LITTLE_ENDIAN);
@@ -95,6 +95,22 @@ class TestInternalConnectionFactory implements InternalConnectionFactory {
             callback.onResult(null, null);
         }
 
+        @Override
+        public boolean hasMoreToCome() {
+            return false;
+        }
+
+        @Override
+        public <T> T receive(final Decoder<T> decoder, final SessionContext sessionContext) {
+            return null;
+        }
+
+        @Override
+        public <T> void receiveAsync(final Decoder<T> decoder, final SessionContext sessionContext,
+                                     final SingleResultCallback<T> callback) {
+            callback.onResult(null, null);
+        }
+
         @Override
         public ResponseBuffers receiveMessage(final int responseTo) {
             return null;
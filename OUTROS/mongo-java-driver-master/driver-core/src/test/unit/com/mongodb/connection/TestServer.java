@@ -29,6 +29,7 @@ public class TestServer implements ClusterableServer {
     private boolean isClosed;
     private final ServerId serverId;
     private int connectCount;
+    private int load;
 
     public TestServer(final ServerAddress serverAddress, final ServerListener serverListener) {
         this.serverId = new ServerId(new ClusterId(), serverAddress);
@@ -69,6 +70,15 @@ public class TestServer implements ClusterableServer {
         return connectCount;
     }
 
+    @Override
+    public int getLoad() {
+        return load;
+    }
+
+    public void setLoad(final int load) {
+        this.load = load;
+    }
+
     @Override
     public ServerDescription getDescription() {
         return description;
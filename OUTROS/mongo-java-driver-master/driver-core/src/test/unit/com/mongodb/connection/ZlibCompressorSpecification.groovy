@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.mongodb.connection
+
+import com.mongodb.MongoCompressor
+import com.mongodb.management.CompressorStatistics
+import org.bson.ByteBufNIO
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+
+class ZlibCompressorSpecification extends Specification {
+
+    def 'should uncompress what it compresses'() {
+        given:
+        def compressor = new ZlibCompressor(MongoCompressor.createZlibCompressor())
+        def bytes = new byte[20000]
+        bytes.eachWithIndex { byte entry, int i -> bytes[i] = (byte) (i % 7) }
+
+        when:
+        def compressed = compress(compressor, bytes, direct)
+        def uncompressed = uncompress(compressor, compressed, bytes.length, direct)
+
+        then:
+        uncompressed == bytes
+        compressed.length < bytes.length
+
+        when: 'the same compressor is reused'
+        compressed = compress(compressor, bytes, direct)
+        uncompressed = uncompress(compressor, compressed, bytes.length, direct)
+
+        then:
+        uncompressed == bytes
+
+        where:
+        direct << [false, true]
+    }
+
+    def 'should record bytes in, bytes out and time spent in the statistics of the compressor'() {
+        given:
+        def compressor = new ZlibCompressor(MongoCompressor.createZlibCompressor())
+        def statistics = CompressorStatistics.enable('zlib')
+        def bytes = new byte[100000]
+
+        when:
+        def compressed = compress(compressor, bytes, false)
+        uncompress(compressor, compressed, bytes.length, false)
+
+        then:
+        CompressorStatistics.getInstance('zlib').is(statistics)
+        statistics.compressorName == 'zlib'
+        statistics.bytesIn == bytes.length + compressed.length
+        statistics.bytesOut == compressed.length + bytes.length
+        statistics.timeSpentMicros >= 0
+
+        cleanup:
+        CompressorStatistics.disable('zlib')
+    }
+
+    def 'should not record statistics unless they are enabled'() {
+        given:
+        def compressor = new ZlibCompressor(MongoCompressor.createZlibCompressor())
+
+        when:
+        uncompress(compressor, compress(compressor, new byte[1000], false), 1000, false)
+
+        then:
+        CompressorStatistics.getInstance('zlib') == null
+    }
+
+    def 'should release the deflater and inflater when closed'() {
+        given:
+        def compressor = new ZlibCompressor(MongoCompressor.createZlibCompressor())
+        compressor.close()
+
+        when:
+        compress(compressor, new byte[10], false)
+
+        then:
+        thrown(RuntimeException)
+    }
+
+    private static byte[] compress(final Compressor compressor, final byte[] bytes, final boolean direct) {
+        def half = bytes.length.intdiv(2)
+        def source = [wrap(bytes, 0, half, direct), wrap(bytes, half, bytes.length - half, direct)]
+        def bsonOutput = new ByteBufferBsonOutput(new SimpleBufferProvider())
+        compressor.compress(source, bsonOutput)
+        bsonOutput.toByteArray()
+    }
+
+    private static byte[] uncompress(final Compressor compressor, final byte[] compressed, final int uncompressedSize,
+                                     final boolean direct) {
+        def target = new ByteBufNIO(direct ? ByteBuffer.allocateDirect(uncompressedSize) : ByteBuffer.allocate(uncompressedSize))
+        compressor.uncompress(wrap(compressed, 0, compressed.length, direct), target)
+        target.flip()
+        def uncompressed = new byte[target.remaining()]
+        target.get(uncompressed)
+        uncompressed
+    }
+
+    private static ByteBufNIO wrap(final byte[] bytes, final int offset, final int length, final boolean direct) {
+        def buffer = direct ? ByteBuffer.allocateDirect(length) : ByteBuffer.allocate(length)
+        buffer.put(bytes, offset, length)
+        buffer.flip()
+        new ByteBufNIO(buffer)
+    }
+}
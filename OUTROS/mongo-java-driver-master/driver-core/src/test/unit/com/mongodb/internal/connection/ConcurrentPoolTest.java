@@ -21,11 +21,16 @@ import com.mongodb.MongoTimeoutException;
 import org.junit.Test;
 
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -188,6 +193,118 @@ public class ConcurrentPoolTest {
         assertTrue(pool.acquirePermit(-1, MILLISECONDS));
     }
 
+    @Test
+    public void testThatPoolIsFairByDefault() {
+        pool = new ConcurrentPool<TestCloseable>(3, new TestItemFactory());
+        assertTrue(pool.isFair());
+
+        pool = new ConcurrentPool<TestCloseable>(3, new TestItemFactory(), false);
+        assertFalse(pool.isFair());
+        assertFalse(pool.isStriped());
+    }
+
+    @Test
+    public void testThatNonFairPoolEnforcesMaxSize() {
+        pool = new ConcurrentPool<TestCloseable>(2, new TestItemFactory(), false);
+
+        TestCloseable first = pool.get();
+        pool.get();
+        try {
+            pool.get(1, MILLISECONDS);
+            fail();
+        } catch (MongoTimeoutException e) {
+            // all good
+        }
+
+        pool.release(first);
+        assertEquals(2, pool.getInUseCount() + pool.getAvailableCount());
+        assertNotNull(pool.get(1, MILLISECONDS));
+    }
+
+    @Test
+    public void testThatNonFairPoolNeverHandsOutMoreThanMaxSizeConcurrently() throws InterruptedException {
+        pool = new ConcurrentPool<TestCloseable>(4, new TestItemFactory(), false);
+        final AtomicInteger checkedOut = new AtomicInteger();
+        final AtomicInteger maxCheckedOut = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(16);
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int i = 0; i < 16; i++) {
+            threads.add(new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < 1000; j++) {
+                        TestCloseable t = pool.get();
+                        int current = checkedOut.incrementAndGet();
+                        int max = maxCheckedOut.get();
+                        while (current > max && !maxCheckedOut.compareAndSet(max, current)) {
+                            max = maxCheckedOut.get();
+                        }
+                        checkedOut.decrementAndGet();
+                        pool.release(t);
+                    }
+                    latch.countDown();
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        latch.await();
+
+        assertTrue(maxCheckedOut.get() <= 4);
+        assertEquals(0, pool.getInUseCount());
+        assertTrue(pool.getAvailableCount() <= 4);
+    }
+
+    @Test
+    public void testThatStripedPoolReusesItemsReleasedByOtherThreads() throws InterruptedException {
+        pool = new ConcurrentPool<TestCloseable>(3, new TestItemFactory(), false, true);
+        final List<TestCloseable> released = new ArrayList<TestCloseable>();
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                TestCloseable t = pool.get();
+                released.add(t);
+                pool.release(t);
+            }
+        });
+        thread.start();
+        thread.join();
+
+        assertEquals(1, pool.getAvailableCount());
+        assertSame(released.get(0), pool.get());
+        assertEquals(0, pool.getAvailableCount());
+        assertEquals(1, pool.getInUseCount());
+    }
+
+    @Test
+    public void testThatStripedPoolPrunesAndClosesItemsInSlots() {
+        pool = new ConcurrentPool<TestCloseable>(3, new TestItemFactory(), false, true);
+
+        TestCloseable t1 = pool.get();
+        TestCloseable t2 = pool.get();
+        TestCloseable t3 = pool.get();
+        t1.shouldPrune = ConcurrentPool.Prune.STOP;
+        t2.shouldPrune = ConcurrentPool.Prune.YES;
+        t3.shouldPrune = ConcurrentPool.Prune.NO;
+        pool.release(t1);
+        pool.release(t2);
+        pool.release(t3);
+
+        pool.prune();
+
+        assertEquals(2, pool.getAvailableCount());
+        assertFalse(t1.isClosed());
+        assertTrue(t2.isClosed());
+        assertFalse(t3.isClosed());
+
+        pool.close();
+
+        assertTrue(t1.isClosed());
+        assertTrue(t3.isClosed());
+        assertEquals(0, pool.getAvailableCount());
+    }
+
     @Test
     public void testPrune() {
         pool = new ConcurrentPool<TestCloseable>(5, new TestItemFactory());
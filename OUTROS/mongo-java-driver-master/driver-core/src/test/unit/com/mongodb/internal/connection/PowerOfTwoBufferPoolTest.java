@@ -16,15 +16,20 @@
 
 package com.mongodb.internal.connection;
 
+import com.mongodb.connection.BufferPoolSettings;
 import org.bson.ByteBuf;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class PowerOfTwoBufferPoolTest {
     private PowerOfTwoBufferPool pool;
@@ -73,4 +78,45 @@ public class PowerOfTwoBufferPoolTest {
         buf.release();
         assertNotSame(buf, pool.getBuffer((int) Math.pow(2, 10) + 1));
     }
+
+    @Test
+    public void testDirectBuffers() {
+        PowerOfTwoBufferPool directPool = new PowerOfTwoBufferPool(10, BufferPoolSettings.builder().directBuffers(true).build());
+        ByteBuf buf = directPool.getBuffer(100);
+        assertTrue(buf.asNIO().isDirect());
+        assertEquals(ByteOrder.LITTLE_ENDIAN, buf.asNIO().order());
+        assertEquals(128, buf.capacity());
+        assertEquals(100, buf.limit());
+
+        ByteBuf hugeBuf = directPool.getBuffer((int) Math.pow(2, 10) + 1);
+        assertTrue(hugeBuf.asNIO().isDirect());
+        assertFalse(pool.getBuffer(100).asNIO().isDirect());
+    }
+
+    @Test
+    public void testMaxBuffersPerSize() {
+        PowerOfTwoBufferPool cappedPool = new PowerOfTwoBufferPool(10, BufferPoolSettings.builder().maxBuffersPerSize(1).build());
+        ByteBuf first = cappedPool.getBuffer(1024);
+        ByteBuf second = cappedPool.getBuffer(1024);
+        ByteBuffer firstByteBuffer = first.asNIO();
+
+        first.release();
+        second.release();
+
+        assertSame(firstByteBuffer, cappedPool.getBuffer(1024).asNIO());
+        assertNotSame(firstByteBuffer, cappedPool.getBuffer(1024).asNIO());
+    }
+
+    @Test
+    public void testIdleBuffersArePruned() throws InterruptedException {
+        PowerOfTwoBufferPool idlePool = new PowerOfTwoBufferPool(10, BufferPoolSettings.builder().maxIdleTime(1, MILLISECONDS).build());
+        ByteBuf buf = idlePool.getBuffer(1024);
+        ByteBuffer byteBuffer = buf.asNIO();
+        buf.release();
+
+        Thread.sleep(10);
+        idlePool.prune();
+
+        assertNotSame(byteBuffer, idlePool.getBuffer(1024).asNIO());
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.management
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import static java.util.concurrent.TimeUnit.DAYS
+import static java.util.concurrent.TimeUnit.MILLISECONDS
+
+class LatencyHistogramSpecification extends Specification {
+
+    def 'should return 0 when nothing has been recorded'() {
+        given:
+        def histogram = new LatencyHistogram()
+
+        expect:
+        histogram.count == 0
+        histogram.meanMicros == 0
+        histogram.getPercentileMicros(50) == 0
+    }
+
+    @Unroll
+    def 'should put #micros in a bucket whose range includes it'() {
+        when:
+        def bucket = LatencyHistogram.getBucket(micros)
+
+        then:
+        LatencyHistogram.getLowestValue(bucket) <= micros
+        LatencyHistogram.getLowestValue(bucket + 1) > micros
+
+        where:
+        micros << [0, 1, 15, 16, 17, 31, 32, 33, 1000, 123456, 4294967295]
+    }
+
+    @Unroll
+    def 'should estimate the #percentile percentile within the bucket precision'() {
+        given:
+        def histogram = new LatencyHistogram()
+
+        when:
+        (1..1000).each { histogram.record(it, MILLISECONDS) }
+
+        then:
+        histogram.count == 1000
+        histogram.meanMicros == 500500
+        Math.abs(histogram.getPercentileMicros(percentile) - expected) < expected / 16
+
+        where:
+        percentile | expected
+        50         | 500000
+        99         | 990000
+        99.9       | 999000
+    }
+
+    def 'should record latencies beyond the last bucket in the last bucket'() {
+        given:
+        def histogram = new LatencyHistogram()
+
+        when:
+        histogram.record(10, DAYS)
+
+        then:
+        histogram.count == 1
+        histogram.getPercentileMicros(100) >= 1L << 31
+    }
+
+    def 'should throw if the percentile is out of range'() {
+        when:
+        new LatencyHistogram().getPercentileMicros(101)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
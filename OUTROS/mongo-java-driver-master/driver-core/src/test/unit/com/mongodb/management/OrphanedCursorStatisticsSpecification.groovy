@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.management
+
+import spock.lang.Specification
+
+import javax.management.ObjectName
+import java.lang.management.ManagementFactory
+
+class OrphanedCursorStatisticsSpecification extends Specification {
+
+    def 'should count tracked and leaked cursors'() {
+        given:
+        def statistics = new OrphanedCursorStatistics(null)
+
+        when:
+        3.times { statistics.cursorTracked() }
+        statistics.cursorUntracked()
+        statistics.cursorLeaked(null)
+        statistics.cursorLeaked('Foo.bar(Foo.java:1)')
+        statistics.cursorLeaked('Foo.bar(Foo.java:1)')
+        statistics.cursorLeaked('Foo.baz(Foo.java:2)')
+
+        then:
+        statistics.getTrackedCursorCount() == 2
+        statistics.getLeakedCursorCount() == 4
+        statistics.getLeakedCursorCountsByCallSite() == ['Foo.bar(Foo.java:1)': 2L, 'Foo.baz(Foo.java:2)': 1L]
+    }
+
+    def 'should register and unregister the MBean'() {
+        given:
+        def statistics = new OrphanedCursorStatistics(description)
+        def objectName = new ObjectName(statistics.getMBeanObjectName())
+        def mBeanServer = ManagementFactory.getPlatformMBeanServer()
+
+        when:
+        statistics.registerMBean()
+        statistics.cursorTracked()
+        statistics.cursorLeaked(null)
+
+        then:
+        mBeanServer.isRegistered(objectName)
+        mBeanServer.getAttribute(objectName, 'TrackedCursorCount') == 1
+        mBeanServer.getAttribute(objectName, 'LeakedCursorCount') == 1L
+        mBeanServer.getAttribute(objectName, 'LeakedCursorCountsByCallSite') == [:]
+        objectName.getKeyProperty('type') == 'OrphanedCursors'
+        objectName.getKeyProperty('description') == expectedDescription
+
+        when:
+        statistics.unregisterMBean()
+
+        then:
+        !mBeanServer.isRegistered(objectName)
+
+        where:
+        description         | expectedDescription
+        null                | null
+        'client one'        | 'client one'
+        'client=one,two'    | '"client=one,two"'
+    }
+
+    def 'should give each instance a different MBean name'() {
+        expect:
+        new OrphanedCursorStatistics('client').getMBeanObjectName() != new OrphanedCursorStatistics('client').getMBeanObjectName()
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.operation
+
+import com.mongodb.client.model.AdaptiveBatchSize
+import org.bson.BsonBinaryReader
+import org.bson.BsonBinaryWriter
+import org.bson.BsonDocument
+import org.bson.BsonString
+import org.bson.codecs.BsonDocumentCodec
+import org.bson.codecs.DecoderContext
+import org.bson.codecs.EncoderContext
+import org.bson.io.BasicOutputBuffer
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS
+
+class AdaptiveBatchSizerSpecification extends Specification {
+
+    def 'should use the configured batch size within the bounds until a batch has been measured'() {
+        given:
+        def sizer = new AdaptiveBatchSizer(AdaptiveBatchSize.builder().minBatchSize(10).maxBatchSize(1000).build())
+
+        expect:
+        sizer.getBatchSize(configured) == expected
+
+        where:
+        configured | expected
+        0          | 10
+        5          | 10
+        100        | 100
+        -100       | 100
+        5000       | 1000
+    }
+
+    def 'should size batches to the target number of bytes'() {
+        given:
+        def sizer = new AdaptiveBatchSizer(AdaptiveBatchSize.builder().minBatchSize(10).maxBatchSize(5000).targetBatchBytes(100000)
+                                                   .targetLatency(0, MILLISECONDS).build())
+        def decoder = sizer.measure(new BsonDocumentCodec())
+
+        when:
+        receiveBatch(sizer, decoder, 10, 1000)
+
+        then:
+        sizer.getBatchSize(0) == 100
+
+        when:
+        receiveBatch(sizer, decoder, 100, 10000)
+
+        then: 'the average moves half way to the new document size'
+        sizer.getBatchSize(0) == 18
+
+        when:
+        receiveBatch(sizer, decoder, 10, 100000)
+
+        then:
+        sizer.getBatchSize(0) == 10
+    }
+
+    def 'should not measure the latency of batches that were streamed without a getMore'() {
+        given:
+        def sizer = new AdaptiveBatchSizer(AdaptiveBatchSize.builder().minBatchSize(1).targetBatchBytes(100000)
+                                                   .targetLatency(1, MILLISECONDS).build())
+        def decoder = sizer.measure(new BsonDocumentCodec())
+
+        when:
+        10.times { decode(decoder, 1000) }
+        sizer.batchReceived()
+
+        then:
+        sizer.getBatchSize(0) == 100
+    }
+
+    def receiveBatch(AdaptiveBatchSizer sizer, decoder, int numDocuments, int documentSize) {
+        sizer.getMoreSent()
+        numDocuments.times { decode(decoder, documentSize) }
+        sizer.batchReceived()
+    }
+
+    def decode(decoder, int documentSize) {
+        // A document with a single string field of n characters takes n + 13 bytes
+        def document = new BsonDocument('s', new BsonString('x' * (documentSize - 13)))
+        def buffer = new BasicOutputBuffer()
+        new BsonDocumentCodec().encode(new BsonBinaryWriter(buffer), document, EncoderContext.builder().build())
+        decoder.decode(new BsonBinaryReader(ByteBuffer.wrap(buffer.toByteArray())), DecoderContext.builder().build())
+    }
+}
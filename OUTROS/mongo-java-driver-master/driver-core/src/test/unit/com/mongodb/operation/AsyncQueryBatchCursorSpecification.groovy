@@ -483,6 +483,38 @@ class AsyncQueryBatchCursorSpecification extends Specification {
 
     }
 
+    def 'should kill the cursor only once the prefetched getMore has completed if it was closed while the getMore was in flight'() {
+        given:
+        def connectionA = referenceCountedAsyncConnection()
+        def connectionB = referenceCountedAsyncConnection()
+        def connectionSource = getAsyncConnectionSource(connectionA, connectionB)
+        def getMoreCallback = null
+        def cursor = new AsyncQueryBatchCursor<Document>(queryResult(), 0, 0, 0, CODEC, connectionSource, null, true)
+
+        when:
+        def batch = nextBatch(cursor)
+        cursor.close()
+
+        then:
+        batch == FIRST_BATCH
+        1 * connectionA.commandAsync(_, { it.containsKey('getMore') }, _, _, _, _, _) >> { getMoreCallback = it[6] }
+        0 * connectionB.commandAsync(*_)
+
+        when:
+        getMoreCallback.onResult(documentResponse(SECOND_BATCH, 43), null)
+
+        then:
+        1 * connectionB.commandAsync(NAMESPACE.databaseName, createKillCursorsDocument(new ServerCursor(43, SERVER_ADDRESS)), _,
+                primary(), _, _, _) >> {
+            it[6].onResult(null, null)
+        }
+
+        then:
+        connectionA.getCount() == 0
+        connectionB.getCount() == 0
+        connectionSource.getCount() == 0
+    }
+
     def 'should handle errors when calling close'() {
         given:
         def connectionSource = getAsyncConnectionSourceWithResult { [null, MONGO_EXCEPTION] }
@@ -20,6 +20,7 @@ import com.mongodb.MongoNamespace
 import com.mongodb.MongoSocketException
 import com.mongodb.ServerAddress
 import com.mongodb.binding.ConnectionSource
+import com.mongodb.client.model.AdaptiveBatchSize
 import com.mongodb.connection.Connection
 import com.mongodb.connection.ConnectionDescription
 import com.mongodb.connection.QueryResult
@@ -84,6 +85,176 @@ class QueryBatchCursorSpecification extends Specification {
         0          | 100        | 100
     }
 
+    def 'should fetch the next batch in the background when prefetch is enabled'() {
+        given:
+        def connection = Mock(Connection) {
+            _ * getDescription() >> Stub(ConnectionDescription) {
+                getServerVersion() >> new ServerVersion([3, 2, 0])
+            }
+        }
+        def connectionSource = Stub(ConnectionSource) {
+            getConnection() >> { connection }
+        }
+        connectionSource.retain() >> connectionSource
+
+        def namespace = new MongoNamespace('test', 'QueryBatchCursorSpecification')
+        def firstBatch = new QueryResult(namespace, [new BsonDocument('_id', new BsonInt32(1))], 42, new ServerAddress())
+        def cursor = new QueryBatchCursor<BsonDocument>(firstBatch, 0, 0, 0, new BsonDocumentCodec(), connectionSource, connection,
+                                                        true)
+        def reply = new BsonDocument('ok', new BsonInt32(1))
+                .append('cursor',
+                        new BsonDocument('id', new BsonInt64(0))
+                                .append('ns', new BsonString(namespace.getFullName()))
+                                .append('nextBatch', new BsonArrayWrapper([new BsonDocument('_id', new BsonInt32(2))])))
+
+        when:
+        def batch = cursor.next()
+        def hasNext = cursor.hasNext()
+
+        then:
+        batch == [new BsonDocument('_id', new BsonInt32(1))]
+        hasNext
+        cursor.getServerCursor() == null
+        cursor.next() == [new BsonDocument('_id', new BsonInt32(2))]
+        1 * connection.command('test', _, _, _, _, _) >> { reply }
+        1 * connection.release()
+    }
+
+    def 'should kill the cursor when closed even if the fetch of the next batch failed'() {
+        given:
+        def connection = Mock(Connection) {
+            _ * getDescription() >> Stub(ConnectionDescription) {
+                getServerVersion() >> new ServerVersion([3, 2, 0])
+            }
+        }
+        def connectionSource = Stub(ConnectionSource) {
+            getConnection() >> { connection }
+        }
+        connectionSource.retain() >> connectionSource
+
+        def namespace = new MongoNamespace('test', 'QueryBatchCursorSpecification')
+        def firstBatch = new QueryResult(namespace, [new BsonDocument('_id', new BsonInt32(1))], 42, new ServerAddress())
+        def cursor = new QueryBatchCursor<BsonDocument>(firstBatch, 0, 0, 0, new BsonDocumentCodec(), connectionSource, connection,
+                                                        true)
+
+        when:
+        cursor.next()
+        cursor.close()
+
+        then:
+        1 * connection.command('test', { it.containsKey('getMore') }, _, _, _, _) >> { throw new IllegalStateException() }
+        1 * connection.release()
+
+        then:
+        1 * connection.command('test', { it.containsKey('killCursors') }, _, _, _, _) >> { new BsonDocument('ok', new BsonInt32(1)) }
+        1 * connection.release()
+    }
+
+    def 'should receive the batches that the server streams on the same connection when exhaust is enabled'() {
+        given:
+        def connection = Mock(Connection) {
+            _ * getDescription() >> Stub(ConnectionDescription) {
+                getServerVersion() >> new ServerVersion([3, 2, 0])
+            }
+        }
+        def connectionSource = Stub(ConnectionSource) {
+            getConnection() >> { connection }
+        }
+        connectionSource.retain() >> connectionSource
+
+        def namespace = new MongoNamespace('test', 'QueryBatchCursorSpecification')
+        def firstBatch = new QueryResult(namespace, [new BsonDocument('_id', new BsonInt32(1))], 42, new ServerAddress())
+        def cursor = new QueryBatchCursor<BsonDocument>(firstBatch, 0, 0, 0, new BsonDocumentCodec(), connectionSource, connection,
+                                                        false, true)
+
+        when:
+        cursor.next()
+        def batch = cursor.next()
+
+        then:
+        batch == [new BsonDocument('_id', new BsonInt32(2))]
+        2 * connection.hasMoreToCome() >>> [false, true]
+        1 * connection.exhaustCommand('test', _, _, _, _, _) >> { nextBatchReply(namespace, 42, 2) }
+        1 * connection.retain() >> connection
+        1 * connection.release()
+
+        when:
+        batch = cursor.next()
+
+        then:
+        batch == [new BsonDocument('_id', new BsonInt32(3))]
+        1 * connection.hasMoreToCome() >> true
+        1 * connection.receiveMoreToCome(_, _) >> { nextBatchReply(namespace, 0, 3) }
+        0 * connection.command(*_)
+        0 * connection.exhaustCommand(*_)
+        1 * connection.release()
+    }
+
+    def 'should release the connection that batches are streamed on before killing the cursor when closed'() {
+        given:
+        def connection = Mock(Connection) {
+            _ * getDescription() >> Stub(ConnectionDescription) {
+                getServerVersion() >> new ServerVersion([3, 2, 0])
+            }
+        }
+        def connectionSource = Stub(ConnectionSource) {
+            getConnection() >> { connection }
+        }
+        connectionSource.retain() >> connectionSource
+
+        def namespace = new MongoNamespace('test', 'QueryBatchCursorSpecification')
+        def firstBatch = new QueryResult(namespace, [new BsonDocument('_id', new BsonInt32(1))], 42, new ServerAddress())
+        def cursor = new QueryBatchCursor<BsonDocument>(firstBatch, 0, 0, 0, new BsonDocumentCodec(), connectionSource, connection,
+                                                        false, true)
+
+        when:
+        cursor.next()
+        cursor.next()
+
+        then:
+        2 * connection.hasMoreToCome() >>> [false, true]
+        1 * connection.exhaustCommand('test', _, _, _, _, _) >> { nextBatchReply(namespace, 42, 2) }
+        1 * connection.retain() >> connection
+        1 * connection.release()
+
+        when:
+        cursor.close()
+
+        then:
+        1 * connection.release()
+
+        then:
+        1 * connection.command('test', { it.containsKey('killCursors') }, _, _, _, _) >> { new BsonDocument('ok', new BsonInt32(1)) }
+        1 * connection.release()
+    }
+
+    def 'should ask for the minimum adaptive batch size until a batch has been measured'() {
+        given:
+        def connection = Mock(Connection) {
+            _ * getDescription() >> Stub(ConnectionDescription) {
+                getServerVersion() >> new ServerVersion([3, 2, 0])
+            }
+        }
+        def connectionSource = Stub(ConnectionSource) {
+            getConnection() >> { connection }
+        }
+        connectionSource.retain() >> connectionSource
+
+        def namespace = new MongoNamespace('test', 'QueryBatchCursorSpecification')
+        def firstBatch = new QueryResult(namespace, [new BsonDocument('_id', new BsonInt32(1))], 42, new ServerAddress())
+        def adaptiveBatchSize = AdaptiveBatchSize.builder().minBatchSize(10).maxBatchSize(100).build()
+        def cursor = new QueryBatchCursor<BsonDocument>(firstBatch, 0, 0, 0, new BsonDocumentCodec(), connectionSource, connection,
+                                                        false, false, adaptiveBatchSize)
+
+        when:
+        cursor.next()
+        cursor.next()
+
+        then:
+        1 * connection.command('test', { it.getInt32('batchSize').getValue() == 10 }, _, _, _, _) >> { nextBatchReply(namespace, 42, 2) }
+        1 * connection.release()
+    }
+
     def 'should handle exceptions when closing'() {
         given:
         def serverAddress = new ServerAddress()
@@ -115,4 +286,12 @@ class QueryBatchCursorSpecification extends Specification {
         then:
         notThrown(Exception)
     }
+
+    private static BsonDocument nextBatchReply(final MongoNamespace namespace, final long cursorId, final int id) {
+        new BsonDocument('ok', new BsonInt32(1))
+                .append('cursor',
+                        new BsonDocument('id', new BsonInt64(cursorId))
+                                .append('ns', new BsonString(namespace.getFullName()))
+                                .append('nextBatch', new BsonArrayWrapper([new BsonDocument('_id', new BsonInt32(id))])))
+    }
 }
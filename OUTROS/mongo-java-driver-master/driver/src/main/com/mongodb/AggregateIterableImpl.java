@@ -47,6 +47,7 @@ class AggregateIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResul
     private long maxTimeMS;
     private long maxAwaitTimeMS;
     private Boolean useCursor;
+    private boolean prefetch;
     private Boolean bypassDocumentValidation;
     private Collation collation;
     private String comment;
@@ -102,6 +103,12 @@ class AggregateIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResul
         return this;
     }
 
+    @Override
+    public AggregateIterable<TResult> prefetch(final boolean prefetch) {
+        this.prefetch = prefetch;
+        return this;
+    }
+
     @Override
     public AggregateIterable<TResult> maxAwaitTime(final long maxAwaitTime, final TimeUnit timeUnit) {
         notNull("timeUnit", timeUnit);
@@ -146,7 +153,8 @@ class AggregateIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResul
                     new FindOperation<TResult>(new MongoNamespace(namespace.getDatabaseName(), outCollection.asString().getValue()),
                                                       codecRegistry.get(resultClass))
                             .readConcern(getReadConcern())
-                            .collation(collation);
+                            .collation(collation)
+                            .prefetch(prefetch);
             if (getBatchSize() != null) {
                 findOperation.batchSize(getBatchSize());
             }
@@ -158,6 +166,7 @@ class AggregateIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResul
                     .allowDiskUse(allowDiskUse)
                     .batchSize(getBatchSize())
                     .useCursor(useCursor)
+                    .prefetch(prefetch)
                     .readConcern(getReadConcern())
                     .collation(collation)
                     .hint(hint == null ? null : hint.toBsonDocument(documentClass, codecRegistry))
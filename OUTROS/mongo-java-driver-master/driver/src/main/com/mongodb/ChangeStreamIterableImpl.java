@@ -16,6 +16,7 @@
 
 package com.mongodb;
 
+import com.mongodb.client.ChangeStreamCheckpointStore;
 import com.mongodb.client.ChangeStreamIterable;
 import com.mongodb.client.MongoIterable;
 import com.mongodb.client.model.Collation;
@@ -33,8 +34,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 final class ChangeStreamIterableImpl<TResult> extends MongoIterableImpl<ChangeStreamDocument<TResult>>
         implements ChangeStreamIterable<TResult> {
@@ -47,6 +50,8 @@ final class ChangeStreamIterableImpl<TResult> extends MongoIterableImpl<ChangeSt
     private BsonDocument resumeToken;
     private long maxAwaitTimeMS;
     private Collation collation;
+    private ChangeStreamCheckpointStore checkpointStore;
+    private long checkpointIntervalNanos;
 
 
     ChangeStreamIterableImpl(final ClientSession clientSession, final MongoNamespace namespace, final CodecRegistry codecRegistry,
@@ -90,6 +95,68 @@ final class ChangeStreamIterableImpl<TResult> extends MongoIterableImpl<ChangeSt
         return this;
     }
 
+    @Override
+    public ChangeStreamIterable<TResult> checkpointStore(final ChangeStreamCheckpointStore checkpointStore) {
+        this.checkpointStore = notNull("checkpointStore", checkpointStore);
+        return this;
+    }
+
+    @Override
+    public ChangeStreamIterable<TResult> checkpointInterval(final long checkpointInterval, final TimeUnit timeUnit) {
+        notNull("timeUnit", timeUnit);
+        isTrueArgument("checkpointInterval >= 0", checkpointInterval >= 0);
+        this.checkpointIntervalNanos = NANOSECONDS.convert(checkpointInterval, timeUnit);
+        return this;
+    }
+
+    @Override
+    public void forEach(final Block<? super ChangeStreamDocument<TResult>> block) {
+        notNull("block", block);
+        forEachBatch(new Block<List<ChangeStreamDocument<TResult>>>() {
+            @Override
+            public void apply(final List<ChangeStreamDocument<TResult>> batch) {
+                for (ChangeStreamDocument<TResult> change : batch) {
+                    block.apply(change);
+                }
+            }
+        });
+    }
+
+    // The resume token is only checkpointed once the whole batch has been processed, and is checkpointed when the iteration ends whether or
+    // not it ends with an exception, so that the checkpoint never runs ahead of the processing.
+    @Override
+    public void forEachBatch(final Block<? super List<ChangeStreamDocument<TResult>>> block) {
+        notNull("block", block);
+        BatchCursor<ChangeStreamDocument<TResult>> batchCursor = execute();
+        try {
+            BsonDocument uncheckpointedResumeToken = null;
+            long lastCheckpointNanos = System.nanoTime();
+            try {
+                while (batchCursor.hasNext()) {
+                    List<ChangeStreamDocument<TResult>> batch = batchCursor.next();
+                    if (batch.isEmpty()) {
+                        continue;
+                    }
+                    block.apply(batch);
+                    if (checkpointStore != null) {
+                        uncheckpointedResumeToken = batch.get(batch.size() - 1).getResumeToken();
+                        if (System.nanoTime() - lastCheckpointNanos >= checkpointIntervalNanos) {
+                            checkpointStore.save(uncheckpointedResumeToken);
+                            uncheckpointedResumeToken = null;
+                            lastCheckpointNanos = System.nanoTime();
+                        }
+                    }
+                }
+            } finally {
+                if (uncheckpointedResumeToken != null) {
+                    checkpointStore.save(uncheckpointedResumeToken);
+                }
+            }
+        } finally {
+            batchCursor.close();
+        }
+    }
+
     @Override
     public <TDocument> MongoIterable<TDocument> withDocumentClass(final Class<TDocument> clazz) {
         return new MongoIterableImpl<TDocument>(getClientSession(), getExecutor(), getReadConcern(), getReadPreference()) {
@@ -117,8 +184,12 @@ final class ChangeStreamIterableImpl<TResult> extends MongoIterableImpl<ChangeSt
                         .readConcern(getReadConcern())
                         .collation(collation);
 
-        if (resumeToken != null) {
-            changeStreamOperation.resumeAfter(resumeToken);
+        BsonDocument resumeAfter = resumeToken;
+        if (resumeAfter == null && checkpointStore != null) {
+            resumeAfter = checkpointStore.load();
+        }
+        if (resumeAfter != null) {
+            changeStreamOperation.resumeAfter(resumeAfter);
         }
 
         return changeStreamOperation;
@@ -73,9 +73,8 @@ public class DBCursor implements Cursor, Iterable<DBObject> {
     private boolean closed;
     private final List<DBObject> all = new ArrayList<DBObject>();
     private MongoCursor<DBObject> cursor;
-    // This allows us to easily enable/disable finalizer for cleaning up un-closed cursors
-    @SuppressWarnings("UnusedDeclaration")// IDEs will say it can be converted to a local variable, resist the urge
-    private OptionalFinalizer optionalFinalizer;
+    // Tracks this cursor so that its server cursor is killed if it is garbage collected without being closed
+    private OrphanedCursorTracker.TrackedCursor trackedCursor;
 
     /**
      * Initializes a new database cursor.
@@ -142,7 +141,7 @@ public class DBCursor implements Cursor, Iterable<DBObject> {
         }
 
         boolean hasNext = cursor.hasNext();
-        setServerCursorOnFinalizer(cursor.getServerCursor());
+        setServerCursorOnTrackedCursor(cursor.getServerCursor());
         return hasNext;
     }
 
@@ -185,7 +184,7 @@ public class DBCursor implements Cursor, Iterable<DBObject> {
             initializeCursor(operation);
         }
         DBObject next = cursor.tryNext();
-        setServerCursorOnFinalizer(cursor.getServerCursor());
+        setServerCursorOnTrackedCursor(cursor.getServerCursor());
         return currentObject(next);
     }
 
@@ -599,7 +598,7 @@ public class DBCursor implements Cursor, Iterable<DBObject> {
         if (cursor != null) {
             cursor.close();
             cursor = null;
-            setServerCursorOnFinalizer(null);
+            untrackCursor();
         }
 
         currentObject = null;
@@ -868,18 +867,26 @@ public class DBCursor implements Cursor, Iterable<DBObject> {
 
     private void initializeCursor(final FindOperation<DBObject> operation) {
         cursor = new MongoBatchCursorAdapter<DBObject>(executor.execute(operation, getReadPreferenceForCursor()));
-        if (isCursorFinalizerEnabled() && cursor.getServerCursor() != null) {
-            optionalFinalizer = new OptionalFinalizer(collection.getDB().getMongo(), collection.getNamespace());
+        OrphanedCursorTracker orphanedCursorTracker = collection.getDB().getMongo().getOrphanedCursorTracker();
+        if (orphanedCursorTracker != null && cursor.getServerCursor() != null) {
+            trackedCursor = orphanedCursorTracker.track(this, collection.getNamespace(), cursor.getServerCursor());
         }
     }
 
-    private boolean isCursorFinalizerEnabled() {
-        return collection.getDB().getMongo().getMongoClientOptions().isCursorFinalizerEnabled();
+    private void setServerCursorOnTrackedCursor(final ServerCursor serverCursor) {
+        if (trackedCursor != null) {
+            if (serverCursor == null) {
+                untrackCursor();
+            } else {
+                trackedCursor.setServerCursor(serverCursor);
+            }
+        }
     }
 
-    private void setServerCursorOnFinalizer(final ServerCursor serverCursor) {
-        if (optionalFinalizer != null) {
-            optionalFinalizer.setServerCursor(serverCursor);
+    private void untrackCursor() {
+        if (trackedCursor != null) {
+            trackedCursor.untrack();
+            trackedCursor = null;
         }
     }
 
@@ -917,7 +924,7 @@ public class DBCursor implements Cursor, Iterable<DBObject> {
         }
 
         DBObject next = cursor.next();
-        setServerCursorOnFinalizer(cursor.getServerCursor());
+        setServerCursorOnTrackedCursor(cursor.getServerCursor());
         return currentObject(next);
     }
 
@@ -953,28 +960,6 @@ public class DBCursor implements Cursor, Iterable<DBObject> {
         ARRAY
     }
 
-    private static class OptionalFinalizer {
-        private final Mongo mongo;
-        private final MongoNamespace namespace;
-        private volatile ServerCursor serverCursor;
-
-        private OptionalFinalizer(final Mongo mongo, final MongoNamespace namespace) {
-            this.namespace = notNull("namespace", namespace);
-            this.mongo = notNull("mongo", mongo);
-        }
-
-        private void setServerCursor(final ServerCursor serverCursor) {
-            this.serverCursor = serverCursor;
-        }
-
-        @Override
-        protected void finalize() {
-            if (serverCursor != null) {
-                mongo.addOrphanedCursor(serverCursor, namespace);
-            }
-        }
-    }
-
     private DBCollectionCountOptions getDbCollectionCountOptions() {
         DBCollectionCountOptions countOptions = new DBCollectionCountOptions()
                 .readPreference(getReadPreferenceForCursor())
@@ -17,6 +17,7 @@
 package com.mongodb;
 
 import com.mongodb.client.FindIterable;
+import com.mongodb.client.model.AdaptiveBatchSize;
 import com.mongodb.client.model.Collation;
 import com.mongodb.client.model.FindOptions;
 import com.mongodb.operation.BatchCursor;
@@ -121,6 +122,24 @@ final class FindIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResu
         return this;
     }
 
+    @Override
+    public FindIterable<TResult> prefetch(final boolean prefetch) {
+        findOptions.prefetch(prefetch);
+        return this;
+    }
+
+    @Override
+    public FindIterable<TResult> exhaust(final boolean exhaust) {
+        findOptions.exhaust(exhaust);
+        return this;
+    }
+
+    @Override
+    public FindIterable<TResult> adaptiveBatchSize(final AdaptiveBatchSize adaptiveBatchSize) {
+        findOptions.adaptiveBatchSize(adaptiveBatchSize);
+        return this;
+    }
+
     @Override
     public FindIterable<TResult> oplogReplay(final boolean oplogReplay) {
         findOptions.oplogReplay(oplogReplay);
@@ -211,6 +230,9 @@ final class FindIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResu
                    .sort(toBsonDocument(findOptions.getSort()))
                    .cursorType(findOptions.getCursorType())
                    .noCursorTimeout(findOptions.isNoCursorTimeout())
+                   .prefetch(findOptions.isPrefetch())
+                   .exhaust(findOptions.isExhaust())
+                   .adaptiveBatchSize(findOptions.getAdaptiveBatchSize())
                    .oplogReplay(findOptions.isOplogReplay())
                    .partial(findOptions.isPartial())
                    .slaveOk(getReadPreference().isSlaveOk())
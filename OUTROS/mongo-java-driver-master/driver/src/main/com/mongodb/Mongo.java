@@ -36,6 +36,7 @@ import com.mongodb.connection.SocketStreamFactory;
 import com.mongodb.event.ClusterListener;
 import com.mongodb.internal.connection.PowerOfTwoBufferPool;
 import com.mongodb.internal.thread.DaemonThreadFactory;
+import com.mongodb.management.OrphanedCursorStatistics;
 import com.mongodb.operation.BatchCursor;
 import com.mongodb.operation.CurrentOpOperation;
 import com.mongodb.operation.FsyncUnlockOperation;
@@ -51,8 +52,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -97,7 +98,7 @@ public class Mongo {
     private final Cluster cluster;
     private final BufferProvider bufferProvider = new PowerOfTwoBufferPool();
 
-    private final ConcurrentLinkedQueue<ServerCursorAndNamespace> orphanedCursors = new ConcurrentLinkedQueue<ServerCursorAndNamespace>();
+    private final OrphanedCursorTracker orphanedCursorTracker;
     private final ExecutorService cursorCleaningService;
     private final ServerSessionPool serverSessionPool;
 
@@ -321,6 +322,11 @@ public class Mongo {
         this.readConcern = options.getReadConcern() != null ? options.getReadConcern() : ReadConcern.DEFAULT;
         this.optionHolder = new Bytes.OptionHolder(null);
         this.credentialsList = unmodifiableList(credentialsList);
+        orphanedCursorTracker = options.isCursorFinalizerEnabled()
+                                ? new OrphanedCursorTracker(new OrphanedCursorStatistics(options.getDescription())) : null;
+        if (orphanedCursorTracker != null && options.isOrphanedCursorMBeanEnabled()) {
+            orphanedCursorTracker.getStatistics().registerMBean();
+        }
         cursorCleaningService = options.isCursorFinalizerEnabled() ? createCursorCleaningService() : null;
     }
 
@@ -537,6 +543,9 @@ public class Mongo {
         if (cursorCleaningService != null) {
             cursorCleaningService.shutdownNow();
         }
+        if (orphanedCursorTracker != null && options.isOrphanedCursorMBeanEnabled()) {
+            orphanedCursorTracker.getStatistics().unregisterMBean();
+        }
     }
 
     /**
@@ -737,10 +746,12 @@ public class Mongo {
                 options.getConnectionPoolSettings(),
                 new SocketStreamFactory(options.getSocketSettings(),
                                         options.getSslSettings(),
-                                        options.getSocketFactory()),
+                                        options.getSocketFactory(),
+                                        options.getBufferPoolSettings()),
                 new SocketStreamFactory(options.getHeartbeatSocketSettings(),
                                         options.getSslSettings(),
-                                        options.getSocketFactory()),
+                                        options.getSocketFactory(),
+                                        options.getBufferPoolSettings()),
                 credentialsList,
                 getCommandListener(options.getCommandListeners()),
                 options.getApplicationName(),
@@ -757,7 +768,8 @@ public class Mongo {
                 .serverSelectionTimeout(options.getServerSelectionTimeout(), MILLISECONDS)
                 .serverSelector(new LatencyMinimizingServerSelector(options.getLocalThreshold(), MILLISECONDS))
                 .description(options.getDescription())
-                .maxWaitQueueSize(options.getConnectionPoolSettings().getMaxWaitQueueSize());
+                .maxWaitQueueSize(options.getConnectionPoolSettings().getMaxWaitQueueSize())
+                .preferLeastLoadedServer(options.isPreferLeastLoadedServer());
         for (ClusterListener clusterListener: options.getClusterListeners()) {
             builder.addClusterListener(clusterListener);
         }
@@ -784,8 +796,9 @@ public class Mongo {
         return credentialsList;
     }
 
-    void addOrphanedCursor(final ServerCursor serverCursor, final MongoNamespace namespace) {
-        orphanedCursors.add(new ServerCursorAndNamespace(serverCursor, namespace));
+    // Null if cursor finalizers are disabled
+    OrphanedCursorTracker getOrphanedCursorTracker() {
+        return orphanedCursorTracker;
     }
 
     OperationExecutor createOperationExecutor() {
@@ -967,25 +980,35 @@ public class Mongo {
         return newTimer;
     }
 
+    // Kills the orphaned cursors of each server with one killCursors command per namespace, over a single connection
     private void cleanCursors() {
-        ServerCursorAndNamespace cur;
-        while ((cur = orphanedCursors.poll()) != null) {
-            ReadWriteBinding binding = new SingleServerBinding(cluster, cur.serverCursor.getAddress());
+        for (Map.Entry<ServerAddress, Map<MongoNamespace, List<Long>>> entry : orphanedCursorTracker.pollOrphanedCursors().entrySet()) {
             try {
-                ConnectionSource source = binding.getReadConnectionSource();
+                killCursors(entry.getKey(), entry.getValue());
+            } catch (MongoException e) {
+                // ignore, as the server cursors are gone if the server is, and otherwise they will time out on the server
+            }
+        }
+    }
+
+    private void killCursors(final ServerAddress serverAddress, final Map<MongoNamespace, List<Long>> cursorsByNamespace) {
+        ReadWriteBinding binding = new SingleServerBinding(cluster, serverAddress);
+        try {
+            ConnectionSource source = binding.getReadConnectionSource();
+            try {
+                Connection connection = source.getConnection();
                 try {
-                    Connection connection = source.getConnection();
-                    try {
-                        connection.killCursor(cur.namespace, singletonList(cur.serverCursor.getId()));
-                    } finally {
-                        connection.release();
+                    for (Map.Entry<MongoNamespace, List<Long>> cursors : cursorsByNamespace.entrySet()) {
+                        connection.killCursor(cursors.getKey(), cursors.getValue());
                     }
                 } finally {
-                    source.release();
+                    connection.release();
                 }
             } finally {
-                binding.release();
+                source.release();
             }
+        } finally {
+            binding.release();
         }
     }
 
@@ -997,16 +1020,6 @@ public class Mongo {
         }
     }
 
-    private static class ServerCursorAndNamespace {
-        private final ServerCursor serverCursor;
-        private final MongoNamespace namespace;
-
-        ServerCursorAndNamespace(final ServerCursor serverCursor, final MongoNamespace namespace) {
-            this.serverCursor = serverCursor;
-            this.namespace = namespace;
-        }
-    }
-
     /**
      * Mongo.Holder can be used as a static place to hold several instances of Mongo. Security is not enforced at this level, and needs to
      * be done on the application side.
@@ -18,6 +18,7 @@ package com.mongodb;
 
 import com.mongodb.annotations.Immutable;
 import com.mongodb.annotations.NotThreadSafe;
+import com.mongodb.connection.BufferPoolSettings;
 import com.mongodb.connection.ConnectionPoolSettings;
 import com.mongodb.connection.ServerSettings;
 import com.mongodb.connection.SocketSettings;
@@ -91,11 +92,16 @@ public class MongoClientOptions {
     private final DBEncoderFactory dbEncoderFactory;
     private final SocketFactory socketFactory;
     private final boolean cursorFinalizerEnabled;
+    private final boolean orphanedCursorMBeanEnabled;
+    private final boolean preferLeastLoadedServer;
+    private final boolean fairCheckout;
+    private final boolean sharedMonitorThreads;
     private final ConnectionPoolSettings connectionPoolSettings;
     private final SocketSettings socketSettings;
     private final ServerSettings serverSettings;
     private final SocketSettings heartbeatSocketSettings;
     private final SslSettings sslSettings;
+    private final BufferPoolSettings bufferPoolSettings;
 
     private final List<ClusterListener> clusterListeners;
     private final List<CommandListener> commandListeners;
@@ -122,6 +128,7 @@ public class MongoClientOptions {
         sslEnabled = builder.sslEnabled;
         sslInvalidHostNameAllowed = builder.sslInvalidHostNameAllowed;
         sslContext = builder.sslContext;
+        bufferPoolSettings = builder.bufferPoolSettings;
         alwaysUseMBeans = builder.alwaysUseMBeans;
         heartbeatFrequency = builder.heartbeatFrequency;
         minHeartbeatFrequency = builder.minHeartbeatFrequency;
@@ -133,6 +140,10 @@ public class MongoClientOptions {
         dbEncoderFactory = builder.dbEncoderFactory;
         socketFactory = builder.socketFactory;
         cursorFinalizerEnabled = builder.cursorFinalizerEnabled;
+        orphanedCursorMBeanEnabled = builder.orphanedCursorMBeanEnabled;
+        preferLeastLoadedServer = builder.preferLeastLoadedServer;
+        fairCheckout = builder.fairCheckout;
+        sharedMonitorThreads = builder.sharedMonitorThreads;
 
         clusterListeners = unmodifiableList(builder.clusterListeners);
         commandListeners = unmodifiableList(builder.commandListeners);
@@ -143,7 +154,8 @@ public class MongoClientOptions {
                 .maxWaitQueueSize(getThreadsAllowedToBlockForConnectionMultiplier() * getConnectionsPerHost())
                 .maxWaitTime(getMaxWaitTime(), MILLISECONDS)
                 .maxConnectionIdleTime(getMaxConnectionIdleTime(), MILLISECONDS)
-                .maxConnectionLifeTime(getMaxConnectionLifeTime(), MILLISECONDS);
+                .maxConnectionLifeTime(getMaxConnectionLifeTime(), MILLISECONDS)
+                .fairCheckout(isFairCheckout());
 
         for (ConnectionPoolListener connectionPoolListener : builder.connectionPoolListeners) {
             connectionPoolSettingsBuilder.addConnectionPoolListener(connectionPoolListener);
@@ -164,7 +176,8 @@ public class MongoClientOptions {
 
         ServerSettings.Builder serverSettingsBuilder = ServerSettings.builder()
                 .heartbeatFrequency(getHeartbeatFrequency(), MILLISECONDS)
-                .minHeartbeatFrequency(getMinHeartbeatFrequency(), MILLISECONDS);
+                .minHeartbeatFrequency(getMinHeartbeatFrequency(), MILLISECONDS)
+                .sharedMonitorThreads(isSharedMonitorThreads());
 
         for (ServerListener serverListener : builder.serverListeners) {
             serverSettingsBuilder.addServerListener(serverListener);
@@ -500,6 +513,18 @@ public class MongoClientOptions {
         return sslContext;
     }
 
+    /**
+     * Gets the settings for the pool of buffers used by the socket streams that connect to the servers.
+     *
+     * <p>Default is the default {@link BufferPoolSettings}, which pools heap buffers without limits.</p>
+     *
+     * @return the buffer pool settings
+     * @since 3.6
+     */
+    public BufferPoolSettings getBufferPoolSettings() {
+        return bufferPoolSettings;
+    }
+
     /**
      * <p>The read preference to use for queries, map-reduce, aggregation, and count.</p>
      *
@@ -655,8 +680,10 @@ public class MongoClientOptions {
     }
 
     /**
-     * <p>Gets whether there is a a finalize method created that cleans up instances of DBCursor that the client does not close.  If you are
-     * careful to always call the close method of DBCursor, then this can safely be set to false.</p>
+     * <p>Gets whether instances of DBCursor that the client does not close are tracked, so that their server cursors are killed once they
+     * are garbage collected.  The cursors are tracked with phantom references rather than finalizers, and the server cursors that are
+     * found to be orphaned are killed in batches.  If you are careful to always call the close method of DBCursor, then this can safely be
+     * set to false.</p>
      *
      * <p>Default is true.</p>
      *
@@ -668,6 +695,65 @@ public class MongoClientOptions {
         return cursorFinalizerEnabled;
     }
 
+    /**
+     * <p>Gets whether the statistics of the cursors that are tracked while cursor finalizers are enabled, such as the number of cursors
+     * that were garbage collected without being closed, are registered as a JMX MBean for the life of the client.</p>
+     *
+     * <p>Default is false.</p>
+     *
+     * @return whether the orphaned cursor statistics are registered as an MBean
+     * @see #isCursorFinalizerEnabled()
+     * @see com.mongodb.management.OrphanedCursorStatisticsMBean
+     * @since 3.6
+     */
+    public boolean isOrphanedCursorMBeanEnabled() {
+        return orphanedCursorMBeanEnabled;
+    }
+
+    /**
+     * <p>Gets whether server selection prefers the less loaded of two randomly chosen servers, rather than choosing a single server at
+     * random from those that are eligible.  The load of a server is the number of operations that are using or waiting for one of its
+     * connections.</p>
+     *
+     * <p>Default is false.</p>
+     *
+     * @return whether to prefer the less loaded of two randomly chosen servers
+     * @see com.mongodb.connection.ClusterSettings#isPreferLeastLoadedServer()
+     * @since 3.6
+     */
+    public boolean isPreferLeastLoadedServer() {
+        return preferLeastLoadedServer;
+    }
+
+    /**
+     * <p>Gets whether connections are checked out of the pool strictly in the order in which they were requested.  When false, a thread
+     * can take an available connection without synchronizing with the threads that are waiting for one, which reduces contention when
+     * many threads check connections in and out concurrently.</p>
+     *
+     * <p>Default is true.</p>
+     *
+     * @return whether connections are checked out in the order in which they were requested
+     * @see com.mongodb.connection.ConnectionPoolSettings#isFairCheckout()
+     * @since 3.6
+     */
+    public boolean isFairCheckout() {
+        return fairCheckout;
+    }
+
+    /**
+     * <p>Gets whether servers are monitored by threads shared by all clients in the process, rather than by a dedicated thread for each
+     * server.  Checks are scheduled on a shared timer, and a thread is only used while a server is being checked.</p>
+     *
+     * <p>Default is false.</p>
+     *
+     * @return whether to monitor servers with shared threads
+     * @see com.mongodb.connection.ServerSettings#isSharedMonitorThreads()
+     * @since 3.6
+     */
+    public boolean isSharedMonitorThreads() {
+        return sharedMonitorThreads;
+    }
+
     ConnectionPoolSettings getConnectionPoolSettings() {
         return connectionPoolSettings;
     }
@@ -711,6 +797,18 @@ public class MongoClientOptions {
         if (cursorFinalizerEnabled != that.cursorFinalizerEnabled) {
             return false;
         }
+        if (orphanedCursorMBeanEnabled != that.orphanedCursorMBeanEnabled) {
+            return false;
+        }
+        if (preferLeastLoadedServer != that.preferLeastLoadedServer) {
+            return false;
+        }
+        if (fairCheckout != that.fairCheckout) {
+            return false;
+        }
+        if (sharedMonitorThreads != that.sharedMonitorThreads) {
+            return false;
+        }
         if (minHeartbeatFrequency != that.minHeartbeatFrequency) {
             return false;
         }
@@ -756,6 +854,9 @@ public class MongoClientOptions {
         if (sslContext != null ? !sslContext.equals(that.sslContext) : that.sslContext != null) {
             return false;
         }
+        if (!bufferPoolSettings.equals(that.bufferPoolSettings)) {
+            return false;
+        }
         if (threadsAllowedToBlockForConnectionMultiplier != that.threadsAllowedToBlockForConnectionMultiplier) {
             return false;
         }
@@ -826,6 +927,7 @@ public class MongoClientOptions {
         result = 31 * result + (sslEnabled ? 1 : 0);
         result = 31 * result + (sslInvalidHostNameAllowed ? 1 : 0);
         result = 31 * result + (sslContext != null ? sslContext.hashCode() : 0);
+        result = 31 * result + bufferPoolSettings.hashCode();
         result = 31 * result + (alwaysUseMBeans ? 1 : 0);
         result = 31 * result + heartbeatFrequency;
         result = 31 * result + minHeartbeatFrequency;
@@ -836,6 +938,10 @@ public class MongoClientOptions {
         result = 31 * result + (dbDecoderFactory != null ? dbDecoderFactory.hashCode() : 0);
         result = 31 * result + (dbEncoderFactory != null ? dbEncoderFactory.hashCode() : 0);
         result = 31 * result + (cursorFinalizerEnabled ? 1 : 0);
+        result = 31 * result + (orphanedCursorMBeanEnabled ? 1 : 0);
+        result = 31 * result + (preferLeastLoadedServer ? 1 : 0);
+        result = 31 * result + (fairCheckout ? 1 : 0);
+        result = 31 * result + (sharedMonitorThreads ? 1 : 0);
         result = 31 * result + (socketFactory != null ? socketFactory.hashCode() : 0);
         result = 31 * result + compressorList.hashCode();
         return result;
@@ -866,6 +972,7 @@ public class MongoClientOptions {
                + ", sslEnabled=" + sslEnabled
                + ", sslInvalidHostNamesAllowed=" + sslInvalidHostNameAllowed
                + ", sslContext=" + sslContext
+               + ", bufferPoolSettings=" + bufferPoolSettings
                + ", alwaysUseMBeans=" + alwaysUseMBeans
                + ", heartbeatFrequency=" + heartbeatFrequency
                + ", minHeartbeatFrequency=" + minHeartbeatFrequency
@@ -877,6 +984,10 @@ public class MongoClientOptions {
                + ", dbEncoderFactory=" + dbEncoderFactory
                + ", socketFactory=" + socketFactory
                + ", cursorFinalizerEnabled=" + cursorFinalizerEnabled
+               + ", orphanedCursorMBeanEnabled=" + orphanedCursorMBeanEnabled
+               + ", preferLeastLoadedServer=" + preferLeastLoadedServer
+               + ", fairCheckout=" + fairCheckout
+               + ", sharedMonitorThreads=" + sharedMonitorThreads
                + ", connectionPoolSettings=" + connectionPoolSettings
                + ", socketSettings=" + socketSettings
                + ", serverSettings=" + serverSettings
@@ -918,6 +1029,7 @@ public class MongoClientOptions {
         private boolean sslEnabled = false;
         private boolean sslInvalidHostNameAllowed = false;
         private SSLContext sslContext;
+        private BufferPoolSettings bufferPoolSettings = BufferPoolSettings.builder().build();
         private boolean alwaysUseMBeans = false;
 
         private int heartbeatFrequency = 10000;
@@ -931,6 +1043,10 @@ public class MongoClientOptions {
         private DBEncoderFactory dbEncoderFactory = DefaultDBEncoder.FACTORY;
         private SocketFactory socketFactory;
         private boolean cursorFinalizerEnabled = true;
+        private boolean orphanedCursorMBeanEnabled;
+        private boolean preferLeastLoadedServer;
+        private boolean fairCheckout = true;
+        private boolean sharedMonitorThreads;
 
         /**
          * Creates a Builder for MongoClientOptions, getting the appropriate system properties for initialization.
@@ -970,6 +1086,7 @@ public class MongoClientOptions {
             sslEnabled = options.isSslEnabled();
             sslInvalidHostNameAllowed = options.isSslInvalidHostNameAllowed();
             sslContext = options.getSslContext();
+            bufferPoolSettings = options.getBufferPoolSettings();
             alwaysUseMBeans = options.isAlwaysUseMBeans();
             heartbeatFrequency = options.getHeartbeatFrequency();
             minHeartbeatFrequency = options.getMinHeartbeatFrequency();
@@ -981,6 +1098,10 @@ public class MongoClientOptions {
             dbEncoderFactory = options.getDbEncoderFactory();
             socketFactory = options.socketFactory;
             cursorFinalizerEnabled = options.isCursorFinalizerEnabled();
+            orphanedCursorMBeanEnabled = options.isOrphanedCursorMBeanEnabled();
+            preferLeastLoadedServer = options.isPreferLeastLoadedServer();
+            fairCheckout = options.isFairCheckout();
+            sharedMonitorThreads = options.isSharedMonitorThreads();
             clusterListeners.addAll(options.getClusterListeners());
             commandListeners.addAll(options.getCommandListeners());
             connectionPoolListeners.addAll(options.getConnectionPoolListeners());
@@ -1225,6 +1346,20 @@ public class MongoClientOptions {
             return this;
         }
 
+        /**
+         * Sets the settings for the pool of buffers used by the socket streams that connect to the servers.  Direct buffers are only used
+         * when the socket factory creates sockets that are backed by a {@code SocketChannel}.
+         *
+         * @param bufferPoolSettings the buffer pool settings
+         * @return {@code this}
+         * @see MongoClientOptions#getBufferPoolSettings()
+         * @since 3.6
+         */
+        public Builder bufferPoolSettings(final BufferPoolSettings bufferPoolSettings) {
+            this.bufferPoolSettings = notNull("bufferPoolSettings", bufferPoolSettings);
+            return this;
+        }
+
         /**
          * Sets the read preference.
          *
@@ -1365,6 +1500,60 @@ public class MongoClientOptions {
             return this;
         }
 
+        /**
+         * Sets whether the statistics of the cursors that are tracked while cursor finalizers are enabled are registered as a JMX MBean.
+         *
+         * @param orphanedCursorMBeanEnabled whether the orphaned cursor statistics are registered as an MBean
+         * @return {@code this}
+         * @see MongoClientOptions#isOrphanedCursorMBeanEnabled()
+         * @since 3.6
+         */
+        public Builder orphanedCursorMBeanEnabled(final boolean orphanedCursorMBeanEnabled) {
+            this.orphanedCursorMBeanEnabled = orphanedCursorMBeanEnabled;
+            return this;
+        }
+
+        /**
+         * Sets whether server selection prefers the less loaded of two randomly chosen servers, rather than choosing a single server at
+         * random from those that are eligible.
+         *
+         * @param preferLeastLoadedServer whether to prefer the less loaded of two randomly chosen servers
+         * @return {@code this}
+         * @see MongoClientOptions#isPreferLeastLoadedServer()
+         * @since 3.6
+         */
+        public Builder preferLeastLoadedServer(final boolean preferLeastLoadedServer) {
+            this.preferLeastLoadedServer = preferLeastLoadedServer;
+            return this;
+        }
+
+        /**
+         * Sets whether connections are checked out of the pool strictly in the order in which they were requested.
+         *
+         * @param fairCheckout whether connections are checked out in the order in which they were requested
+         * @return {@code this}
+         * @see MongoClientOptions#isFairCheckout()
+         * @since 3.6
+         */
+        public Builder fairCheckout(final boolean fairCheckout) {
+            this.fairCheckout = fairCheckout;
+            return this;
+        }
+
+        /**
+         * Sets whether servers are monitored by threads shared by all clients in the process, rather than by a dedicated thread for each
+         * server.
+         *
+         * @param sharedMonitorThreads whether to monitor servers with shared threads
+         * @return {@code this}
+         * @see MongoClientOptions#isSharedMonitorThreads()
+         * @since 3.6
+         */
+        public Builder sharedMonitorThreads(final boolean sharedMonitorThreads) {
+            this.sharedMonitorThreads = sharedMonitorThreads;
+            return this;
+        }
+
         /**
          * Sets whether JMX beans registered by the driver should always be MBeans, regardless of whether the VM is Java 6 or greater. If
          * false, the driver will use MXBeans if the VM is Java 6 or greater, and use MBeans if the VM is Java 5.
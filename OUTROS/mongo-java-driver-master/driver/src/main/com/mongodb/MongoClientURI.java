@@ -50,11 +50,15 @@ import static com.mongodb.assertions.Assertions.notNull;
  * <li>{@code localThresholdMS=ms}: When choosing among multiple MongoDB servers to send a request, the driver will only
  * send that request to a server whose ping time is less than or equal to the server with the fastest ping time plus the local
  * threshold.</li>
+ * <li>{@code preferLeastLoadedServer=true|false}: Whether server selection prefers the less loaded of two randomly chosen servers,
+ * rather than choosing a single server at random from those that are eligible.</li>
  * </ul>
  * <p>Server Monitoring Configuration:</p>
  * <ul>
  * <li>{@code heartbeatFrequencyMS=ms}: The frequency that the driver will attempt to determine the current state of each server in the
  * cluster.</li>
+ * <li>{@code sharedMonitorThreads=true|false}: Whether servers are monitored by threads shared by all clients in the process, rather
+ * than by a dedicated thread for each server.</li>
  * </ul>
  * <p>Replica set configuration:</p>
  * <ul>
@@ -78,6 +82,8 @@ import static com.mongodb.assertions.Assertions.notNull;
  * exception right away.</li>
  * <li>{@code waitQueueTimeoutMS=ms}: The maximum wait time in milliseconds that a thread may wait for a connection to
  * become available.</li>
+ * <li>{@code fairCheckout=true|false}: Whether connections are checked out of the pool strictly in the order in which they were
+ * requested.</li>
  * </ul>
  *
  * <p>Write concern configuration:</p>
@@ -339,6 +345,15 @@ public class MongoClientURI {
         if (proxied.getApplicationName() != null) {
             builder.applicationName(proxied.getApplicationName());
         }
+        if (proxied.getPreferLeastLoadedServer() != null) {
+            builder.preferLeastLoadedServer(proxied.getPreferLeastLoadedServer());
+        }
+        if (proxied.getFairCheckout() != null) {
+            builder.fairCheckout(proxied.getFairCheckout());
+        }
+        if (proxied.getSharedMonitorThreads() != null) {
+            builder.sharedMonitorThreads(proxied.getSharedMonitorThreads());
+        }
         builder.compressorList(proxied.getCompressorList());
 
         return builder.build();
@@ -29,6 +29,7 @@ import com.mongodb.client.FindIterable;
 import com.mongodb.client.ListIndexesIterable;
 import com.mongodb.client.MapReduceIterable;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.ParallelScanIterable;
 import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.CountOptions;
 import com.mongodb.client.model.DeleteManyModel;
@@ -285,6 +286,17 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
         return createFindIterable(clientSession, filter, resultClass);
     }
 
+    @Override
+    public ParallelScanIterable<TDocument> parallelScan() {
+        return parallelScan(documentClass);
+    }
+
+    @Override
+    public <TResult> ParallelScanIterable<TResult> parallelScan(final Class<TResult> resultClass) {
+        return new ParallelScanIterableImpl<TDocument, TResult>(namespace, documentClass, resultClass, codecRegistry, readPreference,
+                readConcern, writeConcern, executor);
+    }
+
     private <TResult> FindIterable<TResult> createFindIterable(final ClientSession clientSession, final Bson filter,
                                                                final Class<TResult> resultClass) {
         return new FindIterableImpl<TDocument, TResult>(clientSession, namespace, this.documentClass, resultClass, codecRegistry,
@@ -114,7 +114,7 @@ abstract class MongoIterableImpl<TResult> implements MongoIterable<TResult> {
         return target;
     }
 
-    private BatchCursor<TResult> execute() {
+    BatchCursor<TResult> execute() {
         return executor.execute(asReadOperation(), readPreference, clientSession);
     }
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb;
+
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.diagnostics.logging.Logger;
+import com.mongodb.diagnostics.logging.Loggers;
+import com.mongodb.management.OrphanedCursorStatistics;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.mongodb.assertions.Assertions.notNull;
+import static java.lang.String.format;
+
+// Tracks cursors that may hold a server cursor with phantom references, so that cursors which are garbage collected without being closed
+// can have their server cursors killed without the cost of a finalizer.  The server cursors of the cursors that were not closed are
+// grouped by server and namespace, so that each group can be killed with a single killCursors command.  When debug logging is enabled
+// for the cursor logger, the call site that created each cursor is recorded, so that leaks can be counted and logged by call site.  The
+// counts are kept in an OrphanedCursorStatistics, which the owning Mongo instance registers as an MBean.
+@ThreadSafe
+final class OrphanedCursorTracker {
+    private static final Logger LOGGER = Loggers.getLogger("cursor");
+
+    private final ReferenceQueue<Object> referenceQueue = new ReferenceQueue<Object>();
+    // The references must be reachable themselves until their referent is collected, or they are never enqueued
+    private final ConcurrentMap<TrackedCursor, Boolean> trackedCursors = new ConcurrentHashMap<TrackedCursor, Boolean>();
+    private final OrphanedCursorStatistics statistics;
+
+    OrphanedCursorTracker() {
+        this(new OrphanedCursorStatistics(null));
+    }
+
+    OrphanedCursorTracker(final OrphanedCursorStatistics statistics) {
+        this.statistics = notNull("statistics", statistics);
+    }
+
+    TrackedCursor track(final Object cursor, final MongoNamespace namespace, final ServerCursor serverCursor) {
+        TrackedCursor trackedCursor = new TrackedCursor(cursor, namespace, serverCursor,
+                                                        LOGGER.isDebugEnabled() ? new Throwable("Cursor created here") : null);
+        trackedCursors.put(trackedCursor, Boolean.TRUE);
+        statistics.cursorTracked();
+        return trackedCursor;
+    }
+
+    // Removes the cursors that have been garbage collected since the last call and returns their server cursor ids, grouped by server and
+    // namespace
+    Map<ServerAddress, Map<MongoNamespace, List<Long>>> pollOrphanedCursors() {
+        Map<ServerAddress, Map<MongoNamespace, List<Long>>> orphanedCursors = new HashMap<ServerAddress, Map<MongoNamespace, List<Long>>>();
+        Reference<?> reference;
+        while ((reference = referenceQueue.poll()) != null) {
+            TrackedCursor trackedCursor = (TrackedCursor) reference;
+            remove(trackedCursor);
+            ServerCursor serverCursor = trackedCursor.serverCursor;
+            if (serverCursor == null) {
+                continue;
+            }
+            cursorLeaked(trackedCursor);
+
+            Map<MongoNamespace, List<Long>> cursorsByNamespace = orphanedCursors.get(serverCursor.getAddress());
+            if (cursorsByNamespace == null) {
+                cursorsByNamespace = new HashMap<MongoNamespace, List<Long>>();
+                orphanedCursors.put(serverCursor.getAddress(), cursorsByNamespace);
+            }
+            List<Long> cursorIds = cursorsByNamespace.get(trackedCursor.namespace);
+            if (cursorIds == null) {
+                cursorIds = new ArrayList<Long>();
+                cursorsByNamespace.put(trackedCursor.namespace, cursorIds);
+            }
+            cursorIds.add(serverCursor.getId());
+        }
+        return orphanedCursors;
+    }
+
+    OrphanedCursorStatistics getStatistics() {
+        return statistics;
+    }
+
+    long getLeakedCursorCount() {
+        return statistics.getLeakedCursorCount();
+    }
+
+    // Only populated while debug logging is enabled for the cursor logger
+    Map<String, Long> getLeakedCursorCountsByCallSite() {
+        return statistics.getLeakedCursorCountsByCallSite();
+    }
+
+    int getTrackedCursorCount() {
+        return statistics.getTrackedCursorCount();
+    }
+
+    // A cursor can be untracked by closing it while its reference is being enqueued, so only the first removal counts
+    private void remove(final TrackedCursor trackedCursor) {
+        if (trackedCursors.remove(trackedCursor) != null) {
+            statistics.cursorUntracked();
+        }
+    }
+
+    private void cursorLeaked(final TrackedCursor trackedCursor) {
+        if (trackedCursor.creationSite == null) {
+            statistics.cursorLeaked(null);
+            return;
+        }
+        statistics.cursorLeaked(getCallSite(trackedCursor.creationSite));
+        LOGGER.debug(format("A cursor on %s was not closed before it was garbage collected, so server cursor %d on %s will be killed",
+                            trackedCursor.namespace, trackedCursor.serverCursor.getId(), trackedCursor.serverCursor.getAddress()),
+                     trackedCursor.creationSite);
+    }
+
+    // The call site is the first frame outside of the driver, or the first frame if there is none
+    private static String getCallSite(final Throwable creationSite) {
+        StackTraceElement[] stackTrace = creationSite.getStackTrace();
+        for (StackTraceElement element : stackTrace) {
+            if (!element.getClassName().startsWith("com.mongodb.")) {
+                return element.toString();
+            }
+        }
+        return stackTrace.length == 0 ? "unknown" : stackTrace[0].toString();
+    }
+
+    final class TrackedCursor extends PhantomReference<Object> {
+        private final MongoNamespace namespace;
+        private final Throwable creationSite;
+        private volatile ServerCursor serverCursor;
+
+        private TrackedCursor(final Object cursor, final MongoNamespace namespace, final ServerCursor serverCursor,
+                              final Throwable creationSite) {
+            super(cursor, referenceQueue);
+            this.namespace = notNull("namespace", namespace);
+            this.serverCursor = serverCursor;
+            this.creationSite = creationSite;
+        }
+
+        void setServerCursor(final ServerCursor serverCursor) {
+            this.serverCursor = serverCursor;
+        }
+
+        // Called when the cursor is closed, after which there is nothing left to clean up
+        void untrack() {
+            serverCursor = null;
+            remove(this);
+            clear();
+        }
+    }
+}
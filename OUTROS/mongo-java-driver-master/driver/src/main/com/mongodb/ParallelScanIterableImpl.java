@@ -0,0 +1,301 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb;
+
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.ParallelScanIterable;
+import com.mongodb.client.model.FindOptions;
+import com.mongodb.internal.thread.DaemonThreadFactory;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.RawBsonDocumentCodec;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.assertions.Assertions.notNull;
+import static java.util.Arrays.asList;
+import static org.bson.codecs.configuration.CodecRegistries.fromCodecs;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
+
+final class ParallelScanIterableImpl<TDocument, TResult> implements ParallelScanIterable<TResult> {
+    private static final BsonDocument ID_INDEX = new BsonDocument("_id", new BsonInt32(1));
+    private static final int SAMPLES_PER_PARTITION = 16;
+
+    private final MongoNamespace namespace;
+    private final Class<TDocument> documentClass;
+    private final Class<TResult> resultClass;
+    private final CodecRegistry codecRegistry;
+    private final ReadPreference readPreference;
+    private final ReadConcern readConcern;
+    private final WriteConcern writeConcern;
+    private final OperationExecutor executor;
+
+    private Bson filter = new BsonDocument();
+    private int numPartitions = Runtime.getRuntime().availableProcessors();
+    private int batchSize;
+    private int maxRetries = 1;
+    private ExecutorService partitionExecutor;
+
+    ParallelScanIterableImpl(final MongoNamespace namespace, final Class<TDocument> documentClass, final Class<TResult> resultClass,
+                             final CodecRegistry codecRegistry, final ReadPreference readPreference, final ReadConcern readConcern,
+                             final WriteConcern writeConcern, final OperationExecutor executor) {
+        this.namespace = notNull("namespace", namespace);
+        this.documentClass = notNull("documentClass", documentClass);
+        this.resultClass = notNull("resultClass", resultClass);
+        this.codecRegistry = notNull("codecRegistry", codecRegistry);
+        this.readPreference = notNull("readPreference", readPreference);
+        this.readConcern = notNull("readConcern", readConcern);
+        this.writeConcern = notNull("writeConcern", writeConcern);
+        this.executor = notNull("executor", executor);
+    }
+
+    @Override
+    public ParallelScanIterable<TResult> filter(final Bson filter) {
+        this.filter = filter == null ? new BsonDocument() : filter;
+        return this;
+    }
+
+    @Override
+    public ParallelScanIterable<TResult> numPartitions(final int numPartitions) {
+        isTrueArgument("numPartitions >= 1", numPartitions >= 1);
+        this.numPartitions = numPartitions;
+        return this;
+    }
+
+    @Override
+    public ParallelScanIterable<TResult> batchSize(final int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    @Override
+    public ParallelScanIterable<TResult> maxRetries(final int maxRetries) {
+        isTrueArgument("maxRetries >= 0", maxRetries >= 0);
+        this.maxRetries = maxRetries;
+        return this;
+    }
+
+    @Override
+    public ParallelScanIterable<TResult> executor(final ExecutorService executor) {
+        this.partitionExecutor = executor;
+        return this;
+    }
+
+    @Override
+    public void forEach(final Block<? super TResult> block) {
+        notNull("block", block);
+        List<Partition> partitions = getPartitions();
+        ExecutorService executorService = partitionExecutor;
+        if (executorService == null) {
+            executorService = Executors.newFixedThreadPool(Math.min(partitions.size(), Runtime.getRuntime().availableProcessors()),
+                                                           new DaemonThreadFactory("ParallelScan"));
+        }
+        try {
+            scan(partitions, executorService, block);
+        } finally {
+            if (partitionExecutor == null) {
+                executorService.shutdown();
+            }
+        }
+    }
+
+    @Override
+    public <A extends Collection<? super TResult>> A into(final A target) {
+        notNull("target", target);
+        forEach(new Block<TResult>() {
+            @Override
+            public void apply(final TResult t) {
+                synchronized (target) {
+                    target.add(t);
+                }
+            }
+        });
+        return target;
+    }
+
+    // The boundaries are evenly spaced values of _id from a sample of the collection, which the server sorts in index order
+    private List<Partition> getPartitions() {
+        List<BsonValue> boundaries = new ArrayList<BsonValue>();
+        if (numPartitions > 1) {
+            List<BsonDocument> sample = new AggregateIterableImpl<TDocument, BsonDocument>(null, namespace, documentClass,
+                    BsonDocument.class, codecRegistry, readPreference, readConcern, writeConcern, executor,
+                    asList(new BsonDocument("$sample", new BsonDocument("size", new BsonInt32(numPartitions * SAMPLES_PER_PARTITION))),
+                           new BsonDocument("$project", ID_INDEX),
+                           new BsonDocument("$sort", ID_INDEX)))
+                    .into(new ArrayList<BsonDocument>());
+            for (int i = 1; i < numPartitions && !sample.isEmpty(); i++) {
+                BsonValue boundary = sample.get(i * sample.size() / numPartitions).get("_id");
+                if (boundaries.isEmpty() || !boundaries.get(boundaries.size() - 1).equals(boundary)) {
+                    boundaries.add(boundary);
+                }
+            }
+        }
+
+        List<Partition> partitions = new ArrayList<Partition>();
+        BsonValue min = null;
+        for (BsonValue boundary : boundaries) {
+            partitions.add(new Partition(min, boundary));
+            min = boundary;
+        }
+        partitions.add(new Partition(min, null));
+        return partitions;
+    }
+
+    private void scan(final List<Partition> partitions, final ExecutorService executorService, final Block<? super TResult> block) {
+        AtomicBoolean stopped = new AtomicBoolean();
+        CompletionService<Void> completionService = new ExecutorCompletionService<Void>(executorService);
+        int submitted = 0;
+        Throwable failure = null;
+        try {
+            for (Partition partition : partitions) {
+                completionService.submit(new PartitionScan(partition, block, stopped));
+                submitted++;
+            }
+        } catch (RuntimeException e) {
+            stopped.set(true);
+            failure = e;
+        }
+
+        // Wait for every partition, even after one fails, so that the block is never called once this method has returned
+        boolean interrupted = false;
+        int remaining = submitted;
+        while (remaining > 0) {
+            try {
+                completionService.take().get();
+                remaining--;
+            } catch (ExecutionException e) {
+                remaining--;
+                stopped.set(true);
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+            } catch (InterruptedException e) {
+                stopped.set(true);
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+            if (failure == null) {
+                failure = new MongoInterruptedException("Interrupted while waiting for the partitions to be read", null);
+            }
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            throw new MongoInternalException("Unexpected exception while reading a partition", failure);
+        }
+    }
+
+    private static boolean isResumable(final MongoException e) {
+        return e instanceof MongoSocketException || e instanceof MongoCursorNotFoundException || e instanceof MongoNotPrimaryException
+               || e instanceof MongoNodeIsRecoveringException;
+    }
+
+    private static final class Partition {
+        private final BsonValue min;
+        private final BsonValue max;
+
+        Partition(final BsonValue min, final BsonValue max) {
+            this.min = min;
+            this.max = max;
+        }
+    }
+
+    private final class PartitionScan implements Callable<Void> {
+        private final Partition partition;
+        private final Block<? super TResult> block;
+        private final AtomicBoolean stopped;
+        private final Codec<TResult> codec = codecRegistry.get(resultClass);
+        private BsonValue lastId;
+
+        PartitionScan(final Partition partition, final Block<? super TResult> block, final AtomicBoolean stopped) {
+            this.partition = partition;
+            this.block = block;
+            this.stopped = stopped;
+        }
+
+        @Override
+        public Void call() {
+            int retries = 0;
+            MongoCursor<RawBsonDocument> cursor = null;
+            try {
+                while (!stopped.get()) {
+                    RawBsonDocument document;
+                    try {
+                        if (cursor == null) {
+                            cursor = createPartitionIterable().iterator();
+                        }
+                        if (!cursor.hasNext()) {
+                            break;
+                        }
+                        document = cursor.next();
+                    } catch (MongoException e) {
+                        if (!isResumable(e) || retries++ >= maxRetries) {
+                            throw e;
+                        }
+                        if (cursor != null) {
+                            cursor.close();
+                            cursor = null;
+                        }
+                        continue;
+                    }
+
+                    // A resumed query starts with the last document that was returned before it
+                    BsonValue id = document.get("_id");
+                    if (!id.equals(lastId)) {
+                        lastId = id;
+                        block.apply(document.decode(codec));
+                    }
+                }
+            } finally {
+                if (cursor != null) {
+                    cursor.close();
+                }
+            }
+            return null;
+        }
+
+        private FindIterableImpl<TDocument, RawBsonDocument> createPartitionIterable() {
+            BsonValue min = lastId != null ? lastId : partition.min;
+            FindOptions findOptions = new FindOptions().batchSize(batchSize).hint(ID_INDEX)
+                                              .min(min == null ? null : new BsonDocument("_id", min))
+                                              .max(partition.max == null ? null : new BsonDocument("_id", partition.max));
+            return new FindIterableImpl<TDocument, RawBsonDocument>(null, namespace, documentClass, RawBsonDocument.class,
+                    fromRegistries(fromCodecs(new RawBsonDocumentCodec()), codecRegistry), readPreference, readConcern, executor, filter,
+                    findOptions);
+        }
+    }
+}
@@ -44,7 +44,7 @@ class ServerSessionPool {
     private static final int END_SESSIONS_BATCH_SIZE = 10000;
 
     private final ConcurrentPool<ServerSessionImpl> serverSessionPool =
-            new ConcurrentPool<ServerSessionImpl>(Integer.MAX_VALUE, new ServerSessionItemFactory());
+            new ConcurrentPool<ServerSessionImpl>(Integer.MAX_VALUE, new ServerSessionItemFactory(), false);
     private final Cluster cluster;
     private final ServerSessionPool.Clock clock;
     private volatile boolean closing;
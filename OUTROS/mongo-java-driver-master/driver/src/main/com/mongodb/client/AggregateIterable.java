@@ -82,6 +82,16 @@ public interface AggregateIterable<TResult> extends MongoIterable<TResult> {
     @Deprecated
     AggregateIterable<TResult> useCursor(Boolean useCursor);
 
+    /**
+     * Sets whether the cursor fetches the next batch in the background while the application processes the current one.  At most one
+     * batch is fetched ahead of the application.
+     *
+     * @param prefetch true if the cursor should prefetch the next batch
+     * @return this
+     * @since 3.6
+     */
+    AggregateIterable<TResult> prefetch(boolean prefetch);
+
     /**
      * The maximum amount of time for the server to wait on new documents to satisfy a {@code $changeStream} aggregation.
      *
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client;
+
+import com.mongodb.annotations.ThreadSafe;
+import org.bson.BsonDocument;
+
+/**
+ * A store for the resume token of a change stream, so that a change stream can resume after the last change that was processed.
+ *
+ * <p>A {@link ChangeStreamIterable} configured with a checkpoint store saves the resume token of the last change processed by
+ * {@link ChangeStreamIterable#forEach(com.mongodb.Block)} or {@link ChangeStreamIterable#forEachBatch(com.mongodb.Block)}, and resumes
+ * after the saved resume token when it is iterated again.</p>
+ *
+ * @see ChangeStreamIterable#checkpointStore(ChangeStreamCheckpointStore)
+ * @see FileChangeStreamCheckpointStore
+ * @since 3.6
+ */
+@ThreadSafe
+public interface ChangeStreamCheckpointStore {
+
+    /**
+     * Loads the last resume token that was saved.
+     *
+     * @return the resume token, or null if none has been saved
+     */
+    BsonDocument load();
+
+    /**
+     * Saves a resume token, replacing any previously saved.
+     *
+     * @param resumeToken the resume token
+     */
+    void save(BsonDocument resumeToken);
+}
@@ -16,11 +16,13 @@
 
 package com.mongodb.client;
 
+import com.mongodb.Block;
 import com.mongodb.client.model.Collation;
 import com.mongodb.client.model.changestream.ChangeStreamDocument;
 import com.mongodb.client.model.changestream.FullDocument;
 import org.bson.BsonDocument;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -79,6 +81,45 @@ public interface ChangeStreamIterable<TResult> extends MongoIterable<ChangeStrea
      */
     ChangeStreamIterable<TResult> collation(Collation collation);
 
+    /**
+     * Sets the store to checkpoint the resume token of the change stream to.
+     *
+     * <p>Unless a resume token is set with {@link #resumeAfter(BsonDocument)}, the change stream resumes after the resume token loaded from
+     * the store.  The resume token of the last change processed by {@link #forEach(Block)} or {@link #forEachBatch(Block)} is saved to
+     * the store at the interval set by {@link #checkpointInterval(long, TimeUnit)}, and when the iteration ends.  As the changes
+     * processed since the last checkpoint are seen again after resuming, each change is processed at least once.</p>
+     *
+     * @param checkpointStore the checkpoint store
+     * @return this
+     * @since 3.6
+     */
+    ChangeStreamIterable<TResult> checkpointStore(ChangeStreamCheckpointStore checkpointStore);
+
+    /**
+     * Sets the minimum time between the checkpoints of the resume token to the checkpoint store.
+     *
+     * <p>The resume token is checkpointed after each batch of changes is processed, once at least this much time has passed since the last
+     * checkpoint.  The default of zero checkpoints after every batch.</p>
+     *
+     * @param checkpointInterval the checkpoint interval, which must be greater than or equal to zero
+     * @param timeUnit the time unit, which may not be null
+     * @return this
+     * @since 3.6
+     */
+    ChangeStreamIterable<TResult> checkpointInterval(long checkpointInterval, TimeUnit timeUnit);
+
+    /**
+     * Iterates over the change stream a batch at a time, passing the changes in each batch returned by the server to the block.
+     *
+     * <p>Empty batches are not passed to the block.  If a checkpoint store is set, the resume token of the last change in each batch is
+     * checkpointed once the block has processed the batch.</p>
+     *
+     * @param block the block to apply to each batch of changes
+     * @see #checkpointStore(ChangeStreamCheckpointStore)
+     * @since 3.6
+     */
+    void forEachBatch(Block<? super List<ChangeStreamDocument<TResult>>> block);
+
     /**
      * Returns a {@code MongoIterable} containing the results of the change stream based on the document class provided.
      *
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client;
+
+import com.mongodb.MongoClientException;
+import com.mongodb.annotations.ThreadSafe;
+import org.bson.BSONException;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.ByteBuf;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+
+import static com.mongodb.assertions.Assertions.notNull;
+import static java.lang.String.format;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * A change stream checkpoint store that keeps the resume token in a local file, as a BSON document.
+ *
+ * <p>The resume token is written to a temporary file next to the file, which is synced to disk and then renamed to replace the file.  On
+ * Java 7 and above, where the file system supports replacing a file atomically, the file holds either the previous or the new resume
+ * token if the process stops while saving.  Otherwise the file is deleted before the temporary file is renamed, and if the process stops
+ * in between, the resume token is loaded from the temporary file instead.</p>
+ *
+ * <p>Loading a file that is truncated or is not a valid BSON document fails with a {@link MongoClientException}, rather than returning a
+ * resume token that fails when it is used.</p>
+ *
+ * @since 3.6
+ */
+@ThreadSafe
+public final class FileChangeStreamCheckpointStore implements ChangeStreamCheckpointStore {
+    private static final FileRenamer FILE_RENAMER;
+
+    static {
+        FileRenamer fileRenamer;
+        try {
+            fileRenamer = (FileRenamer) Class.forName("com.mongodb.client.Java7FileRenamer").getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            // this is unexpected as it means the Java7FileRenamer class itself is not found
+            throw new ExceptionInInitializerError(e);
+        } catch (InstantiationException e) {
+            // this is unexpected as it means Java7FileRenamer can't be instantiated
+            throw new ExceptionInInitializerError(e);
+        } catch (IllegalAccessException e) {
+            // this is unexpected as it means Java7FileRenamer's constructor isn't accessible
+            throw new ExceptionInInitializerError(e);
+        } catch (NoSuchMethodException e) {
+            // this is unexpected as it means Java7FileRenamer has no no-args constructor
+            throw new ExceptionInInitializerError(e);
+        } catch (InvocationTargetException e) {
+            // this is unexpected as it means Java7FileRenamer's constructor threw an exception
+            throw new ExceptionInInitializerError(e.getTargetException());
+        } catch (LinkageError t) {
+            // this is expected if running on a release prior to Java 7, in which case the file is deleted before it is replaced
+            fileRenamer = null;
+        }
+
+        FILE_RENAMER = fileRenamer;
+    }
+
+    private final File file;
+    private final File temporaryFile;
+
+    /**
+     * Construct an instance.
+     *
+     * @param file the file to keep the resume token in, which need not exist yet
+     */
+    public FileChangeStreamCheckpointStore(final File file) {
+        this.file = notNull("file", file);
+        this.temporaryFile = new File(file.getPath() + ".tmp");
+    }
+
+    /**
+     * Gets the file that the resume token is kept in.
+     *
+     * @return the file
+     */
+    public File getFile() {
+        return file;
+    }
+
+    @Override
+    public synchronized BsonDocument load() {
+        if (file.exists()) {
+            BsonDocument resumeToken = read(file);
+            if (resumeToken == null) {
+                throw new MongoClientException(format("Unable to load the resume token from %s, as it is truncated or corrupt", file));
+            }
+            return resumeToken;
+        } else if (temporaryFile.exists()) {
+            // The process stopped while saving, and the temporary file is only complete if it stopped after deleting the file
+            return read(temporaryFile);
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public synchronized void save(final BsonDocument resumeToken) {
+        notNull("resumeToken", resumeToken);
+        ByteBuf buffer = new RawBsonDocument(resumeToken, new BsonDocumentCodec()).getByteBuffer();
+        try {
+            FileOutputStream outputStream = new FileOutputStream(temporaryFile);
+            try {
+                outputStream.write(buffer.array(), buffer.position(), buffer.remaining());
+                outputStream.getFD().sync();
+            } finally {
+                outputStream.close();
+            }
+            if (FILE_RENAMER != null) {
+                FILE_RENAMER.rename(temporaryFile, file);
+            } else if (!temporaryFile.renameTo(file) && !(file.delete() && temporaryFile.renameTo(file))) {
+                // renaming over an existing file fails on some platforms
+                throw new IOException(format("Unable to rename %s to %s", temporaryFile, file));
+            }
+        } catch (IOException e) {
+            throw new MongoClientException(format("Unable to save the resume token to %s", file), e);
+        }
+    }
+
+    // Returns null if the file does not hold a single, complete BSON document
+    private static BsonDocument read(final File file) {
+        byte[] bytes;
+        try {
+            bytes = new byte[(int) file.length()];
+            DataInputStream inputStream = new DataInputStream(new FileInputStream(file));
+            try {
+                inputStream.readFully(bytes);
+            } finally {
+                inputStream.close();
+            }
+        } catch (IOException e) {
+            throw new MongoClientException(format("Unable to load the resume token from %s", file), e);
+        }
+        if (bytes.length < 5 || bytes[bytes.length - 1] != 0 || ByteBuffer.wrap(bytes).order(LITTLE_ENDIAN).getInt() != bytes.length) {
+            return null;
+        }
+        BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(bytes).order(LITTLE_ENDIAN));
+        try {
+            return new BsonDocumentCodec().decode(reader, DecoderContext.builder().build());
+        } catch (BSONException e) {
+            return null;
+        } finally {
+            reader.close();
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package com.mongodb.client;
 
 import com.mongodb.CursorType;
+import com.mongodb.client.model.AdaptiveBatchSize;
 import com.mongodb.client.model.Collation;
 import org.bson.conversions.Bson;
 
@@ -123,6 +124,37 @@ public interface FindIterable<TResult> extends MongoIterable<TResult> {
      */
     FindIterable<TResult> noCursorTimeout(boolean noCursorTimeout);
 
+    /**
+     * Sets whether the cursor fetches the next batch in the background while the application processes the current one.  At most one
+     * batch is fetched ahead of the application.
+     *
+     * @param prefetch true if the cursor should prefetch the next batch
+     * @return this
+     * @since 3.6
+     */
+    FindIterable<TResult> prefetch(boolean prefetch);
+
+    /**
+     * Sets whether the server streams the batches of the cursor without waiting for a getMore for each one.  The batches are streamed
+     * on a connection that is dedicated to the cursor until the stream ends, and that is discarded if the cursor is closed before then.
+     * Servers that can't stream batches ignore this option.
+     *
+     * @param exhaust true if the server should stream the batches of the cursor
+     * @return this
+     * @since 3.6
+     */
+    FindIterable<TResult> exhaust(boolean exhaust);
+
+    /**
+     * Sets the bounds and targets for choosing the batch size of each getMore from the size of the documents and the latency of the
+     * previous getMore.  The batch size still applies to the first batch.  If null, every getMore uses the batch size.
+     *
+     * @param adaptiveBatchSize the adaptive batch size, which may be null
+     * @return this
+     * @since 3.6
+     */
+    FindIterable<TResult> adaptiveBatchSize(AdaptiveBatchSize adaptiveBatchSize);
+
     /**
      * Users should not set this under normal circumstances.
      *
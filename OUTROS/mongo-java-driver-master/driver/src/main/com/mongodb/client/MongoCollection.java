@@ -346,6 +346,26 @@ public interface MongoCollection<TDocument> {
      */
     <TResult> FindIterable<TResult> find(ClientSession clientSession, Bson filter, Class<TResult> resultClass);
 
+    /**
+     * Scans the collection in partitions that are read in parallel.
+     *
+     * @return the parallel scan iterable interface
+     * @since 3.6
+     * @mongodb.server.release 3.2
+     */
+    ParallelScanIterable<TDocument> parallelScan();
+
+    /**
+     * Scans the collection in partitions that are read in parallel.
+     *
+     * @param resultClass the class to decode each document into
+     * @param <TResult>   the target document type of the iterable.
+     * @return the parallel scan iterable interface
+     * @since 3.6
+     * @mongodb.server.release 3.2
+     */
+    <TResult> ParallelScanIterable<TResult> parallelScan(Class<TResult> resultClass);
+
     /**
      * Aggregates documents according to the specified aggregation pipeline.
      *
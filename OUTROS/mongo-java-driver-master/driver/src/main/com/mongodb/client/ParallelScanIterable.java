@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client;
+
+import com.mongodb.Block;
+import org.bson.conversions.Bson;
+
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Iterable for a scan of a collection that is split into ranges of {@code _id} that are read in parallel.
+ *
+ * <p>The boundaries of the ranges are taken from a random sample of the collection, so that the partitions are of roughly equal size.
+ * Each partition is read by a query bounded by {@code min} and {@code max} on the {@code _id} index.  If the query for a partition fails
+ * because of a network error or a lost cursor, it is resumed after the last document that it returned.</p>
+ *
+ * <p>Documents are passed to the block from several threads at once, and in no particular order.</p>
+ *
+ * @param <TResult> The type of the result.
+ * @since 3.6
+ * @mongodb.server.release 3.2
+ */
+public interface ParallelScanIterable<TResult> {
+
+    /**
+     * Sets the query filter to apply to the query of each partition.
+     *
+     * @param filter the filter, which may be null.
+     * @return this
+     * @mongodb.driver.manual reference/method/db.collection.find/ Filter
+     */
+    ParallelScanIterable<TResult> filter(Bson filter);
+
+    /**
+     * Sets the number of partitions to split the collection into.  Fewer partitions are used if the sample of the collection has fewer
+     * distinct values of {@code _id}.  The default is the number of available processors.
+     *
+     * @param numPartitions the number of partitions, which must be &gt;= 1
+     * @return this
+     */
+    ParallelScanIterable<TResult> numPartitions(int numPartitions);
+
+    /**
+     * Sets the number of documents to return per batch.
+     *
+     * @param batchSize the batch size
+     * @return this
+     * @mongodb.driver.manual reference/method/cursor.batchSize/#cursor.batchSize Batch Size
+     */
+    ParallelScanIterable<TResult> batchSize(int batchSize);
+
+    /**
+     * Sets the number of times that the query of a partition is resumed after a network error or a lost cursor before the scan fails.
+     * The default is 1.
+     *
+     * @param maxRetries the maximum number of retries per partition, which must be &gt;= 0
+     * @return this
+     */
+    ParallelScanIterable<TResult> maxRetries(int maxRetries);
+
+    /**
+     * Sets the executor that the partitions are read on.  The number of threads of the executor bounds the number of partitions that are
+     * read at once.  By default, a pool of as many threads as there are available processors is created for each scan and shut down when
+     * it completes.
+     *
+     * @param executor the executor, which may be null to use the default
+     * @return this
+     */
+    ParallelScanIterable<TResult> executor(ExecutorService executor);
+
+    /**
+     * Reads all partitions, applying the given block to each document.  The block is called concurrently from the threads that read the
+     * partitions.  If a partition fails, or the block throws an exception, the remaining partitions are stopped and the exception is
+     * rethrown once they have.
+     *
+     * @param block the block to apply to each document, which must be thread safe.
+     */
+    void forEach(Block<? super TResult> block);
+
+    /**
+     * Reads all partitions, adding each document to the given target.  The target is locked while each document is added to it.
+     *
+     * @param target the collection to insert into
+     * @param <A> the collection type
+     * @return the target
+     */
+    <A extends Collection<? super TResult>> A into(A target);
+}
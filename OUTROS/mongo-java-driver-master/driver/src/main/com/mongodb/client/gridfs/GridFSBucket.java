@@ -28,6 +28,8 @@ import org.bson.types.ObjectId;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 
 /**
  * Represents a GridFS Bucket
@@ -227,6 +229,68 @@ public interface GridFSBucket {
      */
     void uploadFromStream(BsonValue id, String filename, InputStream source, GridFSUploadOptions options);
 
+    /**
+     * Uploads the contents of the given {@code ReadableByteChannel} to a GridFS bucket.
+     * <p>
+     * Reads the contents of the user file from the channel, a chunk at a time, and uploads it as chunks in the chunks collection. After
+     * all the chunks have been uploaded, it creates a files collection document for {@code filename} in the files collection.  The
+     * channel must be in blocking mode.
+     * </p>
+     *
+     * @param filename the filename for the stream
+     * @param source the channel providing the file data
+     * @return the ObjectId of the uploaded file.
+     * @since 3.6
+     */
+    ObjectId uploadFromChannel(String filename, ReadableByteChannel source);
+
+    /**
+     * Uploads the contents of the given {@code ReadableByteChannel} to a GridFS bucket.
+     * <p>
+     * Reads the contents of the user file from the channel, a chunk at a time, and uploads it as chunks in the chunks collection. After
+     * all the chunks have been uploaded, it creates a files collection document for {@code filename} in the files collection.  The
+     * channel must be in blocking mode.
+     * </p>
+     *
+     * @param filename the filename for the stream
+     * @param source the channel providing the file data
+     * @param options the GridFSUploadOptions
+     * @return the ObjectId of the uploaded file.
+     * @since 3.6
+     */
+    ObjectId uploadFromChannel(String filename, ReadableByteChannel source, GridFSUploadOptions options);
+
+    /**
+     * Uploads the contents of the given {@code ReadableByteChannel} to a GridFS bucket.
+     * <p>
+     * Reads the contents of the user file from the channel, a chunk at a time, and uploads it as chunks in the chunks collection. After
+     * all the chunks have been uploaded, it creates a files collection document for {@code filename} in the files collection.  The
+     * channel must be in blocking mode.
+     * </p>
+     *
+     * @param id the custom id value of the file
+     * @param filename the filename for the stream
+     * @param source the channel providing the file data
+     * @since 3.6
+     */
+    void uploadFromChannel(BsonValue id, String filename, ReadableByteChannel source);
+
+    /**
+     * Uploads the contents of the given {@code ReadableByteChannel} to a GridFS bucket.
+     * <p>
+     * Reads the contents of the user file from the channel, a chunk at a time, and uploads it as chunks in the chunks collection. After
+     * all the chunks have been uploaded, it creates a files collection document for {@code filename} in the files collection.  The
+     * channel must be in blocking mode.
+     * </p>
+     *
+     * @param id the custom id value of the file
+     * @param filename the filename for the stream
+     * @param source the channel providing the file data
+     * @param options the GridFSUploadOptions
+     * @since 3.6
+     */
+    void uploadFromChannel(BsonValue id, String filename, ReadableByteChannel source, GridFSUploadOptions options);
+
     /**
      * Opens a Stream from which the application can read the contents of the stored file specified by {@code id}.
      *
@@ -280,6 +344,57 @@ public interface GridFSBucket {
      */
     void downloadToStream(String filename, OutputStream destination, GridFSDownloadOptions options);
 
+    /**
+     * Downloads the contents of the stored file specified by {@code id} and writes the contents to the {@code destination} channel.
+     *
+     * <p>The data of each chunk is written to the channel straight from the document that the server returned for it, without copying it
+     * into an intermediate buffer, and the data of several chunks is written at once if the channel is a
+     * {@link java.nio.channels.GatheringByteChannel}, such as a {@link java.nio.channels.FileChannel}.  The channel must be in blocking
+     * mode.</p>
+     *
+     * @param id the ObjectId of the file to be written to the destination channel
+     * @param destination the destination channel
+     * @since 3.6
+     */
+    void downloadToChannel(ObjectId id, WritableByteChannel destination);
+
+    /**
+     * Downloads the contents of the stored file specified by {@code id} and writes the contents to the {@code destination} channel.
+     *
+     * <p>The data of each chunk is written to the channel straight from the document that the server returned for it, without copying it
+     * into an intermediate buffer, and the data of several chunks is written at once if the channel is a
+     * {@link java.nio.channels.GatheringByteChannel}, such as a {@link java.nio.channels.FileChannel}.  The channel must be in blocking
+     * mode.</p>
+     *
+     * @param id the custom id of the file, to be written to the destination channel
+     * @param destination the destination channel
+     * @since 3.6
+     */
+    void downloadToChannel(BsonValue id, WritableByteChannel destination);
+
+    /**
+     * Downloads the contents of the latest version of the stored file specified by {@code filename} and writes the contents to
+     * the {@code destination} channel.
+     *
+     * @param filename the name of the file to be downloaded
+     * @param destination the destination channel
+     * @since 3.6
+     * @see #downloadToChannel(BsonValue, WritableByteChannel)
+     */
+    void downloadToChannel(String filename, WritableByteChannel destination);
+
+    /**
+     * Downloads the contents of the stored file specified by {@code filename} and by the revision in {@code options} and writes the
+     * contents to the {@code destination} channel.
+     *
+     * @param filename the name of the file to be downloaded
+     * @param destination the destination channel
+     * @param options the download options
+     * @since 3.6
+     * @see #downloadToChannel(BsonValue, WritableByteChannel)
+     */
+    void downloadToChannel(String filename, WritableByteChannel destination, GridFSDownloadOptions options);
+
     /**
      * Opens a Stream from which the application can read the contents of the latest version of the stored file specified by the
      * {@code filename}.
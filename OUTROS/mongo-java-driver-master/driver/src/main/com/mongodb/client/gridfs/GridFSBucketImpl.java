@@ -22,6 +22,7 @@ import com.mongodb.ReadConcern;
 import com.mongodb.ReadPreference;
 import com.mongodb.WriteConcern;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.gridfs.model.GridFSDownloadOptions;
 import com.mongodb.client.gridfs.model.GridFSFile;
@@ -29,18 +30,29 @@ import com.mongodb.client.gridfs.model.GridFSUploadOptions;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinarySubType;
 import org.bson.BsonDocument;
 import org.bson.BsonObjectId;
 import org.bson.BsonString;
+import org.bson.BsonType;
 import org.bson.BsonValue;
+import org.bson.ByteBuf;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.conversions.Bson;
+import org.bson.io.ByteBufferBsonInput;
 import org.bson.types.ObjectId;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
+import java.util.List;
 
 import static com.mongodb.ReadPreference.primary;
 import static com.mongodb.assertions.Assertions.notNull;
@@ -49,6 +61,7 @@ import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
 
 final class GridFSBucketImpl implements GridFSBucket {
     private static final int DEFAULT_CHUNKSIZE_BYTES = 255 * 1024;
+    private static final int MAX_CHUNKS_PER_GATHERING_WRITE = 16;
     private final String bucketName;
     private final int chunkSizeBytes;
     private final MongoCollection<GridFSFile> filesCollection;
@@ -138,9 +151,14 @@ final class GridFSBucketImpl implements GridFSBucket {
 
     @Override
     public GridFSUploadStream openUploadStream(final BsonValue id, final String filename, final GridFSUploadOptions options) {
+        return createUploadStream(id, filename, options);
+    }
+
+    private GridFSUploadStreamImpl createUploadStream(final BsonValue id, final String filename, final GridFSUploadOptions options) {
         int chunkSize = options.getChunkSizeBytes() == null ? chunkSizeBytes : options.getChunkSizeBytes();
         checkCreateIndex();
-        return new GridFSUploadStreamImpl(filesCollection, chunksCollection, id, filename, chunkSize, options.getMetadata());
+        return new GridFSUploadStreamImpl(filesCollection, chunksCollection, id, filename, chunkSize, options.getMetadata(),
+                options.getChunksPerInsert(), options.getMaxConcurrentInserts());
     }
 
     @Override
@@ -178,6 +196,48 @@ final class GridFSBucketImpl implements GridFSBucket {
         }
     }
 
+    @Override
+    public ObjectId uploadFromChannel(final String filename, final ReadableByteChannel source) {
+        return uploadFromChannel(filename, source, new GridFSUploadOptions());
+    }
+
+    @Override
+    public ObjectId uploadFromChannel(final String filename, final ReadableByteChannel source, final GridFSUploadOptions options) {
+        ObjectId id = new ObjectId();
+        uploadFromChannel(new BsonObjectId(id), filename, source, options);
+        return id;
+    }
+
+    @Override
+    public void uploadFromChannel(final BsonValue id, final String filename, final ReadableByteChannel source) {
+        uploadFromChannel(id, filename, source, new GridFSUploadOptions());
+    }
+
+    @Override
+    public void uploadFromChannel(final BsonValue id, final String filename, final ReadableByteChannel source,
+                                  final GridFSUploadOptions options) {
+        notNull("source", source);
+        GridFSUploadStreamImpl uploadStream = createUploadStream(id, filename, options);
+        int chunkSize = options.getChunkSizeBytes() == null ? chunkSizeBytes : options.getChunkSizeBytes();
+        ByteBuffer buffer = ByteBuffer.allocate(chunkSize);
+        try {
+            // Fill a whole chunk before writing it, so that the upload stream inserts the array itself rather than a copy of it
+            boolean endOfStream = false;
+            while (!endOfStream) {
+                endOfStream = source.read(buffer) == -1;
+                if (!buffer.hasRemaining()) {
+                    buffer = ByteBuffer.wrap(uploadStream.writeChunk(buffer.array()));
+                } else if (endOfStream && buffer.position() > 0) {
+                    uploadStream.write(buffer.array(), 0, buffer.position());
+                }
+            }
+            uploadStream.close();
+        } catch (IOException e) {
+            uploadStream.abort();
+            throw new MongoGridFSException("IOException when reading from the ReadableByteChannel", e);
+        }
+    }
+
     @Override
     public GridFSDownloadStream openDownloadStream(final ObjectId id) {
         return findTheFileInfoAndOpenDownloadStream(new BsonObjectId(id));
@@ -203,6 +263,26 @@ final class GridFSBucketImpl implements GridFSBucket {
         downloadToStream(openDownloadStream(filename, options), destination);
     }
 
+    @Override
+    public void downloadToChannel(final ObjectId id, final WritableByteChannel destination) {
+        downloadToChannel(getFileById(new BsonObjectId(id)), destination);
+    }
+
+    @Override
+    public void downloadToChannel(final BsonValue id, final WritableByteChannel destination) {
+        downloadToChannel(getFileById(id), destination);
+    }
+
+    @Override
+    public void downloadToChannel(final String filename, final WritableByteChannel destination) {
+        downloadToChannel(filename, destination, new GridFSDownloadOptions());
+    }
+
+    @Override
+    public void downloadToChannel(final String filename, final WritableByteChannel destination, final GridFSDownloadOptions options) {
+        downloadToChannel(getFileByName(filename, options), destination);
+    }
+
     @Override
     public GridFSDownloadStream openDownloadStream(final BsonValue id) {
         return findTheFileInfoAndOpenDownloadStream(id);
@@ -352,12 +432,16 @@ final class GridFSBucketImpl implements GridFSBucket {
         return fileInfo;
     }
 
-    private GridFSDownloadStream findTheFileInfoAndOpenDownloadStream(final BsonValue id) {
+    private GridFSFile getFileById(final BsonValue id) {
         GridFSFile fileInfo = find(new Document("_id", id)).first();
         if (fileInfo == null) {
             throw new MongoGridFSException(format("No file found with the id: %s", id));
         }
-        return new GridFSDownloadStreamImpl(fileInfo, chunksCollection);
+        return fileInfo;
+    }
+
+    private GridFSDownloadStream findTheFileInfoAndOpenDownloadStream(final BsonValue id) {
+        return new GridFSDownloadStreamImpl(getFileById(id), chunksCollection);
     }
 
     private void downloadToStream(final GridFSDownloadStream downloadStream, final OutputStream destination) {
@@ -383,4 +467,93 @@ final class GridFSBucketImpl implements GridFSBucket {
             }
         }
     }
+
+    // The chunks are read as RawBsonDocument, and the data of each chunk is written to the channel from a view of the document's bytes
+    private void downloadToChannel(final GridFSFile fileInfo, final WritableByteChannel destination) {
+        notNull("destination", destination);
+        int chunkSize = fileInfo.getChunkSize();
+        long length = fileInfo.getLength();
+        int numberOfChunks = (int) Math.ceil((double) length / chunkSize);
+        int maxChunksPerWrite = destination instanceof GatheringByteChannel ? MAX_CHUNKS_PER_GATHERING_WRITE : 1;
+
+        MongoCursor<RawBsonDocument> cursor = chunksCollection.withDocumentClass(RawBsonDocument.class)
+                .find(new Document("files_id", fileInfo.getId())).sort(new Document("n", 1)).iterator();
+        try {
+            List<ByteBuffer> buffers = new ArrayList<ByteBuffer>(maxChunksPerWrite);
+            int chunkIndex = 0;
+            while (chunkIndex < numberOfChunks) {
+                if (!cursor.hasNext()) {
+                    throw new MongoGridFSException(format("Could not find file chunk for file_id: %s at chunk index %s.",
+                            fileInfo.getId(), chunkIndex));
+                }
+                long expectedDataLength = chunkIndex + 1 == numberOfChunks ? length - (chunkIndex * (long) chunkSize) : chunkSize;
+                buffers.add(getDataFromChunk(cursor.next(), fileInfo.getId(), chunkIndex, expectedDataLength));
+                chunkIndex++;
+                if (buffers.size() == maxChunksPerWrite || chunkIndex == numberOfChunks) {
+                    write(destination, buffers.toArray(new ByteBuffer[buffers.size()]));
+                    buffers.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new MongoGridFSException("IOException when writing to the WritableByteChannel", e);
+        } finally {
+            cursor.close();
+        }
+    }
+
+    private static ByteBuffer getDataFromChunk(final RawBsonDocument chunk, final BsonValue fileId, final int expectedChunkIndex,
+                                               final long expectedDataLength) {
+        ByteBuf byteBuf = chunk.getByteBuffer();
+        BsonBinaryReader reader = new BsonBinaryReader(new ByteBufferBsonInput(byteBuf));
+        Integer chunkIndex = null;
+        ByteBuffer data = null;
+        try {
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                String name = reader.readName();
+                if (name.equals("n") && reader.getCurrentBsonType() == BsonType.INT32) {
+                    chunkIndex = reader.readInt32();
+                } else if (name.equals("data") && reader.getCurrentBsonType() == BsonType.BINARY) {
+                    boolean oldBinary = reader.peekBinarySubType() == BsonBinarySubType.OLD_BINARY.getValue();
+                    int size = reader.peekBinarySize() - (oldBinary ? 4 : 0);
+                    int start = byteBuf.position() + (oldBinary ? 9 : 5);
+                    data = byteBuf.asNIO().duplicate();
+                    data.limit(start + size);
+                    data.position(start);
+                    reader.skipValue();
+                } else {
+                    reader.skipValue();
+                }
+            }
+        } finally {
+            reader.close();
+        }
+
+        if (chunkIndex == null || chunkIndex != expectedChunkIndex) {
+            throw new MongoGridFSException(format("Could not find file chunk for file_id: %s at chunk index %s.",
+                    fileId, expectedChunkIndex));
+        }
+        if (data == null) {
+            throw new MongoGridFSException("Unexpected data format for the chunk");
+        }
+        if (data.remaining() != expectedDataLength) {
+            throw new MongoGridFSException(format("Chunk size data length is not the expected size. "
+                            + "The size was %s for file_id: %s chunk index %s it should be %s bytes.",
+                    data.remaining(), fileId, expectedChunkIndex, expectedDataLength));
+        }
+        return data;
+    }
+
+    private static void write(final WritableByteChannel destination, final ByteBuffer[] buffers) throws IOException {
+        if (buffers.length == 1) {
+            while (buffers[0].hasRemaining()) {
+                destination.write(buffers[0]);
+            }
+        } else {
+            ByteBuffer last = buffers[buffers.length - 1];
+            while (last.hasRemaining()) {
+                ((GatheringByteChannel) destination).write(buffers);
+            }
+        }
+    }
 }
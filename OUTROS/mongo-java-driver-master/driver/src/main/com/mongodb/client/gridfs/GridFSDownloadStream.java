@@ -53,6 +53,19 @@ public abstract class GridFSDownloadStream extends InputStream {
      */
     public abstract GridFSDownloadStream batchSize(int batchSize);
 
+    /**
+     * Sets the number of chunks to fetch ahead of the ones being read.
+     *
+     * <p>The chunks are fetched in batches of this many, and the next batch is fetched while the current one is being read, so up to
+     * twice this many chunks are held in memory.  If greater than 0, this takes precedence over the batch size.  The default is 0,
+     * which means that a batch is only fetched once the previous one has been read.</p>
+     *
+     * @param numberOfChunks the number of chunks to read ahead, which must not be negative
+     * @return this
+     * @since 3.6
+     */
+    public abstract GridFSDownloadStream readAhead(int numberOfChunks);
+
     @Override
     public abstract int read();
 
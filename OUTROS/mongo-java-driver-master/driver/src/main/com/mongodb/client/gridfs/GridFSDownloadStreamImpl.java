@@ -17,6 +17,7 @@
 package com.mongodb.client.gridfs;
 
 import com.mongodb.MongoGridFSException;
+import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.gridfs.model.GridFSFile;
@@ -37,6 +38,7 @@ class GridFSDownloadStreamImpl extends GridFSDownloadStream {
     private final int numberOfChunks;
     private MongoCursor<Document> cursor;
     private int batchSize;
+    private int readAhead;
     private int chunkIndex;
     private int bufferOffset;
     private long currentPosition;
@@ -70,6 +72,14 @@ class GridFSDownloadStreamImpl extends GridFSDownloadStream {
         return this;
     }
 
+    @Override
+    public GridFSDownloadStream readAhead(final int numberOfChunks) {
+        isTrueArgument("numberOfChunks cannot be negative", numberOfChunks >= 0);
+        this.readAhead = numberOfChunks;
+        discardCursor();
+        return this;
+    }
+
     @Override
     public int read() {
         byte[] b = new byte[1];
@@ -205,13 +215,18 @@ class GridFSDownloadStreamImpl extends GridFSDownloadStream {
 
     private Document getChunk(final int startChunkIndex) {
         if (cursor == null) {
-            cursor = chunksCollection.find(new Document("files_id", fileId).append("n", new Document("$gte", startChunkIndex)))
-                    .batchSize(batchSize).sort(new Document("n", 1)).iterator();
+            FindIterable<Document> findIterable = chunksCollection.find(new Document("files_id", fileId)
+                    .append("n", new Document("$gte", startChunkIndex)))
+                    .batchSize(readAhead > 0 ? readAhead : batchSize).sort(new Document("n", 1));
+            if (readAhead > 0) {
+                findIterable = findIterable.prefetch(true);
+            }
+            cursor = findIterable.iterator();
         }
         Document chunk = null;
         if (cursor.hasNext()) {
             chunk = cursor.next();
-            if (batchSize == 1) {
+            if (readAhead == 0 && batchSize == 1) {
                 discardCursor();
             }
             if (chunk.getInteger("n") != startChunkIndex) {
@@ -17,17 +17,26 @@
 package com.mongodb.client.gridfs;
 
 import com.mongodb.MongoGridFSException;
+import com.mongodb.MongoInterruptedException;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.internal.thread.SharedPrefetchExecutor;
+import org.bson.BsonBinary;
 import org.bson.BsonValue;
 import org.bson.Document;
-import org.bson.types.Binary;
 import org.bson.types.ObjectId;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.util.Util.toHex;
 
@@ -39,6 +48,10 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
     private final int chunkSizeBytes;
     private final Document metadata;
     private final MessageDigest md5;
+    private final int chunksPerInsert;
+    private final int maxConcurrentInserts;
+    private final List<Document> pendingChunks = new ArrayList<Document>();
+    private final LinkedList<Future<Void>> insertsInProgress = new LinkedList<Future<Void>>();
     private byte[] buffer;
     private long lengthInBytes;
     private int bufferOffset;
@@ -49,6 +62,18 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
 
     GridFSUploadStreamImpl(final MongoCollection<GridFSFile> filesCollection, final MongoCollection<Document> chunksCollection,
                            final BsonValue fileId, final String filename, final int chunkSizeBytes, final Document metadata) {
+        this(filesCollection, chunksCollection, fileId, filename, chunkSizeBytes, metadata, 1, 1);
+    }
+
+    // Up to chunksPerInsert chunks are sent in each insert.  If maxConcurrentInserts is greater than one, the inserts run in the
+    // background and the stream only waits for the oldest one when that many are already in progress.
+    GridFSUploadStreamImpl(final MongoCollection<GridFSFile> filesCollection, final MongoCollection<Document> chunksCollection,
+                           final BsonValue fileId, final String filename, final int chunkSizeBytes, final Document metadata,
+                           final int chunksPerInsert, final int maxConcurrentInserts) {
+        isTrueArgument("chunksPerInsert > 0", chunksPerInsert > 0);
+        isTrueArgument("maxConcurrentInserts > 0", maxConcurrentInserts > 0);
+        this.chunksPerInsert = chunksPerInsert;
+        this.maxConcurrentInserts = maxConcurrentInserts;
         this.filesCollection = notNull("files collection", filesCollection);
         this.chunksCollection = notNull("chunks collection", chunksCollection);
         this.fileId = notNull("File Id", fileId);
@@ -90,7 +115,11 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
             checkClosed();
             closed = true;
         }
-        chunksCollection.deleteMany(new Document("files_id", fileId));
+        try {
+            awaitRemainingInserts();
+        } finally {
+            chunksCollection.deleteMany(new Document("files_id", fileId));
+        }
     }
 
     @Override
@@ -139,6 +168,18 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
         }
     }
 
+    // Writes a whole chunk without copying it into the buffer.  Returns an array of the chunk size for the caller to fill with the next
+    // chunk: the given array if its chunk has already been inserted, or else a new one, as the chunk document still references it.
+    byte[] writeChunk(final byte[] chunk) {
+        checkClosed();
+        if (bufferOffset > 0 || chunk.length != chunkSizeBytes) {
+            write(chunk);
+            return chunk;
+        }
+        lengthInBytes += chunk.length;
+        return addChunk(chunk) ? new byte[chunkSizeBytes] : chunk;
+    }
+
     @Override
     public void close() {
         synchronized (closeLock) {
@@ -147,7 +188,14 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
             }
             closed = true;
         }
-        writeChunk();
+        try {
+            writeChunk();
+            insertPendingChunks();
+            awaitInserts(0);
+        } catch (RuntimeException e) {
+            awaitRemainingInserts();
+            throw e;
+        }
         GridFSFile gridFSFile = new GridFSFile(fileId, filename, lengthInBytes, chunkSizeBytes, new Date(),
                 toHex(md5.digest()), metadata);
         filesCollection.insertOne(gridFSFile);
@@ -156,20 +204,94 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
 
     private void writeChunk() {
         if (bufferOffset > 0) {
-            chunksCollection.insertOne(new Document("files_id", fileId).append("n", chunkIndex).append("data", getData()));
-            md5.update(buffer);
-            chunkIndex++;
+            byte[] data = getData();
             bufferOffset = 0;
+            if (addChunk(data)) {
+                buffer = new byte[chunkSizeBytes];
+            }
         }
     }
 
-    private Binary getData() {
+    // Adds a chunk, inserting the pending chunks once there are enough of them.  Returns whether the data may still be referenced by a
+    // chunk document, which is the case unless its chunk has already been inserted.
+    private boolean addChunk(final byte[] data) {
+        md5.update(data);
+        pendingChunks.add(new Document("files_id", fileId).append("n", chunkIndex).append("data", new BsonBinary(data)));
+        chunkIndex++;
+        if (pendingChunks.size() == chunksPerInsert) {
+            insertPendingChunks();
+        }
+        return !pendingChunks.isEmpty() || maxConcurrentInserts > 1;
+    }
+
+    private void insertPendingChunks() {
+        if (pendingChunks.isEmpty()) {
+            return;
+        }
+        final List<Document> chunks = new ArrayList<Document>(pendingChunks);
+        pendingChunks.clear();
+        if (maxConcurrentInserts == 1) {
+            insertChunks(chunks);
+        } else {
+            awaitInserts(maxConcurrentInserts - 1);
+            insertsInProgress.add(SharedPrefetchExecutor.getInstance().submit(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    insertChunks(chunks);
+                    return null;
+                }
+            }));
+        }
+    }
+
+    private void insertChunks(final List<Document> chunks) {
+        if (chunks.size() == 1) {
+            chunksCollection.insertOne(chunks.get(0));
+        } else {
+            chunksCollection.insertMany(chunks);
+        }
+    }
+
+    // Waits for the oldest inserts until no more than the given number are in progress, and rethrows the first failure
+    private void awaitInserts(final int maxInProgress) {
+        while (insertsInProgress.size() > maxInProgress) {
+            try {
+                insertsInProgress.peek().get();
+                insertsInProgress.remove();
+            } catch (InterruptedException e) {
+                throw new MongoInterruptedException("Interrupted while waiting for a chunk to be inserted", e);
+            } catch (ExecutionException e) {
+                insertsInProgress.remove();
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                } else if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw new MongoGridFSException("Unexpected exception while inserting a chunk", e.getCause());
+            }
+        }
+    }
+
+    private byte[] getData() {
         if (bufferOffset < chunkSizeBytes) {
             byte[] sizedBuffer = new byte[bufferOffset];
             System.arraycopy(buffer, 0, sizedBuffer, 0, bufferOffset);
             buffer = sizedBuffer;
         }
-        return new Binary(buffer);
+        return buffer;
+    }
+
+    // Waits for every insert, ignoring their failures as one has already been reported or the chunks are about to be deleted
+    private void awaitRemainingInserts() {
+        while (!insertsInProgress.isEmpty()) {
+            try {
+                awaitInserts(0);
+            } catch (MongoInterruptedException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                // Ignore
+            }
+        }
     }
 
     private void checkClosed() {
@@ -16,6 +16,7 @@
 
 package com.mongodb
 
+import com.mongodb.client.ChangeStreamCheckpointStore
 import com.mongodb.client.model.Collation
 import com.mongodb.client.model.changestream.ChangeStreamDocument
 import com.mongodb.client.model.changestream.ChangeStreamDocumentCodec
@@ -34,6 +35,7 @@ import spock.lang.Specification
 
 import static com.mongodb.CustomMatchers.isTheSameAs
 import static com.mongodb.ReadPreference.secondary
+import static java.util.concurrent.TimeUnit.HOURS
 import static java.util.concurrent.TimeUnit.MILLISECONDS
 import static org.bson.codecs.configuration.CodecRegistries.fromProviders
 import static spock.util.matcher.HamcrestSupport.expect
@@ -230,6 +232,85 @@ class ChangeStreamIterableSpecification extends Specification {
         target == [1, 2, 3]
     }
 
+    def 'should iterate in batches and checkpoint the resume token of each batch'() {
+        given:
+        def batches = [[changeStreamDocument(1), changeStreamDocument(2)], [], [changeStreamDocument(3)]]
+        def executor = new TestOperationExecutor([batchesCursor(batches), batchesCursor(batches)])
+        def checkpointStore = Mock(ChangeStreamCheckpointStore)
+        def changeStreamIterable = new ChangeStreamIterableImpl(null, namespace, codecRegistry, readPreference, readConcern,
+                executor, [], Document).checkpointStore(checkpointStore)
+        def results = []
+
+        when:
+        changeStreamIterable.forEachBatch(new Block<List<ChangeStreamDocument<Document>>>() {
+            @Override
+            void apply(final List<ChangeStreamDocument<Document>> batch) {
+                results.add(batch)
+            }
+        })
+
+        then:
+        1 * checkpointStore.load() >> BsonDocument.parse('{token: 0}')
+        1 * checkpointStore.save(BsonDocument.parse('{token: 2}'))
+        1 * checkpointStore.save(BsonDocument.parse('{token: 3}'))
+        results == [batches[0], batches[2]]
+        (executor.getReadOperation() as ChangeStreamOperation).getResumeToken() == BsonDocument.parse('{token: 0}')
+
+        when: 'the checkpoint interval has not passed'
+        results = []
+        changeStreamIterable.checkpointInterval(1, HOURS).forEach(new Block<ChangeStreamDocument<Document>>() {
+            @Override
+            void apply(final ChangeStreamDocument<Document> change) {
+                results.add(change)
+            }
+        })
+
+        then: 'the resume token is checkpointed when the iteration ends'
+        1 * checkpointStore.load() >> null
+        1 * checkpointStore.save(BsonDocument.parse('{token: 3}'))
+        results == batches.flatten()
+    }
+
+    def 'should checkpoint the resume token of the last batch processed when the block throws'() {
+        given:
+        def batches = [[changeStreamDocument(1)], [changeStreamDocument(2)]]
+        def executor = new TestOperationExecutor([batchesCursor(batches)])
+        def checkpointStore = Mock(ChangeStreamCheckpointStore)
+        def changeStreamIterable = new ChangeStreamIterableImpl(null, namespace, codecRegistry, readPreference, readConcern,
+                executor, [], Document).checkpointStore(checkpointStore).checkpointInterval(1, HOURS)
+
+        when:
+        changeStreamIterable.forEachBatch(new Block<List<ChangeStreamDocument<Document>>>() {
+            @Override
+            void apply(final List<ChangeStreamDocument<Document>> batch) {
+                if (batch[0].getFullDocument().getInteger('_id') == 2) {
+                    throw new MongoException('failure')
+                }
+            }
+        })
+
+        then:
+        thrown(MongoException)
+        1 * checkpointStore.save(BsonDocument.parse('{token: 1}'))
+        0 * checkpointStore.save(BsonDocument.parse('{token: 2}'))
+    }
+
+    def changeStreamDocument(int id) {
+        new ChangeStreamDocument(BsonDocument.parse("{token: ${id}}"), null, new Document('_id', id), null, null)
+    }
+
+    def batchesCursor(List<List<?>> batches) {
+        def remaining = new ArrayList(batches)
+        Stub(BatchCursor) {
+            next() >> {
+                remaining.remove(0)
+            }
+            hasNext() >> {
+                !remaining.isEmpty()
+            }
+        }
+    }
+
     def cursor(List<?> cannedResults) {
         Stub(BatchCursor) {
             def counter = 0
@@ -16,6 +16,7 @@
 
 package com.mongodb
 
+import com.mongodb.connection.BufferPoolSettings
 import com.mongodb.connection.ConnectionPoolSettings
 import com.mongodb.connection.ServerSettings
 import com.mongodb.connection.SocketSettings
@@ -66,6 +67,10 @@ class MongoClientOptionsSpecification extends Specification {
         options.getDbEncoderFactory() == DefaultDBEncoder.FACTORY
         options.getLocalThreshold() == 15
         options.isCursorFinalizerEnabled()
+        !options.isOrphanedCursorMBeanEnabled()
+        !options.isSharedMonitorThreads()
+        options.isFairCheckout()
+        !options.isPreferLeastLoadedServer()
         options.getHeartbeatFrequency() == 10000
         options.getMinHeartbeatFrequency() == 500
         options.getServerSelectionTimeout() == 30000
@@ -84,6 +89,7 @@ class MongoClientOptionsSpecification extends Specification {
                                                 .build()
         options.sslSettings == SslSettings.builder().build();
         options.compressorList == []
+        options.bufferPoolSettings == BufferPoolSettings.builder().build()
     }
 
     @SuppressWarnings('UnnecessaryObjectReferences')
@@ -150,6 +156,11 @@ class MongoClientOptionsSpecification extends Specification {
         builder.compressorList(null)
         then:
         thrown(IllegalArgumentException)
+
+        when:
+        builder.bufferPoolSettings(null)
+        then:
+        thrown(IllegalArgumentException)
     }
 
     def 'should build with set options'() {
@@ -183,8 +194,13 @@ class MongoClientOptionsSpecification extends Specification {
                                         .localThreshold(25)
                                         .requiredReplicaSetName('test')
                                         .cursorFinalizerEnabled(false)
+                                        .orphanedCursorMBeanEnabled(true)
+                                        .sharedMonitorThreads(true)
+                                        .fairCheckout(false)
+                                        .preferLeastLoadedServer(true)
                                         .dbEncoderFactory(encoderFactory)
                                         .compressorList([MongoCompressor.createZlibCompressor()])
+                                        .bufferPoolSettings(BufferPoolSettings.builder().directBuffers(true).maxBuffersPerSize(10).build())
                                         .build()
 
         expect:
@@ -215,21 +231,26 @@ class MongoClientOptionsSpecification extends Specification {
         options.getLocalThreshold() == 25
         options.getRequiredReplicaSetName() == 'test'
         !options.isCursorFinalizerEnabled()
+        options.isOrphanedCursorMBeanEnabled()
+        options.isSharedMonitorThreads()
+        !options.isFairCheckout()
+        options.isPreferLeastLoadedServer()
         options.getServerSettings().getHeartbeatFrequency(MILLISECONDS) == 5
         options.getServerSettings().getMinHeartbeatFrequency(MILLISECONDS) == 11
 
         options.connectionPoolSettings == ConnectionPoolSettings.builder().maxSize(500).minSize(30).maxWaitQueueSize(1000)
                                                                 .maxWaitTime(200, MILLISECONDS).maxConnectionLifeTime(400, MILLISECONDS)
-                                                                .maxConnectionIdleTime(300, MILLISECONDS).build()
+                                                                .maxConnectionIdleTime(300, MILLISECONDS).fairCheckout(false).build()
         options.socketSettings == SocketSettings.builder().connectTimeout(100, MILLISECONDS).readTimeout(700, MILLISECONDS)
                                                 .keepAlive(false).build()
         options.heartbeatSocketSettings == SocketSettings.builder().connectTimeout(15, MILLISECONDS).readTimeout(20, MILLISECONDS)
                                                          .keepAlive(false).build()
         options.serverSettings == ServerSettings.builder().minHeartbeatFrequency(11, MILLISECONDS).heartbeatFrequency(5, MILLISECONDS)
-                                                .build()
+                                                .sharedMonitorThreads(true).build()
         options.sslSettings == SslSettings.builder().enabled(true).invalidHostNameAllowed(true)
                 .context(SSLContext.getDefault()).build()
         options.compressorList == [MongoCompressor.createZlibCompressor()]
+        options.bufferPoolSettings == BufferPoolSettings.builder().directBuffers(true).maxBuffersPerSize(10).build()
     }
 
     @IgnoreIf({ isNotAtLeastJava7() })
@@ -324,6 +345,7 @@ class MongoClientOptionsSpecification extends Specification {
                 .addServerListener(Mock(ServerListener))
                 .addServerMonitorListener(Mock(ServerMonitorListener))
                 .compressorList([MongoCompressor.createZlibCompressor()])
+                .bufferPoolSettings(BufferPoolSettings.builder().directBuffers(true).build())
                 .build()
 
         then:
@@ -627,6 +649,10 @@ class MongoClientOptionsSpecification extends Specification {
                 .localThreshold(25)
                 .requiredReplicaSetName('test')
                 .cursorFinalizerEnabled(false)
+                .orphanedCursorMBeanEnabled(true)
+                .sharedMonitorThreads(true)
+                .fairCheckout(false)
+                .preferLeastLoadedServer(true)
                 .dbEncoderFactory(new MyDBEncoderFactory())
                 .addCommandListener(Mock(CommandListener))
                 .addClusterListener(Mock(ClusterListener))
@@ -634,6 +660,7 @@ class MongoClientOptionsSpecification extends Specification {
                 .addServerListener(Mock(ServerListener))
                 .addServerMonitorListener(Mock(ServerMonitorListener))
                 .compressorList([MongoCompressor.createZlibCompressor()])
+                .bufferPoolSettings(BufferPoolSettings.builder().directBuffers(true).build())
                 .build()
 
         when:
@@ -647,14 +674,15 @@ class MongoClientOptionsSpecification extends Specification {
         when:
         // A regression test so that if any more methods are added then the builder(final MongoClientOptions options) should be updated
         def actual = MongoClientOptions.Builder.declaredFields.grep { !it.synthetic } *.name.sort()
-        def expected = ['alwaysUseMBeans', 'applicationName', 'clusterListeners', 'codecRegistry', 'commandListeners', 'compressorList',
-                        'connectTimeout', 'connectionPoolListeners', 'cursorFinalizerEnabled', 'dbDecoderFactory', 'dbEncoderFactory',
-                        'description', 'heartbeatConnectTimeout', 'heartbeatFrequency', 'heartbeatSocketTimeout', 'localThreshold',
-                        'maxConnectionIdleTime', 'maxConnectionLifeTime', 'maxConnectionsPerHost', 'maxWaitTime', 'minConnectionsPerHost',
-                        'minHeartbeatFrequency', 'readConcern', 'readPreference', 'requiredReplicaSetName', 'serverListeners',
-                        'serverMonitorListeners', 'serverSelectionTimeout', 'socketFactory', 'socketKeepAlive', 'socketTimeout',
-                        'sslContext', 'sslEnabled', 'sslInvalidHostNameAllowed', 'threadsAllowedToBlockForConnectionMultiplier',
-                        'writeConcern']
+        def expected = ['alwaysUseMBeans', 'applicationName', 'bufferPoolSettings', 'clusterListeners', 'codecRegistry', 'commandListeners',
+                        'compressorList', 'connectTimeout', 'connectionPoolListeners', 'cursorFinalizerEnabled', 'dbDecoderFactory',
+                        'dbEncoderFactory', 'description', 'fairCheckout', 'heartbeatConnectTimeout', 'heartbeatFrequency',
+                        'heartbeatSocketTimeout', 'localThreshold', 'maxConnectionIdleTime', 'maxConnectionLifeTime',
+                        'maxConnectionsPerHost', 'maxWaitTime', 'minConnectionsPerHost', 'minHeartbeatFrequency',
+                        'orphanedCursorMBeanEnabled', 'preferLeastLoadedServer', 'readConcern', 'readPreference', 'requiredReplicaSetName',
+                        'serverListeners', 'serverMonitorListeners', 'serverSelectionTimeout', 'sharedMonitorThreads', 'socketFactory',
+                        'socketKeepAlive', 'socketTimeout', 'sslContext', 'sslEnabled', 'sslInvalidHostNameAllowed',
+                        'threadsAllowedToBlockForConnectionMultiplier', 'writeConcern']
 
         then:
         actual == expected
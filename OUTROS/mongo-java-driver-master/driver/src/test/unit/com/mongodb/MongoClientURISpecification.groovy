@@ -135,6 +135,9 @@ class MongoClientURISpecification extends Specification {
                 + 'serverSelectionTimeoutMS=25000&'
                 + 'localThresholdMS=30&'
                 + 'heartbeatFrequencyMS=20000&'
+                + 'sharedMonitorThreads=true&'
+                + 'fairCheckout=false&'
+                + 'preferLeastLoadedServer=true&'
                 + 'appName=app1')
 
         when:
@@ -157,6 +160,11 @@ class MongoClientURISpecification extends Specification {
         options.getServerSelectionTimeout() == 25000
         options.getLocalThreshold() == 30
         options.getHeartbeatFrequency() == 20000
+        options.isSharedMonitorThreads()
+        options.getServerSettings().isSharedMonitorThreads()
+        !options.isFairCheckout()
+        !options.getConnectionPoolSettings().isFairCheckout()
+        options.isPreferLeastLoadedServer()
         options.getApplicationName() == 'app1'
     }
 
@@ -27,6 +27,7 @@ import java.util.List;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 public class MongoConstructorsTest {
@@ -131,6 +132,17 @@ public class MongoConstructorsTest {
         mongo.close();
     }
 
+    @Test
+    public void shouldApplyPreferLeastLoadedServerToClusterSettings() {
+        List<ServerAddress> seedList = Arrays.asList(new ServerAddress("localhost"), new ServerAddress("localhost:27018"));
+        Mongo mongo = new MongoClient(seedList, MongoClientOptions.builder().preferLeastLoadedServer(true).build());
+        try {
+            assertTrue(mongo.getCluster().getSettings().isPreferLeastLoadedServer());
+        } finally {
+            mongo.close();
+        }
+    }
+
     @Test
     @SuppressWarnings("deprecation") // This is for testing the old API, so it will use deprecated methods
     public void shouldGetDB() throws UnknownHostException {
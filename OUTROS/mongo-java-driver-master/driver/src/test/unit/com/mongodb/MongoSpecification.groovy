@@ -28,6 +28,9 @@ import org.bson.BsonInt32
 import spock.lang.Specification
 import spock.lang.Subject
 
+import javax.management.ObjectName
+import java.lang.management.ManagementFactory
+
 import static com.mongodb.CustomMatchers.compare
 
 @SuppressWarnings('UnnecessaryParenthesesForMethodCallWithClosure')
@@ -136,4 +139,40 @@ class MongoSpecification extends Specification {
         then:
         unlockDoc == new BasicDBObject('ok', 1)
     }
+
+    def 'should not register the orphaned cursor statistics MBean by default'() {
+        given:
+        def objectName = new ObjectName(mongo.getOrphanedCursorTracker().getStatistics().getMBeanObjectName())
+
+        expect:
+        !ManagementFactory.getPlatformMBeanServer().isRegistered(objectName)
+    }
+
+    def 'should register the orphaned cursor statistics MBean until closed when enabled'() {
+        given:
+        def mongo = new Mongo(cluster, MongoClientOptions.builder().orphanedCursorMBeanEnabled(true).build(), [])
+        def objectName = new ObjectName(mongo.getOrphanedCursorTracker().getStatistics().getMBeanObjectName())
+        def mBeanServer = ManagementFactory.getPlatformMBeanServer()
+
+        expect:
+        mBeanServer.isRegistered(objectName)
+        mBeanServer.getAttribute(objectName, 'LeakedCursorCount') == 0L
+
+        when:
+        mongo.close()
+
+        then:
+        !mBeanServer.isRegistered(objectName)
+    }
+
+    def 'should not track cursors when cursor finalizers are disabled'() {
+        when:
+        def mongo = new Mongo(cluster, MongoClientOptions.builder().cursorFinalizerEnabled(false).build(), [])
+
+        then:
+        mongo.getOrphanedCursorTracker() == null
+
+        cleanup:
+        mongo.close()
+    }
 }
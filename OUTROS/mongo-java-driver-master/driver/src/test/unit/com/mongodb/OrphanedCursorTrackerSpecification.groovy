@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb
+
+import com.mongodb.management.OrphanedCursorStatistics
+import spock.lang.Specification
+
+class OrphanedCursorTrackerSpecification extends Specification {
+    def firstServer = new ServerAddress('host1')
+    def secondServer = new ServerAddress('host2')
+    def firstNamespace = new MongoNamespace('db.coll1')
+    def secondNamespace = new MongoNamespace('db.coll2')
+
+    def 'should group the server cursors of collected cursors by server and namespace'() {
+        given:
+        def tracker = new OrphanedCursorTracker()
+        track(tracker, firstNamespace, new ServerCursor(1, firstServer))
+        track(tracker, firstNamespace, new ServerCursor(2, firstServer))
+        track(tracker, secondNamespace, new ServerCursor(3, firstServer))
+        track(tracker, firstNamespace, new ServerCursor(4, secondServer))
+
+        when:
+        def orphanedCursors = pollUntilCollected(tracker, 4)
+
+        then:
+        orphanedCursors == [(firstServer) : [(firstNamespace): [1L, 2L] as Set, (secondNamespace): [3L] as Set],
+                            (secondServer): [(firstNamespace): [4L] as Set]]
+        tracker.getLeakedCursorCount() == 4
+        tracker.getTrackedCursorCount() == 0
+    }
+
+    def 'should not report cursors that are untracked or still reachable'() {
+        given:
+        def tracker = new OrphanedCursorTracker()
+        def reachableCursor = new Object()
+        tracker.track(reachableCursor, firstNamespace, new ServerCursor(1, firstServer))
+        track(tracker, firstNamespace, new ServerCursor(2, firstServer)).untrack()
+        track(tracker, firstNamespace, new ServerCursor(3, firstServer)).setServerCursor(null)
+        track(tracker, firstNamespace, new ServerCursor(4, firstServer))
+
+        when:
+        def orphanedCursors = pollUntilCollected(tracker, 1)
+
+        then:
+        orphanedCursors == [(firstServer): [(firstNamespace): [4L] as Set]]
+        tracker.getLeakedCursorCount() == 1
+        reachableCursor != null
+    }
+
+    def 'should keep its counts in the statistics'() {
+        given:
+        def statistics = new OrphanedCursorStatistics(null)
+        def tracker = new OrphanedCursorTracker(statistics)
+        track(tracker, firstNamespace, new ServerCursor(1, firstServer))
+        def trackedCursor = track(tracker, firstNamespace, new ServerCursor(2, firstServer))
+
+        expect:
+        statistics.getTrackedCursorCount() == 2
+
+        when:
+        trackedCursor.untrack()
+        trackedCursor.untrack()
+
+        then:
+        statistics.getTrackedCursorCount() == 1
+
+        when:
+        pollUntilCollected(tracker, 1)
+
+        then:
+        statistics.getTrackedCursorCount() == 0
+        statistics.getLeakedCursorCount() == 1
+    }
+
+    private OrphanedCursorTracker.TrackedCursor track(final OrphanedCursorTracker tracker, final MongoNamespace namespace,
+                                                      final ServerCursor serverCursor) {
+        tracker.track(new Object(), namespace, serverCursor)
+    }
+
+    private static Map<ServerAddress, Map<MongoNamespace, Set<Long>>> pollUntilCollected(final OrphanedCursorTracker tracker,
+                                                                                         final int count) {
+        def orphanedCursors = [:]
+        for (int i = 0; i < 100 && tracker.getLeakedCursorCount() < count; i++) {
+            System.gc()
+            Thread.sleep(10)
+            tracker.pollOrphanedCursors().each { serverAddress, cursorsByNamespace ->
+                cursorsByNamespace.each { namespace, cursorIds ->
+                    orphanedCursors.get(serverAddress, [:]).get(namespace, [] as Set).addAll(cursorIds)
+                }
+            }
+        }
+        orphanedCursors
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb
+
+import com.mongodb.operation.AggregateOperation
+import com.mongodb.operation.BatchCursor
+import com.mongodb.operation.FindOperation
+import org.bson.BsonDocument
+import org.bson.BsonInt32
+import org.bson.Document
+import org.bson.RawBsonDocument
+import org.bson.codecs.BsonValueCodecProvider
+import org.bson.codecs.DocumentCodecProvider
+import org.bson.codecs.ValueCodecProvider
+import spock.lang.Specification
+
+import java.util.concurrent.Executors
+
+import static com.mongodb.ReadPreference.secondary
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders
+
+class ParallelScanIterableSpecification extends Specification {
+
+    def codecRegistry = fromProviders([new ValueCodecProvider(), new DocumentCodecProvider(), new BsonValueCodecProvider()])
+    def namespace = new MongoNamespace('db', 'coll')
+    def executorService = Executors.newSingleThreadExecutor()
+
+    def cleanup() {
+        executorService.shutdown()
+    }
+
+    def 'should split the collection into _id ranges from a sample'() {
+        given:
+        def sample = [[id(1), id(2), id(3), id(4)]]
+        def executor = new TestOperationExecutor([cursor(sample), cursor([[doc(1), doc(2)]]), cursor([[doc(3), doc(4)]])])
+        def iterable = new ParallelScanIterableImpl(namespace, Document, Document, codecRegistry, secondary(), ReadConcern.MAJORITY,
+                WriteConcern.ACKNOWLEDGED, executor).filter(new Document('x', 1)).numPartitions(2).executor(executorService)
+
+        when:
+        def results = iterable.into([])
+
+        then:
+        results*.getInteger('_id') == [1, 2, 3, 4]
+        executor.getReadOperation() instanceof AggregateOperation
+        executor.getReadPreference() == secondary()
+
+        when:
+        def first = executor.getReadOperation() as FindOperation
+        def second = executor.getReadOperation() as FindOperation
+
+        then:
+        first.getFilter() == new BsonDocument('x', new BsonInt32(1))
+        first.getHint() == new BsonDocument('_id', new BsonInt32(1))
+        first.getMin() == null
+        first.getMax() == id(3)
+        second.getMin() == id(3)
+        second.getMax() == null
+    }
+
+    def 'should resume a partition after the last _id when the read fails'() {
+        given:
+        def failure = new MongoSocketReadException('closed', new ServerAddress())
+        def executor = new TestOperationExecutor([cursor([[doc(1), doc(2)]], failure), cursor([[doc(2), doc(3)]])])
+        def iterable = new ParallelScanIterableImpl(namespace, Document, Document, codecRegistry, secondary(), ReadConcern.MAJORITY,
+                WriteConcern.ACKNOWLEDGED, executor).numPartitions(1).executor(executorService)
+
+        when:
+        def results = iterable.into([])
+
+        then:
+        results*.getInteger('_id') == [1, 2, 3]
+        (executor.getReadOperation() as FindOperation).getMin() == null
+        (executor.getReadOperation() as FindOperation).getMin() == id(2)
+    }
+
+    def 'should not retry more than the maximum number of times'() {
+        given:
+        def failure = new MongoSocketReadException('closed', new ServerAddress())
+        def executor = new TestOperationExecutor([cursor([[doc(1)]], failure)])
+        def iterable = new ParallelScanIterableImpl(namespace, Document, Document, codecRegistry, secondary(), ReadConcern.MAJORITY,
+                WriteConcern.ACKNOWLEDGED, executor).numPartitions(1).maxRetries(0).executor(executorService)
+
+        when:
+        iterable.into([])
+
+        then:
+        def e = thrown(MongoSocketReadException)
+        e == failure
+    }
+
+    def 'should validate the arguments'() {
+        given:
+        def iterable = new ParallelScanIterableImpl(namespace, Document, Document, codecRegistry, secondary(), ReadConcern.MAJORITY,
+                WriteConcern.ACKNOWLEDGED, new TestOperationExecutor([]))
+
+        when:
+        iterable.numPartitions(0)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        when:
+        iterable.maxRetries(-1)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def id(int value) {
+        new BsonDocument('_id', new BsonInt32(value))
+    }
+
+    def doc(int value) {
+        RawBsonDocument.parse("{_id: $value}")
+    }
+
+    def cursor(List<List> batches, RuntimeException failure = null) {
+        def remaining = new ArrayList(batches)
+        Stub(BatchCursor) {
+            hasNext() >> { !remaining.isEmpty() || failure != null }
+            next() >> {
+                if (!remaining.isEmpty()) {
+                    return remaining.remove(0)
+                }
+                throw failure
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client
+
+import com.mongodb.MongoClientException
+import org.bson.BsonDocument
+import spock.lang.Specification
+
+class FileChangeStreamCheckpointStoreSpecification extends Specification {
+
+    def 'should load null when nothing has been saved'() {
+        given:
+        def file = File.createTempFile('checkpoint', '.bson')
+        file.delete()
+
+        expect:
+        new FileChangeStreamCheckpointStore(file).load() == null
+    }
+
+    def 'should load the last resume token saved'() {
+        given:
+        def file = File.createTempFile('checkpoint', '.bson')
+        def store = new FileChangeStreamCheckpointStore(file)
+
+        when:
+        store.save(BsonDocument.parse('{_data: {$binary: "AQID", $type: "00"}}'))
+        store.save(BsonDocument.parse('{_data: "token"}'))
+
+        then:
+        store.load() == BsonDocument.parse('{_data: "token"}')
+        new FileChangeStreamCheckpointStore(file).load() == BsonDocument.parse('{_data: "token"}')
+        !new File(file.getPath() + '.tmp').exists()
+
+        cleanup:
+        file.delete()
+    }
+
+    def 'should throw if the file is truncated or corrupt'() {
+        given:
+        def file = File.createTempFile('checkpoint', '.bson')
+        def store = new FileChangeStreamCheckpointStore(file)
+        store.save(BsonDocument.parse('{_data: "token"}'))
+        file.bytes = corrupt(file.bytes)
+
+        when:
+        store.load()
+
+        then:
+        def e = thrown(MongoClientException)
+        e.message.contains('truncated or corrupt')
+
+        cleanup:
+        file.delete()
+
+        where:
+        corrupt << [{ byte[] saved -> [] as byte[] },
+                    { byte[] saved -> Arrays.copyOf(saved, saved.length - 3) },
+                    { byte[] saved -> saved[0] = 3; saved },
+                    { byte[] saved -> saved[4] = 0x7f; saved }]
+    }
+
+    def 'should load the resume token from the temporary file if saving stopped after the file was deleted'() {
+        given:
+        def file = File.createTempFile('checkpoint', '.bson')
+        def temporaryFile = new File(file.getPath() + '.tmp')
+        new FileChangeStreamCheckpointStore(file).save(BsonDocument.parse('{_data: "token"}'))
+        file.renameTo(temporaryFile)
+
+        expect:
+        new FileChangeStreamCheckpointStore(file).load() == BsonDocument.parse('{_data: "token"}')
+
+        when:
+        temporaryFile.bytes = Arrays.copyOf(temporaryFile.bytes, 6)
+
+        then:
+        new FileChangeStreamCheckpointStore(file).load() == null
+
+        cleanup:
+        temporaryFile.delete()
+    }
+
+    def 'should throw if the file is null'() {
+        when:
+        new FileChangeStreamCheckpointStore(null)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
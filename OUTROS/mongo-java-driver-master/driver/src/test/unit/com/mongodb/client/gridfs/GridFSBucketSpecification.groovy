@@ -38,12 +38,15 @@ import org.bson.BsonDocument
 import org.bson.BsonObjectId
 import org.bson.BsonString
 import org.bson.Document
+import org.bson.RawBsonDocument
 import org.bson.codecs.DocumentCodecProvider
 import org.bson.types.Binary
 import org.bson.types.ObjectId
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.nio.channels.Channels
+
 import static com.mongodb.CustomMatchers.isTheSameAs
 import static com.mongodb.ReadPreference.primary
 import static com.mongodb.ReadPreference.secondary
@@ -201,6 +204,32 @@ class GridFSBucketSpecification extends Specification {
         1 * filesCollection.insertOne(_)
     }
 
+    def 'should upload from channel'() {
+        given:
+        def findIterable = Mock(FindIterable)
+        def filesCollection = Mock(MongoCollection)
+        def chunksCollection = Mock(MongoCollection)
+        def gridFSBucket = new GridFSBucketImpl('fs', 4, filesCollection, chunksCollection)
+        def channel = Channels.newChannel(new ByteArrayInputStream('content' as byte[]))
+
+        when:
+        gridFSBucket.uploadFromChannel('filename', channel)
+
+        then: 'index check'
+        1 * filesCollection.withDocumentClass(Document) >> filesCollection
+        1 * filesCollection.withReadPreference(primary()) >> filesCollection
+        1 * filesCollection.find() >> findIterable
+        1 * findIterable.projection(new Document('_id', 1)) >> findIterable
+        1 * findIterable.first() >> new Document()
+
+        then:
+        1 * chunksCollection.insertOne({ it.get('n') == 0 && it.get('data').getData() == 'cont' as byte[] })
+        1 * chunksCollection.insertOne({ it.get('n') == 1 && it.get('data').getData() == 'ent' as byte[] })
+
+        then:
+        1 * filesCollection.insertOne({ it.getLength() == 7 })
+    }
+
     def 'should clean up any chunks when upload from stream throws an IOException'() {
         given:
         def findIterable = Mock(FindIterable)
@@ -397,6 +426,76 @@ class GridFSBucketSpecification extends Specification {
         outputStream.toByteArray() == tenBytes
     }
 
+    def 'should download to channel'() {
+        given:
+        def fileId = new ObjectId()
+        def bsonFileId = new BsonObjectId(fileId)
+        def fileInfo = new GridFSFile(bsonFileId, 'filename', 7, 4, new Date(), '1234', new Document())
+        def mongoCursor = Mock(MongoCursor)
+        def findIterable =  Mock(FindIterable)
+        def filesCollection = Mock(MongoCollection) {
+            1 * find() >> findIterable
+        }
+        def chunks = [new Document('files_id', bsonFileId).append('n', 0).append('data', new Binary('cont' as byte[])),
+                      new Document('files_id', bsonFileId).append('n', 1).append('data', new Binary('ent' as byte[]))].collect {
+            RawBsonDocument.parse(it.toJson())
+        }
+        def chunksCollection = Mock(MongoCollection)
+        def gridFSBucket = new GridFSBucketImpl('fs', 255, filesCollection, chunksCollection)
+        def file = File.createTempFile('gridfs', 'bin')
+        file.deleteOnExit()
+        def channel = new FileOutputStream(file).getChannel()
+
+        when:
+        gridFSBucket.downloadToChannel(fileId, channel)
+        channel.close()
+
+        then:
+        1 * findIterable.filter(new Document('_id', bsonFileId)) >> findIterable
+        1 * findIterable.first() >> fileInfo
+        1 * chunksCollection.withDocumentClass(RawBsonDocument) >> chunksCollection
+        1 * chunksCollection.find(new Document('files_id', bsonFileId)) >> findIterable
+        1 * findIterable.sort(new Document('n', 1)) >> findIterable
+        1 * findIterable.iterator() >> mongoCursor
+        2 * mongoCursor.hasNext() >> true
+        2 * mongoCursor.next() >>> chunks
+        1 * mongoCursor.close()
+
+        then:
+        file.bytes == 'content' as byte[]
+    }
+
+    def 'should throw an exception if the data of a chunk is missing when downloading to channel'() {
+        given:
+        def bsonFileId = new BsonString('1')
+        def fileInfo = new GridFSFile(bsonFileId, 'filename', 7, 4, new Date(), '1234', new Document())
+        def mongoCursor = Mock(MongoCursor)
+        def findIterable =  Mock(FindIterable)
+        def filesCollection = Mock(MongoCollection) {
+            1 * find() >> findIterable
+        }
+        def chunksCollection = Mock(MongoCollection)
+        def gridFSBucket = new GridFSBucketImpl('fs', 255, filesCollection, chunksCollection)
+
+        when:
+        gridFSBucket.downloadToChannel(bsonFileId, Channels.newChannel(new ByteArrayOutputStream()))
+
+        then:
+        1 * findIterable.filter(new Document('_id', bsonFileId)) >> findIterable
+        1 * findIterable.first() >> fileInfo
+        1 * chunksCollection.withDocumentClass(RawBsonDocument) >> chunksCollection
+        1 * chunksCollection.find(_) >> findIterable
+        1 * findIterable.sort(_) >> findIterable
+        1 * findIterable.iterator() >> mongoCursor
+        1 * mongoCursor.hasNext() >> true
+        1 * mongoCursor.next() >> RawBsonDocument.parse('{files_id: "1", n: 1}')
+        1 * mongoCursor.close()
+
+        then:
+        def exception = thrown(MongoGridFSException)
+        exception.getMessage() == 'Could not find file chunk for file_id: BsonString{value=\'1\'} at chunk index 0.'
+    }
+
     def 'should throw an exception if file not found'() {
         given:
         def fileId = new ObjectId()
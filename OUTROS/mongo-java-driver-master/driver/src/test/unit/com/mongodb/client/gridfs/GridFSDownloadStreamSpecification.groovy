@@ -100,6 +100,32 @@ class GridFSDownloadStreamSpecification extends Specification {
         result == -1
     }
 
+    def 'should read ahead with a prefetching cursor'() {
+        given:
+        def findQuery = new Document('files_id', fileInfo.getId()).append('n', new Document('$gte', 0))
+        def chunkDocument = new Document('files_id', fileInfo.getId())
+                .append('n', 0)
+                .append('data', new Binary(new byte[2]))
+
+        def mongoCursor = Mock(MongoCursor)
+        def findIterable = Mock(FindIterable)
+        def chunksCollection = Mock(MongoCollection)
+        def downloadStream = new GridFSDownloadStreamImpl(fileInfo, chunksCollection).batchSize(1).readAhead(4)
+
+        when:
+        downloadStream.read()
+
+        then:
+        1 * chunksCollection.find(findQuery) >> findIterable
+        1 * findIterable.sort(new Document('n', 1)) >> findIterable
+        1 * findIterable.batchSize(4) >> findIterable
+        1 * findIterable.prefetch(true) >> findIterable
+        1 * findIterable.iterator() >> mongoCursor
+        1 * mongoCursor.hasNext() >> true
+        1 * mongoCursor.next() >> chunkDocument
+        0 * mongoCursor.close()
+    }
+
     def 'should create a new cursor each time when using batchSize 1'() {
         when:
         def twoBytes = new byte[2]
@@ -19,11 +19,12 @@ package com.mongodb.client.gridfs
 import com.mongodb.MongoGridFSException
 import com.mongodb.client.MongoCollection
 import com.mongodb.client.gridfs.model.GridFSFile
+import org.bson.BsonBinary
 import org.bson.BsonObjectId
 import org.bson.BsonString
 import org.bson.Document
-import org.bson.types.Binary
 import spock.lang.Specification
+import spock.lang.Unroll
 
 import java.security.MessageDigest
 
@@ -59,6 +60,89 @@ class GridFSUploadStreamSpecification extends Specification {
         1 * chunksCollection.insertOne(_)
     }
 
+    def 'should insert several chunks at once'() {
+        given:
+        def filesCollection = Mock(MongoCollection)
+        def chunksCollection = Mock(MongoCollection)
+        def uploadStream = new GridFSUploadStreamImpl(filesCollection, chunksCollection, fileId, filename, 2, metadata, 2, 1)
+
+        when:
+        uploadStream.write([1, 2, 3] as byte[])
+
+        then:
+        0 * chunksCollection.insertOne(_)
+        0 * chunksCollection.insertMany(_)
+
+        when:
+        uploadStream.write([4, 5] as byte[])
+
+        then:
+        1 * chunksCollection.insertMany({ List<Document> chunks -> chunks*.getInteger('n') == [0, 1] })
+
+        when:
+        uploadStream.close()
+
+        then:
+        1 * chunksCollection.insertOne({ Document chunk ->
+            chunk.getInteger('n') == 2 && chunk.get('data', BsonBinary).getData() == [5] as byte[]
+        })
+
+        then:
+        1 * filesCollection.insertOne(_)
+    }
+
+    @Unroll
+    def 'should insert a whole chunk without copying it when #chunksPerInsert chunks are sent in each insert'() {
+        given:
+        def filesCollection = Mock(MongoCollection)
+        def chunksCollection = Mock(MongoCollection)
+        def uploadStream = new GridFSUploadStreamImpl(filesCollection, chunksCollection, fileId, filename, 2, metadata, chunksPerInsert, 1)
+        def chunk = [1, 2] as byte[]
+        def chunks = []
+
+        when:
+        def next = uploadStream.writeChunk(chunk)
+        uploadStream.write(3)
+        uploadStream.close()
+
+        then:
+        _ * chunksCollection.insertOne(_) >> { Document insertedChunk -> chunks.add(insertedChunk) }
+        _ * chunksCollection.insertMany(_) >> { arguments -> chunks.addAll(arguments[0]) }
+
+        then:
+        1 * filesCollection.insertOne({ it.getLength() == 3 })
+        chunks.size() == 2
+        chunks[0].get('data', BsonBinary).getData().is(chunk)
+        chunks[1].get('data', BsonBinary).getData() == [3] as byte[]
+        next.is(chunk) == reused
+        next.length == 2
+
+        where:
+        chunksPerInsert | reused
+        1               | true
+        3               | false
+    }
+
+    def 'should insert chunks in the background up to the maximum number of concurrent inserts'() {
+        given:
+        def filesCollection = Mock(MongoCollection)
+        def chunksCollection = Mock(MongoCollection)
+        def uploadStream = new GridFSUploadStreamImpl(filesCollection, chunksCollection, fileId, filename, 2, metadata, 1, 2)
+        def content = (0..9) as byte[]
+        def chunks = [].asSynchronized()
+
+        when:
+        uploadStream.write(content)
+        uploadStream.close()
+
+        then:
+        5 * chunksCollection.insertOne(_) >> { Document chunk -> chunks.add(chunk) }
+
+        then:
+        1 * filesCollection.insertOne(_)
+        chunks.sort { it.getInteger('n') }.collectMany { it.get('data', BsonBinary).getData() as List } == content as List
+    }
+
     def 'should write to the files collection on close'() {
         given:
         def filesCollection = Mock(MongoCollection)
@@ -101,7 +185,7 @@ class GridFSUploadStreamSpecification extends Specification {
         then:
         chunksData.get('files_id') == fileId
         chunksData.getInteger('n') == 0
-        chunksData.get('data', Binary).getData() == content
+        chunksData.get('data', BsonBinary).getData() == content
 
         fileData.getId() == fileId
         fileData.getFilename() == filename